@@ -16,15 +16,21 @@
 
 package io.frinx.cli.unit.brocade.ifc.handler;
 
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.brocade.ifc.Util;
 import io.frinx.cli.unit.ifc.base.handler.AbstractInterfaceConfigReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigSections;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.brocade.extension.rev190726.IfBrocadePriorityAug;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.brocade.extension.rev190726.IfBrocadePriorityAugBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.Config;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.ConfigBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfaceType;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public final class InterfaceConfigReader extends AbstractInterfaceConfigReader {
 
@@ -35,6 +41,8 @@ public final class InterfaceConfigReader extends AbstractInterfaceConfigReader {
     private static final Pattern DESCR_LINE = Pattern.compile("\\s*port-name (?<desc>.+)");
     private static final Pattern PRIORITY_LINE = Pattern.compile("\\s*priority (?<priority>[0-7]{1})");
     private static final Pattern PRIORITY_FORCE_LINE = Pattern.compile("\\s*priority force");
+    // interface names on the device consist of type and number, e.g. "ethernet 1/1"
+    public static final int IFC_NAME_WORDS = 2;
 
     public InterfaceConfigReader(Cli cli) {
         super(cli);
@@ -47,6 +55,12 @@ public final class InterfaceConfigReader extends AbstractInterfaceConfigReader {
         return fT(SH_SINGLE_INTERFACE_CFG, "ifcType", Util.getTypeOnDevice(ifcType), "ifcNumber", ifcNumber);
     }
 
+    @Override
+    protected String readConfig(@NotNull String command, @NotNull InstanceIdentifier<Config> id,
+                                @NotNull ReadContext ctx) throws ReadFailedException {
+        return InterfaceConfigSections.blockingRead(this, command, IFC_NAME_WORDS, cli, id, ctx);
+    }
+
     @Override
     protected Pattern getShutdownLine() {
         return SHUTDOWN_LINE;
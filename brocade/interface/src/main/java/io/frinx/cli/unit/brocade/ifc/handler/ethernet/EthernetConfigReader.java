@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.brocade.ifc.Util;
 import io.frinx.cli.unit.brocade.ifc.handler.InterfaceConfigReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigSections;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
@@ -49,8 +50,10 @@ public class EthernetConfigReader implements CliConfigReader<Config, ConfigBuild
 
         Class<? extends InterfaceType> ifcType = Util.parseType(ifcName);
         String ifcNumber = Util.getIfcNumber(ifcName);
-        parseEthernetConfig(blockingRead(fT(InterfaceConfigReader.SH_SINGLE_INTERFACE_CFG, "ifcType",
-                Util.getTypeOnDevice(ifcType), "ifcNumber", ifcNumber), cli, id, ctx), builder);
+        String command = fT(InterfaceConfigReader.SH_SINGLE_INTERFACE_CFG, "ifcType", Util.getTypeOnDevice(ifcType),
+                "ifcNumber", ifcNumber);
+        parseEthernetConfig(InterfaceConfigSections.blockingRead(this, command, InterfaceConfigReader.IFC_NAME_WORDS,
+                cli, id, ctx), builder);
     }
 
     private void parseEthernetConfig(String output, ConfigBuilder builder) {
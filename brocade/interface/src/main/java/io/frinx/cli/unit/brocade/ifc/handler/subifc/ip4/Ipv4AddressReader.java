@@ -16,11 +16,17 @@
 
 package io.frinx.cli.unit.brocade.ifc.handler.subifc.ip4;
 
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.brocade.ifc.Util;
+import io.frinx.cli.unit.brocade.ifc.handler.InterfaceConfigReader;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip4.AbstractIpv4AddressesReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigSections;
 import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfaceType;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public final class Ipv4AddressReader extends AbstractIpv4AddressesReader {
 
@@ -38,6 +44,12 @@ public final class Ipv4AddressReader extends AbstractIpv4AddressesReader {
         return fT(Ipv4AddressReader.SH_INTERFACE_IP, "ifcType", Util.getTypeOnDevice(ifcType), "ifcNumber", ifcNumber);
     }
 
+    @Override
+    protected String readConfig(@NotNull String command, @NotNull InstanceIdentifier<?> id,
+                                @NotNull ReadContext ctx) throws ReadFailedException {
+        return InterfaceConfigSections.blockingRead(this, command, InterfaceConfigReader.IFC_NAME_WORDS, cli, id, ctx);
+    }
+
     @Override
     protected Pattern getIpLine() {
         return INTERFACE_IP_LINE;
@@ -16,15 +16,21 @@
 
 package io.frinx.cli.unit.brocade.ifc.handler.subifc.ip4;
 
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.brocade.ifc.Util;
+import io.frinx.cli.unit.brocade.ifc.handler.InterfaceConfigReader;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip4.AbstractIpv4ConfigReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigSections;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Optional;
 import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.ip.rev161222.ipv4.top.ipv4.addresses.address.ConfigBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4AddressNoZone;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfaceType;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public final class Ipv4ConfigReader extends AbstractIpv4ConfigReader {
 
@@ -44,6 +50,12 @@ public final class Ipv4ConfigReader extends AbstractIpv4ConfigReader {
         return fT(Ipv4AddressReader.SH_INTERFACE_IP, "ifcType", Util.getTypeOnDevice(ifcType), "ifcNumber", ifcNumber);
     }
 
+    @Override
+    protected String readConfig(@NotNull String command, @NotNull InstanceIdentifier<?> id,
+                                @NotNull ReadContext ctx) throws ReadFailedException {
+        return InterfaceConfigSections.blockingRead(this, command, InterfaceConfigReader.IFC_NAME_WORDS, cli, id, ctx);
+    }
+
     @Override
     public void parseAddressConfig(ConfigBuilder configBuilder, String output, Ipv4AddressNoZone address) {
         Optional<String> optionalAddressLine = ParsingUtils.NEWLINE.splitAsStream(output)
@@ -16,11 +16,17 @@
 
 package io.frinx.cli.unit.brocade.ifc.handler.subifc.ip6;
 
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.brocade.ifc.Util;
+import io.frinx.cli.unit.brocade.ifc.handler.InterfaceConfigReader;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip6.AbstractIpv6AddressesReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigSections;
 import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfaceType;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public final class Ipv6AddressReader extends AbstractIpv6AddressesReader {
 
@@ -41,6 +47,12 @@ public final class Ipv6AddressReader extends AbstractIpv6AddressesReader {
         return fT(SH_INTERFACE_IP, "ifcType", Util.getTypeOnDevice(ifcType), "ifcNumber", ifcNumber);
     }
 
+    @Override
+    protected String readConfig(@NotNull String command, @NotNull InstanceIdentifier<?> id,
+                                @NotNull ReadContext ctx) throws ReadFailedException {
+        return InterfaceConfigSections.blockingRead(this, command, InterfaceConfigReader.IFC_NAME_WORDS, cli, id, ctx);
+    }
+
     @Override
     protected Pattern getLocalIpLine() {
         return IPV6_LOCAL_ADDRESS;
@@ -18,12 +18,29 @@ package io.frinx.cli.unit.brocade.ifc.handler.subifc.ip4;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ipv4.AbstractIpv4ConfigReaderTest;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.ip.rev161222.Subinterface1;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.ip.rev161222.ipv4.top.Ipv4;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.ip.rev161222.ipv4.top.ipv4.Addresses;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.ip.rev161222.ipv4.top.ipv4.addresses.Address;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.ip.rev161222.ipv4.top.ipv4.addresses.AddressKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.ip.rev161222.ipv4.top.ipv4.addresses.address.Config;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.ip.rev161222.ipv4.top.ipv4.addresses.address.ConfigBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.Interfaces;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.Interface;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.InterfaceKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.subinterfaces.top.Subinterfaces;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.subinterfaces.top.subinterfaces.Subinterface;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.subinterfaces.top.subinterfaces.SubinterfaceKey;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4AddressNoZone;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 class Ipv4ConfigReaderTest {
 
@@ -39,4 +56,38 @@ class Ipv4ConfigReaderTest {
                 new Ipv4AddressNoZone("192.168.1.1"));
         assertEquals(AbstractIpv4ConfigReaderTest.buildData("192.168.1.1", "16"), actual.build());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testReadFromInterfaceSections() throws Exception {
+        final Cli cli = Mockito.mock(Cli.class);
+        Mockito.doReturn(CompletableFuture.completedFuture("""
+                interface ethernet 1/1
+                 port-name uplink
+                 ip address 10.0.0.1/24
+                !
+                interface ethernet 1/2
+                 ip address 10.0.1.1/24
+                !
+                """)).when(cli).executeAndRead(Mockito.any());
+        final ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
+        final InstanceIdentifier<Addresses> addresses = InstanceIdentifier.create(Interfaces.class)
+                .child(Interface.class, new InterfaceKey("ethernet 1/2"))
+                .child(Subinterfaces.class)
+                .child(Subinterface.class, new SubinterfaceKey(0L))
+                .augmentation(Subinterface1.class)
+                .child(Ipv4.class)
+                .child(Addresses.class);
+        final AddressKey address = new AddressKey(new Ipv4AddressNoZone("10.0.1.1"));
+
+        assertEquals(List.of(address),
+                new Ipv4AddressReader(cli).getAllIds(addresses.child(Address.class), readContext));
+        final ConfigBuilder actual = new ConfigBuilder();
+        new Ipv4ConfigReader(cli).readCurrentAttributes(addresses.child(Address.class, address).child(Config.class),
+                actual, readContext);
+
+        assertEquals(AbstractIpv4ConfigReaderTest.buildData("10.0.1.1", "24"), actual.build());
+        // both readers are served from one read of all interface sections
+        Mockito.verify(cli, Mockito.times(1)).executeAndRead(Mockito.any());
+    }
+}
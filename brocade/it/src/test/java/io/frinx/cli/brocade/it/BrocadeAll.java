@@ -22,9 +22,11 @@ import io.frinx.cli.unit.brocade.init.BrocadeCliInitializerUnit;
 import io.frinx.cli.unit.brocade.network.instance.BrocadeNetworkInstanceUnit;
 import io.frinx.cli.unit.brocade.stp.BrocadeStpUnit;
 import io.frinx.cli.unit.generic.GenericTranslateUnit;
+import io.frinx.cli.unit.handlers.replay.ReplayBenchmark;
 import java.net.InetSocketAddress;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Host;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
@@ -118,7 +120,7 @@ public class BrocadeAll extends io.frinx.cli.unit.ios.it.IosAll {
         super.getAllDOM();
     }
 
-    @Disabled
+    @EnabledIfSystemProperty(named = ReplayBenchmark.TRANSCRIPT_PROPERTY, matches = ".+")
     @Test
     public void getAllDOMBenchmark() throws Exception {
         super.getAllDOMBenchmark();
@@ -36,6 +36,7 @@ import io.frinx.cli.unit.brocade.network.instance.vlan.VlanReader;
 import io.frinx.cli.unit.brocade.network.instance.vrf.protocol.ProtocolConfigReader;
 import io.frinx.cli.unit.brocade.network.instance.vrf.protocol.ProtocolConfigWriter;
 import io.frinx.cli.unit.brocade.network.instance.vrf.protocol.ProtocolReader;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
 import io.frinx.cli.unit.utils.AbstractUnit;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import java.util.Set;
@@ -73,7 +74,7 @@ public class BrocadeNetworkInstanceUnit extends AbstractUnit {
     public void provideHandlers(@NotNull CustomizerAwareReadRegistryBuilder readRegistry,
                                 @NotNull CustomizerAwareWriteRegistryBuilder writeRegistry,
                                 @NotNull Context context) {
-        Cli cli = context.getTransport();
+        Cli cli = CommandMetrics.instrument(context.getTransport());
         provideReaders(readRegistry, cli);
         provideWriters(writeRegistry, cli);
     }
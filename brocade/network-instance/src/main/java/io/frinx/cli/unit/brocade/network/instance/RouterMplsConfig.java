@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.brocade.network.instance;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.utils.CliReader;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * VLL, VLL-local and VPLS stanzas of the {@code router mpls} block by name.
+ * <br>
+ * Readers used to issue {@code show running-config | begin vll <name>} (resp. vll-local, vpls) per instance, each
+ * returning the whole remainder of the configuration. The block is read once per read transaction instead and split
+ * into stanzas. A stanza is returned in the same form as the {@code | begin} output was parsed: starting with
+ * the stanza header and terminated by an empty line.
+ */
+public final class RouterMplsConfig {
+
+    public static final String SH_ROUTER_MPLS = "show running-config | begin router mpls";
+
+    private static final String ROUTER_MPLS = "router mpls";
+
+    private final Map<StanzaType, Map<String, String>> stanzas;
+
+    private RouterMplsConfig(Map<StanzaType, Map<String, String>> stanzas) {
+        this.stanzas = stanzas;
+    }
+
+    public static RouterMplsConfig read(@NotNull CliReader cliReader, @NotNull Cli cli,
+                                        @NotNull InstanceIdentifier<?> instanceIdentifier,
+                                        @NotNull ReadContext readContext) throws ReadFailedException {
+        RouterMplsConfig config = (RouterMplsConfig) readContext.getModificationCache().get(RouterMplsConfig.class);
+        if (config == null) {
+            config = parse(cliReader.blockingRead(SH_ROUTER_MPLS, cli, instanceIdentifier, readContext));
+            readContext.getModificationCache().put(RouterMplsConfig.class, config);
+        }
+        return config;
+    }
+
+    /**
+     * Returns the stanza of the instance or an empty string when there is no such instance.
+     */
+    public String getStanza(@NotNull StanzaType type, @NotNull String name) {
+        return stanzas.get(type).getOrDefault(name, "");
+    }
+
+    @VisibleForTesting
+    public static RouterMplsConfig parse(@NotNull String output) {
+        final Map<StanzaType, Map<String, StringBuilder>> parsed = new EnumMap<>(StanzaType.class);
+        boolean inBlock = false;
+        StringBuilder stanza = null;
+        for (String line : ParsingUtils.NEWLINE.split(output)) {
+            if (!inBlock) {
+                inBlock = line.trim().equals(ROUTER_MPLS);
+            } else if (line.isBlank()) {
+                stanza = null;
+            } else if (!Character.isWhitespace(line.charAt(0))) {
+                // end of the router mpls block
+                break;
+            } else if (!Character.isWhitespace(line.charAt(1))) {
+                stanza = startStanza(parsed, line);
+            } else if (stanza != null) {
+                stanza.append(line).append('\n');
+            }
+        }
+        final Map<StanzaType, Map<String, String>> stanzas = new EnumMap<>(StanzaType.class);
+        for (StanzaType type : StanzaType.values()) {
+            final Map<String, String> byName = new HashMap<>();
+            parsed.getOrDefault(type, Collections.emptyMap())
+                    .forEach((name, text) -> byName.put(name, text.append('\n').toString()));
+            stanzas.put(type, byName);
+        }
+        return new RouterMplsConfig(stanzas);
+    }
+
+    /**
+     * Starts a new stanza if the line is a VLL, VLL-local or VPLS header, returns null otherwise.
+     */
+    private static StringBuilder startStanza(Map<StanzaType, Map<String, StringBuilder>> parsed, String header) {
+        final String[] words = header.trim().split("\\s+");
+        if (words.length < 2) {
+            return null;
+        }
+        for (StanzaType type : StanzaType.values()) {
+            if (type.keyword.equals(words[0])) {
+                final StringBuilder stanza = new StringBuilder(header).append('\n');
+                parsed.computeIfAbsent(type, t -> new HashMap<>()).putIfAbsent(words[1], stanza);
+                return stanza;
+            }
+        }
+        return null;
+    }
+
+    public enum StanzaType {
+        VLL("vll"),
+        VLL_LOCAL("vll-local"),
+        VPLS("vpls");
+
+        private final String keyword;
+
+        StanzaType(String keyword) {
+            this.keyword = keyword;
+        }
+    }
+}
@@ -16,24 +16,37 @@
 
 package io.frinx.cli.unit.brocade.network.instance.l2p2p;
 
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.brocade.network.instance.RouterMplsConfig;
 import io.frinx.cli.unit.ni.base.handler.l2p2p.AbstractL2P2ConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.network.instance.Config;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.network.instance.ConfigBuilder;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public final class L2P2PConfigReader extends AbstractL2P2ConfigReader {
 
     private static final Pattern MTU_LINE = Pattern.compile("\\s*vll-mtu (?<mtu>.+)");
-    private static final String SH_VLL = "show running-config | begin vll %s";
+
+    private final Cli cli;
 
     public L2P2PConfigReader(Cli cli) {
         super(new L2P2PReader(cli), cli);
+        this.cli = cli;
     }
 
     @Override
     protected String getReadCommand(String vllName) {
-        return f(SH_VLL, vllName);
+        return RouterMplsConfig.SH_ROUTER_MPLS;
+    }
+
+    @Override
+    protected String readL2p2Config(String vllName, InstanceIdentifier<Config> id, ReadContext ctx)
+            throws ReadFailedException {
+        return RouterMplsConfig.read(this, cli, id, ctx).getStanza(RouterMplsConfig.StanzaType.VLL, vllName);
     }
 
     @Override
@@ -24,6 +24,7 @@ import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.brocade.ifc.Util;
+import io.frinx.cli.unit.brocade.network.instance.RouterMplsConfig;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.translate.unit.commons.handler.spi.ChecksMap;
@@ -88,20 +89,18 @@ public class L2P2PPointsReader implements CompositeReader.Child<ConnectionPoints
         }
     }
 
-    static final String SH_VLL = "show running-config | begin  vll %s";
     static final Pattern VLL_VCCID_LINE = Pattern.compile("vll (?<name>\\S+)\\s+(?<vccid>\\d+)");
     static final Pattern VLL_PEER_LINE = Pattern.compile("vll-peer\\s+(?<remoteIp>\\S+)");
     static final Pattern VLL_LOCAL_IFC_LINE = Pattern.compile("untag(ged)?\\s+(?<ifc>.+)");
     static final Pattern VLL_LOCAL_SUBIFC_LINE = Pattern.compile("vlan (?<vlan>[0-9]+)\\s+tag(ged)? (?<ifc>.+)");
 
-    static final String SH_VLL_LOCAL = "show running-config | begin  vll-local %s";
     static final Pattern VLL_2_LOCAL_SUBIFC_LINE =
             Pattern.compile("vlan (?<vlan>[0-9]+)\\s+tag(ged)? (?<ifc>.+)\\s+tag(ged)? (?<ifc2>.+)");
 
     private List<ConnectionPoint> getVllPoints(InstanceIdentifier<ConnectionPoints> id,
                                                ReadContext ctx,
                                                String netName) throws ReadFailedException {
-        String output = blockingRead(String.format(SH_VLL, netName), this.cli, id, ctx);
+        String output = RouterMplsConfig.read(this, cli, id, ctx).getStanza(RouterMplsConfig.StanzaType.VLL, netName);
         if (output.trim().isEmpty()) {
             return Collections.emptyList();
         } else {
@@ -111,7 +110,8 @@ public class L2P2PPointsReader implements CompositeReader.Child<ConnectionPoints
 
     private List<ConnectionPoint> getVllLocalPoints(InstanceIdentifier<ConnectionPoints> id, ReadContext ctx, String
             netName) throws ReadFailedException {
-        String output = blockingRead(String.format(SH_VLL_LOCAL, netName), this.cli, id, ctx);
+        String output = RouterMplsConfig.read(this, cli, id, ctx)
+                .getStanza(RouterMplsConfig.StanzaType.VLL_LOCAL, netName);
         if (output.trim().isEmpty()) {
             return Collections.emptyList();
         } else {
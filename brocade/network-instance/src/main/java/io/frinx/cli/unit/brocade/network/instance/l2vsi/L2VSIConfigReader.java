@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.brocade.network.instance.RouterMplsConfig;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.translate.unit.commons.handler.spi.CompositeReader;
@@ -37,7 +38,6 @@ public final class L2VSIConfigReader implements CliConfigReader<Config, ConfigBu
         CompositeReader.Child<Config, ConfigBuilder> {
 
     private static final Pattern MTU_LINE = Pattern.compile("\\s*vpls-mtu (?<mtu>.+)");
-    private static final String SH_VPLS = "show running-config | begin vpls %s";
     private final Cli cli;
 
     public L2VSIConfigReader(Cli cli) {
@@ -65,15 +65,12 @@ public final class L2VSIConfigReader implements CliConfigReader<Config, ConfigBu
             String vplsName = id.firstKeyOf(NetworkInstance.class).getName();
             configBuilder.setName(vplsName);
             configBuilder.setType(L2VSI.class);
-            parseL2Vsi(blockingRead(getReadCommand(vplsName), cli, id, ctx), configBuilder);
+            parseL2Vsi(RouterMplsConfig.read(this, cli, id, ctx).getStanza(RouterMplsConfig.StanzaType.VPLS, vplsName),
+                    configBuilder);
             // TODO set other attributes i.e. description
         }
     }
 
-    private String getReadCommand(String vplsName) {
-        return f(SH_VPLS, vplsName);
-    }
-
     private boolean isVSI(InstanceIdentifier<Config> id, ReadContext readContext) throws ReadFailedException {
         return L2VSIReader.getAllIds(id, readContext, cli, this).contains(id.firstKeyOf(NetworkInstance.class));
     }
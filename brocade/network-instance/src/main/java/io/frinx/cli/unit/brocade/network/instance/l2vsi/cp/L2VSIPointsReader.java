@@ -25,6 +25,7 @@ import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.brocade.ifc.Util;
 import io.frinx.cli.unit.brocade.ifc.handler.switchedvlan.def.Vlan;
+import io.frinx.cli.unit.brocade.network.instance.RouterMplsConfig;
 import io.frinx.cli.unit.brocade.network.instance.l2p2p.cp.L2P2PPointsReader;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -85,11 +86,11 @@ public class L2VSIPointsReader implements CompositeReader.Child<ConnectionPoints
     private List<ConnectionPoint> getConnectionPoints(String vplsName, InstanceIdentifier<ConnectionPoints> id,
                                                       ReadContext ctx) throws ReadFailedException {
 
-        String output = blockingRead(f(SH_VPLS, vplsName), this.cli, id, ctx);
+        String output = RouterMplsConfig.read(this, cli, id, ctx)
+                .getStanza(RouterMplsConfig.StanzaType.VPLS, vplsName);
         return new ArrayList<>(getVplsPoints(output));
     }
 
-    private static final String SH_VPLS = "show running-config | begin ^ vpls %s";
     private static final Pattern VPLS_VCCID_LINE = Pattern.compile("vpls (?<name>\\S+)\\s+(?<vccid>\\d+)");
     private static final Pattern VPLS_PEERS_LINE = Pattern.compile("vpls-peer\\s+(?<remoteIps>.*)");
     private static final Pattern VPLS_PEER_DIVIDER = Pattern.compile(" ");
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.brocade.network.instance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class RouterMplsConfigTest {
+
+    private static final String OUTPUT = """
+            router mpls
+             policy
+              traffic-eng ospf area 0
+             mpls-interface ve 100
+             vll abcd 4444
+              vll-peer 10.0.0.2
+              vlan 100
+               tagged e 1/1
+            \s
+             vll abcd2 4445
+              vll-peer 10.0.0.3
+              untagged e 1/2
+
+             vll-local abcd
+              untag e 1/7
+              untagged e 1/9
+             vpls abcd 4444\s
+              vpls-peer 8.8.8.8 7.7.7.7\s
+              vlan 200\s
+               untagged e 1/8\s
+
+            !
+            ip route 0.0.0.0/0 10.0.0.1
+             vll abcd 1
+            """;
+
+    @Test
+    void testParse() {
+        final RouterMplsConfig config = RouterMplsConfig.parse(OUTPUT);
+        assertEquals("""
+                 vll abcd 4444
+                  vll-peer 10.0.0.2
+                  vlan 100
+                   tagged e 1/1
+
+                """, config.getStanza(RouterMplsConfig.StanzaType.VLL, "abcd"));
+        assertEquals("""
+                 vll abcd2 4445
+                  vll-peer 10.0.0.3
+                  untagged e 1/2
+
+                """, config.getStanza(RouterMplsConfig.StanzaType.VLL, "abcd2"));
+        assertEquals("""
+                 vll-local abcd
+                  untag e 1/7
+                  untagged e 1/9
+
+                """, config.getStanza(RouterMplsConfig.StanzaType.VLL_LOCAL, "abcd"));
+        assertEquals("""
+                 vpls abcd 4444\s
+                  vpls-peer 8.8.8.8 7.7.7.7\s
+                  vlan 200\s
+                   untagged e 1/8\s
+
+                """, config.getStanza(RouterMplsConfig.StanzaType.VPLS, "abcd"));
+        assertEquals("", config.getStanza(RouterMplsConfig.StanzaType.VLL, "abc"));
+        assertEquals("", config.getStanza(RouterMplsConfig.StanzaType.VPLS, "abcd2"));
+    }
+}
@@ -18,10 +18,12 @@ package io.frinx.cli.unit.brocade.network.instance.l2p2p.cp;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import io.frinx.cli.unit.brocade.network.instance.RouterMplsConfig;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.network.instance.connection.points.ConnectionPoint;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.types.rev170228.LOCAL;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.types.rev170228.REMOTE;
 
 public class L2P2PPointsReaderTest {
 
@@ -104,6 +106,37 @@ public class L2P2PPointsReaderTest {
         assertEquals(0, connectionPoints.size());
     }
 
+    @Test
+    void testParseManyVlls() {
+        final StringBuilder output = new StringBuilder("router mpls\n");
+        for (int vll = 0; vll < 5000; vll++) {
+            output.append(String.format(" vll vll%d %d\n  vll-peer 10.0.%d.%d\n  vlan %d\n   tagged e 1/%d\n\n",
+                    vll, 10000 + vll, vll / 256, vll % 256, vll % 4094 + 1, vll % 48 + 1));
+            output.append(String.format(" vll-local local%d\n  untagged e 2/%d\n  untagged e 3/%d\n\n",
+                    vll, vll % 48 + 1, vll % 48 + 1));
+        }
+        output.append("!\n");
+
+        final RouterMplsConfig config = RouterMplsConfig.parse(output.toString());
+        for (int vll = 0; vll < 5000; vll++) {
+            List<ConnectionPoint> points = L2P2PPointsReader.parseVllPoints(
+                    config.getStanza(RouterMplsConfig.StanzaType.VLL, "vll" + vll));
+            assertEquals(2, points.size());
+            assertEquals(String.format("ethernet 1/%d", vll % 48 + 1),
+                    points.get(0).getEndpoints().getEndpoint().get(0).getLocal().getConfig().getInterface());
+            assertEquals(Long.valueOf(vll % 4094 + 1),
+                    points.get(0).getEndpoints().getEndpoint().get(0).getLocal().getConfig().getSubinterface());
+            assertEquals(REMOTE.class, points.get(1).getEndpoints().getEndpoint().get(0).getConfig().getType());
+            assertEquals(Long.valueOf(10000 + vll), points.get(1).getEndpoints().getEndpoint().get(0).getRemote()
+                    .getConfig().getVirtualCircuitIdentifier());
+
+            points = L2P2PPointsReader.parseVllLocalPoints(
+                    config.getStanza(RouterMplsConfig.StanzaType.VLL_LOCAL, "local" + vll));
+            assertEndpoint(points.get(0), String.format("ethernet 2/%d", vll % 48 + 1));
+            assertEndpoint(points.get(1), String.format("ethernet 3/%d", vll % 48 + 1));
+        }
+    }
+
     private void assertEndpoint(ConnectionPoint endpoint0, String ifc) {
         assertEquals(LOCAL.class,
                 endpoint0.getEndpoints().getEndpoint().get(0).getConfig().getType());
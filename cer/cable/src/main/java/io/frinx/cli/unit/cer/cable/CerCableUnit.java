@@ -24,12 +24,15 @@ import io.frinx.cli.registry.api.TranslationUnitCollector;
 import io.frinx.cli.registry.spi.TranslateUnit;
 import io.frinx.cli.unit.cer.cable.handler.cablemac.CableMacReader;
 import io.frinx.cli.unit.cer.cable.handler.cablemac.CableMacStateReader;
+import io.frinx.cli.unit.cer.cable.handler.cablemodem.CableModemChangeLog;
+import io.frinx.cli.unit.cer.cable.handler.cablemodem.CableModemChanges;
 import io.frinx.cli.unit.cer.cable.handler.cablemodem.CableModemReader;
 import io.frinx.cli.unit.cer.cable.handler.cablemodem.CableModemStateReader;
 import io.frinx.cli.unit.cer.cable.handler.fibernode.FiberNodeConfigReader;
 import io.frinx.cli.unit.cer.cable.handler.fibernode.FiberNodeConfigWriter;
 import io.frinx.cli.unit.cer.cable.handler.fibernode.FiberNodeReader;
 import io.frinx.cli.unit.cer.init.CerDevices;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
 import io.frinx.cli.unit.utils.AbstractUnit;
 import io.frinx.openconfig.openconfig.cable.IIDs;
 import java.util.Set;
@@ -40,6 +43,8 @@ import org.opendaylight.yangtools.yang.binding.YangModuleInfo;
 
 public class CerCableUnit extends AbstractUnit {
 
+    private final CableModemChanges cableModemChanges = new CableModemChanges(new CableModemChangeLog());
+
     public CerCableUnit(@NotNull final TranslationUnitCollector translationRegistry) {
         super(translationRegistry);
     }
@@ -65,11 +70,19 @@ public class CerCableUnit extends AbstractUnit {
     public void provideHandlers(@NotNull CustomizerAwareReadRegistryBuilder readRegistry,
                                 @NotNull CustomizerAwareWriteRegistryBuilder writeRegistry,
                                 @NotNull TranslateUnit.Context context) {
-        Cli cli = context.getTransport();
+        Cli cli = CommandMetrics.instrument(context.getTransport());
+        // cable modem table of a previous mount of the device is stale
+        cableModemChanges.clear(cli.getDeviceId());
         provideReaders(readRegistry, cli);
         provideWriters(writeRegistry, cli);
     }
 
+    @Override
+    public void close() {
+        super.close();
+        cableModemChanges.clear();
+    }
+
     private void provideWriters(CustomizerAwareWriteRegistryBuilder writeRegistry, Cli cli) {
         writeRegistry.addNoop(IIDs.CABLE);
         writeRegistry.addNoop(IIDs.CA_FIBERNODES);
@@ -86,6 +99,6 @@ public class CerCableUnit extends AbstractUnit {
         readRegistry.add(IIDs.CA_AUG_CABLE1_CA_CABLEMAC, new CableMacReader(cli));
         readRegistry.add(IIDs.CA_AUG_CABLE1_CA_CA_STATE, new CableMacStateReader(cli));
         readRegistry.add(IIDs.CA_AUG_CABLE2_CA_CABLEMODEM, new CableModemReader(cli));
-        readRegistry.add(IIDs.CA_AUG_CABLE2_CA_CA_STATE, new CableModemStateReader(cli));
+        readRegistry.add(IIDs.CA_AUG_CABLE2_CA_CA_STATE, new CableModemStateReader(cli, cableModemChanges));
     }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.cer.cable.handler.cablemodem;
+
+import java.util.Objects;
+
+/**
+ * Cable modem added to, removed from or changed in {@code show cable modem} since the previous read. Holds the
+ * current values of the modem, the last known values of a removed modem.
+ */
+public final class CableModemChange {
+
+    public enum Type {
+        ADDED,
+        REMOVED,
+        CHANGED
+    }
+
+    private final Type type;
+    private final String macAddress;
+    private final String state;
+    private final String docSis;
+    private final String ipAddress;
+
+    CableModemChange(Type type, String macAddress, String state, String docSis, String ipAddress) {
+        this.type = type;
+        this.macAddress = macAddress;
+        this.state = state;
+        this.docSis = docSis;
+        this.ipAddress = ipAddress;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getMacAddress() {
+        return macAddress;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public String getDocSis() {
+        return docSis;
+    }
+
+    public String getIpAddress() {
+        return ipAddress;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CableModemChange)) {
+            return false;
+        }
+        final CableModemChange other = (CableModemChange) obj;
+        return type == other.type && macAddress.equals(other.macAddress) && state.equals(other.state)
+                && docSis.equals(other.docSis) && ipAddress.equals(other.ipAddress);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, macAddress, state, docSis, ipAddress);
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + macAddress + " " + state + " " + docSis + " " + ipAddress;
+    }
+}
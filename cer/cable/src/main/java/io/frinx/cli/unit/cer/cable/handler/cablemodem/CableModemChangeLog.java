@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.cer.cable.handler.cablemodem;
+
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Consumer of {@link CableModemChanges} registered by the CER cable unit. Writes every cable modem added, removed
+ * or changed since the previous read of the device to the log, so state flaps can be followed without comparing
+ * whole {@code show cable modem} outputs.
+ */
+public final class CableModemChangeLog implements CableModemChanges.Consumer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CableModemChangeLog.class);
+
+    @Override
+    public void onChanges(String deviceId, List<CableModemChange> changes) {
+        for (CableModemChange change : changes) {
+            LOG.info("{}: Cable modem {}", deviceId, change);
+        }
+    }
+}
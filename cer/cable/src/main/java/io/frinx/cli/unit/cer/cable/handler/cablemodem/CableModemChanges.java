@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.cer.cable.handler.cablemodem;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Change feed of cable modem state of the devices read by a unit.
+ * <br>
+ * The last {@link CableModemTable} read from every device is retained. Each newly read table is compared with
+ * it in one pass over both tables and only modems added, removed or changed (state, DOCSIS version or IP address)
+ * are passed to the consumer, so it processes changes instead of the whole table on every poll. The first table
+ * read from a device is the baseline, it produces no changes.
+ * <br>
+ * Tables are fed by {@link CableModemStateReader}, so changes are detected only when cable modem state is read.
+ * A failing consumer is logged and does not fail the read. Tables are owned by the unit, which drops the table
+ * of a device when its handlers are provided again and tables of all devices when it closes.
+ */
+public final class CableModemChanges {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CableModemChanges.class);
+
+    private final Map<String, CableModemTable> snapshots = new ConcurrentHashMap<>();
+    private final Consumer consumer;
+
+    public CableModemChanges(Consumer consumer) {
+        this.consumer = consumer;
+    }
+
+    /**
+     * Drops the retained table of the device, the next table read from it is a new baseline.
+     */
+    public void clear(String deviceId) {
+        snapshots.remove(deviceId);
+    }
+
+    /**
+     * Drops the retained tables of all devices.
+     */
+    public void clear() {
+        snapshots.clear();
+    }
+
+    void update(String deviceId, CableModemTable table) {
+        final CableModemTable previous = snapshots.put(deviceId, table);
+        if (previous == null) {
+            return;
+        }
+        final List<CableModemChange> changes = diff(previous, table);
+        LOG.debug("{}: {} cable modem changes", deviceId, changes.size());
+        if (!changes.isEmpty()) {
+            try {
+                consumer.onChanges(deviceId, changes);
+            } catch (RuntimeException e) {
+                LOG.warn("{}: Cable modem change consumer {} failed", deviceId, consumer, e);
+            }
+        }
+    }
+
+    @VisibleForTesting
+    static List<CableModemChange> diff(CableModemTable previous, CableModemTable current) {
+        final List<CableModemChange> changes = new ArrayList<>();
+        final BitSet listed = new BitSet(previous.size());
+        for (int row = 0; row < current.size(); row++) {
+            final int previousRow = previous.findRow(current, row);
+            if (previousRow < 0) {
+                changes.add(change(CableModemChange.Type.ADDED, current, row));
+            } else if (!listed.get(previousRow)) {
+                listed.set(previousRow);
+                if (!current.getState(row).equals(previous.getState(previousRow))
+                        || !current.getDocSis(row).equals(previous.getDocSis(previousRow))
+                        || !current.sameIpAddress(row, previous, previousRow)) {
+                    changes.add(change(CableModemChange.Type.CHANGED, current, row));
+                }
+            }
+        }
+        for (int row = listed.nextClearBit(0); row < previous.size(); row = listed.nextClearBit(row + 1)) {
+            if (current.findRow(previous, row) < 0) {
+                changes.add(change(CableModemChange.Type.REMOVED, previous, row));
+            }
+        }
+        return changes;
+    }
+
+    private static CableModemChange change(CableModemChange.Type type, CableModemTable table, int row) {
+        return new CableModemChange(type, table.getMacAddress(row), table.getState(row).trim(), table.getDocSis(row),
+                table.getIpAddress(row));
+    }
+
+    @FunctionalInterface
+    public interface Consumer {
+
+        void onChanges(String deviceId, List<CableModemChange> changes);
+    }
+}
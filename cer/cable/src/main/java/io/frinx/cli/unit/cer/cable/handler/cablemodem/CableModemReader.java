@@ -38,7 +38,7 @@ public class CableModemReader implements CliOperListReader<CableModem, CableMode
         this.cli = cli;
     }
 
-    private static final String SH_CABLE_MODEM = "show cable modem";
+    static final String SH_CABLE_MODEM = "show cable modem";
 
     static final Pattern PARSE_CABLE_MODEM = Pattern.compile(
             "(?<interfaceName>\\d+/[a-z0-9]+/\\d+-\\d+/[a-z0-9]+/\\d+) *(?<mac>\\d+) *(?<bonded>[0-9x-]+) *"
@@ -33,9 +33,11 @@ public class CableModemStateReader implements CliOperReader<State, StateBuilder>
     private static final String SH_CABLE_MAC = "show cable modem %s";
 
     private final Cli cli;
+    private final CableModemChanges changes;
 
-    public CableModemStateReader(Cli cli) {
+    public CableModemStateReader(Cli cli, CableModemChanges changes) {
         this.cli = cli;
+        this.changes = changes;
     }
 
     @Override
@@ -43,8 +45,22 @@ public class CableModemStateReader implements CliOperReader<State, StateBuilder>
                                       @NotNull StateBuilder stateBuilder,
                                       @NotNull ReadContext readContext) throws ReadFailedException {
         var name = id.firstKeyOf(CableModem.class).getId();
-        String output = blockingRead(f(SH_CABLE_MAC, name), cli, id, readContext);
-        parseCableModem(output, stateBuilder);
+        if (!getTable(id, readContext).fill(name, stateBuilder)) {
+            // modem registered after the table was read
+            String output = blockingRead(f(SH_CABLE_MAC, name), cli, id, readContext);
+            parseCableModem(output, stateBuilder);
+        }
+    }
+
+    private CableModemTable getTable(InstanceIdentifier<State> id, ReadContext readContext)
+            throws ReadFailedException {
+        var table = (CableModemTable) readContext.getModificationCache().get(CableModemTable.class);
+        if (table == null) {
+            table = CableModemTable.parse(blockingRead(CableModemReader.SH_CABLE_MODEM, cli, id, readContext));
+            readContext.getModificationCache().put(CableModemTable.class, table);
+            changes.update(cli.getDeviceId(), table);
+        }
+        return table;
     }
 
     @VisibleForTesting
@@ -0,0 +1,309 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.cer.cable.handler.cablemodem;
+
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.cable.cer.rev230125.cable.modem.extension.cable.modems.cable.modem.StateBuilder;
+
+/**
+ * Rows of {@code show cable modem} parsed once per read transaction, stored column by column.
+ * <br>
+ * A CMTS lists tens of thousands of modems, so rows are not kept as strings or parsed objects. MAC addresses
+ * in the {@code xxxx.xxxx.xxxx} form are stored as longs in an open addressing table, IPv4 addresses as ints and
+ * the remaining columns as shared string instances (a table holds only a handful of distinct states, QoS
+ * profiles or DOCSIS versions). Values not fitting the primitive form are kept as strings aside.
+ */
+final class CableModemTable {
+
+    private static final String NO_IP = "-";
+    private static final long FREE = -1;
+
+    private final int size;
+    private final long[] macs;
+    private final long[] macSlots;
+    private final int[] macSlotRows;
+    private final Map<String, Integer> otherMacs;
+    private final Map<Integer, String> otherMacAddresses;
+    private final String[] interfaceNames;
+    private final String[] macDomains;
+    private final String[] bonded;
+    private final String[] states;
+    private final String[] docSis;
+    private final String[] qos;
+    private final String[] cpes;
+    private final int[] ips;
+    private final BitSet noIps;
+    private final Map<Integer, String> otherIps;
+
+    private CableModemTable(Builder builder) {
+        this.size = builder.size;
+        this.macs = Arrays.copyOf(builder.macs, size);
+        this.interfaceNames = Arrays.copyOf(builder.interfaceNames, size);
+        this.macDomains = Arrays.copyOf(builder.macDomains, size);
+        this.bonded = Arrays.copyOf(builder.bonded, size);
+        this.states = Arrays.copyOf(builder.states, size);
+        this.docSis = Arrays.copyOf(builder.docSis, size);
+        this.qos = Arrays.copyOf(builder.qos, size);
+        this.cpes = Arrays.copyOf(builder.cpes, size);
+        this.ips = Arrays.copyOf(builder.ips, size);
+        this.noIps = builder.noIps;
+        this.otherIps = builder.otherIps;
+        this.otherMacs = builder.otherMacs;
+        this.otherMacAddresses = builder.otherMacAddresses;
+
+        // open addressing table of mac -> row, macs are 48 bit so -1 marks a free slot
+        final int capacity = Integer.highestOneBit(Math.max(size - otherMacAddresses.size(), 1) * 2) * 2;
+        this.macSlots = new long[capacity];
+        this.macSlotRows = new int[capacity];
+        Arrays.fill(macSlots, FREE);
+        for (int row = 0; row < size; row++) {
+            if (macs[row] != FREE) {
+                final int slot = findSlot(macs[row]);
+                if (macSlots[slot] == FREE) {
+                    macSlots[slot] = macs[row];
+                    macSlotRows[slot] = row;
+                }
+            }
+        }
+    }
+
+    static CableModemTable parse(String output) {
+        final Builder builder = new Builder();
+        for (String line : ParsingUtils.NEWLINE.split(output)) {
+            final Matcher matcher = CableModemReader.PARSE_CABLE_MODEM.matcher(line.trim());
+            if (matcher.matches()) {
+                builder.add(matcher);
+            }
+        }
+        return new CableModemTable(builder);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Fills the state of the modem from its row, returns false if the modem is not in the table.
+     */
+    boolean fill(String macAddress, StateBuilder stateBuilder) {
+        final int row = findRow(macAddress);
+        if (row < 0) {
+            return false;
+        }
+        stateBuilder.setInterfaceName(interfaceNames[row]);
+        stateBuilder.setMac(macDomains[row]);
+        stateBuilder.setBonded(bonded[row]);
+        stateBuilder.setState(states[row]);
+        stateBuilder.setDocSis(docSis[row]);
+        stateBuilder.setQos(qos[row]);
+        stateBuilder.setCpe(cpes[row]);
+        stateBuilder.setMacAddress(macAddress);
+        stateBuilder.setIpAddress(getIpAddress(row));
+        return true;
+    }
+
+    private int findRow(String macAddress) {
+        final long mac = parseMac(macAddress);
+        return mac < 0 ? otherMacs.getOrDefault(macAddress, -1) : findRow(mac);
+    }
+
+    private int findRow(long mac) {
+        final int slot = findSlot(mac);
+        return macSlots[slot] == FREE ? -1 : macSlotRows[slot];
+    }
+
+    /**
+     * Returns the row of the modem listed in the row of the other table, -1 if this table does not list it.
+     */
+    int findRow(CableModemTable other, int otherRow) {
+        final long mac = other.macs[otherRow];
+        return mac == FREE ? otherMacs.getOrDefault(other.otherMacAddresses.get(otherRow), -1) : findRow(mac);
+    }
+
+    String getMacAddress(int row) {
+        final long mac = macs[row];
+        return mac == FREE
+                ? otherMacAddresses.get(row)
+                : String.format("%04x.%04x.%04x", mac >> 32 & 0xffff, mac >> 16 & 0xffff, mac & 0xffff);
+    }
+
+    String getState(int row) {
+        return states[row];
+    }
+
+    String getDocSis(int row) {
+        return docSis[row];
+    }
+
+    /**
+     * Compares IP addresses of the row and the row of the other table without printing them.
+     */
+    boolean sameIpAddress(int row, CableModemTable other, int otherRow) {
+        if (noIps.get(row) || other.noIps.get(otherRow)) {
+            return noIps.get(row) == other.noIps.get(otherRow);
+        }
+        if (otherIps.isEmpty() && other.otherIps.isEmpty()) {
+            return ips[row] == other.ips[otherRow];
+        }
+        return getIpAddress(row).equals(other.getIpAddress(otherRow));
+    }
+
+    /**
+     * Returns the slot holding the mac or the free slot where it belongs.
+     */
+    private int findSlot(long mac) {
+        final int mask = macSlots.length - 1;
+        int slot = (int) (mac * 0x9E3779B97F4A7C15L >>> 32) & mask;
+        while (macSlots[slot] != FREE && macSlots[slot] != mac) {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    String getIpAddress(int row) {
+        if (noIps.get(row)) {
+            return NO_IP;
+        }
+        final String other = otherIps.get(row);
+        if (other != null) {
+            return other;
+        }
+        final int ip = ips[row];
+        return (ip >>> 24) + "." + (ip >> 16 & 0xff) + "." + (ip >> 8 & 0xff) + "." + (ip & 0xff);
+    }
+
+    /**
+     * Returns the MAC address in {@code xxxx.xxxx.xxxx} lowercase hexadecimal form as a number, -1 for any other
+     * form, so the address printed back from the number is always equal to the parsed one.
+     */
+    static long parseMac(String macAddress) {
+        if (macAddress.length() != 14 || macAddress.charAt(4) != '.' || macAddress.charAt(9) != '.') {
+            return -1;
+        }
+        long mac = 0;
+        for (int i = 0; i < 14; i++) {
+            if (i == 4 || i == 9) {
+                continue;
+            }
+            final char character = macAddress.charAt(i);
+            if (character >= '0' && character <= '9') {
+                mac = mac << 4 | character - '0';
+            } else if (character >= 'a' && character <= 'f') {
+                mac = mac << 4 | character - 'a' + 10;
+            } else {
+                return -1;
+            }
+        }
+        return mac;
+    }
+
+    /**
+     * Returns the dotted IPv4 address as a number, null if the address is not in the canonical dotted form.
+     */
+    static Integer parseIpv4(String ipAddress) {
+        int ip = 0;
+        int octet = -1;
+        int octets = 0;
+        for (int i = 0; i <= ipAddress.length(); i++) {
+            final char character = i < ipAddress.length() ? ipAddress.charAt(i) : '.';
+            if (character == '.') {
+                if (octet < 0 || octet > 255 || ++octets > 4) {
+                    return null;
+                }
+                ip = ip << 8 | octet;
+                octet = -1;
+            } else if (character >= '0' && character <= '9' && octet != 0) {
+                octet = (octet < 0 ? 0 : octet * 10) + character - '0';
+            } else {
+                return null;
+            }
+        }
+        return octets == 4 ? ip : null;
+    }
+
+    private static final class Builder {
+
+        private final Map<String, String> values = new HashMap<>();
+        private final BitSet noIps = new BitSet();
+        private final Map<Integer, String> otherIps = new HashMap<>();
+        private final Map<String, Integer> otherMacs = new HashMap<>();
+        private final Map<Integer, String> otherMacAddresses = new HashMap<>();
+        private int size;
+        private long[] macs = new long[1024];
+        private String[] interfaceNames = new String[1024];
+        private String[] macDomains = new String[1024];
+        private String[] bonded = new String[1024];
+        private String[] states = new String[1024];
+        private String[] docSis = new String[1024];
+        private String[] qos = new String[1024];
+        private String[] cpes = new String[1024];
+        private int[] ips = new int[1024];
+
+        private void add(Matcher matcher) {
+            if (size == states.length) {
+                grow(size * 2);
+            }
+            final int row = size++;
+            interfaceNames[row] = share(matcher.group("interfaceName"));
+            macDomains[row] = share(matcher.group("mac"));
+            bonded[row] = share(matcher.group("bonded"));
+            states[row] = share(matcher.group("state"));
+            docSis[row] = share(matcher.group("docSis"));
+            qos[row] = share(matcher.group("qos"));
+            cpes[row] = share(matcher.group("cpe"));
+
+            final String macAddress = matcher.group("macAddress");
+            macs[row] = parseMac(macAddress);
+            if (macs[row] == FREE) {
+                otherMacs.putIfAbsent(macAddress, row);
+                otherMacAddresses.put(row, macAddress);
+            }
+
+            final String ipAddress = matcher.group("ipAddress");
+            final Integer ip = NO_IP.equals(ipAddress) ? null : parseIpv4(ipAddress);
+            if (ip != null) {
+                ips[row] = ip;
+            } else if (NO_IP.equals(ipAddress)) {
+                noIps.set(row);
+            } else {
+                otherIps.put(row, ipAddress);
+            }
+        }
+
+        private String share(String value) {
+            final String shared = values.putIfAbsent(value, value);
+            return shared == null ? value : shared;
+        }
+
+        private void grow(int capacity) {
+            macs = Arrays.copyOf(macs, capacity);
+            interfaceNames = Arrays.copyOf(interfaceNames, capacity);
+            macDomains = Arrays.copyOf(macDomains, capacity);
+            bonded = Arrays.copyOf(bonded, capacity);
+            states = Arrays.copyOf(states, capacity);
+            docSis = Arrays.copyOf(docSis, capacity);
+            qos = Arrays.copyOf(qos, capacity);
+            cpes = Arrays.copyOf(cpes, capacity);
+            ips = Arrays.copyOf(ips, capacity);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.cer.cable.handler.cablemodem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.frinx.cli.unit.generator.CerOutputs;
+import io.frinx.cli.unit.generator.Outputs;
+import io.frinx.cli.unit.generator.ScaleBudget;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CableModemChangesTest {
+
+    private static final String PREVIOUS = """
+            11/scq/8-2/scq/0        127    -     Ranged      1.0        -          0  1c3a.dede.5555  -         \s
+            11/scq/8-2/scq/1        127    24x8  Operational 3.1      1/1          2  1c3a.dede.ffff  10.1.255.7\s
+            11/scq/8-2/scq/1        127    24x8  Operational 3.0      1/1          1  1c3a.dede.0001  10.1.255.8\s
+            11/scq/8-2/scq/2        127    24x8  Operational 3.1      1/1          1  1c3a.dede.002   10.1.255.9\s
+            11/scq/8-2/scq/2        127    24x8  Operational 3.1      1/1          1  1c3a.dede.0003  10.1.255.10
+            """;
+
+    private static final String CURRENT = """
+            11/scq/8-2/scq/0        127    24x8  Operational 1.0      1/1          0  1c3a.dede.5555  10.1.255.6\s
+            11/scq/8-2/scq/1        127    24x8  Operational 3.1      1/1          3  1c3a.dede.ffff  10.1.255.7\s
+            11/scq/8-2/scq/1        127    24x8  Operational 3.1      1/1          1  1c3a.dede.0001  10.1.255.8\s
+            11/scq/8-2/scq/2        127    24x8  Operational 3.1      1/1          1  1c3a.dede.0003  10.1.255.11
+            11/scq/8-2/scq/3        127    -     Offline     3.1        -          0  1c3a.dede.004   -         \s
+            """;
+
+    @Test
+    void testDiff() {
+        assertEquals(List.of(
+                new CableModemChange(CableModemChange.Type.CHANGED, "1c3a.dede.5555", "Operational", "1.0",
+                        "10.1.255.6"),
+                new CableModemChange(CableModemChange.Type.CHANGED, "1c3a.dede.0001", "Operational", "3.1",
+                        "10.1.255.8"),
+                new CableModemChange(CableModemChange.Type.CHANGED, "1c3a.dede.0003", "Operational", "3.1",
+                        "10.1.255.11"),
+                new CableModemChange(CableModemChange.Type.ADDED, "1c3a.dede.004", "Offline", "3.1", "-"),
+                new CableModemChange(CableModemChange.Type.REMOVED, "1c3a.dede.002", "Operational", "3.1",
+                        "10.1.255.9")),
+                CableModemChanges.diff(CableModemTable.parse(PREVIOUS), CableModemTable.parse(CURRENT)));
+        assertEquals(List.of(),
+                CableModemChanges.diff(CableModemTable.parse(CURRENT), CableModemTable.parse(CURRENT)));
+    }
+
+    @Test
+    void testUpdate() {
+        final List<List<CableModemChange>> notifications = new ArrayList<>();
+        final CableModemChanges changes = new CableModemChanges((deviceId, list) -> notifications.add(list));
+        changes.update("cmts1", CableModemTable.parse(PREVIOUS));
+        assertEquals(0, notifications.size());
+        changes.update("cmts1", CableModemTable.parse(PREVIOUS));
+        assertEquals(0, notifications.size());
+        changes.update("cmts1", CableModemTable.parse(CURRENT));
+        assertEquals(1, notifications.size());
+        assertEquals(5, notifications.get(0).size());
+
+        changes.update("cmts2", CableModemTable.parse(PREVIOUS));
+        assertEquals(1, notifications.size());
+
+        changes.clear("cmts1");
+        changes.update("cmts1", CableModemTable.parse(PREVIOUS));
+        assertEquals(1, notifications.size());
+        changes.update("cmts2", CableModemTable.parse(CURRENT));
+        assertEquals(2, notifications.size());
+
+        changes.clear();
+        changes.update("cmts1", CableModemTable.parse(CURRENT));
+        changes.update("cmts2", CableModemTable.parse(PREVIOUS));
+        assertEquals(2, notifications.size());
+    }
+
+    @Test
+    void testUnitsAreIndependent() {
+        final List<String> notifications = new ArrayList<>();
+        final CableModemChanges first = new CableModemChanges((deviceId, list) -> notifications.add("first"));
+        final CableModemChanges second = new CableModemChanges((deviceId, list) -> notifications.add("second"));
+        first.update("cmts1", CableModemTable.parse(PREVIOUS));
+        second.update("cmts1", CableModemTable.parse(CURRENT));
+        first.update("cmts1", CableModemTable.parse(CURRENT));
+        assertEquals(List.of("first"), notifications);
+    }
+
+    @Test
+    void testFailingConsumer() {
+        final CableModemChanges changes = new CableModemChanges((deviceId, list) -> {
+            throw new IllegalStateException("consumer failure");
+        });
+        changes.update("cmts1", CableModemTable.parse(PREVIOUS));
+        changes.update("cmts1", CableModemTable.parse(CURRENT));
+    }
+
+    @Test
+    void testDiffScale() throws Exception {
+        final String previous = CerOutputs.showCableModem(100_000);
+        final String current = CerOutputs.showCableModem(100_010)
+                .replace("Ranged      3.0", "Offline     3.0");
+        final long flapped = Outputs.include(previous, "Ranged      3\\.0").lines().count();
+        final CableModemTable previousTable = CableModemTable.parse(previous);
+        final CableModemTable currentTable = CableModemTable.parse(current);
+        ScaleBudget.assertWithin(Duration.ofSeconds(5), () -> {
+            final List<CableModemChange> changes = CableModemChanges.diff(previousTable, currentTable);
+            assertEquals(flapped + 10, changes.size());
+            assertEquals(new CableModemChange(CableModemChange.Type.ADDED, CerOutputs.macAddress(100_009), "Offline",
+                    "3.1", "-"), changes.get(changes.size() - 1));
+        });
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.cer.cable.handler.cablemodem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.frinx.cli.unit.generator.CerOutputs;
+import io.frinx.cli.unit.generator.Outputs;
+import io.frinx.cli.unit.generator.ScaleBudget;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.cable.cer.rev230125.cable.modem.extension.cable.modems.cable.modem.StateBuilder;
+
+class CableModemTableTest {
+
+    private static final String SH_CABLE_MODEM = """
+            Feb 12 23:21:28
+
+            Interface                                                                                           \s
+            (DS-US)                                          DOC                                                \s
+            S/C/CH-S/CG/CH          Mac   Bonded State       SIS  Qos(DS-US)     CPE  MAC address     IP Address\s
+            ----------------------- ----- ------ ----------- --- --------------- ---  --------------- -----------
+            11/scq/8-2/scq/0        127    -     Ranged      1.0        -          0  1c3a.dede.5555  -         \s
+            11/scq/8-2/scq/1        127    24x8  Operational 3.1      1/1          2  1c3a.dede.ffff  10.1.255.7\s
+            11/scq/8-2/scq/1        127    24x8  Operational 3.1      1/1          1  1c3a.dede.001  10.1.255.8\s
+            11/scq/8-2/scq/2        127    24x8  Operational 3.1      1/1          1  1c3a.dede.0002  010.1.255.9
+
+                          Total    Oper  Disable    Init  Offline
+            ---------------------------------------------------------
+            Found             4       3        0       1        0\s
+            """;
+
+    @Test
+    void testFill() {
+        final CableModemTable table = CableModemTable.parse(SH_CABLE_MODEM);
+        assertEquals(4, table.size());
+        for (String mac : new String[] {"1c3a.dede.5555", "1c3a.dede.ffff", "1c3a.dede.001", "1c3a.dede.0002"}) {
+            final StateBuilder expected = new StateBuilder();
+            CableModemStateReader.parseCableModem(Outputs.include(SH_CABLE_MODEM, mac), expected);
+            final StateBuilder builder = new StateBuilder();
+            assertTrue(table.fill(mac, builder));
+            assertEquals(expected.build(), builder.build());
+        }
+        assertFalse(table.fill("1c3a.dede.0003", new StateBuilder()));
+        assertFalse(table.fill("1c3a.dede.0001", new StateBuilder()));
+    }
+
+    @Test
+    void testParseAddresses() {
+        assertEquals(0x1c3adede5555L, CableModemTable.parseMac("1c3a.dede.5555"));
+        assertEquals(-1, CableModemTable.parseMac("1C3A.DEDE.5555"));
+        assertEquals(-1, CableModemTable.parseMac("1c3a:dede:5555"));
+        assertEquals(-1, CableModemTable.parseMac("1c3a.ded:.5555"));
+        assertEquals(0x0a01ff07, CableModemTable.parseIpv4("10.1.255.7"));
+        assertEquals(-1, CableModemTable.parseIpv4("255.255.255.255"));
+        assertNull(CableModemTable.parseIpv4("010.1.255.9"));
+        assertNull(CableModemTable.parseIpv4("10.1.256.9"));
+        assertNull(CableModemTable.parseIpv4("10.1.255"));
+        assertNull(CableModemTable.parseIpv4("10.1..255"));
+        assertNull(CableModemTable.parseIpv4("10.1.2.3.4"));
+    }
+
+    @Test
+    void testScale() throws Exception {
+        final String output = CerOutputs.showCableModem(100_000);
+        ScaleBudget.assertWithin(Duration.ofSeconds(10), () -> {
+            final CableModemTable table = CableModemTable.parse(output);
+            assertEquals(100_000, table.size());
+            final StateBuilder builder = new StateBuilder();
+            for (int modem = 0; modem < 100_000; modem++) {
+                assertTrue(table.fill(CerOutputs.macAddress(modem), builder));
+            }
+            assertTrue(table.fill(CerOutputs.macAddress(99_999), builder));
+            assertEquals("Offline", builder.getState().trim());
+            assertEquals("-", builder.getIpAddress());
+            assertTrue(table.fill(CerOutputs.macAddress(99_998), builder));
+            assertEquals("10.1.134.158", builder.getIpAddress());
+        });
+    }
+}
@@ -50,6 +50,7 @@ import io.frinx.cli.unit.cer.ifc.handler.upstream.CableInterfaceUpstreamConfigWr
 import io.frinx.cli.unit.cer.ifc.handler.upstream.CableInterfaceUpstreamIucConfigReader;
 import io.frinx.cli.unit.cer.ifc.handler.upstream.CableInterfaceUpstreamIucConfigWriter;
 import io.frinx.cli.unit.cer.init.CerDevices;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
 import io.frinx.cli.unit.utils.AbstractUnit;
 import io.frinx.openconfig.openconfig.interfaces.IIDs;
 import java.util.Set;
@@ -78,7 +79,7 @@ public class CerInterfaceUnit extends AbstractUnit {
     public void provideHandlers(@NotNull CustomizerAwareReadRegistryBuilder readRegistry,
                                 @NotNull CustomizerAwareWriteRegistryBuilder writeRegistry,
                                 @NotNull Context context) {
-        Cli cli = context.getTransport();
+        Cli cli = CommandMetrics.instrument(context.getTransport());
         provideReaders(readRegistry, cli);
         provideWriters(writeRegistry, cli);
     }
@@ -21,7 +21,6 @@ import static org.mockito.Mockito.mock;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
-import com.google.common.base.Stopwatch;
 import com.google.gson.stream.JsonWriter;
 import io.fd.honeycomb.data.ReadableDataManager;
 import io.fd.honeycomb.data.impl.ModifiableDirectDataTreeDelegator;
@@ -44,6 +43,7 @@ import io.frinx.cli.topology.RemoteDeviceId;
 import io.frinx.cli.unit.cer.ifc.CerInterfaceUnit;
 import io.frinx.cli.unit.cer.init.CerCliInitializerUnit;
 import io.frinx.cli.unit.generic.GenericTranslateUnit;
+import io.frinx.cli.unit.handlers.replay.ReplayBenchmark;
 import io.frinx.openconfig.openconfig.interfaces.IIDs;
 import io.frinx.translate.unit.commons.handler.spi.GenericTranslateContext;
 import io.frinx.translate.unit.commons.utils.NoopDataBroker;
@@ -59,12 +59,12 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opendaylight.controller.md.sal.binding.api.BindingTransactionChain;
@@ -220,9 +220,9 @@ public class CerAll {
                 .setErrorPatterns(translateContext.getErrorPatterns())
                 .setCliDefaultParametersService(cliDefaultParametersService);
 
-        cli = ioConfigurationBuilder.getIO()
+        cli = ReplayBenchmark.connect(MOUNT_ID, () -> ioConfigurationBuilder.getIO()
                 .toCompletableFuture()
-                .get();
+                .get());
 
         schemaCtx = translateContext.getSchemaContext();
         BindingToNormalizedNodeCodec codec = translateContext.getCodec();
@@ -392,11 +392,11 @@ public class CerAll {
         NormalizedNode<?, ?> root = read.get().get();
     }
 
-    @Disabled
+    @EnabledIfSystemProperty(named = ReplayBenchmark.TRANSCRIPT_PROPERTY, matches = ".+")
     @SuppressWarnings("IllegalCatch")
     @Test
     void getAllDOMBenchmark() throws Exception {
-        benchmark(2, 10, () -> {
+        ReplayBenchmark.run(cli, 2, 10, () -> {
             try {
                 getAllDOM();
             } catch (Exception e) {
@@ -405,24 +405,6 @@ public class CerAll {
         });
     }
 
-    static void benchmark(int warmups, int rounds, Runnable code) {
-        long averageTime = 0;
-
-        for (int i = 0; i < warmups; i++) {
-            code.run();
-        }
-
-        for (int i = 0; i < rounds; i++) {
-            Stopwatch stopwatch = Stopwatch.createStarted();
-
-            code.run();
-
-            stopwatch.stop();
-            averageTime += stopwatch.elapsed(TimeUnit.MILLISECONDS);
-        }
-
-    }
-
     protected String toJson(NormalizedNode<?, ?> root) throws Exception {
         JSONCodecFactory codecFac = JSONCodecFactory.getShared(schemaCtx);
         StringWriter out = new StringWriter();
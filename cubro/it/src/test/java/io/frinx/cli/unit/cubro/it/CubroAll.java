@@ -18,7 +18,6 @@ package io.frinx.cli.unit.cubro.it;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
-import com.google.common.base.Stopwatch;
 import io.fd.honeycomb.data.ReadableDataManager;
 import io.fd.honeycomb.data.impl.ModifiableDirectDataTreeDelegator;
 import io.fd.honeycomb.data.impl.ReadableDataTreeDelegator;
@@ -41,6 +40,7 @@ import io.frinx.cli.unit.cubro.ifc.CubroInterfaceUnit;
 import io.frinx.cli.unit.cubro.init.CubroCliInitializerUnit;
 import io.frinx.cli.unit.cubro.unit.acl.AclUnit;
 import io.frinx.cli.unit.generic.GenericTranslateUnit;
+import io.frinx.cli.unit.handlers.replay.ReplayBenchmark;
 import io.frinx.openconfig.openconfig.interfaces.IIDs;
 import io.frinx.translate.unit.commons.utils.NoopDataBroker;
 import java.net.InetSocketAddress;
@@ -51,12 +51,12 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -188,9 +188,9 @@ public class CubroAll {
                 .setReconnectListener(RECONNECT_LISTENER)
                 .setErrorPatterns(translateContext.getErrorPatterns());
 
-        cli = ioConfigurationBuilder.getIO()
+        cli = ReplayBenchmark.connect(MOUNT_ID, () -> ioConfigurationBuilder.getIO()
                 .toCompletableFuture()
-                .get();
+                .get());
 
         schemaCtx = translateContext.getSchemaContext();
         BindingToNormalizedNodeCodec codec = translateContext.getCodec();
@@ -347,11 +347,11 @@ public class CubroAll {
         NormalizedNode<?, ?> root = read.get().get();
     }
 
-    @Disabled
+    @EnabledIfSystemProperty(named = ReplayBenchmark.TRANSCRIPT_PROPERTY, matches = ".+")
     @SuppressWarnings("IllegalCatch")
     @Test
     void getAllDOMBenchmark() throws Exception {
-        benchmark(2, 10, () -> {
+        ReplayBenchmark.run(cli, 2, 10, () -> {
             try {
                 getAllDOM();
             } catch (Exception e) {
@@ -359,21 +359,4 @@ public class CubroAll {
             }
         });
     }
-
-    static void benchmark(int warmups, int rounds, Runnable code) {
-        long averageTime = 0;
-
-        for (int i = 0; i < warmups; i++) {
-            code.run();
-        }
-
-        for (int i = 0; i < rounds; i++) {
-            Stopwatch stopwatch = Stopwatch.createStarted();
-
-            code.run();
-
-            stopwatch.stop();
-            averageTime += stopwatch.elapsed(TimeUnit.MILLISECONDS);
-        }
-    }
 }
\ No newline at end of file
@@ -31,6 +31,7 @@ import io.frinx.cli.unit.dasan.network.instance.handler.NetworkInstanceReader;
 import io.frinx.cli.unit.dasan.network.instance.handler.vlan.VlanConfigReader;
 import io.frinx.cli.unit.dasan.network.instance.handler.vlan.VlanConfigWriter;
 import io.frinx.cli.unit.dasan.network.instance.handler.vlan.VlanReader;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
 import io.frinx.cli.unit.utils.AbstractUnit;
 import io.frinx.cli.unit.utils.NoopCliWriter;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
@@ -58,7 +59,7 @@ public class NosNetworkInstanceUnit extends AbstractUnit {
     public void provideHandlers(@NotNull CustomizerAwareReadRegistryBuilder readRegistry,
                                 @NotNull CustomizerAwareWriteRegistryBuilder writeRegistry,
                                 @NotNull Context context) {
-        Cli cli = context.getTransport();
+        Cli cli = CommandMetrics.instrument(context.getTransport());
         provideReaders(readRegistry, cli);
         provideWriters(writeRegistry, cli);
     }
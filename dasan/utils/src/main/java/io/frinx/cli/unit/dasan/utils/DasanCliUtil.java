@@ -20,8 +20,9 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.LineCursor;
 import io.frinx.cli.unit.utils.CliReader;
-import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -78,13 +79,15 @@ public final class DasanCliUtil {
      */
     public static List<String> parsePhysicalPorts(String output) {
 
-        return ParsingUtils.NEWLINE.splitAsStream(output)
-                .skip(4)
-                .map(String::trim)
-                .map(PHYS_PORT_ID_LINE::matcher)
-                .filter(Matcher::matches)
-                .map(m -> m.group("id"))
-                .collect(Collectors.toList());
+        List<String> ports = new ArrayList<>();
+        LineCursor lines = new LineCursor(output).skip(4);
+        while (lines.hasNext()) {
+            Matcher matcher = PHYS_PORT_ID_LINE.matcher(LineCursor.trim(lines.next()));
+            if (matcher.matches()) {
+                ports.add(matcher.group("id"));
+            }
+        }
+        return ports;
     }
 
     /**
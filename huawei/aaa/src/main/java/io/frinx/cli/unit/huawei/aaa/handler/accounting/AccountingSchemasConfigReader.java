@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import java.util.Arrays;
 import java.util.List;
@@ -55,7 +56,7 @@ public final class AccountingSchemasConfigReader implements CliConfigReader<Conf
                                       @NotNull ReadContext readContext) throws ReadFailedException {
 
         String accountName = instanceIdentifier.firstKeyOf(Account.class).getName();
-        parseConfigAttributes(blockingRead(DISPLAY_ACC_MODE, cli, instanceIdentifier,
+        parseConfigAttributes(VrpConfiguration.blockingRead(this, DISPLAY_ACC_MODE, cli, instanceIdentifier,
                 readContext), configBuilder, accountName);
     }
 
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -45,7 +46,7 @@ public final class AccountingSchemasReader implements CliConfigListReader<Accoun
     @Override
     public List<AccountKey> getAllIds(@NotNull InstanceIdentifier<Account> instanceIdentifier,
                                      @NotNull ReadContext readContext) throws ReadFailedException {
-        String output = blockingRead(SCHEMAS_LIST, cli, instanceIdentifier, readContext);
+        String output = VrpConfiguration.blockingRead(this, SCHEMAS_LIST, cli, instanceIdentifier, readContext);
         return getAllIds(output);
     }
 
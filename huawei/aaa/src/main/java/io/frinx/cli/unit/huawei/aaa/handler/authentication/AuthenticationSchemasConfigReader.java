@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import java.util.Arrays;
 import java.util.List;
@@ -54,7 +55,7 @@ public final class AuthenticationSchemasConfigReader implements CliConfigReader<
                                       @NotNull ReadContext readContext) throws ReadFailedException {
 
         String schemasName = instanceIdentifier.firstKeyOf(Authentication.class).getName();
-        parseConfigAttributes(blockingRead(DISPLAY_AUTH_MODE, cli, instanceIdentifier,
+        parseConfigAttributes(VrpConfiguration.blockingRead(this, DISPLAY_AUTH_MODE, cli, instanceIdentifier,
                 readContext), configBuilder, schemasName);
     }
 
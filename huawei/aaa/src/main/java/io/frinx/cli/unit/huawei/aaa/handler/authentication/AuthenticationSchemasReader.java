@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -46,7 +47,7 @@ public final class AuthenticationSchemasReader implements CliConfigListReader<Au
     @Override
     public List<AuthenticationKey> getAllIds(@NotNull InstanceIdentifier<Authentication> instanceIdentifier,
                                           @NotNull ReadContext readContext) throws ReadFailedException {
-        String output = blockingRead(SCHEMAS_LIST, cli, instanceIdentifier, readContext);
+        String output = VrpConfiguration.blockingRead(this, SCHEMAS_LIST, cli, instanceIdentifier, readContext);
         return getAllIds(output);
     }
 
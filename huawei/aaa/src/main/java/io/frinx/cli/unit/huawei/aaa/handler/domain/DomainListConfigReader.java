@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
@@ -50,7 +51,7 @@ public final class DomainListConfigReader implements CliConfigReader<Config, Con
                                       @NotNull ReadContext readContext) throws ReadFailedException {
 
         String schemasName = instanceIdentifier.firstKeyOf(Domain.class).getName();
-        parseConfigAttributes(blockingRead(DISPLAY_DOMAIN_MODE, cli, instanceIdentifier,
+        parseConfigAttributes(VrpConfiguration.blockingRead(this, DISPLAY_DOMAIN_MODE, cli, instanceIdentifier,
                 readContext), configBuilder, schemasName);
     }
 
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -44,7 +45,7 @@ public final class DomainListReader implements CliConfigListReader<Domain, Domai
     @Override
     public List<DomainKey> getAllIds(@NotNull InstanceIdentifier<Domain> instanceIdentifier,
                                      @NotNull ReadContext readContext) throws ReadFailedException {
-        String output = blockingRead(DOMAINS_LIST, cli, instanceIdentifier, readContext);
+        String output = VrpConfiguration.blockingRead(this, DOMAINS_LIST, cli, instanceIdentifier, readContext);
         return getAllIds(output);
     }
 
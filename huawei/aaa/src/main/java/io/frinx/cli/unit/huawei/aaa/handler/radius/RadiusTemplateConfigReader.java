@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import java.util.List;
 import java.util.function.Consumer;
@@ -57,7 +58,7 @@ public final class RadiusTemplateConfigReader implements CliConfigReader<Config,
                                       @NotNull ConfigBuilder configBuilder,
                                       @NotNull ReadContext readContext) throws ReadFailedException {
         String templateName = instanceIdentifier.firstKeyOf(Template.class).getName();
-        parseConfigAttributes(blockingRead(DISPLAY_RADIUS_CONFIG, cli, instanceIdentifier,
+        parseConfigAttributes(VrpConfiguration.blockingRead(this, DISPLAY_RADIUS_CONFIG, cli, instanceIdentifier,
                 readContext), configBuilder, templateName);
     }
 
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Arrays;
@@ -56,8 +57,8 @@ public final class UsersListConfigReader implements CliConfigReader<Config, Conf
                                       @NotNull ReadContext readContext) throws ReadFailedException {
 
         String userName = instanceIdentifier.firstKeyOf(User.class).getUsername();
-        parseConfigAttributes(blockingRead(String.format(DISPLAY_USER_DATA, userName), cli, instanceIdentifier,
-                readContext), configBuilder, userName);
+        parseConfigAttributes(VrpConfiguration.blockingRead(this, String.format(DISPLAY_USER_DATA, userName), cli,
+                instanceIdentifier, readContext), configBuilder, userName);
     }
 
     @VisibleForTesting
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -44,7 +45,7 @@ public final class UsersListReader implements CliConfigListReader<User, UserKey,
     @Override
     public List<UserKey> getAllIds(@NotNull InstanceIdentifier<User> instanceIdentifier,
                                      @NotNull ReadContext readContext) throws ReadFailedException {
-        String output = blockingRead(USERS_LIST, cli, instanceIdentifier, readContext);
+        String output = VrpConfiguration.blockingRead(this, USERS_LIST, cli, instanceIdentifier, readContext);
         return getAllIds(output);
     }
 
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Optional;
 import java.util.regex.Pattern;
@@ -48,7 +49,7 @@ public class AclConfigReader {
                                       @NotNull ReadContext readContext) throws ReadFailedException {
         final String aclName = instanceIdentifier.firstKeyOf(AclSet.class).getName();
         final String showCommand = String.format(SH_ACL_NAME, aclName);
-        parsAclConfig(aclSetReader.blockingRead(showCommand, cli, instanceIdentifier, readContext),
+        parsAclConfig(VrpConfiguration.blockingRead(aclSetReader, showCommand, cli, instanceIdentifier, readContext),
                 configBuilder, aclName);
     }
 
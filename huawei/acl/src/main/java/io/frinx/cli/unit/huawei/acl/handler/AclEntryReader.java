@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -47,7 +48,8 @@ public class AclEntryReader {
                                        @NotNull final ReadContext readContext) throws ReadFailedException {
         AclSetKey aclSetKey = instanceIdentifier.firstKeyOf(AclSet.class);
         String command = String.format(SH_ACL_NAME, aclSetKey.getName());
-        return parseAclEntryKey(aclSetReader.blockingRead(command, cli, instanceIdentifier, readContext));
+        return parseAclEntryKey(VrpConfiguration.blockingRead(aclSetReader, command, cli, instanceIdentifier,
+                readContext));
     }
 
     @VisibleForTesting
@@ -67,7 +69,7 @@ public class AclEntryReader {
                                       @NotNull final ReadContext readContext) throws ReadFailedException {
         AclSetKey aclSetKey = instanceIdentifier.firstKeyOf(AclSet.class);
         String command = String.format(SH_ACL_NAME, aclSetKey.getName());
-        String output = aclSetReader.blockingRead(command, cli, instanceIdentifier, readContext);
+        String output = VrpConfiguration.blockingRead(aclSetReader, command, cli, instanceIdentifier, readContext);
 
         parseACL(instanceIdentifier, aclEntryBuilder, output);
     }
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.ArrayList;
@@ -64,7 +65,7 @@ public class AclReader implements CliConfigListReader<AclSet, AclSetKey, AclSetB
     @Override
     public List<AclSetKey> getAllIds(@NotNull InstanceIdentifier<AclSet> instanceIdentifier,
                                       @NotNull ReadContext readContext) throws ReadFailedException {
-        return parseAclNames(blockingRead(SH_ACL_NAME, cli, instanceIdentifier, readContext));
+        return parseAclNames(VrpConfiguration.blockingRead(this, SH_ACL_NAME, cli, instanceIdentifier, readContext));
     }
 
     @VisibleForTesting
@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliListReader;
 import io.frinx.openconfig.network.instance.NetworInstance;
 import io.frinx.translate.unit.commons.handler.spi.ChecksMap;
@@ -49,7 +50,8 @@ public class BgpProtocolReader implements CliListReader<Protocol, ProtocolKey, P
     @Override
     public List<ProtocolKey> getAllIds(@NotNull InstanceIdentifier<Protocol> iid,
                                        @NotNull ReadContext context) throws ReadFailedException {
-        String output = blockingRead("display current-configuration configuration bgp", cli, iid, context);
+        String output = VrpConfiguration.blockingRead(this, "display current-configuration configuration bgp", cli,
+                iid, context);
         if (output.isEmpty()) {
             return Collections.emptyList();
         }
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -62,7 +63,7 @@ public class GlobalAfiSafiReader implements CliConfigListReader<AfiSafi, AfiSafi
         NetworkInstanceKey vrfKey = id.firstKeyOf(NetworkInstance.class);
         String vrfName = vrfKey.getName();
 
-        String output = blockingRead(DISPLAY_AFI_CONFIG, cli, id, readContext);
+        String output = VrpConfiguration.blockingRead(this, DISPLAY_AFI_CONFIG, cli, id, readContext);
 
         if (vrfKey.equals(NetworInstance.DEFAULT_NETWORK)) {
             return getDefaultAfiKeys(output);
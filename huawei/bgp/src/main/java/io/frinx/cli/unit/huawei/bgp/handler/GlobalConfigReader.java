@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -66,7 +67,7 @@ public class GlobalConfigReader implements CliConfigReader<Config, ConfigBuilder
     public void readCurrentAttributes(@NotNull InstanceIdentifier<Config> id,
                                              @NotNull ConfigBuilder configBuilder,
                                              @NotNull ReadContext readContext) throws ReadFailedException {
-        String output = blockingRead(DISPLAY_BGP_CONFIG, cli, id, readContext);
+        String output = VrpConfiguration.blockingRead(this, DISPLAY_BGP_CONFIG, cli, id, readContext);
         NetworkInstanceKey vrfKey = id.firstKeyOf(NetworkInstance.class);
 
         parseConfigAttributes(output, configBuilder, vrfKey);
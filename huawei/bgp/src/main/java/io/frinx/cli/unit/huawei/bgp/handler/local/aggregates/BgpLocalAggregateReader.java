@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.huawei.bgp.handler.BgpProtocolReader;
 import io.frinx.cli.unit.huawei.bgp.handler.neighbor.NeighborConfigReader;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.ArrayList;
@@ -61,11 +62,11 @@ public class BgpLocalAggregateReader implements CliConfigListReader<Aggregate, A
         String niName = instanceIdentifier.firstKeyOf(NetworkInstance.class).getName();
 
         if (BgpProtocolReader.DEFAULT_BGP_INSTANCE.equals(niName)) {
-            return getDefaultAggregateKeys(blockingRead(DISPLAY_BGP_NETWORK_CONFIG, cli, instanceIdentifier,
-                    readContext));
+            return getDefaultAggregateKeys(VrpConfiguration.blockingRead(this, DISPLAY_BGP_NETWORK_CONFIG, cli,
+                    instanceIdentifier, readContext));
         } else {
-            return getVrfAggregateKeys(blockingRead(DISPLAY_BGP_NETWORK_CONFIG, cli, instanceIdentifier, readContext),
-                    niName);
+            return getVrfAggregateKeys(VrpConfiguration.blockingRead(this, DISPLAY_BGP_NETWORK_CONFIG, cli,
+                    instanceIdentifier, readContext), niName);
         }
     }
 
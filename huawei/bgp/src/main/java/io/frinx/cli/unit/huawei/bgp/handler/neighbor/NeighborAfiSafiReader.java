@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.huawei.bgp.handler.GlobalAfiSafiReader;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -63,8 +64,8 @@ public class NeighborAfiSafiReader implements CliConfigListReader<AfiSafi, AfiSa
         NetworkInstanceKey vrfKey = id.firstKeyOf(NetworkInstance.class);
 
         String neighborIp = getNeighborIp(id);
-        return getAfiKeys(blockingRead(String.format(NeighborConfigReader.DISPLAY_PEER_CONFIG, neighborIp), cli, id,
-                readContext), vrfKey);
+        return getAfiKeys(VrpConfiguration.blockingRead(this,
+                String.format(NeighborConfigReader.DISPLAY_PEER_CONFIG, neighborIp), cli, id, readContext), vrfKey);
     }
 
     static String getNeighborIp(InstanceIdentifier<?> neigh) {
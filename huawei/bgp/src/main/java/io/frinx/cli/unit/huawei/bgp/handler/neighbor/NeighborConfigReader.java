@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -86,8 +87,8 @@ public class NeighborConfigReader implements CliConfigReader<Config, ConfigBuild
                 instanceIdentifier.firstKeyOf(Neighbor.class).getNeighborAddress());
 
         configBuilder.setNeighborAddress(instanceIdentifier.firstKeyOf(Neighbor.class).getNeighborAddress());
-        parseConfigAttributes(blockingRead(String.format(DISPLAY_PEER_CONFIG, ipAddress), cli, instanceIdentifier,
-                readContext), configBuilder, vrfName);
+        parseConfigAttributes(VrpConfiguration.blockingRead(this, String.format(DISPLAY_PEER_CONFIG, ipAddress), cli,
+                instanceIdentifier, readContext), configBuilder, vrfName);
     }
 
     @VisibleForTesting
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -62,8 +63,9 @@ public class NeighborPolicyConfigReader implements CliConfigReader<Config, Confi
         String vrfName = instanceIdentifier.firstKeyOf(NetworkInstance.class).getName();
         String ipAddress = NeighborWriter.getNeighborIp(instanceIdentifier);
 
-        parseConfigAttributes(blockingRead(String.format(NeighborConfigReader.DISPLAY_PEER_CONFIG, ipAddress),
-                cli, instanceIdentifier, readContext), configBuilder, vrfName);
+        parseConfigAttributes(VrpConfiguration.blockingRead(this,
+                String.format(NeighborConfigReader.DISPLAY_PEER_CONFIG, ipAddress), cli, instanceIdentifier,
+                readContext), configBuilder, vrfName);
     }
 
     @VisibleForTesting
@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.huawei.bgp.handler.BgpProtocolReader;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import java.util.List;
 import java.util.function.Function;
@@ -60,10 +61,11 @@ public class NeighborReader implements CliConfigListReader<Neighbor, NeighborKey
 
         String networkInstanceName = instanceIdentifier.firstKeyOf(NetworkInstance.class).getName();
         if (BgpProtocolReader.DEFAULT_BGP_INSTANCE.equals(networkInstanceName)) {
-            return getDefaultNeighborKeys(blockingRead(DISPLAY_PEER_CONFIG, cli, instanceIdentifier, readContext));
+            return getDefaultNeighborKeys(VrpConfiguration.blockingRead(this, DISPLAY_PEER_CONFIG, cli,
+                    instanceIdentifier, readContext));
         } else {
-            return getVrfNeighborKeys(blockingRead(DISPLAY_PEER_CONFIG, cli, instanceIdentifier, readContext),
-                    networkInstanceName);
+            return getVrfNeighborKeys(VrpConfiguration.blockingRead(this, DISPLAY_PEER_CONFIG, cli, instanceIdentifier,
+                    readContext), networkInstanceName);
         }
     }
 
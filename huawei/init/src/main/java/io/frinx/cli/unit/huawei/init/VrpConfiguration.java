@@ -0,0 +1,275 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.huawei.init;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.PatternCache;
+import io.frinx.cli.unit.handlers.cache.CommandMemo;
+import io.frinx.cli.unit.utils.CliReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.jetbrains.annotations.NotNull;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * VRP {@code display current-configuration} split into views.
+ * <br>
+ * A view starts with a non-indented line (e.g. {@code interface GigabitEthernet0/0/1}, {@code acl name MGT 3000},
+ * {@code bgp 65000}) and contains all following indented lines, nested {@code #} lines included. A top-level
+ * {@code #} line closes the view. Views are looked up by type, the leading words of the header, and by name, the word
+ * following the type.
+ * <br>
+ * Huawei readers issue {@code display current-configuration} variants per object. Following variants are served from
+ * a single {@code display current-configuration} read per read transaction by {@link #blockingRead}, any other
+ * command is sent to the device as before:
+ * <ul>
+ *     <li>{@code display current-configuration [| include <regex>]}</li>
+ *     <li>{@code display current-configuration | section <regex>}, regex is matched against view headers</li>
+ *     <li>{@code display current-configuration interface [<name>] [| include <regex>]}</li>
+ *     <li>{@code display current-configuration configuration bgp|radius-server [| include <regex>]}</li>
+ * </ul>
+ * Lines are returned with their original indentation and line endings.
+ */
+public final class VrpConfiguration {
+
+    public static final String DISPLAY_CURRENT_CONFIG = "display current-configuration";
+
+    private static final Pattern DISPLAY_CURRENT_CONFIG_VARIANT = Pattern.compile("display current-configuration"
+            + "(?:(?<interface> interface(?: (?<name>[^\\s|]\\S*))?)| configuration (?<type>bgp|radius-server))? ?"
+            + "(?:\\| (?<filter>include|section) (?<regex>.+))?");
+    private static final String INTERFACE = "interface";
+    private static final String SECTION = "section";
+    private static final String RETURN = "return";
+
+    private final String output;
+    private final int[] lineStarts;
+    private final int lineCount;
+    private final List<View> views = new ArrayList<>();
+    private final Map<String, List<View>> viewsByType = new HashMap<>();
+
+    private VrpConfiguration(String output) {
+        this.output = output;
+        int[] starts = new int[64];
+        int lines = 0;
+        int start = 0;
+        while (start < output.length()) {
+            if (lines + 2 > starts.length) {
+                starts = Arrays.copyOf(starts, starts.length * 2);
+            }
+            starts[lines++] = start;
+            final int newline = output.indexOf('\n', start);
+            start = newline < 0 ? output.length() : newline + 1;
+        }
+        starts[lines] = output.length();
+        this.lineStarts = starts;
+        this.lineCount = lines;
+        parseViews();
+    }
+
+    public static String blockingRead(@NotNull CliReader cliReader, @NotNull String command, @NotNull Cli cli,
+                                      @NotNull InstanceIdentifier<?> instanceIdentifier,
+                                      @NotNull ReadContext readContext) throws ReadFailedException {
+        final Optional<Query> query = Query.parse(command);
+        if (query.isEmpty()) {
+            return cliReader.blockingRead(command, cli, instanceIdentifier, readContext);
+        }
+        VrpConfiguration configuration =
+                (VrpConfiguration) readContext.getModificationCache().get(VrpConfiguration.class);
+        if (configuration == null) {
+            configuration = parse(CommandMemo.blockingRead(cliReader, DISPLAY_CURRENT_CONFIG, cli, instanceIdentifier,
+                    readContext));
+            readContext.getModificationCache().put(VrpConfiguration.class, configuration);
+        }
+        return configuration.display(query.get());
+    }
+
+    @VisibleForTesting
+    public static VrpConfiguration parse(@NotNull String output) {
+        return new VrpConfiguration(output);
+    }
+
+    /**
+     * Returns views of the type in configuration order, e.g. all {@code interface} or {@code traffic classifier}
+     * views.
+     */
+    public List<View> getViews(@NotNull String type) {
+        return Collections.unmodifiableList(viewsByType.getOrDefault(type, Collections.emptyList()));
+    }
+
+    /**
+     * Returns the first view of the type with the name, e.g. {@code acl name MGT 3000} for type {@code acl name} and
+     * name {@code MGT}.
+     */
+    public Optional<View> getView(@NotNull String type, @NotNull String name) {
+        return getViews(type + " " + name).stream().findFirst();
+    }
+
+    /**
+     * Returns output of the command as read from this configuration, empty when the command is not one of
+     * the variants served by {@link #blockingRead}.
+     */
+    @VisibleForTesting
+    Optional<String> display(String command) {
+        return Query.parse(command).map(this::display);
+    }
+
+    private String display(Query query) {
+        final StringBuilder result = new StringBuilder();
+        if (query.type == null && !query.section) {
+            include(0, lineCount, query.filter, result);
+            return result.toString();
+        }
+        final List<View> selected;
+        if (query.type == null) {
+            selected = views;
+        } else if (query.name == null) {
+            selected = getViews(query.type);
+        } else {
+            selected = getView(query.type, query.name).map(Collections::singletonList).orElse(Collections.emptyList());
+        }
+        for (View view : selected) {
+            if (!query.section) {
+                include(view.firstLine, view.endLine, query.filter, result);
+            } else if (query.filter.matcher(view.header).find()) {
+                result.append(view.getText());
+            }
+        }
+        return result.toString();
+    }
+
+    private void include(int firstLine, int endLine, Pattern filter, StringBuilder result) {
+        if (filter == null) {
+            result.append(output, lineStarts[firstLine], lineStarts[endLine]);
+            return;
+        }
+        final Matcher matcher = filter.matcher(output);
+        for (int line = firstLine; line < endLine; line++) {
+            if (matcher.region(lineStarts[line], contentEnd(line)).find()) {
+                result.append(output, lineStarts[line], lineStarts[line + 1]);
+            }
+        }
+    }
+
+    private void parseViews() {
+        View view = null;
+        for (int line = 0; line < lineCount; line++) {
+            final int start = lineStarts[line];
+            final int end = contentEnd(line);
+            if (start < end && Character.isWhitespace(output.charAt(start))) {
+                if (view != null) {
+                    view.endLine = line + 1;
+                }
+                continue;
+            }
+            final String header = output.substring(start, end).strip();
+            if (header.isEmpty() || header.charAt(0) == '#' || header.charAt(0) == '!' || RETURN.equals(header)) {
+                view = null;
+            } else {
+                view = new View(header, line);
+                addView(view);
+            }
+        }
+    }
+
+    /**
+     * Indexes the view by every leading part of its header, so both types and type with name are single lookups.
+     */
+    private void addView(View view) {
+        views.add(view);
+        for (int space = view.header.indexOf(' '); space > 0; space = view.header.indexOf(' ', space + 1)) {
+            viewsByType.computeIfAbsent(view.header.substring(0, space), type -> new ArrayList<>()).add(view);
+        }
+        viewsByType.computeIfAbsent(view.header, type -> new ArrayList<>()).add(view);
+    }
+
+    private int contentEnd(int line) {
+        int end = lineStarts[line + 1];
+        if (end > lineStarts[line] && output.charAt(end - 1) == '\n') {
+            end--;
+        }
+        if (end > lineStarts[line] && output.charAt(end - 1) == '\r') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Top-level view of the configuration, its header line with all following indented lines.
+     */
+    public final class View {
+
+        private final String header;
+        private final int firstLine;
+        private int endLine;
+
+        private View(String header, int firstLine) {
+            this.header = header;
+            this.firstLine = firstLine;
+            this.endLine = firstLine + 1;
+        }
+
+        public String getHeader() {
+            return header;
+        }
+
+        public String getText() {
+            return output.substring(lineStarts[firstLine], lineStarts[endLine]);
+        }
+    }
+
+    private static final class Query {
+
+        private final String type;
+        private final String name;
+        private final Pattern filter;
+        private final boolean section;
+
+        private Query(String type, String name, Pattern filter, boolean section) {
+            this.type = type;
+            this.name = name;
+            this.filter = filter;
+            this.section = section;
+        }
+
+        private static Optional<Query> parse(String command) {
+            final Matcher matcher = DISPLAY_CURRENT_CONFIG_VARIANT.matcher(command);
+            if (!matcher.matches()) {
+                return Optional.empty();
+            }
+            final Pattern filter;
+            try {
+                filter = matcher.group("regex") == null ? null : PatternCache.compile("%s", matcher.group("regex"));
+            } catch (PatternSyntaxException e) {
+                // left to the device, its regular expressions are not fully compatible with java ones
+                return Optional.empty();
+            }
+            final String type = matcher.group("interface") != null ? INTERFACE : matcher.group("type");
+            return Optional.of(new Query(type, matcher.group("name"), filter, SECTION.equals(matcher.group("filter"))));
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.huawei.init;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.generator.HuaweiOutputs;
+import io.frinx.cli.unit.generator.ScaleBudget;
+import io.frinx.cli.unit.utils.CliReader;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.NetworkInstances;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+class VrpConfigurationTest {
+
+    private static final InstanceIdentifier<NetworkInstances> IID = InstanceIdentifier.create(NetworkInstances.class);
+
+    private static final String OUTPUT = """
+            !Software Version V300R019C10SPC300
+            #
+            sysname AR-1
+            #
+            acl name MGT-IN 3000
+             description CPE management access-ingress
+             rule 10 permit ip source 172.16.0.111 0 destination-port eq 1985
+            #
+            traffic classifier VOICE operator or
+             if-match dscp ef cs4
+            traffic classifier VIDEO operator or
+             if-match dscp af41
+            #
+            aaa
+             authentication-scheme AUT-ZIGGO
+              authentication-mode radius
+             domain default
+              authentication-scheme radius
+             local-user lab password irreversible-cipher $1a$6~.;C|I6xV$
+             local-user lab privilege level 15
+             local-user lab2 privilege level 3
+            #
+            interface GigabitEthernet0/0/4
+             undo shutdown
+            #
+            interface GigabitEthernet0/0/4.100
+             description Main Uplink
+             dot1q termination vid 100
+             ip binding vpn-instance VLAN271752
+            #
+            interface GigabitEthernet0/0/4.1000
+             description Spare
+            #
+            bgp 65222
+             router-id 198.18.100.5
+             peer 3.0.1.233 as-number 6830
+             #
+             ipv4-family unicast
+              peer 3.0.1.233 enable
+             #
+             ipv4-family vpn-instance VLAN271752
+              peer 217.105.227.1 as-number 6830
+            #
+            radius-server template RADIUS-ZIGGO
+             radius-server shared-key cipher %^%#E@)R&d7%^%#
+             radius-server retransmit 2 timeout 2
+            #
+            return
+            """;
+
+    private final Cli cli = Mockito.mock(Cli.class);
+    private final CliReader cliReader = Mockito.mock(CliReader.class);
+
+    @Test
+    void testViews() {
+        final VrpConfiguration configuration = VrpConfiguration.parse(OUTPUT);
+
+        assertEquals(List.of("interface GigabitEthernet0/0/4", "interface GigabitEthernet0/0/4.100",
+                "interface GigabitEthernet0/0/4.1000"), getHeaders(configuration.getViews("interface")));
+        assertEquals(List.of("traffic classifier VOICE operator or", "traffic classifier VIDEO operator or"),
+                getHeaders(configuration.getViews("traffic classifier")));
+        assertEquals("interface GigabitEthernet0/0/4\n undo shutdown\n",
+                configuration.getView("interface", "GigabitEthernet0/0/4").get().getText());
+        assertEquals("acl name MGT-IN 3000", configuration.getView("acl name", "MGT-IN").get().getHeader());
+        assertEquals(Optional.empty(), configuration.getView("acl name", "MGT"));
+        assertEquals(List.of("sysname AR-1"), getHeaders(configuration.getViews("sysname")));
+        assertTrue(configuration.getView("bgp", "65222").get().getText()
+                .endsWith(" #\n ipv4-family vpn-instance VLAN271752\n  peer 217.105.227.1 as-number 6830\n"));
+        assertEquals(List.of(), configuration.getViews("return"));
+    }
+
+    @Test
+    void testDisplay() {
+        final VrpConfiguration configuration = VrpConfiguration.parse(OUTPUT);
+
+        assertEquals(Optional.of(OUTPUT), configuration.display("display current-configuration"));
+        assertEquals(Optional.of("""
+                 local-user lab password irreversible-cipher $1a$6~.;C|I6xV$
+                 local-user lab privilege level 15
+                """), configuration.display("display current-configuration | include local-user lab "));
+        assertEquals(Optional.of("""
+                  authentication-mode radius
+                 domain default
+                  authentication-scheme radius
+                """), configuration.display("display current-configuration | include ^ domain |^  authentication"));
+        assertEquals(Optional.of("""
+                traffic classifier VOICE operator or
+                 if-match dscp ef cs4
+                """), configuration.display("display current-configuration | section traffic classifier VOICE"));
+        assertEquals(Optional.of("""
+                interface GigabitEthernet0/0/4.100
+                 description Main Uplink
+                 dot1q termination vid 100
+                 ip binding vpn-instance VLAN271752
+                interface GigabitEthernet0/0/4.1000
+                 description Spare
+                """), configuration.display(
+                        "display current-configuration | section interface GigabitEthernet0/0/4.100"));
+        assertEquals(Optional.of("""
+                interface GigabitEthernet0/0/4.1000
+                 description Spare
+                """), configuration.display("display current-configuration interface GigabitEthernet0/0/4.1000"));
+        assertEquals(Optional.of("""
+                interface GigabitEthernet0/0/4
+                interface GigabitEthernet0/0/4.100
+                 ip binding vpn-instance VLAN271752
+                interface GigabitEthernet0/0/4.1000
+                """), configuration.display(
+                        "display current-configuration interface | include ^interface|^ ip binding vpn-instance"));
+        assertEquals(Optional.of("""
+                 peer 3.0.1.233 as-number 6830
+                  peer 3.0.1.233 enable
+                """), configuration.display(
+                        "display current-configuration configuration bgp | include ^router bgp|^ *peer 3.0.1.233"));
+        assertEquals(Optional.of(""), configuration.display("display current-configuration interface Vlanif1"));
+        assertEquals(Optional.of(""), VrpConfiguration.parse("#\nsysname AR-1\n#\nreturn\n")
+                .display("display current-configuration configuration bgp"));
+    }
+
+    @Test
+    void testDisplayKeepsLineEndings() {
+        final VrpConfiguration configuration = VrpConfiguration.parse(OUTPUT.replace("\n", "\r\n"));
+
+        assertEquals(Optional.of("radius-server template RADIUS-ZIGGO\r\n"
+                + " radius-server shared-key cipher %^%#E@)R&d7%^%#\r\n"
+                + " radius-server retransmit 2 timeout 2\r\n"),
+                configuration.display("display current-configuration configuration radius-server"));
+        assertEquals(Optional.of(" local-user lab2 privilege level 3\r\n"),
+                configuration.display("display current-configuration | include level 3$"));
+    }
+
+    @Test
+    void testDisplayNotServed() {
+        final VrpConfiguration configuration = VrpConfiguration.parse(OUTPUT);
+
+        assertEquals(Optional.empty(), configuration.display("display interface brief"));
+        assertEquals(Optional.empty(), configuration.display("display traffic policy user-defined TP-NNI-MAIN-OUT"));
+        assertEquals(Optional.empty(), configuration.display(
+                "display current-configuration configuration vpn-instance VLAN271752"));
+        assertEquals(Optional.empty(), configuration.display(
+                "display current-configuration configuration | include ^ telnet"));
+        assertEquals(Optional.empty(), configuration.display("display current-configuration | include ("));
+    }
+
+    @Test
+    void testBlockingRead() throws Exception {
+        final AtomicInteger reads = new AtomicInteger();
+        Mockito.when(cliReader.blockingRead(Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any()))
+            .thenAnswer(invocation -> {
+                reads.incrementAndGet();
+                return VrpConfiguration.DISPLAY_CURRENT_CONFIG.equals(invocation.getArgument(0)) ? OUTPUT : "device";
+            });
+        final ReadContext transaction = newTransaction();
+
+        assertEquals("traffic classifier VOICE operator or\ntraffic classifier VIDEO operator or\n",
+                VrpConfiguration.blockingRead(cliReader, "display current-configuration | include traffic classifier",
+                        cli, IID, transaction));
+        assertEquals("interface GigabitEthernet0/0/4\n undo shutdown\n", VrpConfiguration.blockingRead(cliReader,
+                "display current-configuration interface GigabitEthernet0/0/4", cli, IID, transaction));
+        assertEquals(1, reads.get());
+
+        assertEquals("device", VrpConfiguration.blockingRead(cliReader, "display interface brief", cli, IID,
+                transaction));
+        assertEquals(2, reads.get());
+
+        VrpConfiguration.blockingRead(cliReader, "display current-configuration | include acl name", cli, IID,
+                newTransaction());
+        assertEquals(3, reads.get());
+    }
+
+    @Test
+    void testScale() throws Exception {
+        final String output = HuaweiOutputs.currentConfiguration(10_000, 2, 100);
+        ScaleBudget.assertWithin(Duration.ofSeconds(5), () -> {
+            final VrpConfiguration configuration = VrpConfiguration.parse(output);
+            assertEquals(30_000, configuration.getViews("interface").size());
+            assertEquals(100, configuration.getViews("ip vpn-instance").size());
+            for (int ifc = 0; ifc < 10_000; ifc++) {
+                final String name = HuaweiOutputs.interfaceName(ifc) + ".100";
+                assertTrue(configuration.display("display current-configuration interface " + name).get()
+                        .startsWith("interface " + name + "\n"));
+            }
+        });
+    }
+
+    private static List<String> getHeaders(List<VrpConfiguration.View> views) {
+        return views.stream().map(VrpConfiguration.View::getHeader).collect(Collectors.toList());
+    }
+
+    private static ReadContext newTransaction() {
+        final Map<Object, Object> entries = new HashMap<>();
+        final ModificationCache cache = Mockito.mock(ModificationCache.class);
+        Mockito.when(cache.get(Mockito.any())).thenAnswer(invocation -> entries.get(invocation.getArgument(0)));
+        Mockito.doAnswer(invocation -> entries.put(invocation.getArgument(0), invocation.getArgument(1)))
+            .when(cache).put(Mockito.any(), Mockito.any());
+        final ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(cache);
+        return readContext;
+    }
+}
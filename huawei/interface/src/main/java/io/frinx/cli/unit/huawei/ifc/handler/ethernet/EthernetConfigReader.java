@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.huawei.ifc.Util;
 import io.frinx.cli.unit.huawei.ifc.handler.InterfaceConfigReader;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
@@ -48,7 +49,8 @@ public class EthernetConfigReader implements CliConfigReader<Config, ConfigBuild
                                       @NotNull ConfigBuilder builder,
                                       @NotNull ReadContext ctx) throws ReadFailedException {
         final var ifcName = id.firstKeyOf(Interface.class).getName();
-        final var ifcOutput = blockingRead(f(InterfaceConfigReader.SH_SINGLE_INTERFACE_CFG, ifcName), cli, id, ctx);
+        final var ifcOutput = VrpConfiguration.blockingRead(this,
+                f(InterfaceConfigReader.SH_SINGLE_INTERFACE_CFG, ifcName), cli, id, ctx);
         parseEthernetConfig(ifcName, ifcOutput, builder);
     }
 
@@ -17,12 +17,16 @@
 package io.frinx.cli.unit.huawei.ifc.handler.subifc;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.huawei.ifc.handler.InterfaceConfigReader;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.ifc.base.handler.subifc.AbstractSubinterfaceConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Optional;
 import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.huawei.extension.rev210729.SubIfHuaweiAug;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.huawei.extension.rev210729.SubIfHuaweiAugBuilder;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.huawei.extension.rev210729.TrafficDirection.Direction;
@@ -50,6 +54,12 @@ public final class SubinterfaceConfigReader extends AbstractSubinterfaceConfigRe
         super(cli);
     }
 
+    @Override
+    protected String readConfig(@NotNull String command, @NotNull InstanceIdentifier<Config> id,
+                                @NotNull ReadContext ctx) throws ReadFailedException {
+        return VrpConfiguration.blockingRead(this, command, cli, id, ctx);
+    }
+
     @Override
     protected String getReadCommand(String subIfcName) {
         return f(InterfaceConfigReader.SH_SINGLE_INTERFACE_CFG, subIfcName);
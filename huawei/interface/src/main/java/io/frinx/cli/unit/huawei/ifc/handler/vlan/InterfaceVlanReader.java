@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.huawei.ifc.handler.InterfaceConfigReader;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -64,8 +65,8 @@ public class InterfaceVlanReader implements CliConfigReader<Config, ConfigBuilde
                                       @NotNull ConfigBuilder configBuilder,
                                       @NotNull ReadContext ctx) throws ReadFailedException {
         final String ifcName = id.firstKeyOf(Interface.class).getName();
-        parseVlanInterface(blockingRead(f(InterfaceConfigReader.SH_SINGLE_INTERFACE_CFG, ifcName), cli, id, ctx),
-                configBuilder);
+        parseVlanInterface(VrpConfiguration.blockingRead(this, f(InterfaceConfigReader.SH_SINGLE_INTERFACE_CFG,
+                ifcName), cli, id, ctx), configBuilder);
     }
 
     @VisibleForTesting
@@ -20,6 +20,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.google.common.collect.Lists;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.generator.HuaweiOutputs;
+import io.frinx.cli.unit.generator.ScaleBudget;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
@@ -72,4 +76,26 @@ class InterfaceReaderTest {
         assertEquals(EXPECTED_ALL_IDS,
                 new InterfaceReader(Mockito.mock(Cli.class)).parseAllInterfaceIds(DISPLAY_INT_BRIEF));
     }
+
+    @Test
+    void testParseAllInterfaceIdsScale() throws Exception {
+        final String output = HuaweiOutputs.interfaceBrief(10_000, 2);
+        final InterfaceReader reader = new InterfaceReader(Mockito.mock(Cli.class));
+        final List<InterfaceKey> expected = new ArrayList<>();
+        final List<InterfaceKey> expectedAll = new ArrayList<>();
+        for (int ifc = 0; ifc < 10_000; ifc++) {
+            final String name = HuaweiOutputs.interfaceName(ifc);
+            expected.add(new InterfaceKey(name));
+            expectedAll.addAll(List.of(new InterfaceKey(name), new InterfaceKey(name + ".100"),
+                    new InterfaceKey(name + ".101")));
+        }
+        for (String name : List.of("LoopBack0", "NULL0")) {
+            expected.add(new InterfaceKey(name));
+            expectedAll.add(new InterfaceKey(name));
+        }
+        ScaleBudget.assertWithin(Duration.ofSeconds(5), () -> {
+            assertEquals(expectedAll, reader.parseAllInterfaceIds(output));
+            assertEquals(expected, reader.parseInterfaceIds(output));
+        });
+    }
 }
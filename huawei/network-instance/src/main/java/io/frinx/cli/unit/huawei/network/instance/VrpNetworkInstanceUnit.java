@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
 import io.frinx.cli.unit.huawei.network.instance.handler.NetworkInstanceConfigReader;
 import io.frinx.cli.unit.huawei.network.instance.handler.NetworkInstanceConfigWriter;
 import io.frinx.cli.unit.huawei.network.instance.handler.NetworkInstanceReader;
@@ -56,7 +57,7 @@ public class VrpNetworkInstanceUnit extends AbstractUnit {
     public void provideHandlers(@NotNull CustomizerAwareReadRegistryBuilder readRegistry,
                                 @NotNull CustomizerAwareWriteRegistryBuilder writeRegistry,
                                 @NotNull Context context) {
-        Cli cli = context.getTransport();
+        Cli cli = CommandMetrics.instrument(context.getTransport());
         provideReaders(readRegistry, cli);
         provideWriters(writeRegistry, cli);
     }
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -56,7 +57,7 @@ public class L3VrfInterfaceReader implements CliConfigListReader<Interface, Inte
                                                @NotNull ReadContext ctx) throws ReadFailedException {
         final String name = instanceIdentifier.firstKeyOf(NetworkInstance.class).getName();
 
-        String output = blockingRead(DISPLAY_IFC_VRF_CONFIG, cli, instanceIdentifier, ctx);
+        String output = VrpConfiguration.blockingRead(this, DISPLAY_IFC_VRF_CONFIG, cli, instanceIdentifier, ctx);
 
         return parseVrfInterfacesIds(output, name);
     }
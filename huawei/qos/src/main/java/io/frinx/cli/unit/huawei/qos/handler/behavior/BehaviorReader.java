@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.ArrayList;
@@ -47,7 +48,7 @@ public class BehaviorReader implements CliConfigListReader<Behavior, BehaviorKey
     public List<BehaviorKey> getAllIds(@NotNull InstanceIdentifier<Behavior> instanceIdentifier,
                                        @NotNull ReadContext context) throws ReadFailedException {
         final List<BehaviorKey> behaviorKeys = new ArrayList<>();
-        String output = blockingRead(SH_ALL_B, cli, instanceIdentifier, context);
+        String output = VrpConfiguration.blockingRead(this, SH_ALL_B, cli, instanceIdentifier, context);
         behaviorKeys.addAll(getBehaviorMapKeys(output));
         return behaviorKeys;
     }
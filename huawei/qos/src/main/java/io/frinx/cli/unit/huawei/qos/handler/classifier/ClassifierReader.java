@@ -19,6 +19,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.huawei.qos.handler.scheduler.SchedulerPolicyReader;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -50,7 +51,7 @@ public class ClassifierReader implements CliConfigListReader<Classifier, Classif
                                          @NotNull ReadContext readContext) throws ReadFailedException {
         final List<ClassifierKey> allKeys = new ArrayList<>();
         // read match class-maps
-        String output = blockingRead(SH_CLASS_MAPS, cli, instanceIdentifier, readContext);
+        String output = VrpConfiguration.blockingRead(this, SH_CLASS_MAPS, cli, instanceIdentifier, readContext);
         allKeys.addAll(getClassifierMapKeys(output));
         // read class-default
         return allKeys;
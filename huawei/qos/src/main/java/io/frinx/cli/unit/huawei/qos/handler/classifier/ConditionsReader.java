@@ -19,6 +19,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Optional;
@@ -49,7 +50,8 @@ public class ConditionsReader implements CliConfigReader<Conditions, ConditionsB
         }
 
         final String line = instanceIdentifier.firstKeyOf(Term.class).getId();
-        final String output = blockingRead(f(TermReader.SH_TERMS, name), cli, instanceIdentifier, readContext);
+        final String output = VrpConfiguration.blockingRead(this, f(TermReader.SH_TERMS, name), cli, instanceIdentifier,
+                readContext);
         filterParsing(output, line, conditionsBuilder);
     }
 
@@ -20,6 +20,7 @@ import com.google.common.collect.Lists;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Collections;
@@ -52,7 +53,8 @@ public class TermReader implements CliConfigListReader<Term, TermKey, TermBuilde
     public List<TermKey> getAllIds(@NotNull InstanceIdentifier<Term> instanceIdentifier,
                                    @NotNull ReadContext readContext) throws ReadFailedException {
         final String name = instanceIdentifier.firstKeyOf(Classifier.class).getName();
-        final String classOutput = blockingRead(f(SH_TERMS, name), cli, instanceIdentifier, readContext);
+        final String classOutput = VrpConfiguration.blockingRead(this, f(SH_TERMS, name), cli, instanceIdentifier,
+                readContext);
 
         // class-default will always have only one term, let it be "all"
         // do not read anything, not needed
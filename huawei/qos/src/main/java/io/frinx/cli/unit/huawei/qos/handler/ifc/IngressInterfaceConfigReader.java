@@ -18,6 +18,7 @@ package io.frinx.cli.unit.huawei.qos.handler.ifc;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Optional;
@@ -46,7 +47,7 @@ public class IngressInterfaceConfigReader implements CliConfigReader<Config, Con
                                       @NotNull ConfigBuilder configBuilder,
                                       @NotNull ReadContext readContext) throws ReadFailedException {
         final String interfaceId = instanceIdentifier.firstKeyOf(Interface.class).getInterfaceId();
-        final String output = blockingRead(f(InterfaceReader.SH_INTERFACE, interfaceId),
+        final String output = VrpConfiguration.blockingRead(this, f(InterfaceReader.SH_INTERFACE, interfaceId),
                 cli, instanceIdentifier, readContext);
         fillInConfig(output, configBuilder);
     }
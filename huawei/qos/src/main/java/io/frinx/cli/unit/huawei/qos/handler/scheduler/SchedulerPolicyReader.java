@@ -19,6 +19,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -51,7 +52,7 @@ public class SchedulerPolicyReader implements CliConfigListReader<SchedulerPolic
     @Override
     public List<SchedulerPolicyKey> getAllIds(@NotNull InstanceIdentifier<SchedulerPolicy> instanceIdentifier,
                                               @NotNull ReadContext readContext) throws ReadFailedException {
-        String output = blockingRead(SH_POLICY_MAPS, cli, instanceIdentifier, readContext);
+        String output = VrpConfiguration.blockingRead(this, SH_POLICY_MAPS, cli, instanceIdentifier, readContext);
         return getSchedulerKeys(output);
     }
 
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Matcher;
@@ -45,7 +46,8 @@ public class ClockTimezoneConfigReader implements CliConfigReader<Config, Config
     public void readCurrentAttributes(@NotNull InstanceIdentifier<Config> instanceIdentifier,
                                       @NotNull ConfigBuilder configBuilder,
                                       @NotNull ReadContext readContext) throws ReadFailedException {
-        parseConfig(blockingRead(DISPLAY_CLOCK, cli, instanceIdentifier, readContext), configBuilder);
+        parseConfig(VrpConfiguration.blockingRead(this, DISPLAY_CLOCK, cli, instanceIdentifier, readContext),
+                configBuilder);
     }
 
     @VisibleForTesting
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
@@ -44,7 +45,8 @@ public class NtpConfigReader implements CliConfigReader<Config, ConfigBuilder> {
     public void readCurrentAttributes(@NotNull InstanceIdentifier<Config> instanceIdentifier,
                                       @NotNull ConfigBuilder configBuilder,
                                       @NotNull ReadContext readContext) throws ReadFailedException {
-        parseConfig(blockingRead(DISPLAY_NTP, cli, instanceIdentifier, readContext), configBuilder);
+        parseConfig(VrpConfiguration.blockingRead(this, DISPLAY_NTP, cli, instanceIdentifier, readContext),
+                configBuilder);
     }
 
     @VisibleForTesting
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.function.Consumer;
@@ -47,7 +48,7 @@ public class NtpServerConfigReader implements CliConfigReader<Config, ConfigBuil
                                       @NotNull ConfigBuilder configBuilder,
                                       @NotNull ReadContext readContext) throws ReadFailedException {
         Host hostAddress = instanceIdentifier.firstKeyOf(Server.class).getAddress();
-        parseConfigAttributes(blockingRead(NtpConfigReader.DISPLAY_NTP, cli, instanceIdentifier,
+        parseConfigAttributes(VrpConfiguration.blockingRead(this, NtpConfigReader.DISPLAY_NTP, cli, instanceIdentifier,
                 readContext), configBuilder, hostAddress);
     }
 
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.huawei.init.VrpConfiguration;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -46,7 +47,8 @@ public class NtpServerReader implements CliConfigListReader<Server, ServerKey, S
     @Override
     public List<ServerKey> getAllIds(@NotNull InstanceIdentifier<Server> instanceIdentifier,
                                      @NotNull ReadContext readContext) throws ReadFailedException {
-        String output = blockingRead(NtpConfigReader.DISPLAY_NTP, cli, instanceIdentifier, readContext);
+        String output = VrpConfiguration.blockingRead(this, NtpConfigReader.DISPLAY_NTP, cli, instanceIdentifier,
+                readContext);
         return getAllIds(output);
     }
 
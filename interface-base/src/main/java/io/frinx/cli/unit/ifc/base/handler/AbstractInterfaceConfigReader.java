@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigSections;
 import io.frinx.cli.unit.ifc.base.util.NetUtils;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -34,7 +35,7 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public abstract class AbstractInterfaceConfigReader implements CliConfigReader<Config, ConfigBuilder> {
 
-    private Cli cli;
+    protected final Cli cli;
 
     public AbstractInterfaceConfigReader(Cli cli) {
         this.cli = cli;
@@ -45,7 +46,16 @@ public abstract class AbstractInterfaceConfigReader implements CliConfigReader<C
                                       @NotNull final ConfigBuilder builder,
                                       @NotNull final ReadContext ctx) throws ReadFailedException {
         String ifcName = id.firstKeyOf(Interface.class).getName();
-        parseInterface(blockingRead(getReadCommand(ifcName), cli, id, ctx), builder, ifcName);
+        parseInterface(readConfig(getReadCommand(ifcName), id, ctx), builder, ifcName);
+    }
+
+    /**
+     * Reads output of the read command. Units which serve the command from a read shared by all interfaces
+     * (e.g. {@link InterfaceConfigSections}) override this, the command is sent to the device by default.
+     */
+    protected String readConfig(@NotNull String command, @NotNull InstanceIdentifier<Config> id,
+                                @NotNull ReadContext ctx) throws ReadFailedException {
+        return blockingRead(command, cli, id, ctx);
     }
 
     protected abstract String getReadCommand(String ifcName);
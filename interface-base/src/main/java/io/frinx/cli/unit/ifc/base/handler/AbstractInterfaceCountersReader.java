@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ifc.base.handler;
+
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.LineCursor;
+import io.frinx.cli.unit.ifc.base.util.CounterSamples;
+import io.frinx.cli.unit.ifc.base.util.InterfaceCounter;
+import io.frinx.cli.unit.utils.CliOperReader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.Interface;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.state.Counters;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.state.CountersBuilder;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Reads counters of all interfaces with a single command per read transaction and fills {@code state/counters}
+ * of each interface from the parsed table. Every parsed table is recorded into {@link CounterSamples} of the unit,
+ * so input and output rates between the last two reads are available from {@link #getInRate} and
+ * {@link #getOutRate}.
+ */
+public abstract class AbstractInterfaceCountersReader implements CliOperReader<Counters, CountersBuilder> {
+
+    private final Cli cli;
+    private final CounterSamples samples;
+
+    protected AbstractInterfaceCountersReader(Cli cli, CounterSamples samples) {
+        this.cli = cli;
+        this.samples = samples;
+    }
+
+    @Override
+    public void readCurrentAttributes(@NotNull final InstanceIdentifier<Counters> id,
+                                      @NotNull final CountersBuilder builder,
+                                      @NotNull final ReadContext ctx) throws ReadFailedException {
+        final String ifcName = id.firstKeyOf(Interface.class).getName();
+        final long[] counters = getAllCounters(id, ctx).get(ifcName);
+        if (counters != null) {
+            InterfaceCounter.fill(builder, counters);
+        }
+    }
+
+    private Map<String, long[]> getAllCounters(InstanceIdentifier<Counters> id, ReadContext ctx)
+            throws ReadFailedException {
+        @SuppressWarnings("unchecked")
+        Map<String, long[]> allCounters = (Map<String, long[]>) ctx.getModificationCache().get(getClass());
+        if (allCounters == null) {
+            allCounters = parseCounters(blockingRead(getReadCommand(), cli, id, ctx));
+            samples.record(cli.getDeviceId(), allCounters);
+            ctx.getModificationCache().put(getClass(), allCounters);
+        }
+        return allCounters;
+    }
+
+    /**
+     * Input rate of the interface in octets per second between the last two reads, {@link Double#NaN} when unknown.
+     */
+    public double getInRate(String ifcName) {
+        return samples.rate(cli.getDeviceId(), ifcName, InterfaceCounter.IN_OCTETS);
+    }
+
+    /**
+     * Output rate of the interface in octets per second between the last two reads, {@link Double#NaN} when unknown.
+     */
+    public double getOutRate(String ifcName) {
+        return samples.rate(cli.getDeviceId(), ifcName, InterfaceCounter.OUT_OCTETS);
+    }
+
+    protected abstract String getReadCommand();
+
+    /**
+     * Parses counters of all interfaces, see {@link InterfaceCounter} for the layout of the counters array.
+     */
+    protected abstract Map<String, long[]> parseCounters(String output);
+
+    /**
+     * Parses output made of interface blocks. A block starts with a non-indented line matching {@code header}
+     * (interface name in group {@code name}). Each indented line of the block is passed to the first rule whose
+     * pattern matches the trimmed line.
+     */
+    protected static Map<String, long[]> parseInterfaceBlocks(String output, Pattern header, List<CounterRule> rules) {
+        final Map<String, long[]> allCounters = new HashMap<>();
+        long[] counters = null;
+        final LineCursor lines = new LineCursor(output);
+        while (lines.hasNext()) {
+            final CharSequence line = lines.next();
+            if (line.length() > 0 && !Character.isWhitespace(line.charAt(0))) {
+                final Matcher matcher = header.matcher(line);
+                counters = matcher.matches() ? InterfaceCounter.newCounters() : null;
+                if (counters != null) {
+                    allCounters.put(matcher.group("name"), counters);
+                }
+            } else if (counters != null) {
+                parseCounterLine(LineCursor.trim(line), counters, rules);
+            }
+        }
+        return allCounters;
+    }
+
+    private static void parseCounterLine(CharSequence line, long[] counters, List<CounterRule> rules) {
+        for (CounterRule rule : rules) {
+            final Matcher matcher = rule.pattern.matcher(line);
+            if (matcher.matches()) {
+                rule.parser.accept(matcher, counters);
+                return;
+            }
+        }
+    }
+
+    protected static final class CounterRule {
+
+        private final Pattern pattern;
+        private final BiConsumer<Matcher, long[]> parser;
+
+        private CounterRule(Pattern pattern, BiConsumer<Matcher, long[]> parser) {
+            this.pattern = pattern;
+            this.parser = parser;
+        }
+
+        public static CounterRule rule(Pattern pattern, BiConsumer<Matcher, long[]> parser) {
+            return new CounterRule(pattern, parser);
+        }
+
+        /**
+         * Rule setting a single counter from the matched group.
+         */
+        public static CounterRule rule(Pattern pattern, InterfaceCounter counter, String group) {
+            return new CounterRule(pattern, (matcher, counters) -> counter.set(counters, matcher.group(group)));
+        }
+    }
+}
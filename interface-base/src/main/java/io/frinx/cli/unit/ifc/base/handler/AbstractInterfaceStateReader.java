@@ -19,6 +19,7 @@ package io.frinx.cli.unit.ifc.base.handler;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.cache.CommandMemo;
 import io.frinx.cli.unit.utils.CliOperReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Locale;
@@ -43,7 +44,7 @@ public abstract class AbstractInterfaceStateReader implements CliOperReader<Stat
                                       @NotNull final StateBuilder builder,
                                       @NotNull final ReadContext ctx) throws ReadFailedException {
         String ifcName = id.firstKeyOf(Interface.class).getName();
-        parseInterfaceState(blockingRead(getReadCommand(ifcName), cli, id, ctx), builder, ifcName);
+        parseInterfaceState(CommandMemo.blockingRead(this, getReadCommand(ifcName), cli, id, ctx), builder, ifcName);
     }
 
     protected abstract String getReadCommand(String ifcName);
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigSections;
 import io.frinx.cli.unit.ifc.base.util.NetUtils;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -33,7 +34,7 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public abstract class AbstractSubinterfaceConfigReader implements CliConfigReader<Config, ConfigBuilder> {
 
-    private final Cli cli;
+    protected final Cli cli;
 
     protected AbstractSubinterfaceConfigReader(Cli cli) {
         this.cli = cli;
@@ -51,10 +52,19 @@ public abstract class AbstractSubinterfaceConfigReader implements CliConfigReade
             return;
         }
         String subIfcName = getSubinterfaceName(id);
-        parseSubinterface(blockingRead(getReadCommand(subIfcName), cli, id, ctx),
+        parseSubinterface(readConfig(getReadCommand(subIfcName), id, ctx),
             builder, subKey.getIndex(), subIfcName);
     }
 
+    /**
+     * Sends the read command of a subinterface to the device. Overridden by units which answer it from
+     * the configuration of all interfaces, see {@link InterfaceConfigSections}.
+     */
+    protected String readConfig(@NotNull String command, @NotNull InstanceIdentifier<Config> id,
+                                @NotNull ReadContext ctx) throws ReadFailedException {
+        return blockingRead(command, cli, id, ctx);
+    }
+
     protected abstract String getReadCommand(String subIfcName);
 
     protected abstract String getSubinterfaceName(InstanceIdentifier<Config> instanceIdentifier);
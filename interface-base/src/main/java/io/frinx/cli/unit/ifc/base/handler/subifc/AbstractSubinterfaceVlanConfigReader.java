@@ -32,7 +32,7 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 
 public abstract class AbstractSubinterfaceVlanConfigReader implements CliConfigReader<Config, ConfigBuilder> {
-    private final Cli cli;
+    protected final Cli cli;
 
     public AbstractSubinterfaceVlanConfigReader(Cli cli) {
         this.cli = cli;
@@ -44,11 +44,18 @@ public abstract class AbstractSubinterfaceVlanConfigReader implements CliConfigR
                                       @NotNull ReadContext ctx) throws ReadFailedException {
         String subIfcName = getSubinterfaceName(id);
 
-        String output = blockingRead(String.format(getReadCommand(), subIfcName),
-                cli, id, ctx);
+        String output = readConfig(String.format(getReadCommand(), subIfcName), id, ctx);
         parseVlanTag(output, builder, getVlanTagLine());
     }
 
+    /**
+     * Reads the subinterface configuration holding the VLAN tag, by default directly from the device.
+     */
+    protected String readConfig(@NotNull String command, @NotNull InstanceIdentifier<Config> id,
+                                @NotNull ReadContext ctx) throws ReadFailedException {
+        return blockingRead(command, cli, id, ctx);
+    }
+
     protected abstract String getSubinterfaceName(InstanceIdentifier<Config> instanceIdentifier);
 
     protected abstract Pattern getVlanTagLine();
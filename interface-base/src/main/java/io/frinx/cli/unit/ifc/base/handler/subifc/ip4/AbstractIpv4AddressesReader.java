@@ -54,13 +54,21 @@ public abstract class AbstractIpv4AddressesReader implements CliConfigListReader
         Long subId = instanceIdentifier.firstKeyOf(Subinterface.class).getIndex();
 
         if (isSupportedInterface(instanceIdentifier)) {
-            return parseAddressIds(blockingRead(getReadCommand(getInterfaceName(ifcName, subId)),
-                cli, instanceIdentifier, ctx));
+            return parseAddressIds(readConfig(getReadCommand(getInterfaceName(ifcName, subId)),
+                instanceIdentifier, ctx));
         } else {
             return Collections.emptyList();
         }
     }
 
+    /**
+     * Reads the interface configuration holding the addresses, by default directly from the device.
+     */
+    protected String readConfig(@NotNull String command, @NotNull InstanceIdentifier<?> id,
+                                @NotNull ReadContext ctx) throws ReadFailedException {
+        return blockingRead(command, cli, id, ctx);
+    }
+
     protected String getInterfaceName(String ifcName, Long subId) {
      // Typically interface(not sub-interface) has IP.
         return ifcName;
@@ -53,10 +53,18 @@ public abstract class AbstractIpv4ConfigReader implements CliConfigReader<Config
         if (isSupportedInterface(instanceIdentifier)) {
             Ipv4AddressNoZone address = instanceIdentifier.firstKeyOf(Address.class).getIp();
             parseAddressConfig(configBuilder,
-                    blockingRead(getReadCommand(ifcName, subId), cli, instanceIdentifier, readContext), address);
+                    readConfig(getReadCommand(ifcName, subId), instanceIdentifier, readContext), address);
         }
     }
 
+    /**
+     * Reads the interface configuration holding the address, by default directly from the device.
+     */
+    protected String readConfig(@NotNull String command, @NotNull InstanceIdentifier<?> id,
+                                @NotNull ReadContext ctx) throws ReadFailedException {
+        return blockingRead(command, cli, id, ctx);
+    }
+
     @VisibleForTesting
     public void parseAddressConfig(ConfigBuilder configBuilder, String output, Ipv4AddressNoZone address) {
         configBuilder.setIp(address);
@@ -84,8 +92,8 @@ public abstract class AbstractIpv4ConfigReader implements CliConfigReader<Config
 
     public boolean hasIpAddress(InstanceIdentifier instanceIdentifier, String ifcName, ReadContext ctx)
             throws ReadFailedException {
-        String output = blockingRead(getReadCommand(ifcName, AbstractSubinterfaceReader.ZERO_SUBINTERFACE_ID),
-                cli, instanceIdentifier, ctx);
+        String output = readConfig(getReadCommand(ifcName, AbstractSubinterfaceReader.ZERO_SUBINTERFACE_ID),
+                instanceIdentifier, ctx);
         return ParsingUtils.NEWLINE.splitAsStream(output)
                 .map(String::trim)
                 .map(getIpLine()::matcher)
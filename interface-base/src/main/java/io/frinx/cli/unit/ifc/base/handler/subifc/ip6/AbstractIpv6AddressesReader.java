@@ -54,12 +54,20 @@ public abstract class AbstractIpv6AddressesReader implements CliConfigListReader
 
         // Only subinterface with ID ZERO_SUBINTERFACE_ID can have IP
         if (subId == AbstractSubinterfaceReader.ZERO_SUBINTERFACE_ID) {
-            return parseAddressIds(blockingRead(getReadCommand(ifcName), cli, instanceIdentifier, ctx));
+            return parseAddressIds(readConfig(getReadCommand(ifcName), instanceIdentifier, ctx));
         } else {
             return Collections.emptyList();
         }
     }
 
+    /**
+     * Reads the interface configuration holding the addresses, by default directly from the device.
+     */
+    protected String readConfig(@NotNull String command, @NotNull InstanceIdentifier<?> id,
+                                @NotNull ReadContext ctx) throws ReadFailedException {
+        return blockingRead(command, cli, id, ctx);
+    }
+
     protected abstract String getReadCommand(String ifcName);
 
     @VisibleForTesting
@@ -56,10 +56,18 @@ public abstract class AbstractIpv6ConfigReader implements CliConfigReader<Config
         if (subId == AbstractSubinterfaceReader.ZERO_SUBINTERFACE_ID) {
             Ipv6AddressNoZone address = instanceIdentifier.firstKeyOf(Address.class).getIp();
             parseAddressConfig(configBuilder,
-                    blockingRead(getReadCommand(ifcName), cli, instanceIdentifier, readContext), address);
+                    readConfig(getReadCommand(ifcName), instanceIdentifier, readContext), address);
         }
     }
 
+    /**
+     * Reads the interface configuration holding the address, by default directly from the device.
+     */
+    protected String readConfig(@NotNull String command, @NotNull InstanceIdentifier<?> id,
+                                @NotNull ReadContext ctx) throws ReadFailedException {
+        return blockingRead(command, cli, id, ctx);
+    }
+
     @VisibleForTesting
     public void parseAddressConfig(ConfigBuilder configBuilder, String output, Ipv6AddressNoZone address) {
         configBuilder.setIp(address);
@@ -82,7 +90,7 @@ public abstract class AbstractIpv6ConfigReader implements CliConfigReader<Config
 
     public boolean hasIpAddress(InstanceIdentifier instanceIdentifier, String ifcName, ReadContext ctx)
             throws ReadFailedException {
-        String output = blockingRead(getReadCommand(ifcName), cli, instanceIdentifier, ctx);
+        String output = readConfig(getReadCommand(ifcName), instanceIdentifier, ctx);
         return ParsingUtils.NEWLINE.splitAsStream(output)
                 .map(String::trim)
                 .map(getIpLine()::matcher)
@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ifc.base.util;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Last two counter samples of every interface of the devices read by a unit, used to compute rates between
+ * consecutive reads.
+ * <br>
+ * Each interface keeps a single {@code long[]}: time of the previous and the current sample followed by previous
+ * and current counters (layout of {@link InterfaceCounter}). Recording a sample copies counters into this array,
+ * so polling thousands of interfaces does not allocate per interface. Samples are owned by the unit, which drops
+ * samples of a device when its handlers are provided again and samples of all devices when it closes.
+ */
+public final class CounterSamples {
+
+    private static final int COUNTERS = InterfaceCounter.COUNT;
+    private static final int PREVIOUS_TIME = 0;
+    private static final int CURRENT_TIME = 1;
+    private static final int PREVIOUS = 2;
+    private static final int CURRENT = PREVIOUS + COUNTERS;
+
+    private final Map<String, Map<String, long[]>> devices = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+
+    public CounterSamples() {
+        this(System::currentTimeMillis);
+    }
+
+    @VisibleForTesting
+    public CounterSamples(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Records counters of all interfaces of the device read at the same time.
+     */
+    public void record(String deviceId, Map<String, long[]> allCounters) {
+        final long now = clock.getAsLong();
+        final Map<String, long[]> samples = devices.computeIfAbsent(deviceId, id -> new ConcurrentHashMap<>());
+        allCounters.forEach((ifcName, counters) -> {
+            final long[] sample = samples.computeIfAbsent(ifcName, name -> new long[CURRENT + COUNTERS]);
+            synchronized (sample) {
+                sample[PREVIOUS_TIME] = sample[CURRENT_TIME];
+                sample[CURRENT_TIME] = now;
+                System.arraycopy(sample, CURRENT, sample, PREVIOUS, COUNTERS);
+                System.arraycopy(counters, 0, sample, CURRENT, COUNTERS);
+            }
+        });
+    }
+
+    /**
+     * Returns rate of the counter per second between the last two samples of the interface. Returns
+     * {@link Double#NaN} if there are less than two samples, the counter is unknown or it was cleared in between.
+     */
+    public double rate(String deviceId, String ifcName, InterfaceCounter counter) {
+        final long[] sample = devices.getOrDefault(deviceId, Map.of()).get(ifcName);
+        if (sample == null) {
+            return Double.NaN;
+        }
+        synchronized (sample) {
+            final long elapsed = sample[CURRENT_TIME] - sample[PREVIOUS_TIME];
+            final long previous = sample[PREVIOUS + counter.ordinal()];
+            final long current = sample[CURRENT + counter.ordinal()];
+            if (sample[PREVIOUS_TIME] == 0 || elapsed <= 0 || previous == InterfaceCounter.UNKNOWN
+                    || current == InterfaceCounter.UNKNOWN || current < previous) {
+                return Double.NaN;
+            }
+            return (current - previous) * 1000.0 / elapsed;
+        }
+    }
+
+    public void clear(String deviceId) {
+        devices.remove(deviceId);
+    }
+
+    public void clear() {
+        devices.clear();
+    }
+}
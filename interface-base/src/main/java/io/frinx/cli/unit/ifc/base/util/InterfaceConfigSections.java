@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ifc.base.util;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.utils.CliReader;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Running configuration of all interfaces split by {@code interface} header.
+ * <br>
+ * Interface and subinterface readers issue {@code show running-config interface <name>} (optionally followed by
+ * {@code | include <regex>}) once per interface. Readers of platforms which answer a bare
+ * {@code show running-config interface} with all interface sections (Brocade) serve these commands from a single
+ * read per read transaction instead, any other command is sent to the device as before. The interface-base readers
+ * opt in by overriding their {@code readConfig} hook.
+ */
+public final class InterfaceConfigSections {
+
+    public static final String SH_RUN_INTERFACES = "show running-config interface";
+
+    private static final Pattern SH_RUN_SINGLE_INTERFACE =
+            Pattern.compile("show running-config interface (?<name>[^|]*[^|\\s])( \\| include (?<include>.+))?");
+    private static final Pattern WORD_SEPARATOR = Pattern.compile(" ");
+    private static final String HEADER = "interface ";
+    private static final String PRECONFIGURE = "preconfigure ";
+
+    private InterfaceConfigSections() {
+    }
+
+    /**
+     * Serves the command of an interface whose name is a single word (e.g. IOS XR
+     * {@code GigabitEthernet0/0/0/0.100}).
+     */
+    public static String blockingRead(@NotNull CliReader cliReader, @NotNull String command, @NotNull Cli cli,
+                                      @NotNull InstanceIdentifier<?> instanceIdentifier,
+                                      @NotNull ReadContext readContext) throws ReadFailedException {
+        return blockingRead(cliReader, command, 1, cli, instanceIdentifier, readContext);
+    }
+
+    /**
+     * Serves the command of an interface whose name consists of {@code nameWords} words (e.g. 2 for Brocade
+     * {@code ethernet 1/1}).
+     */
+    public static String blockingRead(@NotNull CliReader cliReader, @NotNull String command, int nameWords,
+                                      @NotNull Cli cli, @NotNull InstanceIdentifier<?> instanceIdentifier,
+                                      @NotNull ReadContext readContext) throws ReadFailedException {
+        final Matcher matcher = SH_RUN_SINGLE_INTERFACE.matcher(command);
+        if (!matcher.matches() || WORD_SEPARATOR.split(matcher.group("name")).length != nameWords) {
+            return cliReader.blockingRead(command, cli, instanceIdentifier, readContext);
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, List<String>> sections =
+                (Map<String, List<String>>) readContext.getModificationCache().get(InterfaceConfigSections.class);
+        if (sections == null) {
+            sections = parseSections(cliReader.blockingRead(SH_RUN_INTERFACES, cli, instanceIdentifier, readContext),
+                    nameWords);
+            readContext.getModificationCache().put(InterfaceConfigSections.class, sections);
+        }
+        return getSection(sections, matcher.group("name"), matcher.group("include"));
+    }
+
+    @VisibleForTesting
+    static String getSection(Map<String, List<String>> sections, String ifcName, String include) {
+        final List<String> lines = sections.getOrDefault(ifcName, Collections.emptyList());
+        final Pattern includePattern = include == null ? null : Pattern.compile(include);
+        final StringBuilder output = new StringBuilder();
+        for (String line : lines) {
+            if (includePattern == null || includePattern.matcher(line).find()) {
+                output.append(line).append('\n');
+            }
+        }
+        return output.toString();
+    }
+
+    /**
+     * Splits the output into interface sections. Section starts with a non-indented {@code interface <name>} line
+     * (XR {@code interface preconfigure <name>} included) and contains all following indented lines.
+     */
+    @VisibleForTesting
+    public static Map<String, List<String>> parseSections(@NotNull String output) {
+        return parseSections(output, 1);
+    }
+
+    @VisibleForTesting
+    static Map<String, List<String>> parseSections(@NotNull String output, int nameWords) {
+        final Map<String, List<String>> sections = new HashMap<>();
+        List<String> section = null;
+        for (String line : ParsingUtils.NEWLINE.split(output)) {
+            if (line.startsWith(HEADER)) {
+                section = new ArrayList<>();
+                sections.putIfAbsent(parseInterfaceName(line, nameWords), section);
+                section.add(line);
+            } else if (section != null && !line.isEmpty() && Character.isWhitespace(line.charAt(0))) {
+                section.add(line);
+            } else {
+                section = null;
+            }
+        }
+        return sections;
+    }
+
+    private static String parseInterfaceName(String header, int nameWords) {
+        int start = HEADER.length();
+        if (header.startsWith(PRECONFIGURE, start)) {
+            start += PRECONFIGURE.length();
+        }
+        int end = start;
+        for (int word = 0; word < nameWords; word++) {
+            if (word > 0 && end < header.length()) {
+                end++;
+            }
+            while (end < header.length() && !Character.isWhitespace(header.charAt(end))) {
+                end++;
+            }
+        }
+        return header.substring(start, end);
+    }
+}
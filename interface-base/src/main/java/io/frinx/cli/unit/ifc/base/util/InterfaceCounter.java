@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ifc.base.util;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.state.CountersBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
+
+/**
+ * Openconfig interface counters. Parsed counters of an interface are kept in a {@code long[]} indexed by
+ * {@link #ordinal()}, {@link #UNKNOWN} marks a counter not provided by the device.
+ */
+public enum InterfaceCounter {
+
+    IN_OCTETS(CountersBuilder::setInOctets),
+    IN_UNICAST_PKTS(CountersBuilder::setInUnicastPkts),
+    IN_BROADCAST_PKTS(CountersBuilder::setInBroadcastPkts),
+    IN_MULTICAST_PKTS(CountersBuilder::setInMulticastPkts),
+    IN_DISCARDS(CountersBuilder::setInDiscards),
+    IN_ERRORS(CountersBuilder::setInErrors),
+    IN_UNKNOWN_PROTOS(CountersBuilder::setInUnknownProtos),
+    OUT_OCTETS(CountersBuilder::setOutOctets),
+    OUT_UNICAST_PKTS(CountersBuilder::setOutUnicastPkts),
+    OUT_BROADCAST_PKTS(CountersBuilder::setOutBroadcastPkts),
+    OUT_MULTICAST_PKTS(CountersBuilder::setOutMulticastPkts),
+    OUT_DISCARDS(CountersBuilder::setOutDiscards),
+    OUT_ERRORS(CountersBuilder::setOutErrors);
+
+    public static final long UNKNOWN = -1;
+    public static final int COUNT = values().length;
+
+    private final BiConsumer<CountersBuilder, Counter64> setter;
+
+    InterfaceCounter(BiConsumer<CountersBuilder, Counter64> setter) {
+        this.setter = setter;
+    }
+
+    public static long[] newCounters() {
+        final long[] counters = new long[COUNT];
+        Arrays.fill(counters, UNKNOWN);
+        return counters;
+    }
+
+    public long get(long[] counters) {
+        return counters[ordinal()];
+    }
+
+    public void set(long[] counters, long value) {
+        counters[ordinal()] = value;
+    }
+
+    public void set(long[] counters, String value) {
+        set(counters, Long.parseLong(value));
+    }
+
+    /**
+     * Sets all known counters to the builder.
+     */
+    public static void fill(CountersBuilder builder, long[] counters) {
+        for (InterfaceCounter counter : values()) {
+            final long value = counter.get(counters);
+            if (value != UNKNOWN) {
+                counter.setter.accept(builder, new Counter64(BigInteger.valueOf(value)));
+            }
+        }
+    }
+}
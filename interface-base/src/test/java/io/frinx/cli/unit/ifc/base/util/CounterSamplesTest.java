@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ifc.base.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CounterSamplesTest {
+
+    private final AtomicLong clock = new AtomicLong(10_000);
+    private final CounterSamples samples = new CounterSamples(clock::get);
+
+    @Test
+    void testRate() {
+        assertEquals(Double.NaN, samples.rate("xr-pe1", "Gi0/0", InterfaceCounter.IN_OCTETS));
+
+        samples.record("xr-pe1", Map.of("Gi0/0", counters(1_000, InterfaceCounter.UNKNOWN)));
+        assertEquals(Double.NaN, samples.rate("xr-pe1", "Gi0/0", InterfaceCounter.IN_OCTETS));
+
+        clock.set(40_000);
+        samples.record("xr-pe1", Map.of("Gi0/0", counters(61_000, 10)));
+        assertEquals(2_000.0, samples.rate("xr-pe1", "Gi0/0", InterfaceCounter.IN_OCTETS));
+        assertEquals(Double.NaN, samples.rate("xr-pe1", "Gi0/0", InterfaceCounter.OUT_OCTETS));
+        assertEquals(Double.NaN, samples.rate("xr-pe2", "Gi0/0", InterfaceCounter.IN_OCTETS));
+
+        // counters cleared in between
+        clock.set(70_000);
+        samples.record("xr-pe1", Map.of("Gi0/0", counters(500, 40)));
+        assertEquals(Double.NaN, samples.rate("xr-pe1", "Gi0/0", InterfaceCounter.IN_OCTETS));
+        assertEquals(1.0, samples.rate("xr-pe1", "Gi0/0", InterfaceCounter.OUT_OCTETS));
+    }
+
+    @Test
+    void testManyInterfaces() {
+        for (int sample = 0; sample < 3; sample++) {
+            clock.set(30_000L * (sample + 1));
+            final Map<String, long[]> allCounters = new HashMap<>();
+            for (int ifc = 0; ifc < 10_000; ifc++) {
+                allCounters.put("Gi0/" + ifc, counters(30L * ifc * sample, 0));
+            }
+            samples.record("xr-pe1", allCounters);
+        }
+        for (int ifc = 0; ifc < 10_000; ifc++) {
+            assertEquals(ifc, samples.rate("xr-pe1", "Gi0/" + ifc, InterfaceCounter.IN_OCTETS), 1e-9);
+            assertEquals(0.0, samples.rate("xr-pe1", "Gi0/" + ifc, InterfaceCounter.OUT_OCTETS));
+        }
+    }
+
+    @Test
+    void testClear() {
+        samples.record("xr-pe1", Map.of("Gi0/0", counters(0, 0)));
+        samples.record("xr-pe2", Map.of("Gi0/0", counters(0, 0)));
+        clock.addAndGet(1000);
+        samples.record("xr-pe1", Map.of("Gi0/0", counters(10, 0)));
+        samples.record("xr-pe2", Map.of("Gi0/0", counters(10, 0)));
+
+        samples.clear("xr-pe1");
+        assertEquals(Double.NaN, samples.rate("xr-pe1", "Gi0/0", InterfaceCounter.IN_OCTETS));
+        assertEquals(10.0, samples.rate("xr-pe2", "Gi0/0", InterfaceCounter.IN_OCTETS));
+        samples.clear();
+        assertEquals(Double.NaN, samples.rate("xr-pe2", "Gi0/0", InterfaceCounter.IN_OCTETS));
+    }
+
+    private static long[] counters(long inOctets, long outOctets) {
+        final long[] counters = InterfaceCounter.newCounters();
+        InterfaceCounter.IN_OCTETS.set(counters, inOctets);
+        InterfaceCounter.OUT_OCTETS.set(counters, outOctets);
+        return counters;
+    }
+}
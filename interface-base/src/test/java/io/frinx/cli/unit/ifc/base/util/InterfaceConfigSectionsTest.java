@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ifc.base.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class InterfaceConfigSectionsTest {
+
+    private static final String SH_RUN_INTERFACES = """
+            Mon Feb 12 13:00:17.954 UTC
+            interface Loopback0
+             description loopback
+             ipv4 address 10.0.0.1 255.255.255.255
+            !
+            interface GigabitEthernet0/0/0/0
+             mtu 9000
+             carrier-delay up 100 down 200
+            !
+            interface GigabitEthernet0/0/0/0.100 l2transport
+             encapsulation dot1q 100
+             ipv4 address 10.1.0.1 255.255.255.0
+             ipv4 address 10.2.0.1 255.255.255.0 secondary
+            !
+            interface preconfigure GigabitEthernet0/0/0/5
+             shutdown
+            !
+            router static
+             address-family ipv4 unicast
+            !
+            """;
+
+    @Test
+    void testParseSections() {
+        final Map<String, List<String>> sections = InterfaceConfigSections.parseSections(SH_RUN_INTERFACES);
+        assertEquals(4, sections.size());
+        assertEquals(List.of("interface GigabitEthernet0/0/0/0", " mtu 9000", " carrier-delay up 100 down 200"),
+                sections.get("GigabitEthernet0/0/0/0"));
+        assertEquals(List.of("interface preconfigure GigabitEthernet0/0/0/5", " shutdown"),
+                sections.get("GigabitEthernet0/0/0/5"));
+        assertEquals("""
+                interface GigabitEthernet0/0/0/0.100 l2transport
+                 encapsulation dot1q 100
+                 ipv4 address 10.1.0.1 255.255.255.0
+                 ipv4 address 10.2.0.1 255.255.255.0 secondary
+                """, InterfaceConfigSections.getSection(sections, "GigabitEthernet0/0/0/0.100", null));
+    }
+
+    @Test
+    void testGetSectionInclude() {
+        final Map<String, List<String>> sections = InterfaceConfigSections.parseSections(SH_RUN_INTERFACES);
+        assertEquals("""
+                 ipv4 address 10.1.0.1 255.255.255.0
+                 ipv4 address 10.2.0.1 255.255.255.0 secondary
+                """, InterfaceConfigSections.getSection(sections, "GigabitEthernet0/0/0/0.100", "^ ipv4 address"));
+        assertEquals("", InterfaceConfigSections.getSection(sections, "Loopback0", "^ ipv6 address"));
+        assertEquals("", InterfaceConfigSections.getSection(sections, "Bundle-Ether1", null));
+    }
+
+    @Test
+    void testParseTwoWordNames() {
+        final Map<String, List<String>> sections = InterfaceConfigSections.parseSections("""
+                interface ethernet 1/1
+                 port-name uplink
+                 enable
+                !
+                interface ve 100
+                 ip address 10.0.0.1/24
+                !
+                """, 2);
+        assertEquals(2, sections.size());
+        assertEquals(" port-name uplink\n", InterfaceConfigSections.getSection(sections, "ethernet 1/1", "port-name"));
+        assertEquals(List.of("interface ve 100", " ip address 10.0.0.1/24"), sections.get("ve 100"));
+    }
+
+    @Test
+    void testParseManySubinterfaces() {
+        final StringBuilder output = new StringBuilder();
+        for (int sub = 1; sub <= 3000; sub++) {
+            output.append(String.format("interface Bundle-Ether1.%d\n encapsulation dot1q %d\n"
+                    + " description sub %d\n!\n", sub, sub, sub));
+        }
+        final Map<String, List<String>> sections = InterfaceConfigSections.parseSections(output.toString());
+        assertEquals(3000, sections.size());
+        for (int sub = 1; sub <= 3000; sub++) {
+            assertEquals(String.format(" encapsulation dot1q %d\n", sub), InterfaceConfigSections.getSection(
+                    sections, "Bundle-Ether1." + sub, "encapsulation"));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers;
+
+import java.nio.CharBuffer;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over lines of a device output without splitting it into an array of copied strings. Each line is returned
+ * as a read-only view of the output, so only the parts a parser actually extracts (e.g. matcher groups) get copied.
+ * <br>
+ * Lines are separated by {@code \n}, a trailing {@code \r} is not part of the line.
+ */
+public final class LineCursor {
+
+    private final CharSequence text;
+    private int position;
+
+    public LineCursor(CharSequence text) {
+        this.text = text;
+    }
+
+    public boolean hasNext() {
+        return position < text.length();
+    }
+
+    public CharSequence next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final int start = position;
+        int end = start;
+        while (end < text.length() && text.charAt(end) != '\n') {
+            end++;
+        }
+        position = end + 1;
+        if (end > start && text.charAt(end - 1) == '\r') {
+            end--;
+        }
+        return CharBuffer.wrap(text, start, end);
+    }
+
+    /**
+     * Skips up to {@code count} lines.
+     */
+    public LineCursor skip(int count) {
+        for (int i = 0; i < count && hasNext(); i++) {
+            next();
+        }
+        return this;
+    }
+
+    /**
+     * Returns view of the line without leading and trailing whitespace, same as {@link String#trim()}.
+     */
+    public static CharSequence trim(CharSequence line) {
+        int start = 0;
+        int end = line.length();
+        while (start < end && line.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return start == 0 && end == line.length() ? line : line.subSequence(start, end);
+    }
+}
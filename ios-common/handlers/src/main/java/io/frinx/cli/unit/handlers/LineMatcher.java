@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers;
+
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches all registered patterns against the output in one pass over its lines.
+ * <br>
+ * Replacement for a sequence of {@link ParsingUtils#parseField} / {@link ParsingUtils#parseFields} calls over the
+ * same output, which split and trim the whole output once per attribute. Lines are matched as views of the output
+ * (see {@link LineCursor}), only extracted values are copied. Lines are trimmed and have to match
+ * the pattern entirely, same as in {@link ParsingUtils}. Rules registered by {@link #first} consume only the first
+ * matching line, rules registered by {@link #each} consume every matching line.
+ */
+public final class LineMatcher {
+
+    private final List<Rule<?>> rules = new ArrayList<>();
+
+    public <T> LineMatcher first(Pattern pattern, Function<Matcher, T> extract, Consumer<T> consumer) {
+        rules.add(new Rule<>(pattern, extract, consumer, true));
+        return this;
+    }
+
+    public <T> LineMatcher each(Pattern pattern, Function<Matcher, T> extract, Consumer<T> consumer) {
+        rules.add(new Rule<>(pattern, extract, consumer, false));
+        return this;
+    }
+
+    public void match(String output) {
+        match(output, 0);
+    }
+
+    public void match(String output, int linesToSkip) {
+        final boolean[] done = new boolean[rules.size()];
+        int pending = rules.size();
+        final LineCursor lines = new LineCursor(output).skip(linesToSkip);
+        while (pending > 0 && lines.hasNext()) {
+            final CharSequence trimmed = LineCursor.trim(lines.next());
+            for (int i = 0; i < done.length; i++) {
+                if (!done[i] && rules.get(i).apply(trimmed)) {
+                    done[i] = true;
+                    pending--;
+                }
+            }
+        }
+    }
+
+    private static final class Rule<T> {
+
+        private final Pattern pattern;
+        private final Function<Matcher, T> extract;
+        private final Consumer<T> consumer;
+        private final boolean firstOnly;
+
+        private Rule(Pattern pattern, Function<Matcher, T> extract, Consumer<T> consumer, boolean firstOnly) {
+            this.pattern = pattern;
+            this.extract = extract;
+            this.consumer = consumer;
+            this.firstOnly = firstOnly;
+        }
+
+        /**
+         * Returns true when the rule is satisfied and does not need to see any further line.
+         */
+        private boolean apply(CharSequence line) {
+            final Matcher matcher = pattern.matcher(line);
+            if (!matcher.matches()) {
+                return false;
+            }
+            final T value = extract.apply(matcher);
+            if (value == null) {
+                return false;
+            }
+            consumer.accept(value);
+            return firstOnly;
+        }
+    }
+}
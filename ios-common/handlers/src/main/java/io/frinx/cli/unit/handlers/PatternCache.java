@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled patterns of parameterised regular expressions (e.g. a pattern containing an interface name), so they are
+ * compiled once per distinct parameter instead of on every parse. The cache is bounded, it is dropped as a whole
+ * when full.
+ */
+public final class PatternCache {
+
+    static final int MAX_SIZE = 4096;
+
+    private static final Map<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+    private PatternCache() {
+    }
+
+    public static Pattern compile(String format, Object... args) {
+        final String regex = String.format(format, args);
+        final Pattern pattern = PATTERNS.get(regex);
+        if (pattern != null) {
+            return pattern;
+        }
+        if (PATTERNS.size() >= MAX_SIZE) {
+            PATTERNS.clear();
+        }
+        return PATTERNS.computeIfAbsent(regex, Pattern::compile);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Consumes whitespace separated words of a line one by one. Words are cut out of the line only when they are
+ * consumed, instead of splitting the whole line into a list up front.
+ */
+public final class WordCursor {
+
+    private final CharSequence text;
+    private int position;
+    private String next;
+
+    public WordCursor(CharSequence text) {
+        this.text = text;
+    }
+
+    public boolean isEmpty() {
+        return peek() == null;
+    }
+
+    /**
+     * Returns next word without consuming it, null if there are no more words.
+     */
+    public String peek() {
+        if (next == null) {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+            final int start = position;
+            while (position < text.length() && !Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+            next = start == position ? null : text.subSequence(start, position).toString();
+        }
+        return next;
+    }
+
+    /**
+     * Consumes next word, returns null if there are no more words.
+     */
+    public String poll() {
+        final String word = peek();
+        next = null;
+        return word;
+    }
+
+    /**
+     * Remaining words formatted as a list, e.g. {@code [log, fragments]}.
+     */
+    @Override
+    public String toString() {
+        final List<String> words = new ArrayList<>();
+        if (next != null) {
+            words.add(next);
+        }
+        for (String word : text.subSequence(position, text.length()).toString().trim().split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words.toString();
+    }
+}
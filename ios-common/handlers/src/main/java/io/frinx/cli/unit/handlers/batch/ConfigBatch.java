@@ -0,0 +1,281 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.handlers.batch;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.io.Command;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Configuration commands of one write transaction, sent to the device as one configuration session.
+ * <br>
+ * While a batch is collected (between {@link #start()} and {@link #flush}), writers add their rendered
+ * {@code configure terminal ... end} blocks by {@link #add} instead of writing them one by one. The
+ * {@code configure terminal} / {@code end} wrappers of the blocks are stripped and the batch is sent as a single
+ * session. Consecutive blocks entering the same submode (e.g. entries of one access-list) enter it only once.
+ * <br>
+ * The output of the session is checked line by line, a failed line is mapped back to the handler and instance
+ * identifier which rendered it. The device keeps the lines sent before (and after) the failed line.
+ * <br>
+ * Only writes and updates should be added. Deletes are sent right away: a delete of a child (e.g. an access-list
+ * entry) sent after its parent was deleted by a writer which does not batch would re-create the parent.
+ */
+public final class ConfigBatch {
+
+    public static final String CONFIGURE_TERMINAL = "configure terminal";
+    public static final String END = "end";
+
+    private static final Pattern NEWLINE = Pattern.compile("\\R");
+    private static final Map<String, ConfigBatch> DEVICES = new ConcurrentHashMap<>();
+
+    private final List<Block> blocks = new ArrayList<>();
+    private boolean collecting;
+
+    @VisibleForTesting
+    ConfigBatch() {
+    }
+
+    public static ConfigBatch of(Cli cli) {
+        return DEVICES.computeIfAbsent(cli.getDeviceId(), id -> new ConfigBatch());
+    }
+
+    /**
+     * Drops the batch of the device, writers of the device send their commands themselves until the next
+     * {@link #of}.
+     */
+    public static void remove(String deviceId) {
+        DEVICES.remove(deviceId);
+    }
+
+    /**
+     * Adds commands rendered by a writer to the batch of its device. Returns false when the device does not collect
+     * a batch, the writer sends the commands itself then.
+     */
+    public static boolean add(Cli cli, Class<?> handler, InstanceIdentifier<?> id, String commands) {
+        final String deviceId = cli.getDeviceId();
+        final ConfigBatch batch = deviceId == null ? null : DEVICES.get(deviceId);
+        return batch != null && batch.addBlock(handler, id, commands);
+    }
+
+    public synchronized void start() {
+        blocks.clear();
+        collecting = true;
+    }
+
+    @VisibleForTesting
+    synchronized boolean addBlock(Class<?> handler, InstanceIdentifier<?> id, String commands) {
+        if (!collecting) {
+            return false;
+        }
+        blocks.add(new Block(handler, id, parseSections(commands)));
+        return true;
+    }
+
+    /**
+     * Sends the collected commands and stops collecting. Returns the first failed line, if any.
+     */
+    public synchronized Optional<Failure> flush(Cli cli, Set<Pattern> errorPatterns)
+            throws ExecutionException, InterruptedException {
+        collecting = false;
+        if (blocks.isEmpty()) {
+            return Optional.empty();
+        }
+        final Script script = render();
+        blocks.clear();
+        final String output = cli.executeAndRead(Command.writeCommandNoChecks(script.toString()))
+                .toCompletableFuture()
+                .get();
+        return script.findFailure(output, errorPatterns);
+    }
+
+    @VisibleForTesting
+    synchronized Script render() {
+        final Script script = new Script();
+        script.add(CONFIGURE_TERMINAL, null);
+        List<String> previous = null;
+        for (Block block : blocks) {
+            for (List<String> section : block.sections) {
+                int first = 0;
+                if (previous != null && isSameMode(previous, section)) {
+                    first = 1;
+                } else if (previous != null) {
+                    script.add(END, null);
+                    script.add(CONFIGURE_TERMINAL, null);
+                }
+                for (int i = first; i < section.size(); i++) {
+                    script.add(section.get(i), block);
+                }
+                previous = section;
+            }
+        }
+        script.add(END, null);
+        return script;
+    }
+
+    /**
+     * Splits commands into sections between {@code configure terminal} and {@code end} lines, empty lines are
+     * dropped.
+     */
+    private static List<List<String>> parseSections(String commands) {
+        final List<List<String>> sections = new ArrayList<>();
+        List<String> section = new ArrayList<>();
+        for (String line : NEWLINE.split(commands)) {
+            final String command = line.strip();
+            if (command.equals(CONFIGURE_TERMINAL) || command.equals(END)) {
+                if (!section.isEmpty()) {
+                    sections.add(section);
+                    section = new ArrayList<>();
+                }
+            } else if (!command.isEmpty()) {
+                section.add(command);
+            }
+        }
+        if (!section.isEmpty()) {
+            sections.add(section);
+        }
+        return sections;
+    }
+
+    /**
+     * Section continues in the mode left by the previous section when both enter the same submode and the previous
+     * one did not leave it.
+     */
+    private static boolean isSameMode(List<String> previous, List<String> section) {
+        return section.size() > 1
+                && previous.size() > 1
+                && previous.get(0).equals(section.get(0))
+                && previous.stream().noneMatch(command -> command.startsWith("exit"));
+    }
+
+    private static final class Block {
+
+        private final Class<?> handler;
+        private final InstanceIdentifier<?> id;
+        private final List<List<String>> sections;
+
+        private Block(Class<?> handler, InstanceIdentifier<?> id, List<List<String>> sections) {
+            this.handler = handler;
+            this.id = id;
+            this.sections = sections;
+        }
+    }
+
+    @VisibleForTesting
+    static final class Script {
+
+        private final List<String> lines = new ArrayList<>();
+        private final List<Block> owners = new ArrayList<>();
+
+        private void add(String line, Block owner) {
+            lines.add(line);
+            owners.add(owner);
+        }
+
+        List<String> getLines() {
+            return Collections.unmodifiableList(lines);
+        }
+
+        /**
+         * Walks the echoed lines of the session output. Output lines matching an error pattern (up to the echo of
+         * the next command) belong to the last echoed command.
+         */
+        Optional<Failure> findFailure(String output, Set<Pattern> errorPatterns) {
+            final String[] outputLines = NEWLINE.split(output);
+            int current = -1;
+            for (int i = 0; i < outputLines.length; i++) {
+                if (isEcho(outputLines[i], current + 1)) {
+                    current++;
+                } else if (isError(outputLines[i], errorPatterns)) {
+                    final StringBuilder error = new StringBuilder(outputLines[i].strip());
+                    for (int j = i + 1; j < outputLines.length && !isEcho(outputLines[j], current + 1); j++) {
+                        error.append('\n').append(outputLines[j].strip());
+                    }
+                    final Block owner = current < 0 ? null : owners.get(current);
+                    return Optional.of(new Failure(owner == null ? null : owner.handler,
+                            owner == null ? null : owner.id, current < 0 ? null : lines.get(current),
+                            error.toString().strip()));
+                }
+            }
+            return Optional.empty();
+        }
+
+        private boolean isEcho(String outputLine, int index) {
+            return index < lines.size() && outputLine.strip().endsWith(lines.get(index));
+        }
+
+        private static boolean isError(String outputLine, Set<Pattern> errorPatterns) {
+            return errorPatterns.stream().anyMatch(errorPattern -> errorPattern.matcher(outputLine).find());
+        }
+
+        @Override
+        public String toString() {
+            return String.join("\n", lines) + "\n";
+        }
+    }
+
+    /**
+     * Failed line of a batch together with the handler and instance identifier which rendered it. Handler and
+     * identifier are null when the failed line is not a writer command (e.g. {@code configure terminal}).
+     */
+    public static final class Failure {
+
+        private final Class<?> handler;
+        private final InstanceIdentifier<?> id;
+        private final String command;
+        private final String error;
+
+        private Failure(Class<?> handler, InstanceIdentifier<?> id, String command, String error) {
+            this.handler = handler;
+            this.id = id;
+            this.command = command;
+            this.error = error;
+        }
+
+        public Class<?> getHandler() {
+            return handler;
+        }
+
+        public InstanceIdentifier<?> getId() {
+            return id;
+        }
+
+        public String getCommand() {
+            return command;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        @Override
+        public String toString() {
+            return "Command '" + command + "' failed with '" + error + "'"
+                    + (handler == null ? "" : ", written by " + handler.getSimpleName() + " for " + id);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers.cache;
+
+import java.util.Optional;
+
+/**
+ * Device type specific part of a {@link ConfigurationCache}.
+ */
+public interface CachePolicy {
+
+    /**
+     * Cheap command whose output identifies the last configuration change of the device.
+     */
+    String getFingerprintCommand();
+
+    /**
+     * Extracts the fingerprint from output of {@link #getFingerprintCommand()}, empty when the output does not
+     * contain any (outputs are not cached then).
+     */
+    Optional<String> parseFingerprint(String output);
+
+    /**
+     * Returns true when output of the command depends only on the device configuration.
+     */
+    boolean isCacheable(String command);
+
+    /**
+     * Returns true when the command does not change the device configuration. Any other command sent through
+     * the cache invalidates it.
+     */
+    boolean isReadOnly(String command);
+
+    /**
+     * Command whose output contains outputs of all {@link #isResolvable resolvable} commands (e.g. the whole running
+     * configuration), null when the policy does not resolve commands locally.
+     */
+    default String getDumpCommand() {
+        return null;
+    }
+
+    /**
+     * Returns true when output of the cacheable command can be resolved from output of {@link #getDumpCommand()}.
+     */
+    default boolean isResolvable(String command) {
+        return false;
+    }
+
+    /**
+     * Parses output of {@link #getDumpCommand()}, called only by policies which define it.
+     */
+    default ConfigurationDump parseDump(String output) {
+        throw new UnsupportedOperationException("Configuration dump is not supported");
+    }
+}
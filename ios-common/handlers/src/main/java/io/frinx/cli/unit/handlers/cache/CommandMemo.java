@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers.cache;
+
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.io.Command;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
+import io.frinx.cli.unit.utils.CliReader;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Outputs of commands read within one read transaction, shared by all readers of the transaction (e.g. list, config
+ * and state readers of the same component).
+ * <br>
+ * Outputs are kept in the {@link ModificationCache} of the transaction and dropped together with it. Commands are
+ * keyed by their text with whitespace normalised. Readers asking for a command which is already being read wait for
+ * that single execution instead of sending the command again, a failed read is not kept and fails its waiting readers
+ * as well. Commands known in advance (e.g. one per optic) can be {@link #prefetch prefetched} together. Hits and
+ * misses are reported through {@link CommandMetrics}.
+ */
+public final class CommandMemo {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private CommandMemo() {
+    }
+
+    public static String blockingRead(@NotNull CliReader cliReader, @NotNull String command, @NotNull Cli cli,
+                                      @NotNull InstanceIdentifier<?> instanceIdentifier,
+                                      @NotNull ReadContext readContext) throws ReadFailedException {
+        final Map<String, CompletableFuture<String>> outputs = getOutputs(readContext.getModificationCache());
+        final String key = normalize(command);
+        final CompletableFuture<String> pending = new CompletableFuture<>();
+        final CompletableFuture<String> existing = outputs.putIfAbsent(key, pending);
+        if (existing != null) {
+            CommandMetrics.cacheHit(ConfigurationCache.unwrap(cli), CommandMemo.class);
+            return await(existing, instanceIdentifier);
+        }
+        CommandMetrics.cacheMiss(ConfigurationCache.unwrap(cli), CommandMemo.class);
+        try {
+            final String output = cliReader.blockingRead(command, cli, instanceIdentifier, readContext);
+            pending.complete(output);
+            return output;
+        } catch (ReadFailedException | RuntimeException e) {
+            outputs.remove(key, pending);
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Sends all commands which were not read in the transaction yet without waiting for their outputs, so the device
+     * session processes them back to back instead of one per reader round trip. Readers then get the outputs
+     * by {@link #blockingRead}. A failed command is dropped from the memo.
+     */
+    public static void prefetch(@NotNull Cli cli, @NotNull Collection<String> commands,
+                                @NotNull ReadContext readContext) {
+        final Map<String, CompletableFuture<String>> outputs = getOutputs(readContext.getModificationCache());
+        for (String command : commands) {
+            final String key = normalize(command);
+            final CompletableFuture<String> pending = new CompletableFuture<>();
+            if (outputs.putIfAbsent(key, pending) != null) {
+                continue;
+            }
+            CommandMetrics.cacheMiss(ConfigurationCache.unwrap(cli), CommandMemo.class);
+            cli.executeAndRead(Command.showCommand(command)).whenComplete((output, error) -> {
+                if (error == null) {
+                    pending.complete(output);
+                } else {
+                    outputs.remove(key, pending);
+                    pending.completeExceptionally(error);
+                }
+            });
+        }
+    }
+
+    static String normalize(String command) {
+        return WHITESPACE.matcher(command.strip()).replaceAll(" ");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, CompletableFuture<String>> getOutputs(ModificationCache cache) {
+        // only the first reader of a transaction creates the map, all reads go through it without locking
+        synchronized (cache) {
+            Map<String, CompletableFuture<String>> outputs =
+                    (Map<String, CompletableFuture<String>>) cache.get(CommandMemo.class);
+            if (outputs == null) {
+                outputs = new ConcurrentHashMap<>();
+                cache.put(CommandMemo.class, outputs);
+            }
+            return outputs;
+        }
+    }
+
+    private static String await(CompletableFuture<String> output, InstanceIdentifier<?> instanceIdentifier)
+            throws ReadFailedException {
+        try {
+            return output.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReadFailedException(instanceIdentifier, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ReadFailedException) {
+                throw (ReadFailedException) e.getCause();
+            }
+            throw new ReadFailedException(instanceIdentifier, e.getCause());
+        }
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers.cache;
+
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.io.Command;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
+import java.lang.ref.Cleaner;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-device cache of configuration outputs which outlives read transactions. The cache is kept in memory only,
+ * it is empty after a restart and it is not shared between cluster nodes.
+ * <br>
+ * The cache is off unless the device is listed in {@value #DEVICES_PROPERTY}, a comma separated list of device ids
+ * ({@link Cli#getDeviceId()}, {@code *} enables it for all devices wrapped by a unit).
+ * <br>
+ * Outputs of commands accepted by {@link CachePolicy#isCacheable} are kept as long as the configuration fingerprint
+ * of the device (e.g. the last commit) does not change. The fingerprint is checked by one command at most once per
+ * {@value #VALIDITY_PROPERTY} seconds (default {@value #DEFAULT_VALIDITY_SECONDS}), so a sync of an unchanged device
+ * costs a single command instead of a full re-read. A change made on the device outside of this translation layer
+ * is therefore seen only once the validity period since the last check expires. Any command which is not
+ * {@link CachePolicy#isReadOnly read-only} drops outputs of the device and disables the cache for one validity period,
+ * so reads following a write see its result even before the fingerprint changes.
+ * <br>
+ * Cached outputs of each device are bounded by {@value #CAPACITY_PROPERTY} characters
+ * (default {@value #DEFAULT_CAPACITY}), all outputs of the device are dropped when a new one does not fit. Outputs
+ * of a device are dropped once all its cached transports are garbage collected (the device was unmounted) and
+ * outputs of all devices of a policy by {@link #clear(CachePolicy)} when the unit owning the policy closes. Hits and
+ * misses are reported through {@link CommandMetrics}. Setting the validity to 0 disables the cache.
+ * <br>
+ * Policies which define a {@link CachePolicy#getDumpCommand() dump command} (e.g. the whole running configuration)
+ * get the first {@link CachePolicy#isResolvable resolvable} command read as the dump instead, all resolvable commands
+ * are then answered from the parsed dump until the fingerprint changes.
+ */
+public final class ConfigurationCache implements InvocationHandler {
+
+    public static final String DEVICES_PROPERTY = "cli.config.cache.devices";
+    public static final String VALIDITY_PROPERTY = "cli.config.cache.validity";
+    public static final String CAPACITY_PROPERTY = "cli.config.cache.capacity";
+    static final long DEFAULT_VALIDITY_SECONDS = 10;
+    static final long DEFAULT_CAPACITY = 4L * 1024 * 1024;
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConfigurationCache.class);
+
+    private static final Map<String, DeviceCache> DEVICES = new ConcurrentHashMap<>();
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Cli delegate;
+    private final CachePolicy policy;
+    private final DeviceCache cache;
+    private final long validityNanos;
+    private final LongSupplier clock;
+
+    private ConfigurationCache(Cli delegate, CachePolicy policy, DeviceCache cache, long validityNanos,
+                               LongSupplier clock) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.cache = cache;
+        this.validityNanos = validityNanos;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a {@link Cli} which serves configuration outputs of the device from the cache and delegates
+     * everything else to {@code cli}. Returns {@code cli} itself when the cache is not enabled for the device.
+     */
+    public static Cli wrap(Cli cli, CachePolicy policy) {
+        final long validity = Long.getLong(VALIDITY_PROPERTY, DEFAULT_VALIDITY_SECONDS);
+        if (validity <= 0 || !isEnabled(System.getProperty(DEVICES_PROPERTY, ""), cli.getDeviceId())) {
+            return cli;
+        }
+        return wrap(cli, policy, TimeUnit.SECONDS.toNanos(validity), Long.getLong(CAPACITY_PROPERTY, DEFAULT_CAPACITY),
+                System::nanoTime);
+    }
+
+    static Cli wrap(Cli cli, CachePolicy policy, long validityNanos, long capacity, LongSupplier clock) {
+        final String deviceId = cli.getDeviceId();
+        final DeviceCache cache = DEVICES.compute(deviceId, (id, existing) -> {
+            final DeviceCache device = existing == null ? new DeviceCache(policy) : existing;
+            device.capacity = capacity;
+            device.transports++;
+            return device;
+        });
+        final Cli cached = (Cli) Proxy.newProxyInstance(Cli.class.getClassLoader(), new Class<?>[]{Cli.class},
+                new ConfigurationCache(cli, policy, cache, validityNanos, clock));
+        CLEANER.register(cached, () -> release(deviceId, cache));
+        return cached;
+    }
+
+    /**
+     * Called when a cached transport of the device is garbage collected, outputs of the device are dropped together
+     * with its last transport.
+     */
+    static void release(String deviceId, DeviceCache cache) {
+        DEVICES.computeIfPresent(deviceId, (id, device) -> device != cache || --device.transports > 0 ? device : null);
+    }
+
+    /**
+     * Drops outputs of all devices cached with the policy.
+     */
+    public static void clear(CachePolicy policy) {
+        DEVICES.values().removeIf(device -> device.policy == policy);
+    }
+
+    static boolean isCached(String deviceId) {
+        return DEVICES.containsKey(deviceId);
+    }
+
+    static long getCharacters(String deviceId) {
+        final DeviceCache cache = DEVICES.get(deviceId);
+        return cache == null ? 0 : cache.getCharacters();
+    }
+
+    static boolean isEnabled(String devices, String deviceId) {
+        return Arrays.stream(devices.split(","))
+                .map(String::strip)
+                .anyMatch(device -> device.equals("*") || device.equals(deviceId));
+    }
+
+    /**
+     * Returns the {@link Cli} wrapped by {@link #wrap}, {@code cli} itself when it is not a cache.
+     */
+    public static Cli unwrap(Cli cli) {
+        if (cli == null || !Proxy.isProxyClass(cli.getClass())) {
+            return cli;
+        }
+        final InvocationHandler handler = Proxy.getInvocationHandler(cli);
+        return handler instanceof ConfigurationCache ? ((ConfigurationCache) handler).delegate : cli;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (args == null || args.length == 0 || !CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+            return invokeDelegate(method, args);
+        }
+        final String command = args[0] instanceof Command
+                ? ((Command) args[0]).getContent().strip() : String.valueOf(args[0]).strip();
+        if (!policy.isReadOnly(command)) {
+            LOG.debug("{}: Configuration cache invalidated by: {}", delegate.getDeviceId(), command);
+            cache.invalidate(clock.getAsLong());
+            return invokeDelegate(method, args);
+        }
+        if (!"executeAndRead".equals(method.getName()) || !(args[0] instanceof Command)
+                || !policy.isCacheable(command)) {
+            return invokeDelegate(method, args);
+        }
+        final long now = clock.getAsLong();
+        if (cache.isDisabled(now, validityNanos)) {
+            return invokeDelegate(method, args);
+        }
+        if (cache.isValidated(now, validityNanos)) {
+            return read((Command) args[0], command);
+        }
+        final long generation = cache.getGeneration();
+        return delegate.executeAndRead(Command.showCommandNoCaching(policy.getFingerprintCommand()))
+                .thenCompose(output -> {
+                    cache.validate(generation, policy.parseFingerprint(output).orElse(null), clock.getAsLong());
+                    return read((Command) args[0], command);
+                });
+    }
+
+    private CompletionStage<String> read(Command cmd, String command) {
+        final String output = cache.get(command);
+        if (output != null) {
+            CommandMetrics.cached(delegate, ConfigurationCache.class, command, output);
+            return CompletableFuture.completedFuture(output);
+        }
+        final String dumpCommand = policy.getDumpCommand();
+        if (dumpCommand == null || dumpCommand.equals(command) || !policy.isResolvable(command)) {
+            CommandMetrics.cacheMiss(delegate, ConfigurationCache.class);
+            return readDevice(cmd, command);
+        }
+        final ConfigurationDump dump = cache.getDump();
+        if (dump != null) {
+            return resolve(dump, cmd, command);
+        }
+        CommandMetrics.cacheMiss(delegate, ConfigurationCache.class);
+        final long generation = cache.getGeneration();
+        return delegate.executeAndRead(Command.showCommand(dumpCommand)).thenCompose(result -> {
+            final ConfigurationDump parsed = policy.parseDump(result);
+            cache.putDump(generation, parsed);
+            final Optional<String> resolved = parsed.resolve(command);
+            return resolved.isPresent() ? CompletableFuture.completedFuture(resolved.get()) : readDevice(cmd, command);
+        });
+    }
+
+    private CompletionStage<String> resolve(ConfigurationDump dump, Command cmd, String command) {
+        final Optional<String> resolved = dump.resolve(command);
+        if (resolved.isPresent()) {
+            CommandMetrics.cached(delegate, ConfigurationCache.class, command, resolved.get());
+            return CompletableFuture.completedFuture(resolved.get());
+        }
+        CommandMetrics.cacheMiss(delegate, ConfigurationCache.class);
+        return readDevice(cmd, command);
+    }
+
+    private CompletionStage<String> readDevice(Command cmd, String command) {
+        final long generation = cache.getGeneration();
+        return delegate.executeAndRead(cmd).thenApply(result -> {
+            cache.put(generation, command, result);
+            return result;
+        });
+    }
+
+    private Object invokeDelegate(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Cached outputs of one device. Every invalidation starts a new generation, outputs and fingerprints read
+     * during an older generation are ignored.
+     */
+    private static final class DeviceCache {
+
+        private final CachePolicy policy;
+        private final Map<String, String> outputs = new HashMap<>();
+        private ConfigurationDump dump;
+        private long characters;
+        private long generation;
+        private String fingerprint;
+        private boolean validated;
+        private long validatedNanos;
+        private boolean written;
+        private long writtenNanos;
+        // updated only inside DEVICES.compute
+        private volatile long capacity;
+        private int transports;
+
+        private DeviceCache(CachePolicy policy) {
+            this.policy = policy;
+        }
+
+        private synchronized long getGeneration() {
+            return generation;
+        }
+
+        private synchronized long getCharacters() {
+            return characters;
+        }
+
+        private synchronized boolean isDisabled(long now, long validityNanos) {
+            return written && now - writtenNanos < validityNanos;
+        }
+
+        private synchronized boolean isValidated(long now, long validityNanos) {
+            return validated && now - validatedNanos < validityNanos;
+        }
+
+        private synchronized void validate(long readGeneration, String newFingerprint, long now) {
+            if (readGeneration != generation) {
+                return;
+            }
+            if (newFingerprint == null || !newFingerprint.equals(fingerprint)) {
+                clearOutputs();
+                generation++;
+            }
+            fingerprint = newFingerprint;
+            validated = true;
+            validatedNanos = now;
+        }
+
+        private synchronized void invalidate(long now) {
+            clearOutputs();
+            generation++;
+            fingerprint = null;
+            validated = false;
+            written = true;
+            writtenNanos = now;
+        }
+
+        private synchronized String get(String command) {
+            return fingerprint == null ? null : outputs.get(command);
+        }
+
+        private synchronized void put(long readGeneration, String command, String output) {
+            if (readGeneration != generation || fingerprint == null || output == null) {
+                return;
+            }
+            final String previous = outputs.remove(command);
+            characters -= previous == null ? 0 : previous.length();
+            if (reserve(output.length())) {
+                outputs.put(command, output);
+            }
+        }
+
+        private synchronized ConfigurationDump getDump() {
+            return fingerprint == null ? null : dump;
+        }
+
+        private synchronized void putDump(long readGeneration, ConfigurationDump newDump) {
+            if (readGeneration != generation || fingerprint == null) {
+                return;
+            }
+            characters -= dump == null ? 0 : dump.length();
+            dump = reserve(newDump.length()) ? newDump : null;
+        }
+
+        /**
+         * Makes room for an output of the given length, all outputs are dropped when it does not fit. Returns false
+         * when the output is larger than the capacity itself.
+         */
+        private boolean reserve(long length) {
+            if (length > capacity) {
+                return false;
+            }
+            if (characters + length > capacity) {
+                clearOutputs();
+            }
+            characters += length;
+            return true;
+        }
+
+        private synchronized void clearOutputs() {
+            outputs.clear();
+            dump = null;
+            characters = 0;
+        }
+    }
+}
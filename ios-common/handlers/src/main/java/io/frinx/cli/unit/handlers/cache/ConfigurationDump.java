@@ -0,0 +1,35 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers.cache;
+
+import java.util.Optional;
+
+/**
+ * Parsed output of {@link CachePolicy#getDumpCommand()}.
+ */
+public interface ConfigurationDump {
+
+    /**
+     * Returns output the device would send for the command, empty when the command can not be resolved from the dump.
+     */
+    Optional<String> resolve(String command);
+
+    /**
+     * Number of characters of the parsed output.
+     */
+    long length();
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.handlers.metrics;
+
+/**
+ * Snapshot of hits and misses of a handler-level cache (e.g. one output shared by readers of all interfaces).
+ */
+public final class CacheStats {
+
+    private final String owner;
+    private final long hits;
+    private final long misses;
+
+    CacheStats(String owner, long hits, long misses) {
+        this.owner = owner;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public double getHitRatio() {
+        final long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{owner=" + owner + ", hits=" + hits + ", misses=" + misses + '}';
+    }
+}
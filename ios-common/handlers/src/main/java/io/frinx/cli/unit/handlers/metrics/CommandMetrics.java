@@ -0,0 +1,398 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.handlers.metrics;
+
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.io.Command;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Cleaner;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import java.util.regex.Pattern;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-device statistics of commands sent through a {@link Cli}: latency histogram, number of characters returned
+ * and failures of every command, keyed by the handler class which issued it. Handler-level caches report their
+ * hits and misses through {@link #cacheHit} / {@link #cacheMiss}.
+ * <br>
+ * Caches wrapped around an instrumented transport report commands they answer by {@link #cached}. These commands
+ * are counted as cached, so {@link #getDeviceCommandCount()} is the number of commands sent to the transport.
+ * Caches of the transport itself (e.g. the running-config cache of a device CliFlavour) do not report their hits,
+ * commands answered by them are counted as device commands.
+ * <br>
+ * Units opt in by wrapping their transport with {@link #instrument(Cli)}. Metrics of each device are registered
+ * as {@link CommandMetricsMXBean} under {@code io.frinx.cli.unit:type=CommandMetrics,device=<device id>}. Metrics
+ * of a device are dropped and the MBean unregistered once all transports instrumented for the device are garbage
+ * collected (the device was unmounted). An MBean left registered under the same name (e.g. by a previous instance
+ * of this bundle) is replaced.
+ * <br>
+ * The owner of a command is the first class on the calling stack from a unit package, which is not part of
+ * the shared reader/writer utilities or caches (e.g. the reader calling {@code blockingRead}). Commands sent from other
+ * threads are accounted to {@value #UNKNOWN_OWNER}.
+ * <br>
+ * Commands are keyed by their first line with arguments (words containing a digit, e.g. interface names, addresses
+ * or ids) replaced by {@value #ARGUMENT}, so reads of the same command for different objects share one entry.
+ * Multi-line commands (e.g. configuration blocks of writers) are keyed by their first line followed
+ * by {@value #MORE_LINES}. Number of distinct commands per device is bounded by {@value #MAX_COMMANDS}, further
+ * commands are accounted as {@value #OTHER_COMMANDS}.
+ */
+public final class CommandMetrics implements CommandMetricsMXBean {
+
+    static final String UNKNOWN_OWNER = "<unknown>";
+    static final String OTHER_COMMANDS = "<other>";
+    static final int MAX_COMMANDS = 1024;
+    static final String ARGUMENT = "<arg>";
+    static final String MORE_LINES = " ...";
+
+    private static final Logger LOG = LoggerFactory.getLogger(CommandMetrics.class);
+
+    private static final String JMX_NAME = "io.frinx.cli.unit:type=CommandMetrics,device=";
+    private static final String UNIT_PACKAGE = "io.frinx.cli.unit.";
+    private static final String UTILS_PACKAGE = "io.frinx.cli.unit.utils.";
+    private static final String CACHE_PACKAGE = "io.frinx.cli.unit.handlers.cache.";
+    private static final long[] LATENCY_BOUNDS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000,
+        30000};
+    private static final long[] LATENCY_BOUNDS_NANOS = Arrays.stream(LATENCY_BOUNDS_MILLIS)
+            .map(TimeUnit.MILLISECONDS::toNanos)
+            .toArray();
+    private static final StackWalker STACK_WALKER =
+            StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final Pattern ARGUMENT_WORD = Pattern.compile("\\S*\\d\\S*");
+    private static final Map<String, CommandMetrics> DEVICES = new ConcurrentHashMap<>();
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final String deviceId;
+    private final Map<String, Map<String, CommandEntry>> commands = new ConcurrentHashMap<>();
+    private final Map<String, CacheEntry> caches = new ConcurrentHashMap<>();
+    private final AtomicInteger commandCount = new AtomicInteger();
+    // number of live instrumented transports, updated only inside DEVICES.compute
+    private int transports;
+
+    private CommandMetrics(String deviceId) {
+        this.deviceId = deviceId;
+    }
+
+    /**
+     * Returns a {@link Cli} which delegates to {@code cli} and records every command returning
+     * a {@link CompletionStage} into metrics of the device.
+     */
+    public static Cli instrument(Cli cli) {
+        if (of(cli).isPresent()) {
+            return cli;
+        }
+        final String deviceId = cli.getDeviceId();
+        final CommandMetrics metrics = DEVICES.compute(deviceId, (id, existing) -> {
+            final CommandMetrics device = existing == null ? register(new CommandMetrics(id)) : existing;
+            device.transports++;
+            return device;
+        });
+        final Cli instrumented = (Cli) Proxy.newProxyInstance(Cli.class.getClassLoader(), new Class<?>[]{Cli.class},
+                new InstrumentedCli(cli, metrics));
+        CLEANER.register(instrumented, () -> release(deviceId, metrics));
+        return instrumented;
+    }
+
+    /**
+     * Returns metrics of a {@link Cli} created by {@link #instrument(Cli)}. Callers holding a further wrapped
+     * transport unwrap it first.
+     */
+    public static Optional<CommandMetrics> of(Cli cli) {
+        if (cli == null || !Proxy.isProxyClass(cli.getClass())) {
+            return Optional.empty();
+        }
+        final InvocationHandler handler = Proxy.getInvocationHandler(cli);
+        return handler instanceof InstrumentedCli
+                ? Optional.of(((InstrumentedCli) handler).metrics) : Optional.empty();
+    }
+
+    static CommandMetrics forDevice(String deviceId) {
+        return DEVICES.computeIfAbsent(deviceId, id -> register(new CommandMetrics(id)));
+    }
+
+    /**
+     * Called when an instrumented transport of the device is garbage collected, metrics of the device are dropped
+     * together with its last transport.
+     */
+    static void release(String deviceId, CommandMetrics metrics) {
+        DEVICES.computeIfPresent(deviceId, (id, device) -> {
+            if (device != metrics || --device.transports > 0) {
+                return device;
+            }
+            unregister(device);
+            return null;
+        });
+    }
+
+    public static void cacheHit(Cli cli, Class<?> owner) {
+        of(cli).ifPresent(metrics -> metrics.cache(owner).hits.increment());
+    }
+
+    public static void cacheMiss(Cli cli, Class<?> owner) {
+        of(cli).ifPresent(metrics -> metrics.cache(owner).misses.increment());
+    }
+
+    /**
+     * Reports a command answered by the {@code owner} cache without reaching the transport. It is counted as a hit
+     * of the cache and as a cached execution of the command.
+     */
+    public static void cached(Cli cli, Class<?> owner, String command, String output) {
+        of(cli).ifPresent(metrics -> {
+            metrics.cache(owner).hits.increment();
+            metrics.record(findOwner(), command, 0, output.length(), false, true);
+        });
+    }
+
+    static ObjectName objectName(String deviceId) throws MalformedObjectNameException {
+        return new ObjectName(JMX_NAME + ObjectName.quote(deviceId));
+    }
+
+    private static CommandMetrics register(CommandMetrics metrics) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = objectName(metrics.deviceId);
+            if (server.isRegistered(name)) {
+                LOG.debug("{}: Replacing registered command metrics", metrics.deviceId);
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(metrics, name);
+        } catch (JMException e) {
+            LOG.warn("{}: Unable to register command metrics", metrics.deviceId, e);
+        }
+        return metrics;
+    }
+
+    private static void unregister(CommandMetrics metrics) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName(metrics.deviceId));
+        } catch (JMException e) {
+            LOG.debug("{}: Unable to unregister command metrics", metrics.deviceId, e);
+        }
+    }
+
+    static String findOwner() {
+        return STACK_WALKER.walk(frames -> frames
+                        .map(StackWalker.StackFrame::getDeclaringClass)
+                        .filter(CommandMetrics::isHandler)
+                        .findFirst())
+                .map(Class::getName)
+                .orElse(UNKNOWN_OWNER);
+    }
+
+    private static boolean isHandler(Class<?> type) {
+        final String name = type.getName();
+        return name.startsWith(UNIT_PACKAGE) && !name.startsWith(UTILS_PACKAGE) && !name.startsWith(CACHE_PACKAGE)
+                && type.getNestHost() != CommandMetrics.class;
+    }
+
+    static int latencyBucket(long nanos) {
+        for (int i = 0; i < LATENCY_BOUNDS_NANOS.length; i++) {
+            if (nanos <= LATENCY_BOUNDS_NANOS[i]) {
+                return i;
+            }
+        }
+        return LATENCY_BOUNDS_NANOS.length;
+    }
+
+    static String normalize(String command) {
+        final String content = command.strip();
+        final int newline = content.indexOf('\n');
+        final String firstLine = newline < 0 ? content : content.substring(0, newline).strip();
+        final String key = ARGUMENT_WORD.matcher(firstLine).replaceAll(ARGUMENT);
+        return newline < 0 ? key : key + MORE_LINES;
+    }
+
+    void record(String owner, String command, long nanos, long outputLength, boolean failed, boolean cached) {
+        final Map<String, CommandEntry> ownerCommands =
+                commands.computeIfAbsent(owner, key -> new ConcurrentHashMap<>());
+        final String normalized = normalize(command);
+        CommandEntry entry = ownerCommands.get(normalized);
+        if (entry == null) {
+            final String key = commandCount.get() < MAX_COMMANDS ? normalized : OTHER_COMMANDS;
+            entry = ownerCommands.computeIfAbsent(key, newKey -> {
+                commandCount.incrementAndGet();
+                return new CommandEntry();
+            });
+        }
+        entry.record(nanos, outputLength, failed, cached);
+    }
+
+    private CacheEntry cache(Class<?> owner) {
+        return caches.computeIfAbsent(owner.getName(), key -> new CacheEntry());
+    }
+
+    @Override
+    public String getDeviceId() {
+        return deviceId;
+    }
+
+    @Override
+    public long[] getLatencyBucketBoundsMillis() {
+        return LATENCY_BOUNDS_MILLIS.clone();
+    }
+
+    /**
+     * Returns statistics of all commands, the most time consuming first.
+     */
+    @Override
+    public List<CommandStats> getCommands() {
+        final List<CommandStats> stats = new ArrayList<>();
+        commands.forEach((owner, ownerCommands) -> ownerCommands.forEach((command, entry) ->
+                stats.add(entry.snapshot(owner, command))));
+        stats.sort(Comparator.comparingDouble(CommandStats::getTotalMillis).reversed());
+        return stats;
+    }
+
+    @Override
+    public long getCommandCount() {
+        return sumCommands(entry -> entry.count.sum());
+    }
+
+    @Override
+    public long getDeviceCommandCount() {
+        return sumCommands(entry -> entry.count.sum() - entry.cached.sum());
+    }
+
+    private long sumCommands(ToLongFunction<CommandEntry> value) {
+        return commands.values().stream()
+                .flatMap(ownerCommands -> ownerCommands.values().stream())
+                .mapToLong(value)
+                .sum();
+    }
+
+    @Override
+    public List<CacheStats> getCaches() {
+        final List<CacheStats> stats = new ArrayList<>();
+        caches.forEach((owner, entry) -> stats.add(new CacheStats(owner, entry.hits.sum(), entry.misses.sum())));
+        stats.sort(Comparator.comparing(CacheStats::getOwner));
+        return stats;
+    }
+
+    @Override
+    public void reset() {
+        commands.clear();
+        caches.clear();
+        commandCount.set(0);
+    }
+
+    private static final class CommandEntry {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder cached = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder outputLength = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray histogram = new AtomicLongArray(LATENCY_BOUNDS_NANOS.length + 1);
+
+        private void record(long commandNanos, long commandOutputLength, boolean failed, boolean fromCache) {
+            count.increment();
+            if (failed) {
+                failures.increment();
+            }
+            if (fromCache) {
+                cached.increment();
+            }
+            nanos.add(commandNanos);
+            outputLength.add(commandOutputLength);
+            maxNanos.accumulateAndGet(commandNanos, Math::max);
+            histogram.incrementAndGet(latencyBucket(commandNanos));
+        }
+
+        private CommandStats snapshot(String owner, String command) {
+            final long[] buckets = new long[histogram.length()];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = histogram.get(i);
+            }
+            return new CommandStats(owner, command, count.sum(), failures.sum(), cached.sum(),
+                    toMillis(nanos.sum()), toMillis(maxNanos.get()), outputLength.sum(), buckets);
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    private static final class CacheEntry {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+
+    private static final class InstrumentedCli implements InvocationHandler {
+
+        private final Cli delegate;
+        private final CommandMetrics metrics;
+
+        private InstrumentedCli(Cli delegate, CommandMetrics metrics) {
+            this.delegate = delegate;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (args == null || args.length == 0 || !CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+                return invokeDelegate(method, args);
+            }
+            final String owner = findOwner();
+            final String command = args[0] instanceof Command
+                    ? ((Command) args[0]).getContent() : String.valueOf(args[0]);
+            final long start = System.nanoTime();
+            final CompletionStage<?> result;
+            try {
+                result = (CompletionStage<?>) method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                metrics.record(owner, command, System.nanoTime() - start, 0, true, false);
+                throw e.getCause();
+            }
+            // the original stage is returned, callers see the same result and exception as without metrics
+            result.whenComplete((output, error) -> metrics.record(owner, command, System.nanoTime() - start,
+                    output instanceof CharSequence ? ((CharSequence) output).length() : 0, error != null, false));
+            return result;
+        }
+
+        private Object invokeDelegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
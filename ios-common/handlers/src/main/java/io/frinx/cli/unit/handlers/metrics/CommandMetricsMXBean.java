@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.handlers.metrics;
+
+import java.util.List;
+
+/**
+ * JMX view of {@link CommandMetrics} of one device, registered as
+ * {@code io.frinx.cli.unit:type=CommandMetrics,device=<device id>}.
+ */
+public interface CommandMetricsMXBean {
+
+    String getDeviceId();
+
+    /**
+     * Upper bounds (inclusive, in milliseconds) of latency histogram buckets, the last bucket of
+     * {@link CommandStats#getLatencyHistogram()} counts commands slower than the last bound.
+     */
+    long[] getLatencyBucketBoundsMillis();
+
+    List<CommandStats> getCommands();
+
+    /**
+     * Number of commands sent through the instrumented transport.
+     */
+    long getCommandCount();
+
+    /**
+     * Number of commands sent to the transport, i.e. {@link #getCommandCount()} without commands answered
+     * by a cache of the unit.
+     */
+    long getDeviceCommandCount();
+
+    List<CacheStats> getCaches();
+
+    void reset();
+}
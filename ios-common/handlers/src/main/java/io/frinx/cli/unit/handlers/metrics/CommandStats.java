@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.handlers.metrics;
+
+/**
+ * Snapshot of statistics of one command issued by one handler.
+ */
+public final class CommandStats {
+
+    private final String owner;
+    private final String command;
+    private final long count;
+    private final long failures;
+    private final long cached;
+    private final double totalMillis;
+    private final double maxMillis;
+    private final long bytes;
+    private final long[] latencyHistogram;
+
+    CommandStats(String owner, String command, long count, long failures, long cached, double totalMillis,
+                 double maxMillis, long bytes, long[] latencyHistogram) {
+        this.owner = owner;
+        this.command = command;
+        this.count = count;
+        this.failures = failures;
+        this.cached = cached;
+        this.totalMillis = totalMillis;
+        this.maxMillis = maxMillis;
+        this.bytes = bytes;
+        this.latencyHistogram = latencyHistogram;
+    }
+
+    /**
+     * Name of the handler class (reader, writer or unit) which issued the command.
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Number of executions answered by a cache reported through {@link CommandMetrics#cached}.
+     */
+    public long getCached() {
+        return cached;
+    }
+
+    public double getTotalMillis() {
+        return totalMillis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    public double getAverageMillis() {
+        return count == 0 ? 0 : totalMillis / count;
+    }
+
+    /**
+     * Number of characters returned by the device.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long[] getLatencyHistogram() {
+        return latencyHistogram.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "CommandStats{owner=" + owner + ", command=" + command + ", count=" + count + ", failures=" + failures
+                + ", cached=" + cached + ", totalMillis=" + totalMillis + ", maxMillis=" + maxMillis + ", bytes="
+                + bytes + '}';
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LineCursorTest {
+
+    @Test
+    void testLines() {
+        final LineCursor lines = new LineCursor("Port  Type\r\n----\r\n\r\n 1/1   ethernet \r\n1/2 ethernet");
+        assertEquals(List.of("Port  Type", "----", "", " 1/1   ethernet ", "1/2 ethernet"), toStrings(lines));
+        assertFalse(lines.hasNext());
+    }
+
+    @Test
+    void testSkipAndTrim() {
+        final LineCursor lines = new LineCursor("header\n====\n  1/1   ethernet  \n").skip(2);
+        assertEquals("1/1   ethernet", LineCursor.trim(lines.next()).toString());
+        assertFalse(lines.hasNext());
+        assertFalse(new LineCursor("header\n").skip(5).hasNext());
+        assertEquals("", LineCursor.trim("   ").toString());
+    }
+
+    @Test
+    void testSameLinesAsSplit() {
+        final StringBuilder output = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            output.append(String.format("%d/%d  ethernet  up  %d\r\n", i / 48, i % 48, i));
+        }
+        assertEquals(Arrays.asList(ParsingUtils.NEWLINE.split(output)), toStrings(new LineCursor(output)));
+    }
+
+    private static List<String> toStrings(LineCursor lines) {
+        final List<String> strings = new ArrayList<>();
+        while (lines.hasNext()) {
+            strings.add(lines.next().toString());
+        }
+        return strings;
+    }
+}
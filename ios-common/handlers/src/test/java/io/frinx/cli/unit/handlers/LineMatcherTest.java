@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class LineMatcherTest {
+
+    private static final String OUTPUT = """
+            router bgp 65000
+             neighbor 10.0.0.1 remote-as 65001
+             neighbor 10.0.0.1 description first
+             neighbor 10.0.0.2 remote-as 65002
+             neighbor 10.0.0.2 description second
+             neighbor 10.0.0.2 shutdown
+            """;
+
+    private static final Pattern REMOTE_AS = Pattern.compile("neighbor (?<ip>\\S+) remote-as (?<as>\\S+)");
+    private static final Pattern DESCRIPTION = Pattern.compile("neighbor \\S+ description (?<desc>.+)");
+    private static final Pattern SHUTDOWN = Pattern.compile("neighbor (?<ip>\\S+) shutdown");
+    private static final Pattern PASSWORD = Pattern.compile("neighbor \\S+ password (?<password>.+)");
+
+    @Test
+    void testMatch() {
+        final List<String> remoteAs = new ArrayList<>();
+        final List<String> descriptions = new ArrayList<>();
+        final List<String> shutdown = new ArrayList<>();
+        final List<String> passwords = new ArrayList<>();
+
+        new LineMatcher()
+            .each(REMOTE_AS, m -> m.group("as"), remoteAs::add)
+            .first(DESCRIPTION, m -> m.group("desc"), descriptions::add)
+            .first(SHUTDOWN, m -> m.group("ip"), shutdown::add)
+            .each(PASSWORD, m -> m.group("password"), passwords::add)
+            .match(OUTPUT);
+
+        assertEquals(List.of("65001", "65002"), remoteAs);
+        assertEquals(List.of("first"), descriptions);
+        assertEquals(List.of("10.0.0.2"), shutdown);
+        assertEquals(List.of(), passwords);
+    }
+
+    @Test
+    void testSameResultAsParsingUtils() {
+        final StringBuilder output = new StringBuilder("router bgp 65000\n");
+        for (int i = 0; i < 2000; i++) {
+            output.append(String.format(" neighbor 10.0.%d.%d remote-as %d\n", i / 256, i % 256, 65000 + i));
+            output.append(String.format(" neighbor 10.0.%d.%d description peer %d\n", i / 256, i % 256, i));
+        }
+
+        final List<String> remoteAs = new ArrayList<>();
+        final List<String> description = new ArrayList<>();
+        new LineMatcher()
+            .each(REMOTE_AS, m -> m.group("as"), remoteAs::add)
+            .first(DESCRIPTION, m -> m.group("desc"), description::add)
+            .match(output.toString(), 1);
+
+        assertEquals(ParsingUtils.parseFields(output.toString(), 1, REMOTE_AS::matcher, m -> m.group("as"),
+            value -> value), remoteAs);
+        final Optional<String> firstDescription = ParsingUtils.parseField(output.toString(), 1,
+            DESCRIPTION::matcher, m -> m.group("desc"));
+        assertEquals(List.of(firstDescription.get()), description);
+    }
+
+    @Test
+    void testPatternCache() {
+        final Pattern pattern = PatternCache.compile("\\| %s *\\|(?<vpn>[^\\|]+)\\|.*", "1/1");
+        assertSame(pattern, PatternCache.compile("\\| %s *\\|(?<vpn>[^\\|]+)\\|.*", "1/1"));
+        assertEquals("\\| 1/2 *\\|(?<vpn>[^\\|]+)\\|.*",
+            PatternCache.compile("\\| %s *\\|(?<vpn>[^\\|]+)\\|.*", "1/2").pattern());
+    }
+}
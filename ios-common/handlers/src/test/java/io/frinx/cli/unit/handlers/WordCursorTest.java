@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class WordCursorTest {
+
+    @Test
+    void testPeekPoll() {
+        final WordCursor words = new WordCursor("  10 permit tcp  any host 1.2.3.4 eq www ");
+        assertEquals("10", words.poll());
+        assertEquals("permit", words.peek());
+        assertEquals("permit", words.poll());
+        assertEquals("tcp", words.poll());
+        assertEquals("[any, host, 1.2.3.4, eq, www]", words.toString());
+        assertEquals("any", words.peek());
+        assertEquals("[any, host, 1.2.3.4, eq, www]", words.toString());
+        words.poll();
+        words.poll();
+        words.poll();
+        words.poll();
+        assertFalse(words.isEmpty());
+        assertEquals("www", words.poll());
+        assertTrue(words.isEmpty());
+        assertNull(words.peek());
+        assertNull(words.poll());
+        assertEquals("[]", words.toString());
+    }
+
+    @Test
+    void testEmpty() {
+        assertTrue(new WordCursor("").isEmpty());
+        assertTrue(new WordCursor(" \t ").isEmpty());
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.handlers.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.frinx.cli.io.Cli;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.NetworkInstances;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+class ConfigBatchTest {
+
+    private static final InstanceIdentifier<NetworkInstances> ACL_ID =
+            InstanceIdentifier.create(NetworkInstances.class);
+    private static final InstanceIdentifier<NetworkInstances> POLICY_ID =
+            InstanceIdentifier.create(NetworkInstances.class);
+    private static final Set<Pattern> ERROR_PATTERNS = Set.of(
+            Pattern.compile("(^|\\n)^\\s+\\^.*", Pattern.DOTALL),
+            Pattern.compile("(^|\\n)% (?i)invalid input(?-i).*", Pattern.DOTALL));
+    private static final String ACL_ENTRY = """
+            configure terminal
+            ip access-list extended ACL1
+            10 permit ip any any
+            end""";
+
+    @Test
+    void testRender() {
+        final ConfigBatch batch = new ConfigBatch();
+        assertFalse(batch.addBlock(String.class, ACL_ID, "configure terminal\nhostname R1\nend\n"));
+
+        batch.start();
+        for (int seq = 10; seq <= 30; seq += 10) {
+            assertTrue(batch.addBlock(String.class, ACL_ID, """
+                    configure terminal
+                    ip access-list extended ACL1
+                    %d permit ip any any   \s
+                    end
+                    """.formatted(seq)));
+        }
+        batch.addBlock(Integer.class, POLICY_ID, """
+                configure terminal
+                route-map RM1 permit 10
+                set local-preference 200
+                end
+                configure terminal
+                route-map RM1 permit 20
+                set origin igp
+                end""");
+
+        assertEquals(List.of(
+                "configure terminal",
+                "ip access-list extended ACL1",
+                "10 permit ip any any",
+                "20 permit ip any any",
+                "30 permit ip any any",
+                "end",
+                "configure terminal",
+                "route-map RM1 permit 10",
+                "set local-preference 200",
+                "end",
+                "configure terminal",
+                "route-map RM1 permit 20",
+                "set origin igp",
+                "end"), batch.render().getLines());
+    }
+
+    @Test
+    void testFailureMappedToHandler() throws Exception {
+        final ConfigBatch batch = new ConfigBatch();
+        batch.start();
+        batch.addBlock(String.class, ACL_ID, ACL_ENTRY);
+        batch.addBlock(Integer.class, POLICY_ID, "configure terminal\nroute-map RM1 permit 10\nset foo\nend");
+
+        final Cli cli = Mockito.mock(Cli.class);
+        Mockito.when(cli.executeAndRead(Mockito.any())).thenReturn(CompletableFuture.completedFuture("""
+                R1#configure terminal
+                Enter configuration commands, one per line.  End with CNTL/Z.
+                R1(config)#ip access-list extended ACL1
+                R1(config-ext-nacl)#10 permit ip any any
+                R1(config-ext-nacl)#end
+                R1#configure terminal
+                R1(config)#route-map RM1 permit 10
+                R1(config-route-map)#set foo
+                                         ^
+                % Invalid input detected at '^' marker.
+
+                R1(config-route-map)#end
+                R1#"""));
+
+        final Optional<ConfigBatch.Failure> failure = batch.flush(cli, ERROR_PATTERNS);
+        Mockito.verify(cli, Mockito.times(1)).executeAndRead(Mockito.any());
+        assertTrue(failure.isPresent());
+        assertSame(Integer.class, failure.get().getHandler());
+        assertSame(POLICY_ID, failure.get().getId());
+        assertEquals("set foo", failure.get().getCommand());
+        assertEquals("^\n% Invalid input detected at '^' marker.", failure.get().getError());
+
+        // batch is sent, following writes go directly to the device
+        assertFalse(batch.addBlock(String.class, ACL_ID, "configure terminal\nhostname R1\nend"));
+    }
+
+    @Test
+    void testSuccessfulFlush() throws Exception {
+        final ConfigBatch batch = new ConfigBatch();
+        batch.start();
+        batch.addBlock(String.class, ACL_ID, ACL_ENTRY);
+
+        final Cli cli = Mockito.mock(Cli.class);
+        Mockito.when(cli.executeAndRead(Mockito.any())).thenReturn(CompletableFuture.completedFuture("""
+                R1#configure terminal
+                R1(config)#ip access-list extended ACL1
+                R1(config-ext-nacl)#10 permit ip any any
+                R1(config-ext-nacl)#end
+                R1#"""));
+        assertFalse(batch.flush(cli, ERROR_PATTERNS).isPresent());
+        assertFalse(new ConfigBatch().flush(cli, ERROR_PATTERNS).isPresent());
+        Mockito.verify(cli, Mockito.times(1)).executeAndRead(Mockito.any());
+    }
+
+    @Test
+    void testRemove() {
+        final Cli cli = Mockito.mock(Cli.class);
+        Mockito.when(cli.getDeviceId()).thenReturn("testRemove");
+        ConfigBatch.of(cli).start();
+        assertTrue(ConfigBatch.add(cli, String.class, ACL_ID, ACL_ENTRY));
+
+        ConfigBatch.remove("testRemove");
+        assertFalse(ConfigBatch.add(cli, String.class, ACL_ID, ACL_ENTRY));
+    }
+
+    @Test
+    void testBatchOfUnknownDevice() {
+        assertFalse(ConfigBatch.add(Mockito.mock(Cli.class), String.class, ACL_ID, "hostname R1"));
+        final ConfigBatch.Failure failure = new ConfigBatch.Script().findFailure("% Invalid input", ERROR_PATTERNS)
+                .get();
+        assertNull(failure.getHandler());
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.io.Command;
+import io.frinx.cli.unit.utils.CliReader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.NetworkInstances;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+class CommandMemoTest {
+
+    private static final InstanceIdentifier<NetworkInstances> IID = InstanceIdentifier.create(NetworkInstances.class);
+    private static final String SH_INVENTORY = "show inventory";
+    private static final String SH_IDPROM_0 = "show hw-module subslot 0/0 transceiver 0 idprom";
+    private static final String SH_IDPROM_1 = "show hw-module subslot 0/0 transceiver 1 idprom";
+    private static final String INVENTORY = "NAME: \"Chassis\", DESCR: \"Cisco ASR1001-X Chassis\"\n";
+
+    private final Cli cli = Mockito.mock(Cli.class);
+    private final CliReader cliReader = Mockito.mock(CliReader.class);
+
+    @Test
+    void testMemoPerTransaction() throws Exception {
+        final AtomicInteger reads = countReads(INVENTORY);
+        final ReadContext transaction = newTransaction();
+
+        assertEquals(INVENTORY, CommandMemo.blockingRead(cliReader, SH_INVENTORY, cli, IID, transaction));
+        assertEquals(INVENTORY, CommandMemo.blockingRead(cliReader, " show  inventory\n", cli, IID, transaction));
+        assertEquals(1, reads.get());
+
+        assertEquals(INVENTORY, CommandMemo.blockingRead(cliReader, SH_INVENTORY, cli, IID, newTransaction()));
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    void testSingleFlight() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger reads = new AtomicInteger();
+        Mockito.when(cliReader.blockingRead(Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any()))
+            .thenAnswer(invocation -> {
+                reads.incrementAndGet();
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return INVENTORY;
+            });
+        final ReadContext transaction = newTransaction();
+
+        final CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> read(transaction));
+        started.await(5, TimeUnit.SECONDS);
+        final CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> read(transaction));
+        release.countDown();
+
+        assertEquals(INVENTORY, first.get(5, TimeUnit.SECONDS));
+        assertEquals(INVENTORY, second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    void testFailedReadNotKept() throws Exception {
+        final ReadFailedException failure = new ReadFailedException(IID, null);
+        Mockito.when(cliReader.blockingRead(Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any()))
+            .thenThrow(failure)
+            .thenReturn(INVENTORY);
+        final ReadContext transaction = newTransaction();
+
+        assertSame(failure, assertThrows(ReadFailedException.class,
+            () -> CommandMemo.blockingRead(cliReader, SH_INVENTORY, cli, IID, transaction)));
+        assertEquals(INVENTORY, CommandMemo.blockingRead(cliReader, SH_INVENTORY, cli, IID, transaction));
+    }
+
+    @Test
+    void testPrefetch() throws Exception {
+        final AtomicInteger reads = countReads(INVENTORY);
+        final CompletableFuture<String> first = new CompletableFuture<>();
+        final CompletableFuture<String> second = new CompletableFuture<>();
+        Mockito.when(cli.executeAndRead(Mockito.any(Command.class))).thenReturn(first, second);
+        final ReadContext transaction = newTransaction();
+
+        CommandMemo.prefetch(cli, List.of(SH_IDPROM_0, SH_IDPROM_1), transaction);
+        CommandMemo.prefetch(cli, List.of(SH_IDPROM_0, SH_IDPROM_1), transaction);
+        Mockito.verify(cli, Mockito.times(2)).executeAndRead(Mockito.any(Command.class));
+
+        first.complete("idprom 0");
+        second.completeExceptionally(new IllegalStateException("session closed"));
+        assertEquals("idprom 0", CommandMemo.blockingRead(cliReader, SH_IDPROM_0, cli, IID, transaction));
+        assertEquals(0, reads.get());
+        assertEquals(INVENTORY, CommandMemo.blockingRead(cliReader, SH_IDPROM_1, cli, IID, transaction));
+        assertEquals(1, reads.get());
+    }
+
+    private AtomicInteger countReads(String output) throws ReadFailedException {
+        final AtomicInteger reads = new AtomicInteger();
+        Mockito.when(cliReader.blockingRead(Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any()))
+            .thenAnswer(invocation -> {
+                reads.incrementAndGet();
+                return output;
+            });
+        return reads;
+    }
+
+    private String read(ReadContext transaction) {
+        try {
+            return CommandMemo.blockingRead(cliReader, SH_INVENTORY, cli, IID, transaction);
+        } catch (ReadFailedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ReadContext newTransaction() {
+        final Map<Object, Object> entries = new HashMap<>();
+        final ModificationCache cache = Mockito.mock(ModificationCache.class);
+        Mockito.when(cache.get(Mockito.any())).thenAnswer(invocation -> entries.get(invocation.getArgument(0)));
+        Mockito.doAnswer(invocation -> entries.put(invocation.getArgument(0), invocation.getArgument(1)))
+            .when(cache).put(Mockito.any(), Mockito.any());
+        final ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(cache);
+        return readContext;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.io.Command;
+import io.frinx.cli.unit.handlers.metrics.CacheStats;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ConfigurationCacheTest {
+
+    private static final long VALIDITY = 30;
+    private static final String SH_COMMIT = "show configuration commit list";
+    private static final String SH_RUN = "show running-config interface";
+    private static final String SH_RUN_LOOPBACK = "show running-config interface Loopback1";
+    private static final String SH_VERSION = "show version";
+    private static final String RUN_CONFIG = "interface Loopback0\n description loopback\n";
+
+    private static final CachePolicy POLICY = new CachePolicy() {
+        @Override
+        public String getFingerprintCommand() {
+            return SH_COMMIT;
+        }
+
+        @Override
+        public Optional<String> parseFingerprint(String output) {
+            return output.isBlank() ? Optional.empty() : Optional.of(output.strip());
+        }
+
+        @Override
+        public boolean isCacheable(String command) {
+            return command.startsWith("show running-config");
+        }
+
+        @Override
+        public boolean isReadOnly(String command) {
+            return command.startsWith("show ");
+        }
+    };
+
+    private final AtomicLong clock = new AtomicLong(1000);
+    private final Map<String, String> outputs = new HashMap<>(Map.of(SH_COMMIT, "1 1000000001",
+            SH_RUN, RUN_CONFIG, SH_VERSION, "6.1.4"));
+
+    @Test
+    void testUnchangedFingerprint() throws Exception {
+        final Cli device = device("xr-unchanged");
+        final Cli cli = ConfigurationCache.wrap(device, POLICY, VALIDITY, Long.MAX_VALUE, clock::get);
+
+        assertEquals(RUN_CONFIG, read(cli, SH_RUN));
+        assertEquals(RUN_CONFIG, read(cli, SH_RUN));
+        clock.addAndGet(VALIDITY);
+        assertEquals(RUN_CONFIG, read(cli, SH_RUN));
+        assertEquals("6.1.4", read(cli, SH_VERSION));
+        assertEquals("6.1.4", read(cli, SH_VERSION));
+
+        verifyReads(device, SH_COMMIT, 2);
+        verifyReads(device, SH_RUN, 1);
+        verifyReads(device, SH_VERSION, 2);
+    }
+
+    @Test
+    void testChangedFingerprint() throws Exception {
+        final Cli device = device("xr-changed");
+        final Cli cli = ConfigurationCache.wrap(device, POLICY, VALIDITY, Long.MAX_VALUE, clock::get);
+
+        assertEquals(RUN_CONFIG, read(cli, SH_RUN));
+        outputs.put(SH_COMMIT, "1 1000000002");
+        outputs.put(SH_RUN, "interface Loopback1\n");
+        assertEquals(RUN_CONFIG, read(cli, SH_RUN));
+        clock.addAndGet(VALIDITY);
+        assertEquals("interface Loopback1\n", read(cli, SH_RUN));
+        verifyReads(device, SH_RUN, 2);
+
+        outputs.put(SH_COMMIT, "");
+        clock.addAndGet(VALIDITY);
+        assertEquals("interface Loopback1\n", read(cli, SH_RUN));
+        assertEquals("interface Loopback1\n", read(cli, SH_RUN));
+        verifyReads(device, SH_RUN, 4);
+    }
+
+    @Test
+    void testWriteInvalidates() throws Exception {
+        final Cli device = device("xr-write");
+        final Cli cli = ConfigurationCache.wrap(device, POLICY, VALIDITY, Long.MAX_VALUE, clock::get);
+
+        assertEquals(RUN_CONFIG, read(cli, SH_RUN));
+        read(cli, "interface Loopback0\ndescription changed\nroot");
+        outputs.put(SH_RUN, "interface Loopback0\n description changed\n");
+        assertEquals("interface Loopback0\n description changed\n", read(cli, SH_RUN));
+        assertEquals("interface Loopback0\n description changed\n", read(cli, SH_RUN));
+        verifyReads(device, SH_RUN, 3);
+
+        clock.addAndGet(VALIDITY);
+        read(cli, SH_RUN);
+        read(cli, SH_RUN);
+        verifyReads(device, SH_RUN, 4);
+        verifyReads(device, SH_COMMIT, 2);
+    }
+
+    @Test
+    void testCapacityPerDevice() throws Exception {
+        final Cli first = device("xr-capacity-1");
+        final Cli second = device("xr-capacity-2");
+        final Cli firstCli = ConfigurationCache.wrap(first, POLICY, VALIDITY, RUN_CONFIG.length(), clock::get);
+        final Cli secondCli = ConfigurationCache.wrap(second, POLICY, VALIDITY, RUN_CONFIG.length(), clock::get);
+        outputs.put(SH_RUN_LOOPBACK, "interface Loopback1\n");
+
+        read(firstCli, SH_RUN);
+        read(secondCli, SH_RUN);
+        assertEquals(RUN_CONFIG.length(), ConfigurationCache.getCharacters("xr-capacity-1"));
+        read(firstCli, SH_RUN_LOOPBACK);
+        assertEquals("interface Loopback1\n".length(), ConfigurationCache.getCharacters("xr-capacity-1"));
+        read(firstCli, SH_RUN);
+        read(secondCli, SH_RUN);
+        verifyReads(first, SH_RUN, 2);
+        verifyReads(second, SH_RUN, 1);
+
+        outputs.put(SH_RUN_LOOPBACK, RUN_CONFIG + RUN_CONFIG);
+        read(secondCli, SH_RUN_LOOPBACK);
+        read(secondCli, SH_RUN_LOOPBACK);
+        verifyReads(second, SH_RUN_LOOPBACK, 2);
+    }
+
+    @Test
+    void testClear() throws Exception {
+        final Cli cli = ConfigurationCache.wrap(device("xr-clear"), POLICY, VALIDITY, Long.MAX_VALUE, clock::get);
+        read(cli, SH_RUN);
+        assertTrue(ConfigurationCache.isCached("xr-clear"));
+
+        ConfigurationCache.clear(POLICY);
+        assertFalse(ConfigurationCache.isCached("xr-clear"));
+        assertEquals(0, ConfigurationCache.getCharacters("xr-clear"));
+    }
+
+    @Test
+    void testMetrics() throws Exception {
+        final Cli cli = ConfigurationCache.wrap(CommandMetrics.instrument(device("xr-metrics")), POLICY, VALIDITY,
+                Long.MAX_VALUE, clock::get);
+        read(cli, SH_RUN);
+        read(cli, SH_RUN);
+
+        assertTrue(CommandMetrics.of(cli).isEmpty());
+        final CommandMetrics metrics = CommandMetrics.of(ConfigurationCache.unwrap(cli)).get();
+        final CacheStats stats = metrics.getCaches().get(0);
+        assertEquals(ConfigurationCache.class.getName(), stats.getOwner());
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+    }
+
+    @Test
+    void testOptIn() {
+        final Cli device = device("xr-opt-in");
+        assertSame(device, ConfigurationCache.wrap(device, POLICY));
+        assertTrue(ConfigurationCache.isEnabled("xr-pe1, xr-opt-in", "xr-opt-in"));
+        assertTrue(ConfigurationCache.isEnabled("*", "xr-opt-in"));
+        assertFalse(ConfigurationCache.isEnabled("xr-pe1", "xr-opt-in"));
+        assertFalse(ConfigurationCache.isEnabled("", "xr-opt-in"));
+    }
+
+    private Cli device(String deviceId) {
+        final Cli cli = Mockito.mock(Cli.class);
+        Mockito.when(cli.getDeviceId()).thenReturn(deviceId);
+        Mockito.when(cli.executeAndRead(Mockito.any(Command.class))).thenAnswer(invocation -> {
+            final String command = invocation.<Command>getArgument(0).getContent().strip();
+            return CompletableFuture.completedFuture(outputs.getOrDefault(command, ""));
+        });
+        return cli;
+    }
+
+    private static String read(Cli cli, String command) throws Exception {
+        return cli.executeAndRead(Command.showCommand(command)).toCompletableFuture().get();
+    }
+
+    private static void verifyReads(Cli cli, String command, int times) {
+        Mockito.verify(cli, Mockito.times(times)).executeAndRead(Mockito.argThat(
+            cmd -> cmd.getContent().strip().equals(command)));
+    }
+}
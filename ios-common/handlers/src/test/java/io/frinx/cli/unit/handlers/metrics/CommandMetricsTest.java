@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.handlers.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.io.Command;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class CommandMetricsTest {
+
+    private static final String DEVICE_ID = "xr-pe1";
+    private static final Command SH_VERSION = Command.showCommand("show version");
+    private static final Command SH_INTERFACES = Command.showCommand("show interfaces");
+
+    private Cli delegate;
+    private Cli cli;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(Cli.class);
+        Mockito.when(delegate.getDeviceId()).thenReturn(DEVICE_ID);
+        cli = CommandMetrics.instrument(delegate);
+        CommandMetrics.forDevice(DEVICE_ID).reset();
+    }
+
+    @Test
+    void testRecordCommands() throws Exception {
+        Mockito.when(delegate.executeAndRead(SH_VERSION))
+                .thenReturn(CompletableFuture.completedFuture("Cisco IOS XR Software"));
+        Mockito.when(delegate.executeAndRead(SH_INTERFACES))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("timeout")));
+
+        assertEquals("Cisco IOS XR Software", new Reader(cli).read(SH_VERSION));
+        new Reader(cli).read(SH_VERSION);
+        final ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> new Reader(cli).read(SH_INTERFACES));
+        assertEquals("timeout", exception.getCause().getMessage());
+
+        final CommandMetrics metrics = CommandMetrics.of(cli).get();
+        assertSame(CommandMetrics.forDevice(DEVICE_ID), metrics);
+        final List<CommandStats> commands = metrics.getCommands();
+        assertEquals(2, commands.size());
+        final CommandStats version = commands.stream()
+                .filter(stats -> stats.getCommand().equals("show version"))
+                .findFirst()
+                .get();
+        assertEquals(Reader.class.getName(), version.getOwner());
+        assertEquals(2, version.getCount());
+        assertEquals(0, version.getFailures());
+        assertEquals(2 * "Cisco IOS XR Software".length(), version.getBytes());
+        assertEquals(2, Arrays.stream(version.getLatencyHistogram()).sum());
+        final CommandStats interfaces = commands.stream()
+                .filter(stats -> stats.getCommand().equals("show interfaces"))
+                .findFirst()
+                .get();
+        assertEquals(1, interfaces.getFailures());
+        assertEquals(0, interfaces.getBytes());
+    }
+
+    @Test
+    void testCountDeviceCommands() throws Exception {
+        Mockito.when(delegate.executeAndRead(SH_VERSION))
+                .thenReturn(CompletableFuture.completedFuture("Cisco IOS XR Software"));
+
+        // a synchronous transport completes the result before the call returns, it is still a device command
+        new Reader(cli).read(SH_VERSION);
+        new Reader(cli).read(SH_VERSION);
+        CommandMetrics.cached(cli, Reader.class, "show version", "Cisco IOS XR Software");
+        CommandMetrics.cached(delegate, Reader.class, "show version", "Cisco IOS XR Software");
+
+        final CommandMetrics metrics = CommandMetrics.forDevice(DEVICE_ID);
+        assertEquals(3, metrics.getCommandCount());
+        assertEquals(2, metrics.getDeviceCommandCount());
+        final CommandStats cached = metrics.getCommands().stream()
+                .filter(stats -> stats.getOwner().equals(CommandMetricsTest.class.getName()))
+                .findFirst()
+                .get();
+        assertEquals("show version", cached.getCommand());
+        assertEquals(1, cached.getCount());
+        assertEquals(1, cached.getCached());
+        assertEquals(1, metrics.getCaches().get(0).getHits());
+    }
+
+    @Test
+    void testCacheStats() {
+        CommandMetrics.cacheMiss(cli, Reader.class);
+        CommandMetrics.cacheHit(cli, Reader.class);
+        CommandMetrics.cacheHit(cli, Reader.class);
+        CommandMetrics.cacheHit(delegate, Reader.class);
+
+        final List<CacheStats> caches = CommandMetrics.forDevice(DEVICE_ID).getCaches();
+        assertEquals(1, caches.size());
+        assertEquals(2, caches.get(0).getHits());
+        assertEquals(1, caches.get(0).getMisses());
+        assertEquals(2.0 / 3, caches.get(0).getHitRatio(), 1e-9);
+    }
+
+    @Test
+    void testInstrumentOnce() throws Exception {
+        assertSame(cli, CommandMetrics.instrument(cli));
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(CommandMetrics.objectName(DEVICE_ID)));
+        assertArrayEquals(new long[]{1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000},
+                CommandMetrics.forDevice(DEVICE_ID).getLatencyBucketBoundsMillis());
+    }
+
+    @Test
+    void testReleaseWithLastTransport() throws Exception {
+        final Cli other = Mockito.mock(Cli.class);
+        Mockito.when(other.getDeviceId()).thenReturn("xr-pe2");
+        CommandMetrics.instrument(other);
+        CommandMetrics.instrument(other);
+        final CommandMetrics metrics = CommandMetrics.forDevice("xr-pe2");
+
+        CommandMetrics.release("xr-pe2", metrics);
+        assertSame(metrics, CommandMetrics.forDevice("xr-pe2"));
+        CommandMetrics.release("xr-pe2", metrics);
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(CommandMetrics.objectName("xr-pe2")));
+        assertNotSame(metrics, CommandMetrics.forDevice("xr-pe2"));
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(CommandMetrics.objectName("xr-pe2")));
+    }
+
+    @Test
+    void testReplaceRegisteredMetrics() throws Exception {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = CommandMetrics.objectName("xr-pe3");
+        server.registerMBean(new StaleMetrics(), name);
+
+        final Cli other = Mockito.mock(Cli.class);
+        Mockito.when(other.getDeviceId()).thenReturn("xr-pe3");
+        CommandMetrics.instrument(other);
+        assertEquals("xr-pe3", server.getAttribute(name, "DeviceId"));
+    }
+
+    @Test
+    void testNormalizeCommands() throws Exception {
+        Mockito.when(delegate.executeAndRead(Mockito.any(Command.class)))
+                .thenReturn(CompletableFuture.completedFuture(""));
+        new Reader(cli).read(Command.showCommand("show running-config interface GigabitEthernet0/0/0/1"));
+        new Reader(cli).read(Command.showCommand("show running-config interface GigabitEthernet0/0/0/2.100"));
+
+        final List<CommandStats> commands = CommandMetrics.forDevice(DEVICE_ID).getCommands();
+        assertEquals(1, commands.size());
+        assertEquals("show running-config interface <arg>", commands.get(0).getCommand());
+        assertEquals(2, commands.get(0).getCount());
+        assertEquals("show running-config router bgp <arg> neighbor <arg> | include ^ <arg>",
+                CommandMetrics.normalize("show running-config router bgp 65000 neighbor 10.1.1.1 | include ^ 2"));
+        assertEquals("interface <arg> ...", CommandMetrics.normalize("interface Loopback0\ndescription test\nroot"));
+        assertEquals("show version", CommandMetrics.normalize("show version\n"));
+    }
+
+    @Test
+    void testLatencyBucket() {
+        assertEquals(0, CommandMetrics.latencyBucket(1_000_000));
+        assertEquals(1, CommandMetrics.latencyBucket(1_000_001));
+        assertEquals(9, CommandMetrics.latencyBucket(1_000_000_000));
+        assertEquals(14, CommandMetrics.latencyBucket(60_000_000_000L));
+    }
+
+    public static final class StaleMetrics implements CommandMetricsMXBean {
+
+        @Override
+        public String getDeviceId() {
+            return "stale";
+        }
+
+        @Override
+        public long[] getLatencyBucketBoundsMillis() {
+            return new long[0];
+        }
+
+        @Override
+        public List<CommandStats> getCommands() {
+            return List.of();
+        }
+
+        @Override
+        public long getCommandCount() {
+            return 0;
+        }
+
+        @Override
+        public long getDeviceCommandCount() {
+            return 0;
+        }
+
+        @Override
+        public List<CacheStats> getCaches() {
+            return List.of();
+        }
+
+        @Override
+        public void reset() {
+        }
+    }
+
+    private static final class Reader {
+
+        private final Cli cli;
+
+        private Reader(Cli cli) {
+            this.cli = cli;
+        }
+
+        private String read(Command command) throws Exception {
+            return cli.executeAndRead(command).toCompletableFuture().get();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers.replay;
+
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.io.Command;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Outputs of commands sent to a device, keyed by the command. Transcripts are recorded from a live session
+ * by {@link #record(Cli, Path)} and served back by {@link ReplayCli}.
+ * <br>
+ * Every entry of the file is a {@code #> <output length> <command>} header line followed by the exact output
+ * and a newline, so the output may contain any character including header-like lines. Line breaks of multi-line
+ * commands are escaped in the header.
+ */
+public final class CliTranscript {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CliTranscript.class);
+
+    private static final String HEADER = "#> ";
+
+    private final Map<String, String> outputs;
+
+    private CliTranscript(Map<String, String> outputs) {
+        this.outputs = Collections.unmodifiableMap(outputs);
+    }
+
+    public static CliTranscript load(Path file) throws IOException {
+        return parse(Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    public static CliTranscript parse(String transcript) {
+        final Map<String, String> outputs = new LinkedHashMap<>();
+        int position = 0;
+        while (position < transcript.length()) {
+            final int headerEnd = transcript.indexOf('\n', position);
+            if (!transcript.startsWith(HEADER, position) || headerEnd < 0) {
+                throw new IllegalArgumentException("Invalid transcript entry header at " + position);
+            }
+            final int lengthEnd = transcript.indexOf(' ', position + HEADER.length());
+            if (lengthEnd < 0 || lengthEnd > headerEnd) {
+                throw new IllegalArgumentException("Invalid transcript entry header at " + position);
+            }
+            final int length = Integer.parseInt(transcript.substring(position + HEADER.length(), lengthEnd));
+            final String command = unescape(transcript.substring(lengthEnd + 1, headerEnd));
+            final int outputStart = headerEnd + 1;
+            if (outputStart + length >= transcript.length()) {
+                throw new IllegalArgumentException("Truncated output of command: " + command);
+            }
+            outputs.putIfAbsent(command, transcript.substring(outputStart, outputStart + length));
+            position = outputStart + length + 1;
+        }
+        return new CliTranscript(outputs);
+    }
+
+    /**
+     * Returns a {@link Cli} which delegates to {@code cli} and appends the first output of every command returning
+     * a {@link CompletionStage} to the transcript file. Failed commands are not recorded.
+     */
+    public static Cli record(Cli cli, Path file) {
+        return (Cli) Proxy.newProxyInstance(Cli.class.getClassLoader(), new Class<?>[]{Cli.class},
+                new RecordingCli(cli, file));
+    }
+
+    public Optional<String> getOutput(String command) {
+        return Optional.ofNullable(outputs.get(key(command)));
+    }
+
+    public Map<String, String> getOutputs() {
+        return outputs;
+    }
+
+    public int size() {
+        return outputs.size();
+    }
+
+    static String key(Object command) {
+        final String content = command instanceof Command ? ((Command) command).getContent() : String.valueOf(command);
+        return content.strip();
+    }
+
+    static void append(Writer writer, String command, String output) throws IOException {
+        writer.append(HEADER)
+                .append(String.valueOf(output.length()))
+                .append(' ')
+                .append(escape(command))
+                .append('\n')
+                .append(output)
+                .append('\n');
+    }
+
+    private static String escape(String command) {
+        return command.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    private static String unescape(String command) {
+        final StringBuilder unescaped = new StringBuilder(command.length());
+        for (int i = 0; i < command.length(); i++) {
+            final char character = command.charAt(i);
+            if (character == '\\' && i + 1 < command.length()) {
+                i++;
+                unescaped.append(command.charAt(i) == 'n' ? '\n' : command.charAt(i));
+            } else {
+                unescaped.append(character);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    private static final class RecordingCli implements InvocationHandler {
+
+        private final Cli delegate;
+        private final Path file;
+        private final Map<String, Boolean> recorded = new ConcurrentHashMap<>();
+
+        private RecordingCli(Cli delegate, Path file) {
+            this.delegate = delegate;
+            this.file = file;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            final Object result;
+            try {
+                result = method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (args != null && args.length > 0 && result instanceof CompletionStage) {
+                final String command = key(args[0]);
+                ((CompletionStage<?>) result).thenAccept(output -> {
+                    if (output instanceof CharSequence && recorded.putIfAbsent(command, Boolean.TRUE) == null) {
+                        write(command, output.toString());
+                    }
+                });
+            }
+            return result;
+        }
+
+        private synchronized void write(String command, String output) {
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND)) {
+                append(writer, command, output);
+            } catch (IOException e) {
+                LOG.warn("{}: Unable to record output of command: {}", delegate.getDeviceId(), command, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers.replay;
+
+import io.frinx.cli.io.Cli;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Repeated read of a device measured per round: wall time, number of commands, characters of output parsed and
+ * bytes allocated by the reading thread. Intended for the {@code *All} integration tests, which connect through
+ * {@link #connect}:
+ * <ul>
+ *     <li>{@code -Dcli.record=<file>} connects to the device and records all outputs to the transcript file,</li>
+ *     <li>{@code -Dcli.transcript=<file>} replays the transcript file instead of connecting to the device,</li>
+ *     <li>without the properties the device is used as before.</li>
+ * </ul>
+ * Commands and characters are counted only on a replayed session, a live session reports them as {@code -1}.
+ */
+public final class ReplayBenchmark {
+
+    public static final String TRANSCRIPT_PROPERTY = "cli.transcript";
+    public static final String RECORD_PROPERTY = "cli.record";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReplayBenchmark.class);
+
+    private ReplayBenchmark() {
+    }
+
+    public static Cli connect(String deviceId, Callable<Cli> connector) throws Exception {
+        final String record = System.getProperty(RECORD_PROPERTY);
+        if (record != null) {
+            return CliTranscript.record(connector.call(), Path.of(record));
+        }
+        final String transcript = System.getProperty(TRANSCRIPT_PROPERTY);
+        if (transcript != null) {
+            return ReplayCli.create(deviceId, CliTranscript.load(Path.of(transcript)));
+        }
+        return connector.call();
+    }
+
+    public static Result run(Cli cli, int warmups, int rounds, Runnable read) {
+        for (int i = 0; i < warmups; i++) {
+            read.run();
+        }
+        final ReplayCli replay = ReplayCli.of(cli).orElse(null);
+        final long[] millis = new long[rounds];
+        long commands = 0;
+        long characters = 0;
+        long allocatedBytes = 0;
+        for (int i = 0; i < rounds; i++) {
+            if (replay != null) {
+                replay.reset();
+            }
+            final long allocatedBefore = allocatedBytes();
+            final long start = System.nanoTime();
+            read.run();
+            millis[i] = (System.nanoTime() - start) / 1_000_000;
+            allocatedBytes += allocatedBytes() - allocatedBefore;
+            if (replay != null) {
+                commands += replay.getCommands();
+                characters += replay.getCharacters();
+            }
+        }
+        final Result result = new Result(rounds, millis, replay == null ? -1 : commands / rounds,
+                replay == null ? -1 : characters / rounds, allocatedBytes() < 0 ? -1 : allocatedBytes / rounds);
+        LOG.info("{}: {}", cli.getDeviceId(), result);
+        if (replay != null && !replay.getMissingCommands().isEmpty()) {
+            LOG.warn("{}: Commands missing in transcript: {}", cli.getDeviceId(), replay.getMissingCommands());
+        }
+        return result;
+    }
+
+    private static long allocatedBytes() {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) threads;
+            if (sunThreads.isThreadAllocatedMemorySupported() && sunThreads.isThreadAllocatedMemoryEnabled()) {
+                return sunThreads.getCurrentThreadAllocatedBytes();
+            }
+        }
+        return -1;
+    }
+
+    public static final class Result {
+
+        private final int rounds;
+        private final long[] millis;
+        private final long commands;
+        private final long characters;
+        private final long allocatedBytes;
+
+        private Result(int rounds, long[] millis, long commands, long characters, long allocatedBytes) {
+            this.rounds = rounds;
+            this.millis = millis;
+            this.commands = commands;
+            this.characters = characters;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public long getMinMillis() {
+            return Arrays.stream(millis).min().orElse(0);
+        }
+
+        public double getAverageMillis() {
+            return Arrays.stream(millis).average().orElse(0);
+        }
+
+        public long getMaxMillis() {
+            return Arrays.stream(millis).max().orElse(0);
+        }
+
+        /**
+         * Returns commands sent in one round.
+         */
+        public long getCommands() {
+            return commands;
+        }
+
+        /**
+         * Returns characters of output parsed in one round.
+         */
+        public long getCharacters() {
+            return characters;
+        }
+
+        /**
+         * Returns bytes allocated by the reading thread in one round.
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d rounds, wall time min/avg/max %d/%.1f/%d ms, %d commands, %d characters,"
+                    + " %d bytes allocated per round", rounds, getMinMillis(), getAverageMillis(), getMaxMillis(),
+                    commands, characters, allocatedBytes);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers.replay;
+
+import io.frinx.cli.io.Cli;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link Cli} serving outputs of a {@link CliTranscript} instead of a device session. Every command returning
+ * a {@link CompletionStage} completes immediately with the recorded output. Commands missing in the transcript
+ * complete with an empty output and are reported by {@link #getMissingCommands()}, so a transcript recorded
+ * before a reader changed its commands still replays the rest of the read.
+ * <br>
+ * Number of served commands and characters is counted, see {@link ReplayBenchmark}.
+ */
+public final class ReplayCli implements InvocationHandler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReplayCli.class);
+
+    private final String deviceId;
+    private final CliTranscript transcript;
+    private final LongAdder commands = new LongAdder();
+    private final LongAdder characters = new LongAdder();
+    private final Set<String> missingCommands = ConcurrentHashMap.newKeySet();
+
+    private ReplayCli(String deviceId, CliTranscript transcript) {
+        this.deviceId = deviceId;
+        this.transcript = transcript;
+    }
+
+    public static Cli create(String deviceId, CliTranscript transcript) {
+        return (Cli) Proxy.newProxyInstance(Cli.class.getClassLoader(), new Class<?>[]{Cli.class},
+                new ReplayCli(deviceId, transcript));
+    }
+
+    /**
+     * Returns the replay of a {@link Cli} created by {@link #create}.
+     */
+    public static Optional<ReplayCli> of(Cli cli) {
+        if (cli == null || !Proxy.isProxyClass(cli.getClass())) {
+            return Optional.empty();
+        }
+        final InvocationHandler handler = Proxy.getInvocationHandler(cli);
+        return handler instanceof ReplayCli ? Optional.of((ReplayCli) handler) : Optional.empty();
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getDeviceId":
+                return deviceId;
+            case "close":
+                return null;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "ReplayCli[" + deviceId + "]";
+            default:
+                break;
+        }
+        if (args == null || args.length == 0 || !CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+            throw new UnsupportedOperationException("Not supported by replay: " + method);
+        }
+        return CompletableFuture.completedFuture(replay(CliTranscript.key(args[0])));
+    }
+
+    private String replay(String command) {
+        final Optional<String> output = transcript.getOutput(command);
+        if (output.isEmpty() && missingCommands.add(command)) {
+            LOG.warn("{}: Command not recorded in transcript: {}", deviceId, command);
+        }
+        commands.increment();
+        characters.add(output.map(String::length).orElse(0));
+        return output.orElse("");
+    }
+
+    public long getCommands() {
+        return commands.sum();
+    }
+
+    public long getCharacters() {
+        return characters.sum();
+    }
+
+    public Set<String> getMissingCommands() {
+        return Set.copyOf(missingCommands);
+    }
+
+    public void reset() {
+        commands.reset();
+        characters.reset();
+    }
+}
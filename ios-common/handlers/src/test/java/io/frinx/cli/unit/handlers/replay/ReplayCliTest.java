@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.io.Command;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+class ReplayCliTest {
+
+    private static final String DEVICE_ID = "ios-pe1";
+    private static final Command SH_VERSION = Command.showCommand("show version");
+    private static final Command SH_RUN_INTERFACES = Command.showCommand("show running-config interface");
+    private static final String VERSION = "Cisco IOS Software, Version 15.1\n";
+    private static final String RUN_INTERFACES = """
+            interface Loopback0
+             description #> 12 header-like line
+            !
+            """;
+
+    @Test
+    void testTranscriptRoundTrip() throws Exception {
+        final StringWriter writer = new StringWriter();
+        CliTranscript.append(writer, "show version", VERSION);
+        CliTranscript.append(writer, "show running-config interface", RUN_INTERFACES);
+        CliTranscript.append(writer, "configure terminal\ninterface Loopback0", "");
+        CliTranscript.append(writer, "show version", "second output");
+
+        final CliTranscript transcript = CliTranscript.parse(writer.toString());
+        assertEquals(3, transcript.size());
+        assertEquals(VERSION, transcript.getOutput("show version").get());
+        assertEquals(RUN_INTERFACES, transcript.getOutput("show running-config interface\n").get());
+        assertEquals("", transcript.getOutput("configure terminal\ninterface Loopback0").get());
+        assertThrows(IllegalArgumentException.class,
+            () -> CliTranscript.parse(writer.toString().substring(0, writer.toString().length() - 2)));
+    }
+
+    @Test
+    void testReplay() throws Exception {
+        final StringWriter writer = new StringWriter();
+        CliTranscript.append(writer, "show version", VERSION);
+        final Cli cli = ReplayCli.create(DEVICE_ID, CliTranscript.parse(writer.toString()));
+
+        assertEquals(DEVICE_ID, cli.getDeviceId());
+        assertEquals(VERSION, cli.executeAndRead(SH_VERSION).toCompletableFuture().get());
+        assertEquals("", cli.executeAndRead(SH_RUN_INTERFACES).toCompletableFuture().get());
+
+        final ReplayCli replay = ReplayCli.of(cli).get();
+        assertEquals(2, replay.getCommands());
+        assertEquals(VERSION.length(), replay.getCharacters());
+        assertEquals(Set.of("show running-config interface"), replay.getMissingCommands());
+        assertTrue(ReplayCli.of(Mockito.mock(Cli.class)).isEmpty());
+    }
+
+    @Test
+    void testRecordAndBenchmark(@TempDir Path directory) throws Exception {
+        final Path file = directory.resolve("ios.transcript");
+        final Cli delegate = Mockito.mock(Cli.class);
+        Mockito.when(delegate.getDeviceId()).thenReturn(DEVICE_ID);
+        Mockito.when(delegate.executeAndRead(SH_VERSION)).thenReturn(CompletableFuture.completedFuture(VERSION));
+        Mockito.when(delegate.executeAndRead(SH_RUN_INTERFACES))
+                .thenReturn(CompletableFuture.completedFuture(RUN_INTERFACES));
+
+        final Cli recording = CliTranscript.record(delegate, file);
+        for (Command command : List.of(SH_VERSION, SH_RUN_INTERFACES, SH_VERSION)) {
+            recording.executeAndRead(command).toCompletableFuture().get();
+        }
+        final CliTranscript transcript = CliTranscript.load(file);
+        assertEquals(Map.of("show version", VERSION, "show running-config interface", RUN_INTERFACES),
+                transcript.getOutputs());
+
+        final Cli cli = ReplayCli.create(DEVICE_ID, transcript);
+        final ReplayBenchmark.Result result = ReplayBenchmark.run(cli, 1, 3, () -> {
+            for (Command command : List.of(SH_VERSION, SH_RUN_INTERFACES, SH_VERSION)) {
+                cli.executeAndRead(command).toCompletableFuture().join();
+            }
+        });
+        assertEquals(3, result.getCommands());
+        assertEquals(2 * VERSION.length() + RUN_INTERFACES.length(), result.getCharacters());
+        assertTrue(result.getMinMillis() <= result.getMaxMillis());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.generator;
+
+/**
+ * Synthetic outputs of Casa CER CMTS devices.
+ */
+public final class CerOutputs {
+
+    static final int MODEMS_PER_CHANNEL = 64;
+
+    private CerOutputs() {
+    }
+
+    public static String macAddress(int index) {
+        final long mac = 0x1c3a_0000_0000L + index;
+        return String.format("%04x.%04x.%04x", mac >> 32 & 0xffff, mac >> 16 & 0xffff, mac & 0xffff);
+    }
+
+    /**
+     * Returns {@code show cable modem} listing the modems spread over upstream channels. Every tenth modem is
+     * offline without an IP address, every twentieth (counted from the fifth) is only ranged.
+     */
+    public static String showCableModem(int modems) {
+        Outputs.requireNonNegative(modems, "modems");
+        final StringBuilder output = new StringBuilder(modems * 104 + 800);
+        output.append("Feb 12 23:21:28\n\n")
+                .append(String.format("%-100s\n", "Interface"))
+                .append(String.format("%-49s%-51s\n", "(DS-US)", "DOC"))
+                .append("S/C/CH-S/CG/CH          Mac   Bonded State       SIS  Qos(DS-US)     CPE  MAC address     ")
+                .append("IP Address\n")
+                .append("----------------------- ----- ------ ----------- --- --------------- ---  --------------- ")
+                .append("-----------\n");
+        int offline = 0;
+        int ranged = 0;
+        for (int modem = 0; modem < modems; modem++) {
+            final String state;
+            if (modem % 10 == 9) {
+                state = "Offline";
+                offline++;
+            } else if (modem % 20 == 4) {
+                state = "Ranged";
+                ranged++;
+            } else {
+                state = "Operational";
+            }
+            final int channel = modem / MODEMS_PER_CHANNEL;
+            final boolean online = state.equals("Operational");
+            output.append(String.format("%-24s%-6s%-7s%-12s%-4s%-15s%3d  %-16s%-11s\n",
+                    String.format("%d/scq/%d-%d/scq/%d", channel / 64 + 1, channel % 64 / 8, channel % 8 / 4,
+                            channel % 4),
+                    channel % 1000 + 1,
+                    online ? "32x8" : "-",
+                    state,
+                    modem % 3 == 0 ? "3.0" : "3.1",
+                    online ? "1/1" : "-",
+                    online ? modem % 4 : 0,
+                    macAddress(modem),
+                    online ? Outputs.ipv4(10, modem) : "-"));
+        }
+        return output.append("\n              Total    Oper  Disable    Init  Offline\n")
+                .append("---------------------------------------------------------\n")
+                .append(String.format("Found %9d %7d %8d %7d %8d\n", modems, modems - offline - ranged, 0, ranged,
+                        offline))
+                .toString();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.generator;
+
+/**
+ * Synthetic outputs of Huawei VRP devices.
+ */
+public final class HuaweiOutputs {
+
+    private HuaweiOutputs() {
+    }
+
+    public static String interfaceName(int index) {
+        return "GigabitEthernet" + index / IosOutputs.PORTS_PER_SLOT / 4 + "/" + index / IosOutputs.PORTS_PER_SLOT % 4
+                + "/" + index % IosOutputs.PORTS_PER_SLOT;
+    }
+
+    public static String vrfName(int index) {
+        return "VRF" + (index + 1);
+    }
+
+    /**
+     * Returns {@code display current-configuration} with VPN instances and physical interfaces, each with
+     * the number of dot1q subinterfaces spread over the VPN instances.
+     */
+    public static String currentConfiguration(int interfaces, int subinterfacesPerInterface, int vrfs) {
+        Outputs.requireNonNegative(interfaces, "interfaces");
+        Outputs.requireNonNegative(subinterfacesPerInterface, "subinterfacesPerInterface");
+        Outputs.requireNonNegative(vrfs, "vrfs");
+        final StringBuilder output = new StringBuilder(interfaces * (120 + subinterfacesPerInterface * 160));
+        output.append("!Software Version V800R011C00SPC100\n#\nsysname scale-pe1\n#\n");
+        for (int vrf = 0; vrf < vrfs; vrf++) {
+            output.append("ip vpn-instance ").append(vrfName(vrf)).append('\n')
+                    .append(" ipv4-family\n")
+                    .append("  route-distinguisher 65000:").append(vrf + 1).append('\n')
+                    .append("  vpn-target 65000:").append(vrf + 1).append(" export-extcommunity\n")
+                    .append("  vpn-target 65000:").append(vrf + 1).append(" import-extcommunity\n")
+                    .append("#\n");
+        }
+        int link = 0;
+        for (int ifc = 0; ifc < interfaces; ifc++) {
+            final String name = interfaceName(ifc);
+            output.append("interface ").append(name).append('\n')
+                    .append(" description uplink ").append(ifc).append('\n')
+                    .append(ifc % 10 == 9 ? " shutdown\n" : " undo shutdown\n")
+                    .append(" ip address ").append(Outputs.linkAddress(10, link++)).append(" 255.255.255.252\n")
+                    .append("#\n");
+            for (int sub = 1; sub <= subinterfacesPerInterface; sub++) {
+                output.append("interface ").append(name).append('.').append(sub + 99).append('\n')
+                        .append(" description customer ").append(ifc).append('-').append(sub).append('\n')
+                        .append(" vlan-type dot1q ").append(sub + 99).append('\n');
+                if (vrfs > 0) {
+                    output.append(" ip binding vpn-instance ").append(vrfName(link % vrfs)).append('\n');
+                }
+                output.append(" ip address ").append(Outputs.linkAddress(172, link++)).append(" 255.255.255.252\n")
+                        .append("#\n");
+            }
+        }
+        return output.append("return\n").toString();
+    }
+
+    /**
+     * Returns {@code display interface brief} of the interfaces generated by {@link #currentConfiguration}.
+     */
+    public static String interfaceBrief(int interfaces, int subinterfacesPerInterface) {
+        Outputs.requireNonNegative(interfaces, "interfaces");
+        Outputs.requireNonNegative(subinterfacesPerInterface, "subinterfacesPerInterface");
+        final StringBuilder output = new StringBuilder((interfaces * (1 + subinterfacesPerInterface) + 12) * 84);
+        output.append("PHY: Physical\n*down: administratively down\n(l): loopback\n(s): spoofing\n")
+                .append("(b): BFD down\n^down: standby\n(e): ETHOAM down\n(v): VirtualPort\n")
+                .append("InUti/OutUti: input utility/output utility\n")
+                .append("Interface                   PHY   Protocol  InUti OutUti   inErrors  outErrors\n");
+        for (int ifc = 0; ifc < interfaces; ifc++) {
+            final String state = ifc % 10 == 9 ? "*down down    " : "up    up      ";
+            output.append(briefLine(interfaceName(ifc), state));
+            for (int sub = 1; sub <= subinterfacesPerInterface; sub++) {
+                output.append(briefLine(interfaceName(ifc) + "." + (sub + 99), state));
+            }
+        }
+        return output.append(briefLine("LoopBack0", "up    up(s)   ")).append(briefLine("NULL0", "up    up(s)   "))
+                .toString();
+    }
+
+    private static String briefLine(String name, String state) {
+        return String.format("%-28s%s%7s%7s%11d%11d\n", name, state, "0%", "0%", 0, 0);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.generator;
+
+/**
+ * Synthetic outputs of Cisco IOS and IOS XE devices.
+ */
+public final class IosOutputs {
+
+    static final int PORTS_PER_SLOT = 48;
+
+    private IosOutputs() {
+    }
+
+    public static String interfaceName(int index) {
+        return "GigabitEthernet" + index / PORTS_PER_SLOT + "/" + index % PORTS_PER_SLOT;
+    }
+
+    public static String vrfName(int index) {
+        return "VRF" + (index + 1);
+    }
+
+    /**
+     * Returns {@code show running-config} with VRF definitions, a loopback and physical interfaces, each with
+     * the number of dot1q subinterfaces. Subinterfaces are spread over the VRFs when there are any.
+     */
+    public static String runningConfig(int interfaces, int subinterfacesPerInterface, int vrfs) {
+        Outputs.requireNonNegative(interfaces, "interfaces");
+        Outputs.requireNonNegative(subinterfacesPerInterface, "subinterfacesPerInterface");
+        Outputs.requireNonNegative(vrfs, "vrfs");
+        final StringBuilder output = new StringBuilder(interfaces * (160 + subinterfacesPerInterface * 140));
+        output.append("Building configuration...\n\n")
+                .append("Current configuration : 0 bytes\n")
+                .append("!\nversion 15.5\nservice timestamps debug datetime msec\nhostname scale-pe1\n!\n");
+        for (int vrf = 0; vrf < vrfs; vrf++) {
+            output.append("vrf definition ").append(vrfName(vrf)).append('\n')
+                    .append(" rd 65000:").append(vrf + 1).append('\n')
+                    .append(" !\n address-family ipv4\n")
+                    .append("  route-target export 65000:").append(vrf + 1).append('\n')
+                    .append("  route-target import 65000:").append(vrf + 1).append('\n')
+                    .append(" exit-address-family\n!\n");
+        }
+        output.append("interface Loopback0\n ip address 10.255.255.1 255.255.255.255\n!\n");
+        int link = 0;
+        for (int ifc = 0; ifc < interfaces; ifc++) {
+            final String name = interfaceName(ifc);
+            output.append("interface ").append(name).append('\n')
+                    .append(" description uplink ").append(ifc).append('\n')
+                    .append(" mtu 9000\n")
+                    .append(" ip address ").append(Outputs.linkAddress(10, link++)).append(" 255.255.255.252\n");
+            if (ifc % 10 == 9) {
+                output.append(" shutdown\n");
+            }
+            output.append(" negotiation auto\n!\n");
+            for (int sub = 1; sub <= subinterfacesPerInterface; sub++) {
+                output.append("interface ").append(name).append('.').append(sub + 99).append('\n')
+                        .append(" description customer ").append(ifc).append('-').append(sub).append('\n')
+                        .append(" encapsulation dot1Q ").append(sub + 99).append('\n');
+                if (vrfs > 0) {
+                    output.append(" vrf forwarding ").append(vrfName(link % vrfs)).append('\n');
+                }
+                output.append(" ip address ").append(Outputs.linkAddress(172, link++)).append(" 255.255.255.252\n")
+                        .append("!\n");
+            }
+        }
+        return output.append("end\n").toString();
+    }
+
+    /**
+     * Returns {@code show interfaces} of the physical interfaces of {@link #runningConfig}, every tenth one is
+     * administratively down. Interface {@code i} received {@code 1000 + i} packets of 100 bytes, {@code i % 10}
+     * of them broadcasts and {@code i % 5} of those multicasts, and sent {@code 2000 + i} packets of 50 bytes.
+     */
+    public static String showInterfaces(int interfaces) {
+        Outputs.requireNonNegative(interfaces, "interfaces");
+        final StringBuilder output = new StringBuilder(interfaces * 1000);
+        for (int ifc = 0; ifc < interfaces; ifc++) {
+            final boolean down = ifc % 10 == 9;
+            final long packetsIn = 1000 + ifc;
+            final long packetsOut = 2000 + ifc;
+            output.append(interfaceName(ifc)).append(down
+                    ? " is administratively down, line protocol is down\n" : " is up, line protocol is up\n")
+                    .append(String.format("  Hardware is iGbE, address is 5254.%04x.%04x (bia 5254.%04x.%04x)\n",
+                            ifc >> 16, ifc & 0xffff, ifc >> 16, ifc & 0xffff))
+                    .append("  Description: uplink ").append(ifc).append('\n')
+                    .append("  Internet address is ").append(Outputs.linkAddress(10, ifc)).append("/30\n")
+                    .append("  MTU 9000 bytes, BW 1000000 Kbit/sec, DLY 10 usec,\n")
+                    .append("     reliability 255/255, txload 1/255, rxload 1/255\n")
+                    .append("  Encapsulation ARPA, loopback not set\n")
+                    .append("  Input queue: 0/75/").append(ifc % 7).append("/0 (size/max/drops/flushes); ")
+                    .append("Total output drops: ").append(ifc % 3).append('\n')
+                    .append("  5 minute input rate 1000 bits/sec, 1 packets/sec\n")
+                    .append("     ").append(packetsIn).append(" packets input, ").append(packetsIn * 100)
+                    .append(" bytes, 0 no buffer\n")
+                    .append("     Received ").append(ifc % 10).append(" broadcasts (").append(ifc % 5)
+                    .append(" IP multicasts)\n")
+                    .append("     0 runts, 0 giants, 0 throttles\n")
+                    .append("     ").append(ifc % 4).append(" input errors, 0 CRC, 0 frame, 0 overrun, 0 ignored\n")
+                    .append("     ").append(packetsOut).append(" packets output, ").append(packetsOut * 50)
+                    .append(" bytes, 0 underruns\n")
+                    .append("     ").append(ifc % 2).append(" output errors, 0 collisions, 1 interface resets\n");
+        }
+        return output.toString();
+    }
+
+    /**
+     * Returns {@code show ip bgp} with /24 routes, each learned over the number of iBGP paths. The first path is
+     * the best one.
+     */
+    public static String bgpTable(int routes, int pathsPerRoute) {
+        Outputs.requireNonNegative(routes, "routes");
+        if (pathsPerRoute < 1) {
+            throw new IllegalArgumentException("pathsPerRoute must be positive: " + pathsPerRoute);
+        }
+        final StringBuilder output = new StringBuilder(routes * pathsPerRoute * 70 + 600);
+        output.append("BGP table version is ").append(routes + 1).append(", local router ID is 10.255.255.1\n")
+                .append("Status codes: s suppressed, d damped, h history, * valid, > best, i - internal,\n")
+                .append("              r RIB-failure, S Stale, m multipath, b backup-path, f RT-Filter,\n")
+                .append("              x best-external, a additional-path, c RIB-compressed,\n")
+                .append("Origin codes: i - IGP, e - EGP, ? - incomplete\n")
+                .append("RPKI validation codes: V valid, I invalid, N Not found\n\n")
+                .append("     Network          Next Hop            Metric LocPrf Weight Path\n");
+        for (int route = 0; route < routes; route++) {
+            final String prefix = Outputs.ipv4(1 + (route >> 16), route << 8) + "/24";
+            for (int path = 0; path < pathsPerRoute; path++) {
+                output.append(String.format(" %-3s %-16s %-16s %9d %6d %6d %d %d i\n",
+                        path == 0 ? "*>i" : "* i", path == 0 ? prefix : "", Outputs.ipv4(10, 0xffff02 + path),
+                        0, 100, 0, 65001 + path, 64512 + route % 1000));
+            }
+        }
+        return output.toString();
+    }
+
+    /**
+     * Returns {@code show ip access-lists <name>} of an extended ACL with the number of entries. Every 50th entry is
+     * a remark.
+     */
+    public static String ipAccessList(String name, int entries) {
+        Outputs.requireNonNegative(entries, "entries");
+        final StringBuilder output = new StringBuilder(entries * 60 + 40);
+        output.append("Extended IP access list ").append(name).append('\n');
+        for (int entry = 1; entry <= entries; entry++) {
+            output.append("    ").append(entry * 10).append(' ');
+            switch (entry % 50 == 0 ? 3 : entry % 3) {
+                case 0:
+                    output.append("permit tcp ").append(Outputs.ipv4(10, entry << 8)).append(" 0.0.0.255 any eq 443");
+                    break;
+                case 1:
+                    output.append("deny udp host ").append(Outputs.ipv4(192, entry)).append(" any eq 53");
+                    break;
+                case 2:
+                    output.append("permit ip ").append(Outputs.ipv4(172, entry << 8)).append(" 0.0.0.255 ")
+                            .append(Outputs.ipv4(10, entry << 8)).append(" 0.0.0.255");
+                    break;
+                default:
+                    output.append("remark entries ").append(entry + 1).append(" to ").append(entry + 50);
+                    break;
+            }
+            output.append('\n');
+        }
+        return output.toString();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.generator;
+
+/**
+ * Synthetic outputs of Juniper Junos devices.
+ */
+public final class JunosOutputs {
+
+    private static final int PICS_PER_FPC = 4;
+
+    private JunosOutputs() {
+    }
+
+    public static String interfaceName(int index) {
+        return "ge-" + index / IosOutputs.PORTS_PER_SLOT / PICS_PER_FPC + "/"
+                + index / IosOutputs.PORTS_PER_SLOT % PICS_PER_FPC + "/" + index % IosOutputs.PORTS_PER_SLOT;
+    }
+
+    public static String vrfName(int index) {
+        return "VRF" + (index + 1);
+    }
+
+    /**
+     * Returns {@code show configuration | display set} with physical interfaces, each with the number of
+     * vlan-tagged units, and routing instances the units are spread over.
+     */
+    public static String displaySet(int interfaces, int unitsPerInterface, int vrfs) {
+        Outputs.requireNonNegative(interfaces, "interfaces");
+        Outputs.requireNonNegative(unitsPerInterface, "unitsPerInterface");
+        Outputs.requireNonNegative(vrfs, "vrfs");
+        final StringBuilder output = new StringBuilder(interfaces * (150 + unitsPerInterface * 250));
+        output.append("set version 17.3R1.10\nset system host-name scale-pe1\n");
+        int link = 0;
+        for (int ifc = 0; ifc < interfaces; ifc++) {
+            final String prefix = "set interfaces " + interfaceName(ifc);
+            output.append(prefix).append(" description \"uplink ").append(ifc).append("\"\n");
+            if (ifc % 10 == 9) {
+                output.append(prefix).append(" disable\n");
+            }
+            if (unitsPerInterface > 0) {
+                output.append(prefix).append(" vlan-tagging\n");
+            }
+            output.append(prefix).append(" mtu 9192\n");
+            for (int unit = 1; unit <= unitsPerInterface; unit++) {
+                final String unitPrefix = prefix + " unit " + (unit + 99);
+                output.append(unitPrefix).append(" description \"customer ").append(ifc).append('-').append(unit)
+                        .append("\"\n")
+                        .append(unitPrefix).append(" vlan-id ").append(unit + 99).append('\n')
+                        .append(unitPrefix).append(" family inet address ").append(Outputs.linkAddress(172, link))
+                        .append("/30\n");
+                if (vrfs > 0) {
+                    output.append("set routing-instances ").append(vrfName(link % vrfs)).append(" interface ")
+                            .append(interfaceName(ifc)).append('.').append(unit + 99).append('\n');
+                }
+                link++;
+            }
+        }
+        for (int vrf = 0; vrf < vrfs; vrf++) {
+            final String prefix = "set routing-instances " + vrfName(vrf);
+            output.append(prefix).append(" instance-type vrf\n")
+                    .append(prefix).append(" route-distinguisher 65000:").append(vrf + 1).append('\n')
+                    .append(prefix).append(" vrf-target target:65000:").append(vrf + 1).append('\n');
+        }
+        return output.toString();
+    }
+}
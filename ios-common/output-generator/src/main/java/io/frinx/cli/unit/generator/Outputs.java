@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.generator;
+
+import java.util.regex.Pattern;
+
+/**
+ * Helpers shared by generators of synthetic device outputs.
+ * <br>
+ * Generators are deterministic, the same parameters produce the same output, so scale tests can assert exact
+ * results. Addresses and names are derived from the index of the generated element.
+ */
+public final class Outputs {
+
+    private Outputs() {
+    }
+
+    /**
+     * Returns lines of the output matching the regular expression, same as {@code | include <regex>} on the device.
+     */
+    public static String include(String output, String regex) {
+        final Pattern pattern = Pattern.compile(regex);
+        final StringBuilder included = new StringBuilder();
+        output.lines()
+                .filter(line -> pattern.matcher(line).find())
+                .forEach(line -> included.append(line).append('\n'));
+        return included.toString();
+    }
+
+    /**
+     * Returns IPv4 address with the first octet and remaining three octets taken from the lowest 24 bits of index.
+     */
+    public static String ipv4(int firstOctet, int index) {
+        return firstOctet + "." + (index >> 16 & 0xff) + "." + (index >> 8 & 0xff) + "." + (index & 0xff);
+    }
+
+    /**
+     * Returns address of the first host of n-th /30 point-to-point link, first octet is incremented after 2^22 links.
+     */
+    public static String linkAddress(int firstOctet, int link) {
+        return ipv4(firstOctet + (link >> 22), (link << 2) + 1);
+    }
+
+    static int requireNonNegative(int value, String name) {
+        if (value < 0) {
+            throw new IllegalArgumentException(name + " must not be negative: " + value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.generator;
+
+/**
+ * Synthetic outputs of Ciena SAOS devices.
+ */
+public final class SaosOutputs {
+
+    private SaosOutputs() {
+    }
+
+    public static String virtualSwitchName(int index) {
+        return "VS" + (index + 1);
+    }
+
+    /**
+     * Returns {@code configuration show} with ports, a sub-port with a vlan classifier on every port and virtual
+     * switches the sub-ports are attached to.
+     */
+    public static String configurationShow(int ports, int virtualSwitches) {
+        return configuration(ports, virtualSwitches, true);
+    }
+
+    /**
+     * Returns {@code configuration show brief}, the configuration of {@link #configurationShow} without
+     * the {@code !} comment lines.
+     */
+    public static String configurationShowBrief(int ports, int virtualSwitches) {
+        return configuration(ports, virtualSwitches, false);
+    }
+
+    private static String configuration(int ports, int virtualSwitches, boolean comments) {
+        Outputs.requireNonNegative(ports, "ports");
+        Outputs.requireNonNegative(virtualSwitches, "virtualSwitches");
+        final StringBuilder output = new StringBuilder(ports * 400 + virtualSwitches * 80 + 200);
+        if (comments) {
+            output.append("! Created: Mon Jan  1 00:00:00 2026\n! Chassis MAC: 00:00:00:00:00:01\n");
+        }
+        comment(output, comments, "PORT CONFIGURATION");
+        for (int port = 1; port <= ports; port++) {
+            if (port % 10 == 0) {
+                output.append("port disable port ").append(port).append('\n');
+            }
+            output.append("port set port ").append(port).append(" max-frame-size 9216 description \"customer ")
+                    .append(port).append("\"\n");
+        }
+        comment(output, comments, "VLAN CONFIGURATION");
+        for (int port = 1; port <= ports; port++) {
+            output.append("vlan add vlan ").append(vlan(port)).append(" port ").append(port).append('\n');
+        }
+        comment(output, comments, "VIRTUAL-SWITCH CONFIGURATION");
+        for (int vs = 0; vs < virtualSwitches; vs++) {
+            output.append("virtual-switch create vs ").append(virtualSwitchName(vs)).append('\n')
+                    .append("virtual-switch set vs ").append(virtualSwitchName(vs)).append(" description \"service ")
+                    .append(vs + 1).append("\"\n");
+        }
+        comment(output, comments, "SUB-PORT CONFIGURATION");
+        for (int port = 1; port <= ports; port++) {
+            output.append("sub-port create sub-port SP").append(port).append(" parent-port ").append(port)
+                    .append(" classifier-precedence 10\n")
+                    .append("sub-port add sub-port SP").append(port).append(" class-element 1 vtag-stack ")
+                    .append(vlan(port)).append('\n');
+            if (virtualSwitches > 0) {
+                output.append("virtual-switch interface attach sub-port SP").append(port).append(" vs ")
+                        .append(virtualSwitchName(port % virtualSwitches)).append('\n');
+            }
+        }
+        return output.toString();
+    }
+
+    private static void comment(StringBuilder output, boolean comments, String section) {
+        if (comments) {
+            output.append("!\n! ").append(section).append("\n!\n");
+        }
+    }
+
+    private static int vlan(int port) {
+        return port % 4094 + 1;
+    }
+}
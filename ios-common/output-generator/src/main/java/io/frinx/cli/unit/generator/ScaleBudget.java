@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.generator;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+
+/**
+ * Time budget of scale tests which parse generated outputs.
+ * <br>
+ * The task is measured in CPU time of the calling thread where the JVM supports it, so other load on the build
+ * machine does not count against the budget (wall-clock time is used otherwise). All budgets can be stretched on
+ * slow machines by the {@value #FACTOR_PROPERTY} system property, e.g. {@code -Dscale.budget.factor=3}.
+ */
+public final class ScaleBudget {
+
+    public static final String FACTOR_PROPERTY = "scale.budget.factor";
+
+    private ScaleBudget() {
+    }
+
+    /**
+     * Runs the task in the calling thread and fails with {@link AssertionError} when it took longer than the budget.
+     * Failures of the task itself are propagated unchanged.
+     */
+    public static void assertWithin(Duration budget, Task task) throws Exception {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        final boolean cpuTime = threads.isCurrentThreadCpuTimeSupported() && threads.isThreadCpuTimeEnabled();
+        final long start = cpuTime ? threads.getCurrentThreadCpuTime() : System.nanoTime();
+        task.run();
+        final long elapsed = (cpuTime ? threads.getCurrentThreadCpuTime() : System.nanoTime()) - start;
+        final double factor = Double.parseDouble(System.getProperty(FACTOR_PROPERTY, "1"));
+        final long limit = (long) (budget.toNanos() * factor);
+        if (elapsed > limit) {
+            throw new AssertionError(String.format("Took %d ms of %s time, budget is %d ms (%s=%s)",
+                    Duration.ofNanos(elapsed).toMillis(), cpuTime ? "CPU" : "wall-clock",
+                    Duration.ofNanos(limit).toMillis(), FACTOR_PROPERTY, factor));
+        }
+    }
+
+    @FunctionalInterface
+    public interface Task {
+
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class OutputsTest {
+
+    @Test
+    void testAddresses() {
+        assertEquals("10.0.0.0", Outputs.ipv4(10, 0));
+        assertEquals("10.1.2.3", Outputs.ipv4(10, 0x010203));
+        assertEquals("10.0.0.1", Outputs.linkAddress(10, 0));
+        assertEquals("10.0.0.5", Outputs.linkAddress(10, 1));
+        assertEquals("11.0.0.1", Outputs.linkAddress(10, 1 << 22));
+    }
+
+    @Test
+    void testInclude() {
+        assertEquals("interface Loopback0\ninterface GigabitEthernet0/0\n", Outputs.include(
+                IosOutputs.runningConfig(1, 0, 0), "^interface"));
+    }
+
+    @Test
+    void testIosRunningConfig() {
+        final String output = IosOutputs.runningConfig(100, 3, 7);
+        assertEquals(1 + 100 + 300, count(output, "^interface "));
+        assertEquals(7, count(output, "^vrf definition "));
+        assertEquals(300, count(output, "^ vrf forwarding VRF"));
+        assertEquals(10, count(output, "^ shutdown"));
+        assertEquals("GigabitEthernet2/4", IosOutputs.interfaceName(100));
+        assertEquals(output, IosOutputs.runningConfig(100, 3, 7));
+    }
+
+    @Test
+    void testIosShowInterfaces() {
+        final String output = IosOutputs.showInterfaces(100);
+        assertEquals(100, count(output, "^GigabitEthernet\\d+/\\d+ is .*, line protocol is "));
+        assertEquals(10, count(output, " is administratively down, "));
+        assertEquals("     1099 packets input, 109900 bytes, 0 no buffer\n",
+                Outputs.include(output, " 1099 packets input"));
+        assertEquals(1, count(output, "^  Description: uplink 99$"));
+    }
+
+    @Test
+    void testIosBgpTable() {
+        final String output = IosOutputs.bgpTable(1000, 2);
+        assertEquals(1000, count(output, "^ \\*>i \\d"));
+        assertEquals(1000, count(output, "^ \\* i {18}10\\.255\\.255\\.3 "));
+        assertEquals("*>i 1.3.231.0/24     10.255.255.2             0    100      0 65001 65511 i",
+                Outputs.include(output, "1\\.3\\.231\\.0/24").strip());
+    }
+
+    @Test
+    void testIosAccessList() {
+        final String output = IosOutputs.ipAccessList("scale", 100);
+        assertEquals(100, count(output, "^    \\d+ "));
+        assertEquals(2, count(output, " remark "));
+        assertEquals("    1000 remark entries 101 to 150\n", Outputs.include(output, "^    1000 "));
+    }
+
+    @Test
+    void testHuawei() {
+        final String configuration = HuaweiOutputs.currentConfiguration(20, 2, 3);
+        assertEquals(60, count(configuration, "^interface "));
+        assertEquals(3, count(configuration, "^ip vpn-instance "));
+        final String brief = HuaweiOutputs.interfaceBrief(20, 2);
+        assertEquals(62, count(brief, "^(GigabitEthernet|LoopBack|NULL)"));
+        assertEquals("GigabitEthernet0/0/4.100    up    up           0%     0%          0          0\n",
+                Outputs.include(brief, "^GigabitEthernet0/0/4\\.100 "));
+    }
+
+    @Test
+    void testJunos() {
+        final String output = JunosOutputs.displaySet(200, 2, 5);
+        assertEquals(200, count(output, "^set interfaces \\S+ mtu "));
+        assertEquals(400, count(output, "^set interfaces \\S+ unit \\d+ vlan-id "));
+        assertEquals(400, count(output, "^set routing-instances VRF\\d+ interface "));
+        assertEquals("ge-1/0/8", JunosOutputs.interfaceName(200));
+    }
+
+    @Test
+    void testSaos() {
+        final String output = SaosOutputs.configurationShow(100, 4);
+        assertEquals(100, count(output, "^port set port "));
+        assertEquals(10, count(output, "^port disable port "));
+        assertEquals(4, count(output, "^virtual-switch create vs "));
+        assertEquals(25, count(output, "^virtual-switch interface attach sub-port SP\\d+ vs VS1$"));
+
+        final String brief = SaosOutputs.configurationShowBrief(100, 4);
+        assertEquals(0, count(brief, "^!"));
+        assertEquals(Outputs.include(output, "^[^!]"), brief);
+    }
+
+    @Test
+    void testCer() {
+        final String output = CerOutputs.showCableModem(1000);
+        assertEquals(1000, count(output, "^\\d+/scq/"));
+        assertEquals(100, count(output, " Offline "));
+        assertEquals(50, count(output, " Ranged "));
+        assertEquals("1c3a.0000.03e7", CerOutputs.macAddress(999));
+        assertEquals("1/scq/1-1/scq/3         16    32x8   Operational 3.0 1/1              0  1c3a.0000.03c0  "
+                + "10.0.3.192", Outputs.include(output, " 1c3a\\.0000\\.03c0 ").strip());
+    }
+
+    @Test
+    void testNegativeScale() {
+        assertThrows(IllegalArgumentException.class, () -> IosOutputs.runningConfig(-1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> IosOutputs.bgpTable(10, 0));
+    }
+
+    private static long count(String output, String regex) {
+        return Outputs.include(output, regex).lines().count();
+    }
+}
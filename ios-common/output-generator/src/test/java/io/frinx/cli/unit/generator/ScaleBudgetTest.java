@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ScaleBudgetTest {
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(ScaleBudget.FACTOR_PROPERTY);
+    }
+
+    @Test
+    void testWithinBudget() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        ScaleBudget.assertWithin(Duration.ofSeconds(10), runs::incrementAndGet);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void testOverBudget() {
+        final AssertionError error = assertThrows(AssertionError.class,
+                () -> ScaleBudget.assertWithin(Duration.ofMillis(1), () -> spin(Duration.ofMillis(50))));
+        assertTrue(error.getMessage().contains("budget is 1 ms"), error.getMessage());
+    }
+
+    @Test
+    void testFactor() throws Exception {
+        System.setProperty(ScaleBudget.FACTOR_PROPERTY, "1000");
+        ScaleBudget.assertWithin(Duration.ofMillis(1), () -> spin(Duration.ofMillis(50)));
+    }
+
+    @Test
+    void testTaskFailure() {
+        assertThrows(IllegalStateException.class, () -> ScaleBudget.assertWithin(Duration.ofSeconds(10), () -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    private static void spin(Duration duration) {
+        final long end = System.nanoTime() + duration.toNanos();
+        long spins = 0;
+        while (System.nanoTime() < end) {
+            spins++;
+        }
+        assertTrue(spins > 0);
+    }
+}
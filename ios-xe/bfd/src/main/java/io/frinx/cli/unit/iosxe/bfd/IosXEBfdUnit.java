@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
 import io.frinx.cli.unit.iosxe.bfd.handler.BfdTemplateConfigReader;
 import io.frinx.cli.unit.iosxe.bfd.handler.BfdTemplateConfigWriter;
 import io.frinx.cli.unit.iosxe.bfd.handler.BfdTemplateReader;
@@ -58,7 +59,7 @@ public class IosXEBfdUnit extends AbstractUnit {
     @Override
     public void provideHandlers(@NotNull CustomizerAwareReadRegistryBuilder readRegistry,
                                 @NotNull CustomizerAwareWriteRegistryBuilder writeRegistry, @NotNull Context context) {
-        Cli cli = context.getTransport();
+        Cli cli = CommandMetrics.instrument(context.getTransport());
         provideReaders(readRegistry, cli);
         provideWriters(writeRegistry, cli);
     }
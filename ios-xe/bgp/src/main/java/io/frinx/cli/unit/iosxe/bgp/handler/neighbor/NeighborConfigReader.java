@@ -29,6 +29,7 @@ import java.util.Locale;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.extension.rev180323.BGPVERSION;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.extension.rev180323.BgpNeighborConfigAug;
@@ -106,11 +107,11 @@ public class NeighborConfigReader implements CliConfigReader<Config, ConfigBuild
     }
 
     private static void parseDefault(ConfigBuilder configBuilder, String[] output) {
-        Optional<String> defaultNetworkNeighbors = Arrays.stream(output)
+        String defaultNetworkNeighbors = Arrays.stream(output)
                 .filter(value -> !value.contains("vrf"))
-                .reduce((s1, s2) -> s1 + s2);
+                .collect(Collectors.joining());
 
-        setAttributes(configBuilder, defaultNetworkNeighbors.orElse(""));
+        setAttributes(configBuilder, defaultNetworkNeighbors);
     }
 
     private static void setAttributes(ConfigBuilder configBuilder, String output) {
@@ -42,6 +42,7 @@ public class NeighborReader implements CliConfigListReader<Neighbor, NeighborKey
     public static final String SH_SUMM = "show running-config | include ^router bgp|^ address-family|^ *neighbor";
     private static final Pattern NEIGHBOR_LINE = Pattern.compile("neighbor (?<id>[0-9A-F.:]*) (remote-as|peer-group) "
             + "\\S+");
+    private static final String ADDRESS_FAMILY = " address-family";
     private static final Function<String, NeighborKey> TO_NEIGH_KEY = (String value) -> new NeighborKey(new IpAddress(
             value.toCharArray()));
 
@@ -98,12 +99,27 @@ public class NeighborReader implements CliConfigListReader<Neighbor, NeighborKey
         return new ArrayList<>();
     }
 
+    /**
+     * Joins lines of the output and splits it into sections starting with {@code address-family}. Done in one pass
+     * over the output, without intermediate copies of the whole output per replaced token.
+     */
     public static String[] splitOutput(String output) {
         // Skip any output before "router bgp" such as address-family definitions for VRFs or OSPF
-        output = output.substring(output.indexOf("router bgp"));
-        return output.replaceAll(Cli.NEWLINE, "")
-                .replaceAll("\r", "")
-                .replaceAll(" address-family", "\n address-family")
-                .split("\\n");
+        final StringBuilder joined = new StringBuilder(output.length());
+        for (int i = output.indexOf("router bgp"); i < output.length(); i++) {
+            final char character = output.charAt(i);
+            if (character != '\n' && character != '\r') {
+                joined.append(character);
+            }
+        }
+        final List<String> sections = new ArrayList<>();
+        int start = 0;
+        int next;
+        while ((next = joined.indexOf(ADDRESS_FAMILY, start + 1)) > 0) {
+            sections.add(joined.substring(start, next));
+            start = next;
+        }
+        sections.add(joined.substring(start));
+        return sections.toArray(new String[0]);
     }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
 import io.frinx.cli.unit.iosxe.cable.handler.downstream.CableDownstreamConfigReader;
 import io.frinx.cli.unit.iosxe.cable.handler.downstream.CableDownstreamReader;
 import io.frinx.cli.unit.iosxe.cable.handler.downstream.DownstreamRfChannelConfigReader;
@@ -79,7 +80,7 @@ public class IosXECableUnit extends AbstractUnit {
     @Override
     public void provideHandlers(@NotNull CustomizerAwareReadRegistryBuilder readRegistry,
                                 @NotNull CustomizerAwareWriteRegistryBuilder writeRegistry, @NotNull Context context) {
-        Cli cli = context.getTransport();
+        Cli cli = CommandMetrics.instrument(context.getTransport());
         provideReaders(readRegistry, cli);
         provideWriters(writeRegistry, cli);
     }
@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
 import io.frinx.cli.unit.iosxe.evc.handler.EvcConfigReader;
 import io.frinx.cli.unit.iosxe.evc.handler.EvcConfigWriter;
 import io.frinx.cli.unit.iosxe.evc.handler.EvcReader;
@@ -59,7 +60,7 @@ public final class IosXeEvcUnit extends AbstractUnit {
     public void provideHandlers(@NotNull final CustomizerAwareReadRegistryBuilder readRegistry,
                                 @NotNull final CustomizerAwareWriteRegistryBuilder writeRegistry,
                                 @NotNull final Context context) {
-        Cli cli = context.getTransport();
+        Cli cli = CommandMetrics.instrument(context.getTransport());
         provideReaders(readRegistry, cli);
         provideWriters(writeRegistry, cli);
     }
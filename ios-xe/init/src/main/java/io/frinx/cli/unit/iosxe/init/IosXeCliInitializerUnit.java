@@ -19,12 +19,15 @@ package io.frinx.cli.unit.iosxe.init;
 import com.google.common.collect.Sets;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
+import io.fd.honeycomb.translate.spi.write.PostCommitHook;
+import io.fd.honeycomb.translate.spi.write.PreCommitHook;
 import io.frinx.cli.io.CliFlavour;
 import io.frinx.cli.io.SessionInitializationStrategy;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
 import io.frinx.cli.registry.spi.TranslateUnit;
 import io.frinx.cli.topology.RemoteDeviceId;
 import io.frinx.cli.unit.ios.init.IosCliInitializerUnit;
+import io.frinx.cli.unit.ios.init.IosWriteBatching;
 import io.frinx.cli.unit.utils.AbstractUnit;
 import io.frinx.translate.unit.commons.handler.spi.ChecksMap;
 import java.util.Arrays;
@@ -38,10 +41,20 @@ import org.opendaylight.yangtools.yang.binding.YangModuleInfo;
 
 public class IosXeCliInitializerUnit extends AbstractUnit {
 
+    private final IosWriteBatching writeBatchingHooks = new IosWriteBatching();
+    private boolean writeBatching;
+
     public IosXeCliInitializerUnit(@NotNull final TranslationUnitCollector registry) {
         super(registry);
     }
 
+    /**
+     * Enables write-batching mode, see {@link IosWriteBatching}.
+     */
+    public void setWriteBatching(boolean writeBatching) {
+        this.writeBatching = writeBatching;
+    }
+
     @Override
     protected Set<Device> getSupportedVersions() {
         return Collections.singleton(IosXeDevices.IOS_XE_GENERIC);
@@ -81,6 +94,23 @@ public class IosXeCliInitializerUnit extends AbstractUnit {
         writeRegistry.addCheckRegistry(ChecksMap.OPENCONFIG_REGISTRY);
     }
 
+    @Override
+    public void close() {
+        super.close();
+        writeBatchingHooks.close();
+    }
+
+    @Override
+    public PreCommitHook getPreCommitHook(TranslateUnit.Context context) {
+        return writeBatching ? writeBatchingHooks.preCommitHook(context) : super.getPreCommitHook(context);
+    }
+
+    @Override
+    public PostCommitHook getCommitHook(TranslateUnit.Context context, Set<Pattern> errorCommitPatterns) {
+        return writeBatching ? writeBatchingHooks.commitHook(context, errorCommitPatterns)
+                : super.getCommitHook(context, errorCommitPatterns);
+    }
+
     @Override
     public Set<Pattern> getErrorPatterns() {
         return Sets.newLinkedHashSet(Arrays.asList(
@@ -19,6 +19,7 @@ package io.frinx.cli.unit.iosxe.ifc.handler.subifc;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.cache.CommandMemo;
 import io.frinx.cli.unit.iosxe.ifc.Util;
 import io.frinx.cli.unit.iosxe.ifc.handler.InterfaceStateReader;
 import io.frinx.cli.unit.utils.CliOperReader;
@@ -52,7 +53,8 @@ public final class SubinterfaceStateReader implements CliOperReader<State, State
         }
 
         final String subIfcName = Util.getSubinterfaceName(id);
-        final String output = blockingRead(f(InterfaceStateReader.SH_SINGLE_INTERFACE, subIfcName), cli, id, ctx);
+        final String output = CommandMemo.blockingRead(this,
+                f(InterfaceStateReader.SH_SINGLE_INTERFACE, subIfcName), cli, id, ctx);
         parseInterfaceState(output, builder, subKey.getIndex(), subIfcName);
     }
 
@@ -18,12 +18,14 @@ package io.frinx.cli.unit.iosxe.it;
 
 import io.frinx.cli.registry.impl.TranslateRegistryImpl;
 import io.frinx.cli.unit.generic.GenericTranslateUnit;
+import io.frinx.cli.unit.handlers.replay.ReplayBenchmark;
 import io.frinx.cli.unit.iosxe.conf.ConfigurationUnit;
 import io.frinx.cli.unit.iosxe.ifc.IosXeInterfaceUnit;
 import io.frinx.cli.unit.iosxe.init.IosXeCliInitializerUnit;
 import java.net.InetSocketAddress;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Host;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
@@ -115,7 +117,7 @@ public class IosAll extends io.frinx.cli.unit.ios.it.IosAll {
         super.getAllDOM();
     }
 
-    @Disabled
+    @EnabledIfSystemProperty(named = ReplayBenchmark.TRANSCRIPT_PROPERTY, matches = ".+")
     @Test
     public void getAllDOMBenchmark() throws Exception {
         super.getAllDOMBenchmark();
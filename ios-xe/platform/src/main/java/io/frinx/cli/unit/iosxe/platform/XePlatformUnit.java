@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
 import io.frinx.cli.unit.iosxe.init.IosXeDevices;
 import io.frinx.cli.unit.iosxe.platform.handler.XeOsComponentConfigReader;
 import io.frinx.cli.unit.iosxe.platform.handler.XeOsComponentReader;
@@ -53,7 +54,7 @@ public class XePlatformUnit extends AbstractUnit {
     public void provideHandlers(@NotNull CustomizerAwareReadRegistryBuilder readRegistry,
                                 @NotNull CustomizerAwareWriteRegistryBuilder writeRegistry,
                                 @NotNull Context context) {
-        var cli = context.getTransport();
+        var cli = CommandMetrics.instrument(context.getTransport());
         provideReaders(readRegistry, cli);
     }
 
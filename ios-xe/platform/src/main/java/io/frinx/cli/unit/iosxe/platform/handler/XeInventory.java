@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.iosxe.platform.handler;
+
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.platform.cisco.rev220620.CiscoPlatformSlotAug;
+
+/**
+ * Components of {@code show inventory} parsed once per read transaction. Holds the inventory entry of every
+ * component, idprom commands of all transceivers (prefetched together by the first transceiver read) and slot details
+ * parsed from {@code show platform}.
+ */
+final class XeInventory {
+
+    private final Map<String, String> entries;
+    private final List<String> transceiverCommands;
+    private final String version;
+    private final AtomicBoolean prefetched = new AtomicBoolean();
+    private volatile CiscoPlatformSlotAug slot;
+
+    private XeInventory(Map<String, String> entries, List<String> transceiverCommands, String version) {
+        this.entries = entries;
+        this.transceiverCommands = transceiverCommands;
+        this.version = version;
+    }
+
+    static XeInventory parse(String output) {
+        final Map<String, String> entries = new HashMap<>();
+        final List<String> transceiverCommands = new ArrayList<>();
+        for (String line : ParsingUtils.NEWLINE.split(XeOsComponentStateReader.processOutput(output))) {
+            final Matcher matcher = XeOsComponentReader.LINE.matcher(line);
+            if (matcher.matches() && entries.putIfAbsent(matcher.group("name"), line) == null) {
+                XeOsComponentStateReader.getTransceiverCommand(matcher.group("name"))
+                        .ifPresent(transceiverCommands::add);
+            }
+        }
+        final String version = ParsingUtils.parseField(output, 0,
+            XeOsComponentStateReader.VERSION::matcher,
+            m -> m.group("version")).orElse(null);
+        return new XeInventory(entries, Collections.unmodifiableList(transceiverCommands), version);
+    }
+
+    /**
+     * Returns the inventory entry of the component as one line, empty string for an unknown component.
+     */
+    String getEntry(String name) {
+        return entries.getOrDefault(name, "");
+    }
+
+    Optional<String> getVersion() {
+        return Optional.ofNullable(version);
+    }
+
+    List<String> getTransceiverCommands() {
+        return transceiverCommands;
+    }
+
+    /**
+     * Returns true for the first caller only, which prefetches outputs of all transceiver commands.
+     */
+    boolean startPrefetch() {
+        return prefetched.compareAndSet(false, true);
+    }
+
+    CiscoPlatformSlotAug getSlot() {
+        return slot;
+    }
+
+    void setSlot(CiscoPlatformSlotAug slot) {
+        this.slot = slot;
+    }
+}
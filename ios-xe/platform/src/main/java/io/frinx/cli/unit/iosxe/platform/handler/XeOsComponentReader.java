@@ -19,6 +19,7 @@ package io.frinx.cli.unit.iosxe.platform.handler;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.cache.CommandMemo;
 import io.frinx.cli.unit.utils.CliOperListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Collections;
@@ -57,8 +58,8 @@ public class XeOsComponentReader implements CliOperListReader<Component, Compone
     @Override
     public List<ComponentKey> getAllIds(@NotNull InstanceIdentifier<Component> id,
                                         @NotNull ReadContext context) throws ReadFailedException {
-        var componentKeys = parseAllComponentIds(blockingRead(SH_MODULE, cli, id, context));
-        componentKeys.addAll(parseAllSlotIds(blockingRead(SH_PLATFORM, cli, id, context)));
+        var componentKeys = parseAllComponentIds(CommandMemo.blockingRead(this, SH_MODULE, cli, id, context));
+        componentKeys.addAll(parseAllSlotIds(CommandMemo.blockingRead(this, SH_PLATFORM, cli, id, context)));
         componentKeys.addAll(Collections.singletonList(OsComponent.OS_KEY));
         return componentKeys;
     }
@@ -19,9 +19,11 @@ package io.frinx.cli.unit.iosxe.platform.handler;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.PatternCache;
+import io.frinx.cli.unit.handlers.cache.CommandMemo;
 import io.frinx.cli.unit.utils.CliOperReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
-import java.util.List;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.jetbrains.annotations.NotNull;
@@ -49,7 +51,11 @@ public class XeOsComponentStateReader implements CliOperReader<State, StateBuild
             .compile("Cisco IOS Software.*, .* Software .*, Version (?<ver>[[^\\s^,]]+),.*");
     static final String IDS = "NAME: \"%s\".*DESCR: \"(?<description>[^\"]+)\".*PID: (?<pid>[^,]+),.*"
             + "VID: (?<vid>[^,]+),.*SN:( )?(?<sn>[^,]*).*";
+    static final Pattern ENTRY = Pattern.compile(String.format(IDS, "[^\"]+"));
     private static final String SH_SUBSLOT_TRANSCEIVER = "show hw-module subslot %s transceiver %s idprom";
+    private static final Pattern TRANSCEIVER_NAME =
+            Pattern.compile("subslot (?<subslot>.+) transceiver (?<transceiver>.+)");
+    private static final Pattern SFP_NAME = Pattern.compile("SFP\\+ module (?<subslot>.+)/(?<transceiver>.+)");
     private static final Pattern DESCRIPTION = Pattern.compile("Description *= (?<description>.+)");
     private static final Pattern TRANSCEIVER_TYPE = Pattern.compile("Transceiver Type: *= (?<transceiverType>.+)");
     private static final Pattern PID = Pattern.compile("Product Identifier \\(PID\\) *= (?<pid>.+)");
@@ -84,37 +90,75 @@ public class XeOsComponentStateReader implements CliOperReader<State, StateBuild
         String name = instanceIdentifier.firstKeyOf(Component.class)
                 .getName();
         if (name.equals(OsComponent.OS_KEY.getName())) {
-            parseOSVersions(stateBuilder, blockingRead(f(SH_MODULE_VERSION), cli, instanceIdentifier, readContext));
-        } else if (name.contains("transceiver")) {
-            List<String> values = findSubslotAndTransceiverByName(
-                    Pattern.compile("subslot (?<subslot>.+) transceiver (?<transceiver>.+)"), name);
-            parseTransceiver(stateBuilder, name, blockingRead(f(SH_SUBSLOT_TRANSCEIVER, values.get(0), values.get(1)),
-                    cli, instanceIdentifier, readContext));
-        } else if (name.contains("SFP")) {
-            List<String> values =  findSubslotAndTransceiverByName(
-                    Pattern.compile("SFP\\+ module (?<subslot>.+)/(?<transceiver>.+)"), name);
-            parseTransceiver(stateBuilder, name, blockingRead(f(SH_SUBSLOT_TRANSCEIVER, values.get(0), values.get(1)),
-                    cli, instanceIdentifier, readContext));
+            parseOSVersions(stateBuilder, CommandMemo.blockingRead(this, f(SH_MODULE_VERSION), cli,
+                    instanceIdentifier, readContext));
+            return;
+        }
+        final XeInventory inventory = getInventory(instanceIdentifier, readContext);
+        final Optional<String> transceiverCommand = getTransceiverCommand(name);
+        if (transceiverCommand.isPresent()) {
+            if (inventory.startPrefetch()) {
+                CommandMemo.prefetch(cli, inventory.getTransceiverCommands(), readContext);
+            }
+            parseTransceiver(stateBuilder, name, CommandMemo.blockingRead(this, transceiverCommand.get(), cli,
+                    instanceIdentifier, readContext));
         } else {
-            parseFields(stateBuilder, name, blockingRead(f(SH_MODULE_INVENTORY, name), cli, instanceIdentifier,
-                    readContext));
-            parseSlot(stateBuilder, name, blockingRead(f(XeOsComponentReader.SH_PLATFORM),
-                    cli, instanceIdentifier, readContext));
+            parseEntry(stateBuilder, name, inventory.getEntry(name), ENTRY);
+            inventory.getVersion().ifPresent(stateBuilder::setVersion);
+            CiscoPlatformSlotAug slot = inventory.getSlot();
+            if (slot == null) {
+                slot = parseSlot(CommandMemo.blockingRead(this, f(XeOsComponentReader.SH_PLATFORM), cli,
+                        instanceIdentifier, readContext));
+                inventory.setSlot(slot);
+            }
+            stateBuilder.addAugmentation(CiscoPlatformSlotAug.class, slot);
         }
     }
 
-    static void parseFields(@NotNull StateBuilder stateBuilder, String name, String output) {
-        stateBuilder.setName(name);
-        stateBuilder.setId(name);
+    private XeInventory getInventory(InstanceIdentifier<State> instanceIdentifier, ReadContext readContext)
+            throws ReadFailedException {
+        XeInventory inventory = (XeInventory) readContext.getModificationCache().get(XeInventory.class);
+        if (inventory == null) {
+            inventory = XeInventory.parse(CommandMemo.blockingRead(this, SH_MODULE_INVENTORY, cli,
+                    instanceIdentifier, readContext));
+            readContext.getModificationCache().put(XeInventory.class, inventory);
+        }
+        return inventory;
+    }
 
-        var ids = Pattern.compile(String.format(IDS, processName(name)));
+    /**
+     * Returns the idprom command of a transceiver component, empty for other components.
+     */
+    static Optional<String> getTransceiverCommand(String name) {
+        final Matcher matcher;
+        if (name.contains("transceiver")) {
+            matcher = TRANSCEIVER_NAME.matcher(name);
+        } else if (name.contains("SFP")) {
+            matcher = SFP_NAME.matcher(name);
+        } else {
+            return Optional.empty();
+        }
+        return matcher.matches()
+                ? Optional.of(String.format(SH_SUBSLOT_TRANSCEIVER, matcher.group("subslot"),
+                        matcher.group("transceiver")))
+                : Optional.empty();
+    }
 
+    static void parseFields(@NotNull StateBuilder stateBuilder, String name, String output) {
         ParsingUtils.parseField(output, 0,
             VERSION::matcher,
             m -> m.group("version"),
             stateBuilder::setVersion);
 
-        output = processOutput(output);
+        parseEntry(stateBuilder, name, processOutput(output), PatternCache.compile(IDS, processName(name)));
+    }
+
+    /**
+     * Parses the inventory entry of a component from output processed into one line per entry.
+     */
+    static void parseEntry(@NotNull StateBuilder stateBuilder, String name, String output, Pattern ids) {
+        stateBuilder.setName(name);
+        stateBuilder.setId(name);
 
         var builder = new CiscoPlatformAugBuilder();
 
@@ -253,18 +297,7 @@ public class XeOsComponentStateReader implements CliOperReader<State, StateBuild
         stateBuilder.addAugmentation(CiscoTransceiverAug.class, builder.build());
     }
 
-    private static List<String> findSubslotAndTransceiverByName(Pattern pattern, String name) {
-        Matcher matcher = pattern.matcher(name);
-        matcher.matches();
-        String subslot = matcher.group("subslot");
-        String transceiver = matcher.group("transceiver");
-        return List.of(subslot, transceiver);
-    }
-
-    private static void parseSlot(@NotNull StateBuilder stateBuilder, String name, String output) {
-        stateBuilder.setName(name);
-        stateBuilder.setId(name);
-
+    private static CiscoPlatformSlotAug parseSlot(String output) {
         CiscoPlatformSlotAugBuilder builder = new CiscoPlatformSlotAugBuilder();
         ParsingUtils.parseField(output, 0,
                 XeOsComponentReader.SLOT_LINE::matcher,
@@ -291,10 +324,10 @@ public class XeOsComponentStateReader implements CliOperReader<State, StateBuild
                 m -> m.group("rommonVersion"),
                 builder::setRommonVersion);
 
-        stateBuilder.addAugmentation(CiscoPlatformSlotAug.class, builder.build());
+        return builder.build();
     }
 
-    private static String processOutput(String output) {
+    static String processOutput(String output) {
         return output.replaceAll("PID", ", PID")
                 .replaceAll("\\\\n", " ")
                 .replaceAll("\\n", " ")
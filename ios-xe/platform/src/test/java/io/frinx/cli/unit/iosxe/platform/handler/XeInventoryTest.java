@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.iosxe.platform.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.platform.rev161222.platform.component.top.components.component.StateBuilder;
+
+class XeInventoryTest {
+
+    private static final String OUTPUT = """
+            NAME: "Chassis", DESCR: "Cisco ASR920 Series - 2GE and 4-10GE - AC model"
+            PID: ASR-920-4SZ-A     , VID: V02  , SN: CAT2323U04C
+
+            NAME: " FIXED IM subslot 0/0", DESCR: "FIXED : 2-port Gig & 4-port Ten Gig Dual Ethernet Interface Module"
+            PID:                   , VID: V00  , SN: N/A       \s
+
+            NAME: "subslot 0/0 transceiver 3", DESCR: "SFP+ 10GBASE-LR"
+            PID: SFP-10G-LR          , VID: V02  , SN: OPM2317209Q    \s
+
+            NAME: "SFP+ module 0/1", DESCR: "SFP+ 10GBASE-SR"
+            PID: SFP-10G-SR          , VID: V03  , SN: AVD1234567X    \s
+
+            """;
+
+    @Test
+    void parseTest() {
+        final var inventory = XeInventory.parse(OUTPUT);
+
+        assertEquals(List.of("show hw-module subslot 0/0 transceiver 3 idprom",
+                "show hw-module subslot 0 transceiver 1 idprom"), inventory.getTransceiverCommands());
+        assertEquals(Optional.empty(), inventory.getVersion());
+        assertEquals("", inventory.getEntry("module R0"));
+
+        for (String name : List.of("Chassis", " FIXED IM subslot 0/0", "subslot 0/0 transceiver 3")) {
+            final var expected = new StateBuilder();
+            XeOsComponentStateReader.parseFields(expected, name, OUTPUT);
+            final var builder = new StateBuilder();
+            XeOsComponentStateReader.parseEntry(builder, name, inventory.getEntry(name),
+                    XeOsComponentStateReader.ENTRY);
+            assertEquals(expected.build(), builder.build());
+        }
+    }
+
+    @Test
+    void startPrefetchTest() {
+        final var inventory = XeInventory.parse(OUTPUT);
+        assertTrue(inventory.startPrefetch());
+        assertFalse(inventory.startPrefetch());
+    }
+
+    @Test
+    void getTransceiverCommandTest() {
+        assertEquals(Optional.of("show hw-module subslot 0/0 transceiver 3 idprom"),
+                XeOsComponentStateReader.getTransceiverCommand("subslot 0/0 transceiver 3"));
+        assertEquals(Optional.of("show hw-module subslot 0 transceiver 1 idprom"),
+                XeOsComponentStateReader.getTransceiverCommand("SFP+ module 0/1"));
+        assertEquals(Optional.empty(), XeOsComponentStateReader.getTransceiverCommand(" FIXED IM subslot 0/0"));
+    }
+}
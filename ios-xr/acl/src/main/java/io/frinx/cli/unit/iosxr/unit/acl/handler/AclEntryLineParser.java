@@ -21,8 +21,11 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.net.InetAddresses;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.frinx.cli.unit.utils.ParsingUtils;
 import java.net.InetAddress;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Queue;
@@ -94,6 +97,7 @@ public final class AclEntryLineParser {
     private static final IpProtocolType IP_PROTOCOL_TCP = new IpProtocolType(IPTCP.class);
     private static final IpProtocolType IP_PROTOCOL_UDP = new IpProtocolType(IPUDP.class);
     public static final Pattern ZERO_TO_255_PATTERN = Pattern.compile("^2[0-5][0-5]|2[0-4][0-9]|1?[0-9]?[0-9]$");
+    private static final int MAX_SEQUENCE_ID_DIGITS = 18;
 
     private AclEntryLineParser() {
     }
@@ -113,6 +117,26 @@ public final class AclEntryLineParser {
         return Optional.empty();
     }
 
+    /**
+     * Builds index of ACL entry lines by sequence id in one pass over the output. Lines are the same as returned by
+     * {@link #findLineWithSequenceId(long, String)}, the first line wins for duplicate ids.
+     */
+    static Map<Long, String> indexLinesBySequenceId(String lines) {
+        Map<Long, String> index = new HashMap<>();
+        for (String line : ParsingUtils.NEWLINE.split(lines)) {
+            String entry = StringUtils.stripStart(line, null);
+            int sequenceEnd = 0;
+            while (sequenceEnd < entry.length() && Character.isDigit(entry.charAt(sequenceEnd))) {
+                sequenceEnd++;
+            }
+            if (sequenceEnd > 0 && sequenceEnd <= MAX_SEQUENCE_ID_DIGITS && sequenceEnd < entry.length()
+                    && entry.charAt(sequenceEnd) == ' ') {
+                index.putIfAbsent(Long.parseLong(entry.substring(0, sequenceEnd)), entry);
+            }
+        }
+        return index;
+    }
+
     static void parseLine(final AclEntryBuilder builder, String line, Class<? extends ACLTYPE> aclType) {
 
         Preconditions.checkArgument(ACLIPV4.class.equals(aclType) || ACLIPV6.class.equals(aclType),
@@ -21,10 +21,10 @@ import com.google.common.collect.ImmutableMap;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.jetbrains.annotations.NotNull;
@@ -84,18 +84,40 @@ public class AclEntryReader {
             @NotNull final AclEntryBuilder aclEntryBuilder, @NotNull final ReadContext readContext)
             throws ReadFailedException {
 
-        String command = getAclCommand(instanceIdentifier);
-        String output = aclSetReader.blockingRead(command, cli, instanceIdentifier, readContext);
+        parseACL(instanceIdentifier, aclEntryBuilder, getAclEntryIndex(instanceIdentifier, readContext));
+    }
 
-        parseACL(instanceIdentifier, aclEntryBuilder, output);
+    /**
+     * Index of ACL entry lines by sequence id is built only once per ACL and read transaction, all entries of the ACL
+     * are then served from the modification cache.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, String> getAclEntryIndex(@NotNull final InstanceIdentifier<AclSet> instanceIdentifier,
+                                               @NotNull final ReadContext readContext) throws ReadFailedException {
+        String command = getAclCommand(instanceIdentifier);
+        Object cacheKey = new AbstractMap.SimpleEntry<>(AclEntryReader.class, command);
+        Map<Long, String> index = (Map<Long, String>) readContext.getModificationCache().get(cacheKey);
+        if (index == null) {
+            String output = aclSetReader.blockingRead(command, cli, instanceIdentifier, readContext);
+            index = AclEntryLineParser.indexLinesBySequenceId(output);
+            readContext.getModificationCache().put(cacheKey, index);
+        }
+        return index;
     }
 
     @VisibleForTesting
     static void parseACL(final InstanceIdentifier<AclSet> instanceIdentifier,
                          final AclEntryBuilder aclEntryBuilder, final String output) {
+        parseACL(instanceIdentifier, aclEntryBuilder, AclEntryLineParser.indexLinesBySequenceId(output));
+    }
+
+    private static void parseACL(final InstanceIdentifier<AclSet> instanceIdentifier,
+                                 final AclEntryBuilder aclEntryBuilder, final Map<Long, String> aclEntryIndex) {
 
         AclSetKey aclSetKey = instanceIdentifier.firstKeyOf(AclSet.class);
-        Optional<String> maybeLine = AclEntryLineParser.findAclEntryWithSequenceId(aclEntryBuilder.getKey(), output);
-        maybeLine.ifPresent(s -> AclEntryLineParser.parseLine(aclEntryBuilder, s, aclSetKey.getType()));
+        String line = aclEntryIndex.get(aclEntryBuilder.getKey().getSequenceId());
+        if (line != null) {
+            AclEntryLineParser.parseLine(aclEntryBuilder, line, aclSetKey.getType());
+        }
     }
-}
\ No newline at end of file
+}
@@ -21,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
@@ -402,6 +403,29 @@ class AclEntryLineParserTest {
         });
     }
 
+    @Test
+    void testIndexLinesBySequenceId() {
+        String lines = """
+                a
+                 1 foo
+                 2 bar baz
+                 2 duplicate
+                xxx""";
+        assertEquals(Map.of(1L, "1 foo", 2L, "2 bar baz"), AclEntryLineParser.indexLinesBySequenceId(lines));
+
+        StringBuilder largeAcl = new StringBuilder("ipv4 access-list foo\n");
+        for (int i = 1; i <= 10000; i++) {
+            largeAcl.append(' ').append(i * 10).append(" permit tcp host 10.0.0.1 any eq ").append(i % 65535)
+                    .append('\n');
+        }
+        Map<Long, String> index = AclEntryLineParser.indexLinesBySequenceId(largeAcl.toString());
+        assertEquals(10000, index.size());
+        for (long sequenceId : new long[]{10L, 50000L, 100000L}) {
+            assertEquals(AclEntryLineParser.findLineWithSequenceId(sequenceId, largeAcl.toString()),
+                    Optional.ofNullable(index.get(sequenceId)));
+        }
+    }
+
     @Test
     void testFindLineWithSequenceId() {
         String lines = """
@@ -21,6 +21,8 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
+import io.frinx.cli.unit.handlers.cache.ConfigurationCache;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalAfiSafiConfigWriter;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalAfiSafiReader;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalConfigReader;
@@ -50,6 +52,7 @@ import io.frinx.cli.unit.iosxr.bgp.handler.peergroup.PeerGroupAfiSafiListReader;
 import io.frinx.cli.unit.iosxr.bgp.handler.peergroup.PeerGroupConfigReader;
 import io.frinx.cli.unit.iosxr.bgp.handler.peergroup.PeerGroupConfigWriter;
 import io.frinx.cli.unit.iosxr.bgp.handler.peergroup.PeerGroupListReader;
+import io.frinx.cli.unit.iosxr.init.IosXrCachePolicy;
 import io.frinx.cli.unit.iosxr.init.IosXrDevices;
 import io.frinx.cli.unit.utils.AbstractUnit;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
@@ -85,7 +88,7 @@ public class BgpUnit extends AbstractUnit {
     public void provideHandlers(@NotNull CustomizerAwareReadRegistryBuilder readRegistry,
                                 @NotNull CustomizerAwareWriteRegistryBuilder writeRegistry,
                                 @NotNull Context context) {
-        Cli cli = context.getTransport();
+        Cli cli = ConfigurationCache.wrap(CommandMetrics.instrument(context.getTransport()), IosXrCachePolicy.INSTANCE);
         provideReaders(readRegistry, cli);
         provideWriters(writeRegistry, cli);
     }
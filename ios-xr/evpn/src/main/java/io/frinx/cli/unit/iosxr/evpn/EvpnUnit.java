@@ -21,8 +21,11 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
+import io.frinx.cli.unit.handlers.cache.ConfigurationCache;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
 import io.frinx.cli.unit.iosxr.evpn.handler.EvpnConfigReader;
 import io.frinx.cli.unit.iosxr.evpn.handler.EvpnConfigWriter;
+import io.frinx.cli.unit.iosxr.init.IosXrCachePolicy;
 import io.frinx.cli.unit.iosxr.init.IosXrDevices;
 import io.frinx.cli.unit.utils.AbstractUnit;
 import io.frinx.openconfig.openconfig.evpn.IIDs;
@@ -55,7 +58,7 @@ public class EvpnUnit extends AbstractUnit {
     @Override
     public void provideHandlers(@NotNull final CustomizerAwareReadRegistryBuilder readRegistry,
             @NotNull final CustomizerAwareWriteRegistryBuilder writeRegistry, @NotNull final Context context) {
-        Cli cli = context.getTransport();
+        Cli cli = ConfigurationCache.wrap(CommandMetrics.instrument(context.getTransport()), IosXrCachePolicy.INSTANCE);
         provideReaders(readRegistry, cli);
         provideWriters(writeRegistry, cli);
     }
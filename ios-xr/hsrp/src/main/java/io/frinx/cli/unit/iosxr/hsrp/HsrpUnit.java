@@ -21,12 +21,15 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
+import io.frinx.cli.unit.handlers.cache.ConfigurationCache;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
 import io.frinx.cli.unit.iosxr.hsrp.handler.HsrpGroupConfigReader;
 import io.frinx.cli.unit.iosxr.hsrp.handler.HsrpGroupConfigWriter;
 import io.frinx.cli.unit.iosxr.hsrp.handler.HsrpGroupReader;
 import io.frinx.cli.unit.iosxr.hsrp.handler.HsrpInterfaceConfigReader;
 import io.frinx.cli.unit.iosxr.hsrp.handler.HsrpInterfaceConfigWriter;
 import io.frinx.cli.unit.iosxr.hsrp.handler.HsrpInterfaceReader;
+import io.frinx.cli.unit.iosxr.init.IosXrCachePolicy;
 import io.frinx.cli.unit.iosxr.init.IosXrDevices;
 import io.frinx.cli.unit.utils.AbstractUnit;
 import io.frinx.openconfig.openconfig.hsrp.IIDs;
@@ -59,7 +62,7 @@ public class HsrpUnit extends AbstractUnit {
     @Override
     public void provideHandlers(@NotNull final CustomizerAwareReadRegistryBuilder readRegistry,
             @NotNull final CustomizerAwareWriteRegistryBuilder writeRegistry, @NotNull final Context context) {
-        Cli cli = context.getTransport();
+        Cli cli = ConfigurationCache.wrap(CommandMetrics.instrument(context.getTransport()), IosXrCachePolicy.INSTANCE);
         provideReaders(readRegistry, cli);
         provideWriters(writeRegistry, cli);
     }
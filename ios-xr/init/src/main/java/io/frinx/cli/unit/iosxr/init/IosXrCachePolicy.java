@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.iosxr.init;
+
+import io.frinx.cli.unit.handlers.cache.CachePolicy;
+import io.frinx.cli.unit.handlers.cache.ConfigurationCache;
+import io.frinx.cli.unit.handlers.cache.ConfigurationDump;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * {@link ConfigurationCache} policy of IOS XR devices. Running configuration is cached until the id of the last
+ * commit changes. Running-config variants (subtree selectors and include/begin pipes) are resolved from one
+ * {@code show running-config} by {@link IosXrRunningConfig}.
+ */
+public final class IosXrCachePolicy implements CachePolicy {
+
+    public static final IosXrCachePolicy INSTANCE = new IosXrCachePolicy();
+
+    static final String SH_LAST_COMMIT = "show configuration commit list 1";
+    private static final Pattern LAST_COMMIT = Pattern.compile("1\\s+(?<id>\\d+)\\s.*");
+
+    private IosXrCachePolicy() {
+    }
+
+    @Override
+    public String getFingerprintCommand() {
+        return SH_LAST_COMMIT;
+    }
+
+    @Override
+    public Optional<String> parseFingerprint(String output) {
+        return ParsingUtils.parseField(output, 0, LAST_COMMIT::matcher, m -> m.group("id"));
+    }
+
+    @Override
+    public boolean isCacheable(String command) {
+        return command.startsWith("show running-config");
+    }
+
+    @Override
+    public boolean isReadOnly(String command) {
+        return command.startsWith("show ");
+    }
+
+    @Override
+    public String getDumpCommand() {
+        return IosXrCliInitializerUnit.SH_RUN;
+    }
+
+    @Override
+    public boolean isResolvable(String command) {
+        return IosXrRunningConfig.isResolvable(command);
+    }
+
+    @Override
+    public ConfigurationDump parseDump(String output) {
+        return new IosXrRunningConfig(output);
+    }
+}
@@ -18,6 +18,7 @@ package io.frinx.cli.unit.iosxr.init;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Sets;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
@@ -28,10 +29,13 @@ import io.fd.honeycomb.translate.spi.write.PreCommitHook;
 import io.fd.honeycomb.translate.write.RevertFailedException;
 import io.fd.honeycomb.translate.write.RevertSuccessException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.io.CliFlavour;
 import io.frinx.cli.io.Command;
+import io.frinx.cli.io.OutputFunction;
 import io.frinx.cli.io.SessionInitializationStrategy;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
 import io.frinx.cli.topology.RemoteDeviceId;
+import io.frinx.cli.unit.handlers.cache.ConfigurationCache;
 import io.frinx.cli.unit.utils.AbstractUnitWithNativeSupport;
 import io.frinx.translate.unit.commons.handler.spi.ChecksMap;
 import java.util.Arrays;
@@ -74,6 +78,10 @@ public class IosXrCliInitializerUnit extends AbstractUnitWithNativeSupport {
 
     @VisibleForTesting
     static final Command SH_CONF_FAILED = Command.showCommandNoCaching("show configuration failed inheritance");
+    @VisibleForTesting
+    static final String SH_RUN = "show running-config";
+    @VisibleForTesting
+    static final Pattern SH_RUN_PATTERN = Pattern.compile("^(do )?sho?w? runn?i?n?g?-?c?o?n?f?i?g?");
 
     public IosXrCliInitializerUnit(@NotNull final TranslationUnitCollector registry) {
         super(registry);
@@ -108,6 +116,12 @@ public class IosXrCliInitializerUnit extends AbstractUnitWithNativeSupport {
         writeRegistry.addCheckRegistry(ChecksMap.OPENCONFIG_REGISTRY);
     }
 
+    @Override
+    public void close() {
+        super.close();
+        ConfigurationCache.clear(IosXrCachePolicy.INSTANCE);
+    }
+
     @Override
     public PreCommitHook getPreCommitHook(Context context) {
         return () -> {
@@ -204,6 +218,33 @@ public class IosXrCliInitializerUnit extends AbstractUnitWithNativeSupport {
         return Strings.emptyToNull(cause.getMessage());
     }
 
+    /**
+     * IOS-XR running configuration is fetched only once per read transaction with 'show running-config'. Filtered
+     * variants used by readers (subtree selectors such as 'show running-config interface %s' and '| include',
+     * '| section', '| begin' pipes) are then resolved locally from the parsed configuration. The transport does not
+     * report these hits, devices with the configuration cache enabled get the variants resolved and counted
+     * by {@link IosXrCachePolicy} instead.
+     */
+    @Override
+    public CliFlavour getCliFlavour() {
+        return new CliFlavour(
+                SH_RUN_PATTERN,
+                " ",
+                "",
+                "!",
+                Pattern.compile("\\|"),
+                OutputFunction.ALL,
+                "!",
+                // the timestamp line printed by XR before any output starts with the day of the week
+                ImmutableList.of("end", "Building configuration", "!! IOS XR Configuration",
+                        "!! Last configuration change", "Mon ", "Tue ", "Wed ", "Thu ", "Fri ", "Sat ", "Sun "),
+                "",
+                Cli.NEWLINE,
+                "",
+                null,
+                SH_RUN);
+    }
+
     @Override
     public Set<Pattern> getErrorPatterns() {
         return Sets.newLinkedHashSet(Arrays.asList(
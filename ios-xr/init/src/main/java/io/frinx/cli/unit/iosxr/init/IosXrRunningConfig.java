@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.iosxr.init;
+
+import io.frinx.cli.unit.handlers.cache.ConfigurationDump;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Parsed IOS XR {@code show running-config}, answers the running-config variants used by readers:
+ * <ul>
+ *     <li>subtree selectors, e.g. {@code show running-config router bgp 1 neighbor 10.1.1.1}. Every block whose
+ *     header words start with the selector words is returned whole, parent blocks of a nested selector are returned
+ *     with their header and closing {@code !} only,</li>
+ *     <li>a single {@code | include}, {@code | begin} or {@code | utility egrep} pipe applied to the selected
+ *     lines.</li>
+ * </ul>
+ * Any other pipe is not resolved and the command is sent to the device.
+ */
+final class IosXrRunningConfig implements ConfigurationDump {
+
+    private static final Pattern COMMAND =
+            Pattern.compile("show running-config(?<path>[^|]*)(\\|\\s*(?<filter>include|begin|utility egrep)"
+                    + "\\s+(?<regex>.+))?");
+    private static final Pattern WORDS = Pattern.compile("\\s+");
+    private static final Pattern TIMESTAMP =
+            Pattern.compile("(Mon|Tue|Wed|Thu|Fri|Sat|Sun) \\w{3} [ \\d]\\d \\d{2}:\\d{2}:\\d{2}\\.\\d{3} \\S+");
+    private static final String CLOSING = "!";
+    private static final String SET_CLOSING = "end-";
+    private static final String END = "end";
+
+    private final List<String> lines = new ArrayList<>();
+    private final List<Block> blocks = new ArrayList<>();
+    private final long length;
+
+    IosXrRunningConfig(String output) {
+        this.length = output.length();
+        final Deque<Block> open = new ArrayDeque<>();
+        for (String line : ParsingUtils.NEWLINE.split(output)) {
+            final String stripped = line.strip();
+            if (stripped.isEmpty() || isHeader(line)) {
+                continue;
+            }
+            final int indent = line.indexOf(stripped.charAt(0));
+            final int index = lines.size();
+            lines.add(line);
+            while (!open.isEmpty() && open.peek().indent > indent) {
+                open.pop().end = index - 1;
+            }
+            // blocks end by '!' or 'end-policy', 'end-set' etc. at the indentation of their header
+            if (stripped.equals(CLOSING) || stripped.startsWith(SET_CLOSING)) {
+                if (!open.isEmpty() && open.peek().indent == indent) {
+                    open.pop().end = index;
+                }
+                continue;
+            }
+            if (!open.isEmpty() && open.peek().indent == indent) {
+                open.pop().end = index - 1;
+            }
+            final Block block = new Block(indent, WORDS.split(stripped), index);
+            (open.isEmpty() ? blocks : open.peek().children).add(block);
+            open.push(block);
+        }
+        while (!open.isEmpty()) {
+            open.pop().end = lines.size() - 1;
+        }
+    }
+
+    static boolean isResolvable(String command) {
+        return COMMAND.matcher(command).matches();
+    }
+
+    @Override
+    public Optional<String> resolve(String command) {
+        final Matcher matcher = COMMAND.matcher(command);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        final Pattern regex;
+        try {
+            regex = matcher.group("regex") == null ? null : Pattern.compile(unquote(matcher.group("regex").strip()));
+        } catch (PatternSyntaxException e) {
+            return Optional.empty();
+        }
+        final String path = matcher.group("path").strip();
+        final List<String> selected = new ArrayList<>();
+        if (path.isEmpty()) {
+            selected.addAll(lines);
+        } else {
+            select(blocks, WORDS.split(path), 0, selected);
+        }
+        final StringBuilder output = new StringBuilder();
+        boolean begun = false;
+        for (String line : selected) {
+            final boolean matches = regex == null || regex.matcher(line).find();
+            begun |= matches;
+            if ("begin".equals(matcher.group("filter")) ? begun : matches) {
+                output.append(line).append('\n');
+            }
+        }
+        return Optional.of(output.toString());
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    private void select(List<Block> candidates, String[] path, int offset, List<String> selected) {
+        final int remaining = path.length - offset;
+        for (Block block : candidates) {
+            final int common = Math.min(remaining, block.words.length);
+            if (!startsWith(block.words, path, offset, common)) {
+                continue;
+            }
+            if (remaining <= block.words.length) {
+                selected.addAll(lines.subList(block.start, block.end + 1));
+            } else {
+                final int before = selected.size();
+                selected.add(lines.get(block.start));
+                select(block.children, path, offset + block.words.length, selected);
+                if (selected.size() == before + 1) {
+                    selected.remove(before);
+                } else {
+                    selected.add(" ".repeat(block.indent) + CLOSING);
+                }
+            }
+        }
+    }
+
+    private static boolean startsWith(String[] words, String[] path, int offset, int count) {
+        for (int i = 0; i < count; i++) {
+            if (!words[i].equals(path[offset + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isHeader(String line) {
+        return line.equals(END) || line.startsWith("Building configuration") || line.startsWith("!! ")
+                || TIMESTAMP.matcher(line).matches();
+    }
+
+    private static String unquote(String regex) {
+        if (regex.length() > 1 && (regex.charAt(0) == '"' || regex.charAt(0) == '\'')
+                && regex.charAt(regex.length() - 1) == regex.charAt(0)) {
+            return regex.substring(1, regex.length() - 1);
+        }
+        return regex;
+    }
+
+    private static final class Block {
+
+        private final int indent;
+        private final String[] words;
+        private final int start;
+        private final List<Block> children = new ArrayList<>();
+        private int end;
+
+        private Block(int indent, String[] words, int start) {
+            this.indent = indent;
+            this.words = words;
+            this.start = start;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.iosxr.init;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.io.Command;
+import io.frinx.cli.unit.handlers.cache.ConfigurationCache;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class IosXrCachePolicyTest {
+
+    @Test
+    void testParseFingerprint() {
+        assertEquals(Optional.of("1000007068"), IosXrCachePolicy.INSTANCE.parseFingerprint("""
+                Tue Apr  3 14:03:27.250 UTC
+                SNo. Label/ID              User      Line                Client      Time Stamp
+                ~~~~ ~~~~~~~~              ~~~~      ~~~~                ~~~~~~      ~~~~~~~~~~
+                1    1000007068            cisco     vty1:node0_0_CPU0   CLI         Tue Apr  3 13:03:39 2018
+                """));
+        assertEquals(Optional.empty(), IosXrCachePolicy.INSTANCE.parseFingerprint("""
+                Tue Apr  3 14:03:27.250 UTC
+                No commits found
+                """));
+    }
+
+    @Test
+    void testCommands() {
+        assertTrue(IosXrCachePolicy.INSTANCE.isCacheable("show running-config interface"));
+        assertFalse(IosXrCachePolicy.INSTANCE.isCacheable("show interfaces"));
+        assertTrue(IosXrCachePolicy.INSTANCE.isReadOnly("show interfaces"));
+        assertFalse(IosXrCachePolicy.INSTANCE.isReadOnly("interface Loopback0\ndescription test\nroot"));
+    }
+
+    @Test
+    void testRunningConfigVariantsServedFromCache() throws Exception {
+        final Map<String, String> outputs = Map.of(
+                IosXrCachePolicy.SH_LAST_COMMIT, "1    1000007068            cisco     vty1     CLI         ",
+                IosXrCliInitializerUnit.SH_RUN, """
+                        interface Loopback0
+                         ipv4 address 10.0.0.1 255.255.255.255
+                        !
+                        router bgp 1
+                         neighbor 10.1.1.2
+                          remote-as 2
+                         !
+                        !
+                        """);
+        final Cli device = Mockito.mock(Cli.class);
+        Mockito.when(device.getDeviceId()).thenReturn("xr-variants");
+        Mockito.when(device.executeAndRead(Mockito.any(Command.class))).thenAnswer(invocation -> CompletableFuture
+                .completedFuture(outputs.getOrDefault(invocation.<Command>getArgument(0).getContent().strip(), "")));
+        final Cli cli;
+        System.setProperty(ConfigurationCache.DEVICES_PROPERTY, "xr-variants");
+        try {
+            cli = ConfigurationCache.wrap(CommandMetrics.instrument(device), IosXrCachePolicy.INSTANCE);
+        } finally {
+            System.clearProperty(ConfigurationCache.DEVICES_PROPERTY);
+        }
+
+        assertEquals(" ipv4 address 10.0.0.1 255.255.255.255\n",
+                read(cli, "show running-config interface Loopback0 | include ipv4"));
+        assertEquals("router bgp 1\n neighbor 10.1.1.2\n  remote-as 2\n !\n!\n",
+                read(cli, "show running-config router bgp 1 neighbor 10.1.1.2"));
+
+        Mockito.verify(device).executeAndRead(Mockito.argThat(
+            command -> command.getContent().strip().equals(IosXrCliInitializerUnit.SH_RUN)));
+        Mockito.verify(device, Mockito.times(2)).executeAndRead(Mockito.any(Command.class));
+        final CommandMetrics metrics = CommandMetrics.of(ConfigurationCache.unwrap(cli)).get();
+        assertEquals(3, metrics.getCommandCount());
+        assertEquals(2, metrics.getDeviceCommandCount());
+        assertEquals(1, metrics.getCaches().get(0).getHits());
+        assertEquals(1, metrics.getCaches().get(0).getMisses());
+    }
+
+    private static String read(Cli cli, String command) throws Exception {
+        return cli.executeAndRead(Command.showCommand(command)).toCompletableFuture().get();
+    }
+}
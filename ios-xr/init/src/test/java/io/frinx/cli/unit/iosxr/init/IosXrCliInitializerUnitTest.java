@@ -16,6 +16,9 @@
 
 package io.frinx.cli.unit.iosxr.init;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -139,6 +142,19 @@ class IosXrCliInitializerUnitTest {
         });
     }
 
+    @Test
+    void testCliFlavour() {
+        assertNotNull(unit.getCliFlavour());
+        assertEquals("show running-config", IosXrCliInitializerUnit.SH_RUN);
+        assertTrue(isRunningConfig("show running-config"));
+        assertTrue(isRunningConfig("show running-config interface GigabitEthernet0/0/0/1"));
+        assertTrue(isRunningConfig("show running-config router bgp 1 neighbor 10.1.1.1"));
+        assertTrue(isRunningConfig("sh run | include ^interface"));
+        assertTrue(isRunningConfig("do show running-config"));
+        assertFalse(isRunningConfig("show interfaces"));
+        assertFalse(isRunningConfig("show configuration commit list 1"));
+    }
+
     @Test
     void testRevertSuccessCommitFailed() throws Exception {
         assertThrows(RevertSuccessException.class, () -> {
@@ -160,4 +176,8 @@ class IosXrCliInitializerUnitTest {
                     .run(null);
         });
     }
-}
\ No newline at end of file
+
+    private static boolean isRunningConfig(String command) {
+        return IosXrCliInitializerUnit.SH_RUN_PATTERN.matcher(command).lookingAt();
+    }
+}
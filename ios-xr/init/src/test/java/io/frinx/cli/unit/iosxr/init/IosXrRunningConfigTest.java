@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.iosxr.init;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class IosXrRunningConfigTest {
+
+    private static final String OUTPUT = """
+            Tue Apr  3 14:03:27.250 UTC
+            Building configuration...
+            !! IOS XR Configuration version = 6.1.4
+            !! Last configuration change at Tue Apr  3 13:03:39 2018 by cisco
+            !
+            hostname xr-pe1
+            interface Loopback0
+             ipv4 address 10.0.0.1 255.255.255.255
+            !
+            interface GigabitEthernet0/0/0/0
+             description uplink
+             ipv4 address 10.1.1.1 255.255.255.0
+            !
+            interface GigabitEthernet0/0/0/0.100
+             encapsulation dot1q 100
+            !
+            prefix-set PXS
+              10.0.0.0/8
+            end-set
+            !
+            router bgp 1
+             bgp router-id 10.0.0.1
+             neighbor 10.1.1.2
+              remote-as 2
+              address-family ipv4 unicast
+              !
+             !
+             neighbor 10.1.1.3
+              remote-as 3
+             !
+            !
+            end
+            """;
+
+    private final IosXrRunningConfig config = new IosXrRunningConfig(OUTPUT);
+
+    @Test
+    void testSubtree() {
+        assertEquals(Optional.of("""
+                interface GigabitEthernet0/0/0/0
+                 description uplink
+                 ipv4 address 10.1.1.1 255.255.255.0
+                !
+                """), config.resolve("show running-config interface GigabitEthernet0/0/0/0"));
+        assertEquals(Optional.of("""
+                prefix-set PXS
+                  10.0.0.0/8
+                end-set
+                """), config.resolve("show running-config prefix-set PXS"));
+        assertEquals(Optional.of("hostname xr-pe1\n"), config.resolve("show running-config hostname"));
+        assertEquals(Optional.of(""), config.resolve("show running-config interface Loopback1"));
+    }
+
+    @Test
+    void testNestedSubtree() {
+        assertEquals(Optional.of("""
+                router bgp 1
+                 neighbor 10.1.1.3
+                  remote-as 3
+                 !
+                !
+                """), config.resolve("show running-config router bgp 1 neighbor 10.1.1.3"));
+        assertEquals(Optional.of(""), config.resolve("show running-config router bgp 2 neighbor 10.1.1.3"));
+    }
+
+    @Test
+    void testPipes() {
+        assertEquals(Optional.of("""
+                interface Loopback0
+                interface GigabitEthernet0/0/0/0
+                interface GigabitEthernet0/0/0/0.100
+                """), config.resolve("show running-config interface | include ^interface"));
+        assertEquals(Optional.of("""
+                hostname xr-pe1
+                interface Loopback0
+                """), config.resolve("show running-config | utility egrep \"^hostname|^interface Loop\""));
+        assertEquals(Optional.of("""
+                 neighbor 10.1.1.3
+                  remote-as 3
+                 !
+                !
+                """), config.resolve("show running-config router bgp 1 | begin neighbor 10.1.1.3"));
+    }
+
+    @Test
+    void testHeaderLinesDropped() {
+        final String output = config.resolve("show running-config").get();
+        assertTrue(output.startsWith("!\nhostname xr-pe1\n"));
+        assertFalse(output.contains("UTC"));
+        assertFalse(output.contains("Building configuration"));
+        assertFalse(output.endsWith("end\n"));
+    }
+
+    @Test
+    void testResolvable() {
+        assertTrue(IosXrRunningConfig.isResolvable("show running-config router bgp 1 | include ^ neighbor"));
+        assertFalse(IosXrRunningConfig.isResolvable("show running-config | section router"));
+        assertFalse(IosXrRunningConfig.isResolvable("show interfaces"));
+        assertEquals(Optional.empty(), config.resolve("show running-config | include ["));
+    }
+}
@@ -23,10 +23,14 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
+import io.frinx.cli.unit.handlers.cache.ConfigurationCache;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
+import io.frinx.cli.unit.ifc.base.util.CounterSamples;
 import io.frinx.cli.unit.iosxr.ifc.handler.HoldTimeConfigReader;
 import io.frinx.cli.unit.iosxr.ifc.handler.HoldTimeConfigWriter;
 import io.frinx.cli.unit.iosxr.ifc.handler.InterfaceConfigReader;
 import io.frinx.cli.unit.iosxr.ifc.handler.InterfaceConfigWriter;
+import io.frinx.cli.unit.iosxr.ifc.handler.InterfaceCountersReader;
 import io.frinx.cli.unit.iosxr.ifc.handler.InterfaceDampingConfigReader;
 import io.frinx.cli.unit.iosxr.ifc.handler.InterfaceDampingConfigWriter;
 import io.frinx.cli.unit.iosxr.ifc.handler.InterfaceReader;
@@ -62,6 +66,7 @@ import io.frinx.cli.unit.iosxr.ifc.handler.subifc.ip6.Ipv6ConfigWriter;
 import io.frinx.cli.unit.iosxr.ifc.handler.verify.RpfCheckIpv4Writer;
 import io.frinx.cli.unit.iosxr.ifc.handler.verify.RpfCheckIpv6Writer;
 import io.frinx.cli.unit.iosxr.ifc.handler.verify.RpfCheckReader;
+import io.frinx.cli.unit.iosxr.init.IosXrCachePolicy;
 import io.frinx.cli.unit.iosxr.init.IosXrDevices;
 import io.frinx.cli.unit.utils.AbstractUnit;
 import io.frinx.openconfig.openconfig.interfaces.IIDs;
@@ -69,11 +74,14 @@ import io.frinx.translate.unit.commons.handler.spi.ChecksMap;
 import java.util.Set;
 import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.ip.rev161222.$YangModuleInfoImpl;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.StateBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.translate.registry.rev170520.Device;
 import org.opendaylight.yangtools.yang.binding.YangModuleInfo;
 
 public final class IosXRInterfaceUnit extends AbstractUnit {
 
+    private final CounterSamples counterSamples = new CounterSamples();
+
     public IosXRInterfaceUnit(@NotNull final TranslationUnitCollector registry) {
         super(registry);
     }
@@ -120,7 +128,9 @@ public final class IosXRInterfaceUnit extends AbstractUnit {
     public void provideHandlers(@NotNull final CustomizerAwareReadRegistryBuilder readRegistry,
                                 @NotNull final CustomizerAwareWriteRegistryBuilder writeRegistry,
                                 @NotNull final Context context) {
-        Cli cli = context.getTransport();
+        Cli cli = ConfigurationCache.wrap(CommandMetrics.instrument(context.getTransport()), IosXrCachePolicy.INSTANCE);
+        // samples of a previous mount of the device are stale
+        counterSamples.clear(cli.getDeviceId());
         readRegistry.addCheckRegistry(CHECK_REGISTRY);
         // TODO lot of handlers are exactly the same as the handlers from
         // ios-interface unit. Extract common logic and reuse it
@@ -128,6 +138,12 @@ public final class IosXRInterfaceUnit extends AbstractUnit {
         provideWriters(writeRegistry, cli);
     }
 
+    @Override
+    public void close() {
+        super.close();
+        counterSamples.clear();
+    }
+
     private void provideWriters(CustomizerAwareWriteRegistryBuilder writeRegistry, Cli cli) {
         writeRegistry.addNoop(IIDs.IN_INTERFACE);
         writeRegistry.add(IIDs.IN_IN_CONFIG, new InterfaceConfigWriter(cli));
@@ -210,6 +226,8 @@ public final class IosXRInterfaceUnit extends AbstractUnit {
     private void provideReaders(CustomizerAwareReadRegistryBuilder readRegistry, Cli cli) {
         readRegistry.add(IIDs.IN_INTERFACE, new InterfaceReader(cli));
         readRegistry.add(IIDs.IN_IN_CONFIG, new InterfaceConfigReader(cli));
+        readRegistry.addStructuralReader(IIDs.IN_IN_STATE, StateBuilder.class);
+        readRegistry.add(IIDs.IN_IN_ST_COUNTERS, new InterfaceCountersReader(cli, counterSamples));
 
         readRegistry.add(IIDs.IN_IN_SU_SUBINTERFACE, new SubinterfaceReader(cli));
         readRegistry.add(IIDs.IN_IN_SU_SU_CONFIG, new SubinterfaceConfigReader(cli));
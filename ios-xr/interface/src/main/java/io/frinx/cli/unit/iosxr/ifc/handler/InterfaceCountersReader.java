@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.iosxr.ifc.handler;
+
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ifc.base.handler.AbstractInterfaceCountersReader;
+import io.frinx.cli.unit.ifc.base.util.CounterSamples;
+import io.frinx.cli.unit.ifc.base.util.InterfaceCounter;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class InterfaceCountersReader extends AbstractInterfaceCountersReader {
+
+    public static final String SH_INTERFACES = "show interfaces";
+
+    private static final Pattern HEADER_LINE = Pattern.compile("(?<name>\\S+) is .*, line protocol is .*");
+    private static final Pattern PACKETS_INPUT_LINE = Pattern.compile(
+            "(?<packets>\\d+) packets input, (?<bytes>\\d+) bytes(, (?<drops>\\d+) total input drops)?.*");
+    private static final Pattern UNKNOWN_PROTOCOL_LINE =
+            Pattern.compile("(?<drops>\\d+) drops for unrecognized upper-level protocol.*");
+    private static final Pattern INPUT_BROADCASTS_LINE = Pattern.compile(
+            "Received (?<broadcasts>\\d+) broadcast packets, (?<multicasts>\\d+) multicast packets.*");
+    private static final Pattern INPUT_ERRORS_LINE = Pattern.compile("(?<errors>\\d+) input errors.*");
+    private static final Pattern PACKETS_OUTPUT_LINE = Pattern.compile(
+            "(?<packets>\\d+) packets output, (?<bytes>\\d+) bytes(, (?<drops>\\d+) total output drops)?.*");
+    private static final Pattern OUTPUT_BROADCASTS_LINE = Pattern.compile(
+            "Output (?<broadcasts>\\d+) broadcast packets, (?<multicasts>\\d+) multicast packets.*");
+    private static final Pattern OUTPUT_ERRORS_LINE = Pattern.compile("(?<errors>\\d+) output errors.*");
+
+    // packets are stored as unicast packets first, broadcasts and multicasts are subtracted when parsed
+    private static final List<CounterRule> RULES = List.of(
+        CounterRule.rule(PACKETS_INPUT_LINE, (m, counters) -> parsePackets(m, counters,
+                InterfaceCounter.IN_UNICAST_PKTS, InterfaceCounter.IN_OCTETS, InterfaceCounter.IN_DISCARDS)),
+        CounterRule.rule(UNKNOWN_PROTOCOL_LINE, InterfaceCounter.IN_UNKNOWN_PROTOS, "drops"),
+        CounterRule.rule(INPUT_BROADCASTS_LINE, (m, counters) -> parseBroadcasts(m, counters,
+                InterfaceCounter.IN_UNICAST_PKTS, InterfaceCounter.IN_BROADCAST_PKTS,
+                InterfaceCounter.IN_MULTICAST_PKTS)),
+        CounterRule.rule(INPUT_ERRORS_LINE, InterfaceCounter.IN_ERRORS, "errors"),
+        CounterRule.rule(PACKETS_OUTPUT_LINE, (m, counters) -> parsePackets(m, counters,
+                InterfaceCounter.OUT_UNICAST_PKTS, InterfaceCounter.OUT_OCTETS, InterfaceCounter.OUT_DISCARDS)),
+        CounterRule.rule(OUTPUT_BROADCASTS_LINE, (m, counters) -> parseBroadcasts(m, counters,
+                InterfaceCounter.OUT_UNICAST_PKTS, InterfaceCounter.OUT_BROADCAST_PKTS,
+                InterfaceCounter.OUT_MULTICAST_PKTS)),
+        CounterRule.rule(OUTPUT_ERRORS_LINE, InterfaceCounter.OUT_ERRORS, "errors"));
+
+    public InterfaceCountersReader(Cli cli, CounterSamples samples) {
+        super(cli, samples);
+    }
+
+    @Override
+    protected String getReadCommand() {
+        return SH_INTERFACES;
+    }
+
+    @Override
+    protected Map<String, long[]> parseCounters(String output) {
+        return parseInterfaceBlocks(output, HEADER_LINE, RULES);
+    }
+
+    private static void parsePackets(Matcher matcher, long[] counters, InterfaceCounter packets,
+                                     InterfaceCounter octets, InterfaceCounter drops) {
+        packets.set(counters, matcher.group("packets"));
+        octets.set(counters, matcher.group("bytes"));
+        if (matcher.group("drops") != null) {
+            drops.set(counters, matcher.group("drops"));
+        }
+    }
+
+    private static void parseBroadcasts(Matcher matcher, long[] counters, InterfaceCounter unicast,
+                                        InterfaceCounter broadcast, InterfaceCounter multicast) {
+        final long broadcasts = Long.parseLong(matcher.group("broadcasts"));
+        final long multicasts = Long.parseLong(matcher.group("multicasts"));
+        broadcast.set(counters, broadcasts);
+        multicast.set(counters, multicasts);
+        final long packets = unicast.get(counters);
+        if (packets != InterfaceCounter.UNKNOWN) {
+            unicast.set(counters, packets - broadcasts - multicasts);
+        }
+    }
+}
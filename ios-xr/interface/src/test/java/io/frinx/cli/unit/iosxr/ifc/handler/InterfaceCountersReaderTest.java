@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.iosxr.ifc.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ifc.base.util.CounterSamples;
+import io.frinx.cli.unit.ifc.base.util.InterfaceCounter;
+import java.math.BigInteger;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.state.Counters;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.state.CountersBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
+
+class InterfaceCountersReaderTest {
+
+    private static final String SH_INTERFACES = """
+            Mon Feb 12 13:00:17.954 UTC
+            GigabitEthernet0/0/0/0 is up, line protocol is up
+              Interface state transitions: 1
+              Hardware is GigabitEthernet, address is 5254.0012.3456 (bia 5254.0012.3456)
+              Last input 00:00:00, output 00:00:00
+              5 minute input rate 0 bits/sec, 0 packets/sec
+              5 minute output rate 0 bits/sec, 0 packets/sec
+                 1253 packets input, 118044 bytes, 4 total input drops
+                 3 drops for unrecognized upper-level protocol
+                 Received 2 broadcast packets, 1063 multicast packets
+                          0 runts, 0 giants, 0 throttles, 0 parity
+                 6 input errors, 0 CRC, 0 frame, 0 overrun, 0 ignored, 0 abort
+                 1230 packets output, 116004 bytes, 1 total output drops
+                 Output 5 broadcast packets, 1047 multicast packets
+                 2 output errors, 0 underruns, 0 applique, 0 resets
+                 0 output buffer failures, 0 output buffers swapped out
+                 1 carrier transitions
+
+            Loopback0 is up, line protocol is up
+              Hardware is Loopback interface(s)
+                 0 packets input, 0 bytes, 0 total input drops
+                 0 packets output, 0 bytes, 0 total output drops
+            """;
+
+    @Test
+    void testParseCounters() {
+        final Map<String, long[]> counters =
+                new InterfaceCountersReader(Mockito.mock(Cli.class), new CounterSamples())
+                        .parseCounters(SH_INTERFACES);
+        assertEquals(2, counters.size());
+
+        final CountersBuilder builder = new CountersBuilder();
+        InterfaceCounter.fill(builder, counters.get("GigabitEthernet0/0/0/0"));
+        final Counters expected = new CountersBuilder()
+                .setInOctets(counter(118044))
+                .setInUnicastPkts(counter(188))
+                .setInBroadcastPkts(counter(2))
+                .setInMulticastPkts(counter(1063))
+                .setInDiscards(counter(4))
+                .setInErrors(counter(6))
+                .setInUnknownProtos(counter(3))
+                .setOutOctets(counter(116004))
+                .setOutUnicastPkts(counter(178))
+                .setOutBroadcastPkts(counter(5))
+                .setOutMulticastPkts(counter(1047))
+                .setOutDiscards(counter(1))
+                .setOutErrors(counter(2))
+                .build();
+        assertEquals(expected, builder.build());
+
+        final long[] loopback = counters.get("Loopback0");
+        assertEquals(0, InterfaceCounter.IN_UNICAST_PKTS.get(loopback));
+        assertEquals(InterfaceCounter.UNKNOWN, InterfaceCounter.IN_BROADCAST_PKTS.get(loopback));
+    }
+
+    private static Counter64 counter(long value) {
+        return new Counter64(BigInteger.valueOf(value));
+    }
+}
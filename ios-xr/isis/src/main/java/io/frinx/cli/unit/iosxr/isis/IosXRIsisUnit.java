@@ -21,6 +21,9 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
+import io.frinx.cli.unit.handlers.cache.ConfigurationCache;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
+import io.frinx.cli.unit.iosxr.init.IosXrCachePolicy;
 import io.frinx.cli.unit.iosxr.init.IosXrDevices;
 import io.frinx.cli.unit.iosxr.isis.handler.global.IsisGlobalAfiSafiConfigWriter;
 import io.frinx.cli.unit.iosxr.isis.handler.global.IsisGlobalAfiSafiReader;
@@ -58,7 +61,7 @@ public class IosXRIsisUnit extends AbstractUnit {
         @NotNull CustomizerAwareWriteRegistryBuilder writeRegistry,
         @NotNull Context context) {
 
-        Cli cli = context.getTransport();
+        Cli cli = ConfigurationCache.wrap(CommandMetrics.instrument(context.getTransport()), IosXrCachePolicy.INSTANCE);
         provideReaders(readRegistry, cli);
         provideWriters(writeRegistry, cli);
     }
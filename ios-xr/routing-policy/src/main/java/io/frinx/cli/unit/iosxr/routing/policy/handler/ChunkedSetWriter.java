@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.iosxr.routing.policy.handler;
+
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import java.util.Iterator;
+
+/**
+ * Writes a {@code prefix-set} or {@code as-path-set} with many members in bounded chunks.
+ * <br>
+ * Rendering a large set through a template builds a model object per member and the whole set as one string, which
+ * is then sent as a single command. Here member lines are rendered lazily from the iterator into chunks of at most
+ * {@code chunkLines} lines. Next chunk is rendered only after the previous one was written and the device returned
+ * to the prompt, so at most one chunk is held in memory and the device is not flooded. Concatenated chunks equal the
+ * template output: header, members separated by {@code ",\n"} and {@code end-set}.
+ */
+public final class ChunkedSetWriter {
+
+    public static final int CHUNK_LINES = 1000;
+
+    private static final String DIVIDER = ",\n";
+    private static final String END_SET = "end-set";
+
+    private ChunkedSetWriter() {
+    }
+
+    public static void write(String header, Iterator<String> members, ChunkSink sink) throws WriteFailedException {
+        write(header, members, CHUNK_LINES, sink);
+    }
+
+    public static void write(String header, Iterator<String> members, int chunkLines, ChunkSink sink)
+            throws WriteFailedException {
+        final StringBuilder chunk = new StringBuilder(header).append('\n');
+        if (!members.hasNext()) {
+            // same as the onEmpty branch of the templates
+            chunk.append('\n');
+        }
+        int lines = 1;
+        while (members.hasNext()) {
+            if (lines >= chunkLines) {
+                sink.write(chunk.toString());
+                chunk.setLength(0);
+                lines = 0;
+            }
+            chunk.append(members.next()).append(members.hasNext() ? DIVIDER : "\n");
+            lines++;
+        }
+        sink.write(chunk.append(END_SET).toString());
+    }
+
+    /**
+     * Sink writing one chunk to the device and waiting for the result, e.g. CliWriter blockingWriteAndRead.
+     */
+    @FunctionalInterface
+    public interface ChunkSink {
+
+        void write(String chunk) throws WriteFailedException;
+    }
+}
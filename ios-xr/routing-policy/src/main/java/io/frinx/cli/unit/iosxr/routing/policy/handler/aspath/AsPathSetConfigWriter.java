@@ -20,7 +20,9 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.routing.policy.handler.ChunkedSetWriter;
 import io.frinx.cli.unit.utils.CliWriter;
+import java.util.List;
 import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.policy.rev170730.as.path.set.top.as.path.sets.as.path.set.Config;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
@@ -49,6 +51,12 @@ public class AsPathSetConfigWriter implements CliWriter<Config> {
     public void writeCurrentAttributes(@NotNull InstanceIdentifier<Config> id,
                                        @NotNull Config config,
                                        @NotNull WriteContext writeContext) throws WriteFailedException {
+        List<String> members = config.getAsPathSetMember();
+        if (members != null && members.size() > ChunkedSetWriter.CHUNK_LINES) {
+            ChunkedSetWriter.write("as-path-set " + config.getAsPathSetName(), members.iterator(),
+                chunk -> blockingWriteAndRead(cli, id, config, chunk));
+            return;
+        }
         blockingWriteAndRead(cli, id, config,
                 fT(TEMPLATE, "config", config));
     }
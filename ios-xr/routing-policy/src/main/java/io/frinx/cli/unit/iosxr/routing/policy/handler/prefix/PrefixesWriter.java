@@ -19,12 +19,18 @@ package io.frinx.cli.unit.iosxr.routing.policy.handler.prefix;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.collect.Iterators;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.routing.policy.handler.ChunkedSetWriter;
 import io.frinx.cli.unit.utils.CliWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -40,6 +46,13 @@ public class PrefixesWriter implements CliWriter<Prefixes> {
 
     private static final Pattern MASK_RANGE_PATTERN = Pattern.compile("(?<ge>[0-9]+)\\.\\.(?<le>[0-9]+)|exact");
 
+    /**
+     * Update is written incrementally only when the number of changed prefixes is at most 1/MAX_DELTA_RATIO
+     * of the updated set, bigger changes replace the whole set.
+     */
+    @VisibleForTesting
+    static final int MAX_DELTA_RATIO = 10;
+
     @VisibleForTesting
     static final String TEMPLATE = """
             prefix-set {$name}
@@ -62,6 +75,13 @@ public class PrefixesWriter implements CliWriter<Prefixes> {
         PrefixSetKey prefixSetKey = instanceIdentifier.firstKeyOf(PrefixSet.class);
         List<Prefix> prefixList = prefixes.getPrefix() == null ? Collections.emptyList() : prefixes.getPrefix();
 
+        if (prefixList.size() > ChunkedSetWriter.CHUNK_LINES) {
+            // large sets are rendered and written in chunks, without building the whole set in memory
+            ChunkedSetWriter.write("prefix-set " + prefixSetKey.getName(), toLines(prefixList),
+                chunk -> blockingWriteAndRead(cli, instanceIdentifier, prefixes, chunk));
+            return;
+        }
+
         List<ConfigDto> transformedPrefixes = transformPrefixes(prefixList);
 
         blockingWriteAndRead(cli, instanceIdentifier, prefixes,
@@ -79,13 +99,40 @@ public class PrefixesWriter implements CliWriter<Prefixes> {
                 .collect(Collectors.toList());
     }
 
+    @VisibleForTesting
+    static Iterator<String> toLines(List<Prefix> prefixList) {
+        return Iterators.transform(
+                Iterators.filter(Iterators.transform(prefixList.iterator(), Prefix::getConfig), Objects::nonNull),
+                ConfigDto::toLine);
+    }
+
     @Override
     public void updateCurrentAttributes(@NotNull InstanceIdentifier<Prefixes> id,
                                         @NotNull Prefixes dataBefore,
                                         @NotNull Prefixes dataAfter,
                                         @NotNull WriteContext writeContext) throws WriteFailedException {
-        // on xr, when updating prefix-set it deletes previous content, so just put the new set directly
-        writeCurrentAttributes(id, dataAfter, writeContext);
+        Diff diff = Diff.compute(sortedLines(dataBefore), sortedLines(dataAfter));
+        if (!diff.isIncremental()) {
+            // on xr, when updating prefix-set it deletes previous content, so just put the new set directly
+            writeCurrentAttributes(id, dataAfter, writeContext);
+            return;
+        }
+        String header = "prefix-set " + id.firstKeyOf(PrefixSet.class).getName();
+        if (!diff.getRemoved().isEmpty()) {
+            ChunkedSetWriter.write(header + "\n#-remove", diff.getRemoved().iterator(),
+                chunk -> blockingWriteAndRead(cli, id, dataAfter, chunk));
+        }
+        if (!diff.getAdded().isEmpty()) {
+            ChunkedSetWriter.write(header + "\n#-append", diff.getAdded().iterator(),
+                chunk -> blockingWriteAndRead(cli, id, dataAfter, chunk));
+        }
+    }
+
+    private static String[] sortedLines(Prefixes prefixes) {
+        String[] lines = prefixes.getPrefix() == null
+                ? new String[0] : Iterators.toArray(toLines(prefixes.getPrefix()), String.class);
+        Arrays.sort(lines);
+        return lines;
     }
 
     private static ConfigDto configToDto(Config config) {
@@ -130,10 +177,7 @@ public class PrefixesWriter implements CliWriter<Prefixes> {
         }
 
         private static ConfigDto fromConfig(Config config) {
-            Matcher matcher = MASK_RANGE_PATTERN.matcher(config.getMasklengthRange());
-            Preconditions.checkArgument(matcher.matches(), "Mask length range in unsupported format: %s, should be: %s",
-                    config.getMasklengthRange(), MASK_RANGE_PATTERN.pattern());
-
+            Matcher matcher = matchMaskRange(config);
             String geGroup = matcher.group("ge");
             String leGroup = matcher.group("le");
             Integer ge = Strings.isNullOrEmpty(geGroup) ? null : Integer.parseInt(geGroup);
@@ -142,5 +186,77 @@ public class PrefixesWriter implements CliWriter<Prefixes> {
             return new ConfigDto(new String(config.getIpPrefix()
                     .getValue()).intern(), ge, le);
         }
+
+        /**
+         * Renders the prefix line directly, same as {@link #TEMPLATE} renders the DTO.
+         */
+        private static String toLine(Config config) {
+            Matcher matcher = matchMaskRange(config);
+            StringBuilder line = new StringBuilder().append(config.getIpPrefix().getValue());
+            if (!Strings.isNullOrEmpty(matcher.group("ge"))) {
+                line.append(" ge ").append(matcher.group("ge"));
+            }
+            if (!Strings.isNullOrEmpty(matcher.group("le"))) {
+                line.append(" le ").append(matcher.group("le"));
+            }
+            return line.toString();
+        }
+
+        private static Matcher matchMaskRange(Config config) {
+            Matcher matcher = MASK_RANGE_PATTERN.matcher(config.getMasklengthRange());
+            Preconditions.checkArgument(matcher.matches(), "Mask length range in unsupported format: %s, should be: %s",
+                    config.getMasklengthRange(), MASK_RANGE_PATTERN.pattern());
+            return matcher;
+        }
+    }
+
+    /**
+     * Prefix lines removed and added by an update, computed by a merge of both sorted sets of lines.
+     */
+    @VisibleForTesting
+    static final class Diff {
+
+        private final List<String> removed = new ArrayList<>();
+        private final List<String> added = new ArrayList<>();
+        private final int sizeAfter;
+
+        private Diff(int sizeAfter) {
+            this.sizeAfter = sizeAfter;
+        }
+
+        static Diff compute(String[] sortedBefore, String[] sortedAfter) {
+            Diff diff = new Diff(sortedAfter.length);
+            int before = 0;
+            int after = 0;
+            while (before < sortedBefore.length && after < sortedAfter.length) {
+                int cmp = sortedBefore[before].compareTo(sortedAfter[after]);
+                if (cmp < 0) {
+                    diff.removed.add(sortedBefore[before++]);
+                } else if (cmp > 0) {
+                    diff.added.add(sortedAfter[after++]);
+                } else {
+                    before++;
+                    after++;
+                }
+            }
+            diff.removed.addAll(Arrays.asList(sortedBefore).subList(before, sortedBefore.length));
+            diff.added.addAll(Arrays.asList(sortedAfter).subList(after, sortedAfter.length));
+            return diff;
+        }
+
+        List<String> getRemoved() {
+            return removed;
+        }
+
+        List<String> getAdded() {
+            return added;
+        }
+
+        /**
+         * Sets emptied by the update are replaced as a whole, #-remove of all lines would leave an empty block.
+         */
+        boolean isIncremental() {
+            return sizeAfter > 0 && (long) (removed.size() + added.size()) * MAX_DELTA_RATIO <= sizeAfter;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.iosxr.routing.policy.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ChunkedSetWriterTest {
+
+    @Test
+    void testWrite() throws Exception {
+        final List<String> chunks = new ArrayList<>();
+        ChunkedSetWriter.write("as-path-set test", List.of("length eq 444", "unique-length eq 44", "ios-regex '*'")
+                .iterator(), 2, chunks::add);
+        assertEquals(List.of("as-path-set test\nlength eq 444,\n", "unique-length eq 44,\nios-regex '*'\nend-set"),
+                chunks);
+
+        chunks.clear();
+        ChunkedSetWriter.write("as-path-set test", Collections.emptyIterator(), 2, chunks::add);
+        assertEquals(List.of("as-path-set test\n\nend-set"), chunks);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    void testWriteLargeSet(int size) throws Exception {
+        final int[] chunks = new int[1];
+        final int[] maxLength = new int[1];
+        final int[] members = new int[1];
+        ChunkedSetWriter.write("prefix-set large", generatePrefixes(size), chunk -> {
+            chunks[0]++;
+            maxLength[0] = Math.max(maxLength[0], chunk.length());
+            members[0] += chunk.split(",\n", -1).length - 1;
+        });
+        // divider after each member but the last one
+        assertEquals(size - 1, members[0]);
+        assertEquals(size / ChunkedSetWriter.CHUNK_LINES + 1, chunks[0]);
+        // chunk size does not depend on the size of the set
+        assertTrue(maxLength[0] < ChunkedSetWriter.CHUNK_LINES * "255.255.255.0/24 ge 24 le 32,\n".length());
+    }
+
+    private static Iterator<String> generatePrefixes(int size) {
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public String next() {
+                final int current = index++;
+                return String.format("%d.%d.%d.0/24 ge 24 le 32", 10 + current / 65536, current / 256 % 256,
+                        current % 256);
+            }
+        };
+    }
+}
@@ -17,9 +17,15 @@
 package io.frinx.cli.unit.iosxr.routing.policy.handler.prefix;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
+import io.frinx.cli.unit.iosxr.routing.policy.handler.ChunkedSetWriter;
 import io.frinx.cli.unit.utils.CliFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -78,4 +84,48 @@ class PrefixesWriterTest implements CliFormatter {
 
                 end-set""", output);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testChunkedWrite() throws Exception {
+        final List<String> chunks = new ArrayList<>();
+        ChunkedSetWriter.write("prefix-set testing", PrefixesWriter.toLines(PREFIXES), 3, chunks::add);
+
+        assertEquals(3, chunks.size());
+        assertEquals(fT(PrefixesWriter.TEMPLATE, "name", "testing",
+                "prefixes", PrefixesWriter.transformPrefixes(PREFIXES)), String.join("", chunks));
+    }
+
+    @Test
+    void testDiff() {
+        final String[] before = sortedPrefixes(0, 100);
+        final String[] after = Arrays.copyOf(sortedPrefixes(2, 101), 100);
+        after[99] = "10.0.200.0/24 le 32";
+        Arrays.sort(after);
+
+        PrefixesWriter.Diff diff = PrefixesWriter.Diff.compute(before, after);
+        assertEquals(List.of("10.0.0.0/24 ge 24 le 32", "10.0.1.0/24 ge 24 le 32"), diff.getRemoved());
+        assertEquals(List.of("10.0.100.0/24 ge 24 le 32", "10.0.200.0/24 le 32"), diff.getAdded());
+        assertTrue(diff.isIncremental());
+
+        diff = PrefixesWriter.Diff.compute(before, sortedPrefixes(50, 100));
+        assertEquals(50, diff.getRemoved().size());
+        assertFalse(diff.isIncremental());
+
+        diff = PrefixesWriter.Diff.compute(before, new String[0]);
+        assertFalse(diff.isIncremental());
+
+        diff = PrefixesWriter.Diff.compute(before, before);
+        assertTrue(diff.getRemoved().isEmpty());
+        assertTrue(diff.getAdded().isEmpty());
+    }
+
+    private static String[] sortedPrefixes(int from, int to) {
+        final List<Prefix> prefixes = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            prefixes.add(getPrefix(String.format("10.0.%d.0/24", i), "24..32"));
+        }
+        final String[] lines = Iterators.toArray(PrefixesWriter.toLines(prefixes), String.class);
+        Arrays.sort(lines);
+        return lines;
+    }
+}
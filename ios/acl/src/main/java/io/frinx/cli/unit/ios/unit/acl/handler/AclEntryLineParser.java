@@ -17,20 +17,21 @@ package io.frinx.cli.unit.ios.unit.acl.handler;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.net.InetAddresses;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.frinx.cli.unit.handlers.WordCursor;
 import io.frinx.cli.unit.ios.unit.acl.handler.util.AclUtil;
+import io.frinx.cli.unit.utils.ParsingUtils;
 import java.net.InetAddress;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -108,6 +109,8 @@ final class AclEntryLineParser {
     private static final IpProtocolType IP_PROTOCOL_TCP = new IpProtocolType(IPTCP.class);
     private static final IpProtocolType IP_PROTOCOL_UDP = new IpProtocolType(IPUDP.class);
     private static final Pattern ZERO_TO_255_PATTERN = Pattern.compile("^2[0-5][0-5]|2[0-4][0-9]|1?[0-9]?[0-9]$");
+    private static final String IPV6_SEQUENCE = "sequence ";
+    private static final int MAX_SEQUENCE_ID_DIGITS = 18;
 
     private AclEntryLineParser() {
     }
@@ -138,13 +141,58 @@ final class AclEntryLineParser {
         return Optional.empty();
     }
 
+    /**
+     * Builds index of ACL entry lines by sequence id in one pass over the output. Lines are the same as returned by
+     * {@link #findAclEntryWithSequenceId(AclEntryKey, String, Class)}, the first line wins for duplicate ids.
+     */
+    static Map<Long, String> indexAclEntries(String lines, Class<? extends ACLTYPE> aclType) {
+        return AclUtil.isIpv4Acl(aclType) ? indexIpv4Lines(lines) : indexIpv6Lines(lines);
+    }
+
+    static Map<Long, String> indexIpv4Lines(String lines) {
+        Map<Long, String> index = new HashMap<>();
+        for (String line : ParsingUtils.NEWLINE.split(lines)) {
+            String entry = StringUtils.stripStart(line, null);
+            int sequenceEnd = sequenceIdEnd(entry, 0);
+            if (sequenceEnd > 0 && sequenceEnd < entry.length() && entry.charAt(sequenceEnd) == ' ') {
+                index.putIfAbsent(Long.parseLong(entry.substring(0, sequenceEnd)), entry);
+            }
+        }
+        return index;
+    }
+
+    static Map<Long, String> indexIpv6Lines(String lines) {
+        Map<Long, String> index = new HashMap<>();
+        for (String line : ParsingUtils.NEWLINE.split(lines)) {
+            int sequenceStart = !line.isEmpty() && Character.isWhitespace(line.charAt(0)) ? 1 : 0;
+            if (!line.startsWith(IPV6_SEQUENCE, sequenceStart)) {
+                continue;
+            }
+            sequenceStart += IPV6_SEQUENCE.length();
+            int sequenceEnd = sequenceIdEnd(line, sequenceStart);
+            if (sequenceEnd > sequenceStart
+                    && (sequenceEnd == line.length() || !Character.isDigit(line.charAt(sequenceEnd)))) {
+                index.putIfAbsent(Long.parseLong(line.substring(sequenceStart, sequenceEnd)), line);
+            }
+        }
+        return index;
+    }
+
+    private static int sequenceIdEnd(String line, int sequenceStart) {
+        int sequenceEnd = sequenceStart;
+        while (sequenceEnd < line.length() && Character.isDigit(line.charAt(sequenceEnd))) {
+            sequenceEnd++;
+        }
+        return sequenceEnd - sequenceStart > MAX_SEQUENCE_ID_DIGITS ? sequenceStart : sequenceEnd;
+    }
+
     @SuppressFBWarnings("RV_RETURN_VALUE_IGNORED")
     static void parseLine(final AclEntryBuilder builder, String line, Class<? extends ACLTYPE> aclType) {
 
         Preconditions.checkArgument(AclUtil.isIpv4Acl(aclType) || ACLIPV6.class.equals(aclType),
                 "Unsupported ACL type: " + aclType);
         line = AclUtil.editAclEntry(line, aclType);
-        Queue<String> words = Lists.newLinkedList(Arrays.asList(line.trim().split("\\s")));
+        WordCursor words = new WordCursor(line);
         // ipv4 access lists have sequence number in the beginning of the line, ipv6 access lists have it at the end
         if (AclUtil.isIpv4Acl(aclType)) {
             parseSequenceId(builder, words.poll());
@@ -243,7 +291,7 @@ final class AclEntryLineParser {
 
     @SuppressFBWarnings("RV_RETURN_VALUE_IGNORED")
     private static ParseIpv4LineResult parseIpv4Line(IpProtocolType ipProtocolType,
-                                                     Queue<String> words,
+                                                     WordCursor words,
                                                      Class<? extends ACLTYPE> aclType) {
         org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.header.fields.rev171215.ipv4.protocol.fields.top
                 .ipv4.ConfigBuilder ipv4ProtocolFieldsConfigBuilder = new org.opendaylight.yang.gen.v1.http.frinx
@@ -345,7 +393,7 @@ final class AclEntryLineParser {
     }
 
     @SuppressFBWarnings("RV_RETURN_VALUE_IGNORED")
-    private static AclEntry1 parseIcmpMsgType(final IpProtocolType ipProtocolType, final Queue<String> words, boolean
+    private static AclEntry1 parseIcmpMsgType(final IpProtocolType ipProtocolType, final WordCursor words, boolean
             isIpv4Acl) {
         final AclEntry1Builder icmpMsgTypeAugment = new AclEntry1Builder();
         if (IP_PROTOCOL_ICMP.equals(ipProtocolType) || IP_PROTOCOL_ICMP_NUMBER.equals(ipProtocolType)
@@ -383,7 +431,7 @@ final class AclEntryLineParser {
         }
     }
 
-    private static ParseIpv6LineResult parseIpv6Line(IpProtocolType ipProtocolType, Queue<String> words) {
+    private static ParseIpv6LineResult parseIpv6Line(IpProtocolType ipProtocolType, WordCursor words) {
 
         org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.header.fields.rev171215.ipv6.protocol.fields.top
                 .ipv6.ConfigBuilder ipv6ProtocolFieldsConfigBuilder = new org.opendaylight.yang.gen.v1.http.frinx
@@ -458,7 +506,7 @@ final class AclEntryLineParser {
     private static void parseTransportSourcePort(
             final org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.header.fields.rev171215.transport
                     .fields.top.transport.ConfigBuilder transportConfigBuilder,
-            final Queue<String> words) {
+            final WordCursor words) {
         if (!words.isEmpty() && isPortNumRange(words.peek())) {
             parsePortNumRange(words, transportConfigBuilder, true);
         } else {
@@ -469,7 +517,7 @@ final class AclEntryLineParser {
     private static void parseTransportDestinationPort(
             final org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.header.fields.rev171215.transport
                     .fields.top.transport.ConfigBuilder transportConfigBuilder,
-            final Queue<String> words) {
+            final WordCursor words) {
         if (!words.isEmpty() && isPortNumRange(words.peek())) {
             parsePortNumRange(words, transportConfigBuilder, false);
         } else {
@@ -495,7 +543,7 @@ final class AclEntryLineParser {
      * If words contain ttl, return closed range 0-255..0-255.
      * If ttl neq number is specified, return number+1..number-1.
      */
-    private static Entry<Integer, Integer> parseTTLRange(Queue<String> words) {
+    private static Entry<Integer, Integer> parseTTLRange(WordCursor words) {
         String ttl = words.poll();
         Preconditions.checkArgument("ttl".equals(ttl));
         String keyword = words.poll();
@@ -537,7 +585,7 @@ final class AclEntryLineParser {
         }
     }
 
-    private static void parsePortNumRange(Queue<String> words,
+    private static void parsePortNumRange(WordCursor words,
                                           org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.header.fields
                                                   .rev171215.transport.fields.top.transport.ConfigBuilder
                                                   transportConfigBuilder,
@@ -598,7 +646,7 @@ final class AclEntryLineParser {
         }
     }
 
-    private static PortNumRange parsePortNumRangeNumbers(String possiblePortRangeKeyword, int port1, Queue<String>
+    private static PortNumRange parsePortNumRangeNumbers(String possiblePortRangeKeyword, int port1, WordCursor
             words) {
         switch (possiblePortRangeKeyword) {
             case "eq":
@@ -624,7 +672,7 @@ final class AclEntryLineParser {
         }
     }
 
-    private static String parsePortNumRangeNamed(String possiblePortRangeKeyword, String port1, Queue<String> words) {
+    private static String parsePortNumRangeNamed(String possiblePortRangeKeyword, String port1, WordCursor words) {
         switch (possiblePortRangeKeyword) {
             case "eq":
                 return port1;
@@ -655,7 +703,7 @@ final class AclEntryLineParser {
     }
 
     @SuppressFBWarnings("RV_RETURN_VALUE_IGNORED")
-    private static Optional<AclPrecedenceAug> parsePrecedence(Queue<String> words) {
+    private static Optional<AclPrecedenceAug> parsePrecedence(WordCursor words) {
         if (!words.isEmpty() && "precedence".equals(words.peek())) {
             words.poll();
             if (!words.isEmpty()) {
@@ -668,7 +716,7 @@ final class AclEntryLineParser {
     }
 
     @SuppressFBWarnings("RV_RETURN_VALUE_IGNORED")
-    private static Optional<AclOptionAug> parseOptions(Queue<String> words) {
+    private static Optional<AclOptionAug> parseOptions(WordCursor words) {
         if (!words.isEmpty() && "option".equals(words.peek())) {
             words.poll();
             if (!words.isEmpty()) {
@@ -680,7 +728,7 @@ final class AclEntryLineParser {
         return Optional.empty();
     }
 
-    private static boolean isMultiple(Queue<String> words, String operation) {
+    private static boolean isMultiple(WordCursor words, String operation) {
         return operation != null && (operation.equals("eq") || operation.equals("neq"))
                 && words != null && words.peek() != null
                 && ((StringUtils.isNumeric(words.peek()) && Integer.parseInt(words.peek()) >= 0
@@ -690,7 +738,7 @@ final class AclEntryLineParser {
     }
 
     private static String parsePortNumRangeMultiple(String possiblePortRangeKeyword, String port1,
-                                                    Queue<String> words) {
+                                                    WordCursor words) {
         List<String> port;
         switch (possiblePortRangeKeyword) {
             case "eq":
@@ -771,7 +819,7 @@ final class AclEntryLineParser {
         return Optional.empty();
     }
 
-    private static List<String> parseMultiplePortInput(String port1, Queue<String> words, boolean equal) {
+    private static List<String> parseMultiplePortInput(String port1, WordCursor words, boolean equal) {
         List<String> port = new ArrayList<>();
         if (StringUtils.isNumeric(port1) || equal) {
             port.add(port1);
@@ -852,15 +900,15 @@ final class AclEntryLineParser {
         }
     }
 
-    private static Optional<Ipv4Prefix> parseIpv4Prefix(Queue<String> words) {
+    private static Optional<Ipv4Prefix> parseIpv4Prefix(WordCursor words) {
         String first = words.peek();
         if ("any".equals(first)) {
-            // remove "any" from queue
-            words.remove();
+            // remove "any" from words
+            words.poll();
             return Optional.of(IPV4_HOST_ANY);
         } else if ("host".equals(first)) {
-            // remove "host" from queue
-            words.remove();
+            // remove "host" from words
+            words.poll();
             // when "host" is used, the wildcard is always 0.0.0.0
             int mask = 32;
             String ip = words.poll();
@@ -869,7 +917,7 @@ final class AclEntryLineParser {
         return Optional.empty();
     }
 
-    private static Ipv4AddressWildcarded parseIpv4Wildcarded(Queue<String> words) {
+    private static Ipv4AddressWildcarded parseIpv4Wildcarded(WordCursor words) {
         String address = words.poll();
         Preconditions.checkState(!address.contains("/"), "Expected address and wildcard");
         String wildcard = words.poll();
@@ -879,21 +927,21 @@ final class AclEntryLineParser {
     }
 
     @VisibleForTesting
-    static Optional<Ipv6Prefix> parseIpv6Prefix(Queue<String> words) {
+    static Optional<Ipv6Prefix> parseIpv6Prefix(WordCursor words) {
         String first = words.peek();
         if ("any".equals(first)) {
-            // remove "any" from queue
-            words.remove();
+            // remove "any" from words
+            words.poll();
             return Optional.of(IPV6_HOST_ANY);
         } else if ("host".equals(first)) {
-            // remove "host" from queue
-            words.remove();
+            // remove "host" from words
+            words.poll();
             int mask = 128;
             String ip = words.poll();
             return Optional.of(new Ipv6Prefix(ip + "/" + mask));
         } else if (first != null && first.contains("/")) {
-            // remove "x:x:x:x:x:x:x:x/x" from queue
-            words.remove();
+            // remove "x:x:x:x:x:x:x:x/x" from words
+            words.poll();
             if (first.contains(".")) {
                 first = translateIpv4InIpv6ToIpv6(first);
             }
@@ -916,7 +964,7 @@ final class AclEntryLineParser {
         return String.format("%02x%02x", first, second);
     }
 
-    private static Ipv6AddressWildcarded parseIpv6Wildcarded(Queue<String> words) {
+    private static Ipv6AddressWildcarded parseIpv6Wildcarded(WordCursor words) {
         String address = words.poll();
         Preconditions.checkState(!address.contains("/"), "Expected address and wildcard");
         String wildcard = words.poll();
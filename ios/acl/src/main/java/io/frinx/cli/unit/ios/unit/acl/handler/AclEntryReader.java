@@ -21,9 +21,10 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ios.unit.acl.handler.util.AclUtil;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.jetbrains.annotations.NotNull;
@@ -80,19 +81,42 @@ public class AclEntryReader {
             @NotNull final AclEntryBuilder aclEntryBuilder, @NotNull final ReadContext readContext)
             throws ReadFailedException {
 
-        String command = getAclCommand(instanceIdentifier);
-        String output = aclSetReader.blockingRead(command, cli, instanceIdentifier, readContext);
+        parseACL(instanceIdentifier, aclEntryBuilder, getAclEntryIndex(instanceIdentifier, readContext));
+    }
 
-        parseACL(instanceIdentifier, aclEntryBuilder, output);
+    /**
+     * Index of ACL entry lines by sequence id is built only once per ACL and read transaction, all entries of the ACL
+     * are then served from the modification cache.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, String> getAclEntryIndex(@NotNull final InstanceIdentifier<AclSet> instanceIdentifier,
+                                               @NotNull final ReadContext readContext) throws ReadFailedException {
+        String command = getAclCommand(instanceIdentifier);
+        Object cacheKey = new AbstractMap.SimpleEntry<>(AclEntryReader.class, command);
+        Map<Long, String> index = (Map<Long, String>) readContext.getModificationCache().get(cacheKey);
+        if (index == null) {
+            String output = aclSetReader.blockingRead(command, cli, instanceIdentifier, readContext);
+            index = AclEntryLineParser.indexAclEntries(output,
+                    instanceIdentifier.firstKeyOf(AclSet.class).getType());
+            readContext.getModificationCache().put(cacheKey, index);
+        }
+        return index;
     }
 
     @VisibleForTesting
     static void parseACL(final InstanceIdentifier<AclSet> instanceIdentifier, final AclEntryBuilder aclEntryBuilder,
                          final String output) {
+        AclSetKey aclSetKey = instanceIdentifier.firstKeyOf(AclSet.class);
+        parseACL(instanceIdentifier, aclEntryBuilder, AclEntryLineParser.indexAclEntries(output, aclSetKey.getType()));
+    }
+
+    private static void parseACL(final InstanceIdentifier<AclSet> instanceIdentifier,
+                                 final AclEntryBuilder aclEntryBuilder, final Map<Long, String> aclEntryIndex) {
 
         AclSetKey aclSetKey = instanceIdentifier.firstKeyOf(AclSet.class);
-        Optional<String> maybeLine = AclEntryLineParser.findAclEntryWithSequenceId(aclEntryBuilder.getKey(),
-                output, aclSetKey.getType());
-        maybeLine.ifPresent(s -> AclEntryLineParser.parseLine(aclEntryBuilder, s, aclSetKey.getType()));
+        String line = aclEntryIndex.get(aclEntryBuilder.getKey().getSequenceId());
+        if (line != null) {
+            AclEntryLineParser.parseLine(aclEntryBuilder, line, aclSetKey.getType());
+        }
     }
-}
\ No newline at end of file
+}
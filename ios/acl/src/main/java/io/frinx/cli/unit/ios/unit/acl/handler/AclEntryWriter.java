@@ -23,6 +23,7 @@ import com.google.common.net.InetAddresses;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.batch.ConfigBatch;
 import io.frinx.cli.unit.ios.unit.acl.handler.util.AclUtil;
 import io.frinx.cli.unit.utils.CliListWriter;
 import java.util.Arrays;
@@ -204,6 +205,7 @@ public class AclEntryWriter implements CliListWriter<AclEntry, AclEntryKey> {
         final String aclName = aclSetKey.getName();
         final String aclSequenceId = dataBefore.getSequenceId().toString();
 
+        // deletes are not batched, the access-list itself is deleted right away by AclSetConfigWriter
         blockingWriteAndRead(fT(command, "aclName", aclName, "aclSeqId", aclSequenceId), cli, id, dataBefore);
     }
 
@@ -233,7 +235,7 @@ public class AclEntryWriter implements CliListWriter<AclEntry, AclEntryKey> {
 
         switch (commandVars.aclProtocol) {
             case "ip":
-                blockingWriteAndRead(fT(ACL_IP_ENTRY,
+                write(fT(ACL_IP_ENTRY,
                         "aclName", commandVars.aclName,
                         "aclSeqId", commandVars.aclSeqId,
                         "aclFwdAction", commandVars.aclFwdAction,
@@ -243,10 +245,10 @@ public class AclEntryWriter implements CliListWriter<AclEntry, AclEntryKey> {
                         "aclTtl", commandVars.aclTtl,
                         "precedence", commandVars.aclPrecedence,
                         "options", commandVars.aclOptions),
-                        cli, id, entry);
+                        id, entry);
                 break;
             case "ipv6":
-                blockingWriteAndRead(fT(ACL_IP6_ENTRY,
+                write(fT(ACL_IP6_ENTRY,
                         "aclName", commandVars.aclName,
                         "aclSeqId", commandVars.aclSeqId,
                         "aclFwdAction", commandVars.aclFwdAction,
@@ -254,11 +256,11 @@ public class AclEntryWriter implements CliListWriter<AclEntry, AclEntryKey> {
                         "aclSrcAddr", commandVars.aclSrcAddr,
                         "aclDstAddr", commandVars.aclDstAddr,
                         "aclTtl", commandVars.aclTtl),
-                        cli, id, entry);
+                        id, entry);
                 break;
             case "udp":
             case "tcp":
-                blockingWriteAndRead(fT((entry.getIpv4() != null) ? ACL_TCP_ENTRY : ACL_TCP_IP6_ENTRY,
+                write(fT((entry.getIpv4() != null) ? ACL_TCP_ENTRY : ACL_TCP_IP6_ENTRY,
                         "aclName", commandVars.aclName,
                         "aclSeqId", commandVars.aclSeqId,
                         "aclFwdAction", commandVars.aclFwdAction,
@@ -271,10 +273,10 @@ public class AclEntryWriter implements CliListWriter<AclEntry, AclEntryKey> {
                         "established", commandVars.aclEstablished,
                         "precedence", commandVars.aclPrecedence,
                         "options", commandVars.aclOptions),
-                        cli, id, entry);
+                        id, entry);
                 break;
             case "icmp":
-                blockingWriteAndRead(fT((entry.getIpv4() != null) ? ACL_ICMP_ENTRY : ACL_ICMP_IP6_ENTRY,
+                write(fT((entry.getIpv4() != null) ? ACL_ICMP_ENTRY : ACL_ICMP_IP6_ENTRY,
                         "aclName", commandVars.aclName,
                         "aclSeqId", commandVars.aclSeqId,
                         "aclFwdAction", commandVars.aclFwdAction,
@@ -285,22 +287,32 @@ public class AclEntryWriter implements CliListWriter<AclEntry, AclEntryKey> {
                         "aclTtl", commandVars.aclTtl,
                         "precedence", commandVars.aclPrecedence,
                         "options", commandVars.aclOptions),
-                        cli, id, entry);
+                        id, entry);
                 break;
             case "":
                 if (ACLIPV4STANDARD.class.equals(aclSetKey.getType())) {
-                    blockingWriteAndRead(fT(ACL_STANDARD_ENTRY,
+                    write(fT(ACL_STANDARD_ENTRY,
                             "aclName", commandVars.aclName,
                             "aclSeqId", commandVars.aclSeqId,
                             "aclFwdAction", commandVars.aclFwdAction,
                             "aclSrcAddr", commandVars.aclSrcAddr),
-                            cli, id, entry);
+                            id, entry);
                 }
                 break;
             default: break;
         }
     }
 
+    /**
+     * Adds commands to the configuration batch of the transaction, or writes them directly when there is none.
+     */
+    private void write(String commands, InstanceIdentifier<AclEntry> id, AclEntry entry)
+            throws WriteFailedException.CreateFailedException {
+        if (!ConfigBatch.add(cli, getClass(), id, commands)) {
+            blockingWriteAndRead(commands, cli, id, entry);
+        }
+    }
+
     private void processIpv4(AclEntry entry, MaxMetricCommandDTO commandVars, Class<? extends ACLTYPE> aclType) {
         if (entry.getIpv4().getConfig().getAugmentation(Config3.class) != null
                 && entry.getIpv4().getConfig().getAugmentation(Config3.class).getHopRange() != null) {
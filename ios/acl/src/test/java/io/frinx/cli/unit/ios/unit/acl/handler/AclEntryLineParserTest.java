@@ -19,8 +19,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.frinx.cli.unit.handlers.WordCursor;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
@@ -601,6 +602,43 @@ class AclEntryLineParserTest {
         });
     }
 
+    @Test
+    void testIndexAclEntries() {
+        String lines = """
+                Extended IP access list foo
+                 1 foo
+                 2 bar baz
+                 10 remark remark1
+                 2 duplicate
+                xxx""";
+        Map<Long, String> index = AclEntryLineParser.indexAclEntries(lines, ACLIPV4EXTENDED.class);
+        assertEquals(Map.of(1L, "1 foo", 2L, "2 bar baz", 10L, "10 remark remark1"), index);
+
+        String ipv6Lines = """
+                ipv6 access-list foo
+                 sequence 1 permit ipv6 any any
+                 sequence 10 deny ipv6 any any
+                !""";
+        Map<Long, String> ipv6Index = AclEntryLineParser.indexAclEntries(ipv6Lines, ACLIPV6.class);
+        assertEquals(Map.of(1L, " sequence 1 permit ipv6 any any", 10L, " sequence 10 deny ipv6 any any"),
+                ipv6Index);
+    }
+
+    @Test
+    void testIndexLargeAcl() {
+        StringBuilder lines = new StringBuilder("Extended IP access list foo\n");
+        for (int i = 1; i <= 10000; i++) {
+            lines.append(' ').append(i * 10).append(" permit tcp host 10.0.0.1 any eq ").append(i % 65535)
+                    .append('\n');
+        }
+        Map<Long, String> index = AclEntryLineParser.indexAclEntries(lines.toString(), ACLIPV4EXTENDED.class);
+        assertEquals(10000, index.size());
+        for (long sequenceId : new long[]{10L, 50000L, 100000L}) {
+            assertEquals(AclEntryLineParser.findIpv4LineWithSequenceId(sequenceId, lines.toString()),
+                    Optional.ofNullable(index.get(sequenceId)));
+        }
+    }
+
     @Test
     void testFindLineWithSequenceId() {
         String lines = """
@@ -848,21 +886,32 @@ class AclEntryLineParserTest {
         });
     }
 
+    @Test
+    void testRepeatedSpaces() {
+        final AclEntryBuilder expected = new AclEntryBuilder();
+        AclEntryLineParser.parseLine(expected, " 10 permit tcp any host 10.0.0.1 eq www", ACLIPV4EXTENDED.class);
+        final AclEntryBuilder result = new AclEntryBuilder();
+        AclEntryLineParser.parseLine(result, " 10 permit  tcp   any  host   10.0.0.1  eq  www  ",
+                ACLIPV4EXTENDED.class);
+        assertEquals(expected.build(), result.build());
+        assertEquals(new Ipv4Prefix("10.0.0.1/32"),
+                result.getIpv4().getConfig().getDestinationAddress());
+    }
+
     @Test
     void parseIpv6PrefixTest() throws Exception {
-        LinkedList<String> ips = new LinkedList<>();
-        ips.add("::ffff:192.0.2.1/96");
+        WordCursor ips = new WordCursor("::ffff:192.0.2.1/96  0:0:0:0:0:ffff:c000:0201/96   "
+                + "FE80:0000:0000:0000:0202:B3FF:FE1E:8329/96");
         Optional<Ipv6Prefix> ipv6Prefix = AclEntryLineParser.parseIpv6Prefix(ips);
         assertTrue(ipv6Prefix.isPresent());
         assertEquals(new Ipv6Prefix("::ffff:c000:0201/96"), ipv6Prefix.get());
-        ips.add("0:0:0:0:0:ffff:c000:0201/96");
         ipv6Prefix = AclEntryLineParser.parseIpv6Prefix(ips);
         assertTrue(ipv6Prefix.isPresent());
         assertEquals(new Ipv6Prefix("0:0:0:0:0:ffff:c000:0201/96"), ipv6Prefix.get());
-        ips.add("FE80:0000:0000:0000:0202:B3FF:FE1E:8329/96");
         ipv6Prefix = AclEntryLineParser.parseIpv6Prefix(ips);
         assertTrue(ipv6Prefix.isPresent());
         assertEquals(new Ipv6Prefix("FE80:0000:0000:0000:0202:B3FF:FE1E:8329/96"), ipv6Prefix.get());
+        assertTrue(ips.isEmpty());
     }
 
 }
@@ -18,9 +18,13 @@ package io.frinx.cli.unit.ios.unit.acl.handler;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import io.frinx.cli.unit.generator.IosOutputs;
+import io.frinx.cli.unit.generator.ScaleBudget;
 import io.frinx.openconfig.openconfig.acl.IIDs;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.ext.rev180314.ACLIPV4EXTENDED;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.ACCEPT;
@@ -131,4 +135,19 @@ class AclEntryReaderTest {
 
         assertEquals(expected, aclEntryBuilder.build());
     }
+
+    @Test
+    void testParseAclScale() throws Exception {
+        final String output = IosOutputs.ipAccessList("scale", 10_000);
+        ScaleBudget.assertWithin(Duration.ofSeconds(10), () -> {
+            final List<AclEntryKey> keys = AclEntryReader.parseAclEntryKey(output, ACLIPV4EXTENDED.class);
+            assertEquals(9_800, keys.size());
+            final Map<Long, String> index = AclEntryLineParser.indexAclEntries(output, ACLIPV4EXTENDED.class);
+            for (AclEntryKey key : keys) {
+                final AclEntryBuilder builder = new AclEntryBuilder().setKey(key);
+                AclEntryLineParser.parseLine(builder, index.get(key.getSequenceId()), ACLIPV4EXTENDED.class);
+                assertEquals(key.getSequenceId(), builder.getSequenceId());
+            }
+        });
+    }
 }
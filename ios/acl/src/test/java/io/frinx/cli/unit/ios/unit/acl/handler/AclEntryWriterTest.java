@@ -22,8 +22,12 @@ import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.io.Command;
+import io.frinx.cli.unit.handlers.batch.ConfigBatch;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -53,6 +57,7 @@ import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.access.list.entries.top.acl.entries.acl.entry.ConfigBuilder;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.acl.set.top.AclSets;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.acl.set.top.acl.sets.AclSet;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.acl.set.top.acl.sets.AclSetBuilder;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.acl.set.top.acl.sets.AclSetKey;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.action.top.Actions;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.action.top.ActionsBuilder;
@@ -84,6 +89,12 @@ class AclEntryWriterTest {
             end
             """;
 
+    private static final String ACL_SET_STANDARD_DELETE = """
+            configure terminal
+            no ip access-list standard TEST
+            end
+            """;
+
     private static final String ACL_EXTENDED_WRITE_EQ = """
             configure terminal
             ip access-list extended TEST
@@ -155,6 +166,23 @@ class AclEntryWriterTest {
         assertEquals(ACL_STANDARD_DELETE, response.getValue().getContent());
     }
 
+    @Test
+    void testDeleteAclWithBatching() throws Exception {
+        Mockito.when(cli.getDeviceId()).thenReturn("testDeleteAclWithBatching");
+        final ConfigBatch batch = ConfigBatch.of(cli);
+        batch.start();
+        try {
+            writer.deleteCurrentAttributes(piid, new AclEntryBuilder().setSequenceId(10L).build(), context);
+            new AclSetConfigWriter(cli).deleteCurrentAttributes(piid,
+                    new AclSetBuilder().setName("TEST").setType(ACLIPV4STANDARD.class).build(), context);
+        } finally {
+            assertEquals(Optional.empty(), batch.flush(cli, Set.of()));
+        }
+        Mockito.verify(cli, Mockito.times(2)).executeAndRead(response.capture());
+        assertEquals(List.of(ACL_STANDARD_DELETE, ACL_SET_STANDARD_DELETE),
+                response.getAllValues().stream().map(Command::getContent).collect(Collectors.toList()));
+    }
+
     @Test
     void testExtendedWriteEq() throws WriteFailedException {
         final AclEntry aclEntry = getExtendedAclEntry(10L, "deny", "udp",
@@ -24,13 +24,12 @@ import io.frinx.cli.unit.ios.bgp.handler.BgpProtocolReader;
 import io.frinx.cli.unit.ios.bgp.handler.neighbor.NeighborReader;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.apache.commons.net.util.SubnetUtils;
 import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.local.routing.rev170515.local.aggregate.top.local.aggregates.Aggregate;
@@ -54,18 +53,14 @@ public class BgpLocalAggregateReader implements CliConfigListReader<Aggregate, A
 
     @VisibleForTesting
     static List<AggregateKey> getVrfAggregateKeys(String output, String vrfName) {
-        Optional<String> optionalVrfOutput =
-                Arrays.stream(NeighborReader.splitOutput(output))
-                        .filter(value -> value.contains(vrfName))
-                        .reduce((s1, s2) -> s1 + s2);
-
-        if (optionalVrfOutput.isPresent()) {
-            return ParsingUtils.parseFields(optionalVrfOutput.get().replaceAll("network", "\nnetwork"), 0,
-                    NEIGHBOR_LINE::matcher,
-                    BgpLocalAggregateReader::resolveGroups,
+        String vrfOutput = Arrays.stream(NeighborReader.splitOutput(output))
+                .filter(value -> value.contains(vrfName))
+                .collect(Collectors.joining());
+
+        return ParsingUtils.parseFields(vrfOutput.replaceAll("network", "\nnetwork"), 0,
+                NEIGHBOR_LINE::matcher,
+                BgpLocalAggregateReader::resolveGroups,
                 value -> new AggregateKey(parsePrefix(parseNetworkPrefix(value))));
-        }
-        return new ArrayList<>();
     }
 
     private static IpPrefix parsePrefix(String string) {
@@ -74,18 +69,14 @@ public class BgpLocalAggregateReader implements CliConfigListReader<Aggregate, A
 
     @VisibleForTesting
     static List<AggregateKey> getDefaultAggregateKeys(String output) {
-        Optional<String> optionalVrfOutput =
-                Arrays.stream(NeighborReader.splitOutput(output))
-                        .filter(value -> !value.contains("vrf"))
-                        .reduce((s1, s2) -> s1 + s2);
-
-        if (optionalVrfOutput.isPresent()) {
-            return ParsingUtils.parseFields(optionalVrfOutput.get().replaceAll("network", "\nnetwork"), 0,
-                    NEIGHBOR_LINE::matcher,
-                    BgpLocalAggregateReader::resolveGroups,
+        String vrfOutput = Arrays.stream(NeighborReader.splitOutput(output))
+                .filter(value -> !value.contains("vrf"))
+                .collect(Collectors.joining());
+
+        return ParsingUtils.parseFields(vrfOutput.replaceAll("network", "\nnetwork"), 0,
+                NEIGHBOR_LINE::matcher,
+                BgpLocalAggregateReader::resolveGroups,
                 value -> new AggregateKey(parsePrefix(parseNetworkPrefix(value))));
-        }
-        return new ArrayList<>();
     }
 
     private static String parseNetworkPrefix(HashMap<String, String> params) {
@@ -20,15 +20,15 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.LineMatcher;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Locale;
 import java.util.Optional;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.extension.rev180323.BGPVERSION;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.extension.rev180323.BgpNeighborConfigAug;
@@ -109,29 +109,34 @@ public class NeighborConfigReader implements CliConfigReader<Config, ConfigBuild
     }
 
     private static void parseDefault(ConfigBuilder configBuilder, String[] output) {
-        Optional<String> defaultNetworkNeighbors = Arrays.stream(output)
+        String defaultNetworkNeighbors = Arrays.stream(output)
                 .filter(value -> !value.contains("vrf"))
-                .reduce((s1, s2) -> s1 + s2);
+                .collect(Collectors.joining());
 
-        setAttributes(configBuilder, defaultNetworkNeighbors.orElse(""));
+        setAttributes(configBuilder, defaultNetworkNeighbors);
     }
 
     private static void setAttributes(ConfigBuilder configBuilder, String output) {
-        setAs(configBuilder, output);
-        setEnabled(configBuilder, output);
-        setRemovePrivateAs(configBuilder, output);
-        setPasswd(configBuilder, output);
-        setPeerGroup(configBuilder, output);
-        setDescription(configBuilder, output);
-        setCommunity(configBuilder, output);
-        setBgpNeighborConfigAugmentation(configBuilder, output);
-    }
-
-    private static void setBgpNeighborConfigAugmentation(ConfigBuilder configBuilder, String output) {
         BgpNeighborConfigAugBuilder configAugBuilder = new BgpNeighborConfigAugBuilder();
-        setNeighborVersion(configAugBuilder, output);
-        setAsOverride(configAugBuilder, output);
-        setTransport(configAugBuilder, output);
+        new LineMatcher()
+            .each(REMOTE_AS_PATTERN, m -> m.group("remoteAs"),
+                value -> configBuilder.setPeerAs(new AsNumber(Long.valueOf(value))))
+            .each(NEIGHBOR_ACTIVATE_PATTERN, m -> m.group("enabled"),
+                value -> configBuilder.setEnabled("activate".equals(value)))
+            .each(PASSWORD_PATTERN, m -> m.group("password"),
+                value -> configBuilder.setAuthPassword(getPassword(value)))
+            .each(PEER_GROUP_PATTERN, m -> m.group("peerGroup"), configBuilder::setPeerGroup)
+            .each(DESCRIPTION_PATTERN, m -> m.group("description"), configBuilder::setDescription)
+            .each(SEND_COMMUNITY_PATTERN, m -> m.group("community"),
+                value -> configBuilder.setSendCommunity(CommunityType.valueOf(value.toUpperCase(Locale.ROOT))))
+            .each(VERSION_PATTERN, m -> m.group("version"),
+                value -> configAugBuilder.setNeighborVersion(parseBgpVersion(value)))
+            .each(AS_OVERRIDE_PATTERN, m -> m.group("enabled"),
+                value -> configAugBuilder.setAsOverride("as-override".equals(value)))
+            .each(TRANSPORT_PATTERN, m -> m.group("transport"),
+                value -> configAugBuilder.setTransport(getTransport(value)))
+            .match(preprocessOutput(output));
+        setRemovePrivateAs(configBuilder, output);
         setLocaleAs(configBuilder, configAugBuilder, output);
 
         if (!configAugBuilder.build().equals(new BgpNeighborConfigAugBuilder().build())) {
@@ -173,82 +178,18 @@ public class NeighborConfigReader implements CliConfigReader<Config, ConfigBuild
         }
     }
 
-    private static void setDescription(ConfigBuilder configBuilder, String defaultInstance) {
-        ParsingUtils.parseFields(preprocessOutput(defaultInstance), 0, DESCRIPTION_PATTERN::matcher,
-            m -> findGroup(m, "description"),
-            groupsHashMap -> configBuilder.setDescription(groupsHashMap.get("description")));
-    }
-
-    private static void setPasswd(ConfigBuilder configBuilder, String defaultInstance) {
-        ParsingUtils.parseFields(preprocessOutput(defaultInstance), 0, PASSWORD_PATTERN::matcher,
-            m -> findGroup(m, "password"),
-            groupsHashMap -> configBuilder.setAuthPassword(getPassword(groupsHashMap.get("password"))));
-    }
-
-    private static void setPeerGroup(ConfigBuilder configBuilder, String defaultInstance) {
-        ParsingUtils.parseFields(preprocessOutput(defaultInstance), 0, PEER_GROUP_PATTERN::matcher,
-            m -> findGroup(m, "peerGroup"),
-            groupsHashMap -> configBuilder.setPeerGroup(groupsHashMap.get("peerGroup")));
-    }
-
-    private static void setAs(ConfigBuilder configBuilder, String defaultInstance) {
-        ParsingUtils.parseFields(preprocessOutput(defaultInstance), 0, REMOTE_AS_PATTERN::matcher,
-            m -> findGroup(m, "remoteAs"),
-            groupsHashMap -> configBuilder.setPeerAs(new AsNumber(Long.valueOf(groupsHashMap.get("remoteAs")))));
-    }
-
-    private static void setCommunity(ConfigBuilder configBuilder, String defaultInstance) {
-        ParsingUtils.parseFields(preprocessOutput(defaultInstance), 0, SEND_COMMUNITY_PATTERN::matcher,
-            m -> findGroup(m, "community"),
-            groupsHashMap -> configBuilder.setSendCommunity(CommunityType.valueOf(groupsHashMap.get("community")
-                        .toUpperCase(Locale.ROOT))));
-    }
-
-    private static void setAsOverride(BgpNeighborConfigAugBuilder configAugBuilder, String output) {
-        ParsingUtils.parseFields(preprocessOutput(output), 0, AS_OVERRIDE_PATTERN::matcher,
-            m -> findGroup(m, "enabled"),
-            groupsHashMap -> configAugBuilder.setAsOverride("as-override".equals(groupsHashMap.get("enabled"))));
-    }
-
-    private static void setNeighborVersion(BgpNeighborConfigAugBuilder configAugBuilder, String defaultInstance) {
-        ParsingUtils.parseFields(preprocessOutput(defaultInstance), 0, VERSION_PATTERN::matcher,
-            m -> findGroup(m, "version"), groupsHashMap ->
-                    configAugBuilder.setNeighborVersion(parseBgpVersion(groupsHashMap.get("version"))));
-    }
-
-    private static void setTransport(BgpNeighborConfigAugBuilder configAugBuilder, String defaultInstance) {
-        ParsingUtils.parseFields(preprocessOutput(defaultInstance), 0, TRANSPORT_PATTERN::matcher,
-            m -> findGroup(m, "transport"),
-            groupsHashMap -> configAugBuilder.setTransport(getTransport(groupsHashMap.get("transport"))));
-    }
-
     private static String preprocessOutput(String defaultInstance) {
         return defaultInstance
                 .replaceAll(" neighbor", "\n neighbor")
                 .replaceAll(" address-family", "\n address-family");
     }
 
-    private static void setEnabled(ConfigBuilder configBuilder, String defaultInstance) {
-        ParsingUtils.parseFields(preprocessOutput(defaultInstance), 0, NEIGHBOR_ACTIVATE_PATTERN::matcher,
-            m -> findGroup(m, "enabled"),
-            groupsHashMap -> configBuilder.setEnabled("activate".equals(groupsHashMap.get("enabled"))));
-    }
-
     private static void setRemovePrivateAs(ConfigBuilder configBuilder, String output) {
         if (REMOVE_PRIVATE_AS_PATTERN.matcher(output).matches()) {
             configBuilder.setRemovePrivateAs(PRIVATEASREMOVEALL.class);
         }
     }
 
-    private static HashMap<String, String> findGroup(Matcher matcher, String group) {
-        HashMap<String, String> hashMap = new HashMap<>();
-
-        hashMap.put("neighborIp", matcher.group("neighborIp"));
-        hashMap.put(group, matcher.group(group));
-
-        return hashMap;
-    }
-
     private static EncryptedPassword getPassword(String password) {
         if (PASSWORD_REGEX_FORM.matcher(password).matches()) {
             return new EncryptedPassword(new EncryptedString(String.format(PASSWORD_FORM, password)));
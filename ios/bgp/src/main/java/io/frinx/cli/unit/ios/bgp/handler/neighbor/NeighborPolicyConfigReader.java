@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstance;
@@ -74,11 +75,11 @@ public class NeighborPolicyConfigReader implements CliConfigReader<Config, Confi
     }
 
     private static void parseDefault(ConfigBuilder configBuilder, Stream<String> output) {
-        Optional<String> defaultNetworkNeighbors = output
+        String defaultNetworkNeighbors = output
                 .filter(value -> !value.contains("vrf"))
-                .reduce((s1, s2) -> s1 + s2);
+                .collect(Collectors.joining());
 
-        setAttributes(configBuilder, defaultNetworkNeighbors.orElse(""));
+        setAttributes(configBuilder, defaultNetworkNeighbors);
     }
 
     private static void setAttributes(ConfigBuilder configBuilder, String output) {
@@ -26,6 +26,7 @@ import io.frinx.openconfig.network.instance.NetworInstance;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.common.structure.neighbor.group.route.reflector.route.reflector.Config;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.common.structure.neighbor.group.route.reflector.route.reflector.ConfigBuilder;
@@ -68,11 +69,11 @@ public class NeighborRouteReflectorConfigReader implements CliConfigReader<Confi
     }
 
     private static void parseDefault(ConfigBuilder configBuilder, String[] output) {
-        Optional<String> defaultNetworkNeighbors = Arrays.stream(output)
+        String defaultNetworkNeighbors = Arrays.stream(output)
                 .filter(value -> !value.contains("vrf"))
-                .reduce((s1, s2) -> s1 + s2);
+                .collect(Collectors.joining());
 
-        setAttributes(configBuilder, defaultNetworkNeighbors.orElse(""));
+        setAttributes(configBuilder, defaultNetworkNeighbors);
     }
 
     private static void setAttributes(ConfigBuilder configBuilder, String output) {
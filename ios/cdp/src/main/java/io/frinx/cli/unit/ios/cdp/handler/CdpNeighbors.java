@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.cdp.handler;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.utils.CliReader;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * CDP neighbors of all interfaces parsed from one {@code show cdp neighbors detail} read per read transaction.
+ * <br>
+ * Neighbor readers used to issue {@code show cdp neighbors <interface> detail} per CDP interface. Neighbors are split
+ * by their {@code Interface:} line instead and each interface gets the lines of its neighbors as if it was read by its
+ * own command. When a neighbor has no interface line, readers fall back to the per interface command.
+ */
+final class CdpNeighbors {
+
+    static final String SH_CDP_NEIGHBORS = "show cdp neighbors detail | include Device ID|Interface";
+
+    private static final Pattern DEVICE_ID = Pattern.compile("Device ID: .*");
+    private static final Pattern INTERFACE = Pattern.compile("Interface: (?<name>[^,]+),.*");
+
+    private final Map<String, String> outputs;
+    private final boolean complete;
+
+    private CdpNeighbors(Map<String, String> outputs, boolean complete) {
+        this.outputs = outputs;
+        this.complete = complete;
+    }
+
+    /**
+     * Returns lines of the neighbors of the interface. The per interface command is read instead when the neighbors
+     * cannot be split by interface.
+     */
+    static String blockingRead(CliReader cliReader, String interfaceName, Cli cli,
+                               InstanceIdentifier<?> instanceIdentifier, ReadContext readContext)
+            throws ReadFailedException {
+        CdpNeighbors neighbors = (CdpNeighbors) readContext.getModificationCache().get(CdpNeighbors.class);
+        if (neighbors == null) {
+            neighbors = parse(cliReader.blockingRead(SH_CDP_NEIGHBORS, cli, instanceIdentifier, readContext));
+            readContext.getModificationCache().put(CdpNeighbors.class, neighbors);
+        }
+        return neighbors.isComplete()
+                ? neighbors.getOutput(interfaceName)
+                : cliReader.blockingRead(String.format(NeighborReader.SH_CDP_NEIGH, interfaceName), cli,
+                    instanceIdentifier, readContext);
+    }
+
+    /**
+     * Splits the output into neighbors, neighbor starts with its {@code Device ID:} line.
+     */
+    @VisibleForTesting
+    static CdpNeighbors parse(String output) {
+        final Map<String, StringBuilder> outputs = new HashMap<>();
+        boolean complete = true;
+        final List<String> neighbor = new ArrayList<>();
+        String ifcName = null;
+        for (String line : ParsingUtils.NEWLINE.split(output)) {
+            final String trimmed = line.trim();
+            if (DEVICE_ID.matcher(trimmed).matches()) {
+                complete &= addNeighbor(outputs, neighbor, ifcName);
+                neighbor.clear();
+                ifcName = null;
+            }
+            neighbor.add(line);
+            final Matcher matcher = INTERFACE.matcher(trimmed);
+            if (ifcName == null && matcher.matches()) {
+                ifcName = matcher.group("name");
+            }
+        }
+        complete &= addNeighbor(outputs, neighbor, ifcName);
+
+        final Map<String, String> neighbors = new HashMap<>();
+        outputs.forEach((name, neighborsOutput) -> neighbors.put(name, neighborsOutput.toString()));
+        return new CdpNeighbors(neighbors, complete);
+    }
+
+    /**
+     * Returns false when the neighbor does not report its interface.
+     */
+    private static boolean addNeighbor(Map<String, StringBuilder> outputs, List<String> neighbor, String ifcName) {
+        if (neighbor.isEmpty() || !DEVICE_ID.matcher(neighbor.get(0).trim()).matches()) {
+            // lines before the first neighbor
+            return true;
+        }
+        if (ifcName == null) {
+            return false;
+        }
+        final StringBuilder output = outputs.computeIfAbsent(ifcName, name -> new StringBuilder());
+        for (String line : neighbor) {
+            output.append(line).append('\n');
+        }
+        return true;
+    }
+
+    boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Returns neighbors of the interface, empty string for an interface without neighbors.
+     */
+    String getOutput(String ifcName) {
+        return outputs.getOrDefault(ifcName, "");
+    }
+}
@@ -46,7 +46,7 @@ public class NeighborReader implements CliOperListReader<Neighbor, NeighborKey,
     public List<NeighborKey> getAllIds(@NotNull InstanceIdentifier<Neighbor> instanceIdentifier,
                                        @NotNull ReadContext readContext) throws ReadFailedException {
         String ifcName = instanceIdentifier.firstKeyOf(Interface.class).getName();
-        String output = blockingRead(String.format(SH_CDP_NEIGH, ifcName), cli, instanceIdentifier, readContext);
+        String output = CdpNeighbors.blockingRead(this, ifcName, cli, instanceIdentifier, readContext);
         return parseNeighborIds(output);
     }
 
@@ -46,8 +46,7 @@ public class NeighborStateReader implements CliOperReader<State, StateBuilder> {
         String interfaceId = instanceIdentifier.firstKeyOf(Interface.class).getName();
         String neighborId = instanceIdentifier.firstKeyOf(Neighbor.class).getId();
 
-        String output = blockingRead(String.format(NeighborReader.SH_CDP_NEIGH, interfaceId), cli,
-                instanceIdentifier, readContext);
+        String output = CdpNeighbors.blockingRead(this, interfaceId, cli, instanceIdentifier, readContext);
         parseNeighborStateFields(stateBuilder, output, neighborId);
     }
 
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.cdp.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.lldp.rev160516.lldp.neighbor.top.neighbors.NeighborKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.lldp.rev160516.lldp.neighbor.top.neighbors.neighbor.StateBuilder;
+
+class CdpNeighborsTest {
+
+    private static final String OUTPUT = """
+            Device ID: TELNET
+            Interface: FastEthernet0/0,  Port ID (outgoing port): FastEthernet0/0
+            Device ID: XE2.FRINX
+            Interface: GigabitEthernet1,  Port ID (outgoing port): GigabitEthernet1
+            Device ID: PE1.demo.frinx.io
+            Interface: FastEthernet0/0,  Port ID (outgoing port): MgmtEth0/0/CPU0/0
+            """;
+
+    @Test
+    void testParse() {
+        final CdpNeighbors neighbors = CdpNeighbors.parse(OUTPUT);
+
+        assertTrue(neighbors.isComplete());
+        assertEquals(List.of(new NeighborKey("TELNET"), new NeighborKey("PE1.demo.frinx.io")),
+            NeighborReader.parseNeighborIds(neighbors.getOutput("FastEthernet0/0")));
+        assertEquals(List.of(new NeighborKey("XE2.FRINX")),
+            NeighborReader.parseNeighborIds(neighbors.getOutput("GigabitEthernet1")));
+        assertEquals("", neighbors.getOutput("GigabitEthernet2"));
+
+        final StateBuilder stateBuilder = new StateBuilder();
+        NeighborStateReader.parseNeighborStateFields(stateBuilder, neighbors.getOutput("FastEthernet0/0"),
+            "PE1.demo.frinx.io");
+        assertEquals("MgmtEth0/0/CPU0/0", stateBuilder.getPortId());
+    }
+
+    @Test
+    void testWithoutInterface() {
+        assertFalse(CdpNeighbors.parse("Device ID: TELNET\n").isComplete());
+        assertTrue(CdpNeighbors.parse("").isComplete());
+    }
+}
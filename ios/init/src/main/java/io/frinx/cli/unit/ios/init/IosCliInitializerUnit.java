@@ -20,6 +20,8 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Sets;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
+import io.fd.honeycomb.translate.spi.write.PostCommitHook;
+import io.fd.honeycomb.translate.spi.write.PreCommitHook;
 import io.frinx.cli.io.Session;
 import io.frinx.cli.io.SessionException;
 import io.frinx.cli.io.SessionInitializationStrategy;
@@ -60,10 +62,21 @@ public class IosCliInitializerUnit extends AbstractUnit {
 
     private static final Logger LOG = LoggerFactory.getLogger(IosCliInitializerUnit.class);
 
+    private final IosWriteBatching writeBatchingHooks = new IosWriteBatching();
+    private boolean writeBatching;
+
     public IosCliInitializerUnit(@NotNull final TranslationUnitCollector registry) {
         super(registry);
     }
 
+    /**
+     * Enables write-batching mode, configuration of a transaction is sent as one configuration session
+     * on commit (see {@link IosWriteBatching}).
+     */
+    public void setWriteBatching(boolean writeBatching) {
+        this.writeBatching = writeBatching;
+    }
+
     @Override
     protected Set<Device> getSupportedVersions() {
         return Collections.singleton(IosDevices.IOS_GENERIC);
@@ -93,6 +106,23 @@ public class IosCliInitializerUnit extends AbstractUnit {
         writeRegistry.addCheckRegistry(ChecksMap.OPENCONFIG_REGISTRY);
     }
 
+    @Override
+    public void close() {
+        super.close();
+        writeBatchingHooks.close();
+    }
+
+    @Override
+    public PreCommitHook getPreCommitHook(TranslateUnit.Context context) {
+        return writeBatching ? writeBatchingHooks.preCommitHook(context) : super.getPreCommitHook(context);
+    }
+
+    @Override
+    public PostCommitHook getCommitHook(TranslateUnit.Context context, Set<Pattern> errorCommitPatterns) {
+        return writeBatching ? writeBatchingHooks.commitHook(context, errorCommitPatterns)
+                : super.getCommitHook(context, errorCommitPatterns);
+    }
+
     @Override
     public Set<Pattern> getErrorPatterns() {
         return Sets.newLinkedHashSet(Arrays.asList(
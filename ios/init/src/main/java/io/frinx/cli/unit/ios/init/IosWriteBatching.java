@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.ios.init;
+
+import io.fd.honeycomb.translate.spi.write.CommitFailedException;
+import io.fd.honeycomb.translate.spi.write.PostCommitHook;
+import io.fd.honeycomb.translate.spi.write.PreCommitHook;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.registry.spi.TranslateUnit;
+import io.frinx.cli.unit.handlers.batch.ConfigBatch;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Commit hooks of the write-batching mode: writers of the transaction add their commands to the device's
+ * {@link ConfigBatch}, which is sent as one configuration session when the transaction is committed.
+ * <br>
+ * The batch of a device is dropped once it was sent. Batches of transactions which never reached the commit are
+ * dropped when the owning unit is closed.
+ */
+public final class IosWriteBatching {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IosWriteBatching.class);
+
+    private final Set<String> devices = ConcurrentHashMap.newKeySet();
+
+    public PreCommitHook preCommitHook(TranslateUnit.Context context) {
+        return () -> {
+            final Cli cli = context.getTransport();
+            devices.add(cli.getDeviceId());
+            ConfigBatch.of(cli).start();
+        };
+    }
+
+    public PostCommitHook commitHook(TranslateUnit.Context context, Set<Pattern> errorPatterns) {
+        return () -> {
+            final Cli cli = context.getTransport();
+            final Optional<ConfigBatch.Failure> failure;
+            try {
+                failure = ConfigBatch.of(cli).flush(cli, errorPatterns);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CommitFailedException(cli.getDeviceId() + ": Interrupted while writing configuration");
+            } catch (ExecutionException e) {
+                LOG.warn("{}: Unable to write configuration", cli.getDeviceId(), e);
+                throw new CommitFailedException(cli.getDeviceId() + ": Unable to write configuration - "
+                        + e.getMessage());
+            } finally {
+                devices.remove(cli.getDeviceId());
+                ConfigBatch.remove(cli.getDeviceId());
+            }
+            if (failure.isPresent()) {
+                LOG.warn("{}: Configuration failed: {}", cli.getDeviceId(), failure.get());
+                throw new CommitFailedException(cli.getDeviceId() + ": " + failure.get());
+            }
+            LOG.debug("{}: Configuration written", cli.getDeviceId());
+        };
+    }
+
+    /**
+     * Drops the batches of all devices this instance started a batch for.
+     */
+    public void close() {
+        devices.forEach(ConfigBatch::remove);
+        devices.clear();
+    }
+}
@@ -21,8 +21,11 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
+import io.frinx.cli.unit.ifc.base.util.CounterSamples;
 import io.frinx.cli.unit.ios.ifc.handler.InterfaceConfigReader;
 import io.frinx.cli.unit.ios.ifc.handler.InterfaceConfigWriter;
+import io.frinx.cli.unit.ios.ifc.handler.InterfaceCountersReader;
 import io.frinx.cli.unit.ios.ifc.handler.InterfaceReader;
 import io.frinx.cli.unit.ios.ifc.handler.InterfaceStateReader;
 import io.frinx.cli.unit.ios.ifc.handler.InterfaceStatisticsConfigReader;
@@ -56,6 +59,8 @@ import org.opendaylight.yangtools.yang.binding.YangModuleInfo;
 
 public final class IosInterfaceUnit extends AbstractUnit {
 
+    private final CounterSamples counterSamples = new CounterSamples();
+
     public IosInterfaceUnit(@NotNull final TranslationUnitCollector registry) {
         super(registry);
     }
@@ -87,11 +92,19 @@ public final class IosInterfaceUnit extends AbstractUnit {
     public void provideHandlers(@NotNull final CustomizerAwareReadRegistryBuilder readRegistry,
                                 @NotNull final CustomizerAwareWriteRegistryBuilder writeRegistry,
                                 @NotNull final Context context) {
-        Cli cli = context.getTransport();
+        Cli cli = CommandMetrics.instrument(context.getTransport());
+        // samples of a previous mount of the device are stale
+        counterSamples.clear(cli.getDeviceId());
         provideReaders(readRegistry, cli);
         provideWriters(writeRegistry, cli);
     }
 
+    @Override
+    public void close() {
+        super.close();
+        counterSamples.clear();
+    }
+
     private void provideWriters(CustomizerAwareWriteRegistryBuilder writeRegistry, Cli cli) {
         writeRegistry.addNoop(IIDs.IN_INTERFACE);
         writeRegistry.subtreeAdd(IIDs.IN_IN_CONFIG, new InterfaceConfigWriter(cli),
@@ -138,6 +151,7 @@ public final class IosInterfaceUnit extends AbstractUnit {
     private void provideReaders(CustomizerAwareReadRegistryBuilder readRegistry, Cli cli) {
         readRegistry.add(IIDs.IN_INTERFACE, new InterfaceReader(cli));
         readRegistry.add(IIDs.IN_IN_STATE, new InterfaceStateReader(cli));
+        readRegistry.add(IIDs.IN_IN_ST_COUNTERS, new InterfaceCountersReader(cli, counterSamples));
         readRegistry.add(IIDs.IN_IN_CONFIG, new InterfaceConfigReader(cli));
 
         readRegistry.add(IIDs.IN_IN_SU_SUBINTERFACE, new SubinterfaceReader(cli));
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.ifc.handler;
+
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ifc.base.handler.AbstractInterfaceCountersReader;
+import io.frinx.cli.unit.ifc.base.util.CounterSamples;
+import io.frinx.cli.unit.ifc.base.util.InterfaceCounter;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class InterfaceCountersReader extends AbstractInterfaceCountersReader {
+
+    public static final String SH_INTERFACES = "show interfaces";
+
+    private static final Pattern HEADER_LINE = Pattern.compile("(?<name>\\S+) is .*, line protocol is .*");
+    private static final Pattern PACKETS_INPUT_LINE =
+            Pattern.compile("(?<packets>\\d+) packets input, (?<bytes>\\d+) bytes.*");
+    private static final Pattern BROADCASTS_LINE =
+            Pattern.compile("Received (?<broadcasts>\\d+) broadcasts( \\((?<multicasts>\\d+) (IP )?multicasts?\\))?.*");
+    private static final Pattern INPUT_ERRORS_LINE = Pattern.compile("(?<errors>\\d+) input errors.*");
+    private static final Pattern UNKNOWN_PROTOCOL_LINE = Pattern.compile("(?<drops>\\d+) unknown protocol drops.*");
+    private static final Pattern QUEUE_LINE =
+            Pattern.compile("Input queue: \\d+/\\d+/(?<inDrops>\\d+)/\\d+ .*Total output drops: (?<outDrops>\\d+).*");
+    private static final Pattern PACKETS_OUTPUT_LINE =
+            Pattern.compile("(?<packets>\\d+) packets output, (?<bytes>\\d+) bytes.*");
+    private static final Pattern OUTPUT_ERRORS_LINE = Pattern.compile("(?<errors>\\d+) output errors.*");
+
+    // input packets are stored as unicast packets first, broadcasts are subtracted when parsed
+    private static final List<CounterRule> RULES = List.of(
+        CounterRule.rule(PACKETS_INPUT_LINE, (m, counters) -> {
+            InterfaceCounter.IN_UNICAST_PKTS.set(counters, m.group("packets"));
+            InterfaceCounter.IN_OCTETS.set(counters, m.group("bytes"));
+        }),
+        CounterRule.rule(BROADCASTS_LINE, InterfaceCountersReader::parseBroadcasts),
+        CounterRule.rule(INPUT_ERRORS_LINE, InterfaceCounter.IN_ERRORS, "errors"),
+        CounterRule.rule(UNKNOWN_PROTOCOL_LINE, InterfaceCounter.IN_UNKNOWN_PROTOS, "drops"),
+        CounterRule.rule(QUEUE_LINE, (m, counters) -> {
+            InterfaceCounter.IN_DISCARDS.set(counters, m.group("inDrops"));
+            InterfaceCounter.OUT_DISCARDS.set(counters, m.group("outDrops"));
+        }),
+        CounterRule.rule(PACKETS_OUTPUT_LINE, InterfaceCounter.OUT_OCTETS, "bytes"),
+        CounterRule.rule(OUTPUT_ERRORS_LINE, InterfaceCounter.OUT_ERRORS, "errors"));
+
+    public InterfaceCountersReader(Cli cli, CounterSamples samples) {
+        super(cli, samples);
+    }
+
+    @Override
+    protected String getReadCommand() {
+        return SH_INTERFACES;
+    }
+
+    /**
+     * IOS reports broadcasts including multicasts ({@code Received 10 broadcasts (4 IP multicasts)}), unicast
+     * packets are the rest of the input packets. Output packets are not broken down by type, IOS reports only their
+     * total. {@link InterfaceCounter#OUT_UNICAST_PKTS} is therefore left unknown rather than filled with the total,
+     * which would count output broadcasts and multicasts as unicast packets.
+     */
+    @Override
+    protected Map<String, long[]> parseCounters(String output) {
+        return parseInterfaceBlocks(output, HEADER_LINE, RULES);
+    }
+
+    private static void parseBroadcasts(Matcher matcher, long[] counters) {
+        final long broadcasts = Long.parseLong(matcher.group("broadcasts"));
+        final long multicasts = matcher.group("multicasts") == null ? 0 : Long.parseLong(matcher.group("multicasts"));
+        InterfaceCounter.IN_BROADCAST_PKTS.set(counters, broadcasts - multicasts);
+        InterfaceCounter.IN_MULTICAST_PKTS.set(counters, multicasts);
+        final long packets = InterfaceCounter.IN_UNICAST_PKTS.get(counters);
+        if (packets != InterfaceCounter.UNKNOWN) {
+            InterfaceCounter.IN_UNICAST_PKTS.set(counters, packets - broadcasts);
+        }
+    }
+}
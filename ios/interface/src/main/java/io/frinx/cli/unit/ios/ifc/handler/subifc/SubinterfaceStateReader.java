@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.cache.CommandMemo;
 import io.frinx.cli.unit.ios.ifc.Util;
 import io.frinx.cli.unit.ios.ifc.handler.InterfaceConfigReader;
 import io.frinx.cli.unit.ios.ifc.handler.InterfaceStateReader;
@@ -55,7 +56,7 @@ public final class SubinterfaceStateReader implements CliOperReader<State, State
         String subIfcName = Util.getSubinterfaceName(id);
 
         String cmd = String.format(InterfaceStateReader.SH_SINGLE_INTERFACE, subIfcName);
-        parseInterfaceState(blockingRead(cmd, cli, id, ctx), builder, subKey.getIndex(), subIfcName);
+        parseInterfaceState(CommandMemo.blockingRead(this, cmd, cli, id, ctx), builder, subKey.getIndex(), subIfcName);
     }
 
     @VisibleForTesting
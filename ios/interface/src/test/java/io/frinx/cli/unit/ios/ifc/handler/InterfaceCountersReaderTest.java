@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.ifc.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.generator.IosOutputs;
+import io.frinx.cli.unit.generator.ScaleBudget;
+import io.frinx.cli.unit.ifc.base.util.CounterSamples;
+import io.frinx.cli.unit.ifc.base.util.InterfaceCounter;
+import io.frinx.openconfig.openconfig.interfaces.IIDs;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.Interface;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.InterfaceKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.State;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.state.Counters;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.state.CountersBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+class InterfaceCountersReaderTest {
+
+    private static final String SH_INTERFACES = """
+            FastEthernet0/0 is up, line protocol is up
+              Hardware is DEC21140, address is ca01.079c.0000 (bia ca01.079c.0000)
+              MTU 1500 bytes, BW 100000 Kbit/sec, DLY 100 usec,
+              Input queue: 0/75/3/0 (size/max/drops/flushes); Total output drops: 7
+              5 minute input rate 0 bits/sec, 0 packets/sec
+                 351 packets input, 60400 bytes
+                 Received 120 broadcasts (20 IP multicasts)
+                 0 runts, 0 giants, 0 throttles
+                 2 input errors, 0 CRC, 0 frame, 0 overrun, 0 ignored
+                 394 packets output, 43646 bytes, 0 underruns
+                 1 output errors, 0 collisions, 1 interface resets
+                 5 unknown protocol drops
+            GigabitEthernet1/0 is administratively down, line protocol is down
+              Input queue: 0/75/0/0 (size/max/drops/flushes); Total output drops: 0
+                 0 packets input, 0 bytes, 0 no buffer
+                 Received 0 broadcasts, 0 runts, 0 giants, 0 throttles
+                 0 input errors, 0 CRC, 0 frame, 0 overrun, 0 ignored
+                 0 packets output, 0 bytes, 0 underruns
+                 0 output errors, 0 collisions, 0 interface resets
+            """;
+
+    private static final Counters EXPECTED_COUNTERS = new CountersBuilder()
+            .setInOctets(counter(60400))
+            .setInUnicastPkts(counter(231))
+            .setInBroadcastPkts(counter(100))
+            .setInMulticastPkts(counter(20))
+            .setInDiscards(counter(3))
+            .setInErrors(counter(2))
+            .setInUnknownProtos(counter(5))
+            .setOutOctets(counter(43646))
+            .setOutDiscards(counter(7))
+            .setOutErrors(counter(1))
+            .build();
+
+    private final AtomicLong clock = new AtomicLong(1000);
+    private final InterfaceCountersReader reader = Mockito.spy(new InterfaceCountersReader(device(),
+            new CounterSamples(clock::get)));
+
+    @Test
+    void testParseCounters() {
+        final Map<String, long[]> counters = reader.parseCounters(SH_INTERFACES);
+        assertEquals(2, counters.size());
+
+        final CountersBuilder builder = new CountersBuilder();
+        InterfaceCounter.fill(builder, counters.get("FastEthernet0/0"));
+        assertEquals(EXPECTED_COUNTERS, builder.build());
+
+        final long[] down = counters.get("GigabitEthernet1/0");
+        assertEquals(0, InterfaceCounter.IN_UNICAST_PKTS.get(down));
+        assertEquals(0, InterfaceCounter.IN_MULTICAST_PKTS.get(down));
+        assertEquals(InterfaceCounter.UNKNOWN, InterfaceCounter.IN_UNKNOWN_PROTOS.get(down));
+    }
+
+    @Test
+    void testParseCountersScale() throws Exception {
+        final String output = IosOutputs.showInterfaces(10_000);
+        ScaleBudget.assertWithin(Duration.ofSeconds(5), () -> {
+            final Map<String, long[]> counters = reader.parseCounters(output);
+            assertEquals(10_000, counters.size());
+            for (int ifc = 0; ifc < 10_000; ifc++) {
+                final long[] values = counters.get(IosOutputs.interfaceName(ifc));
+                assertEquals((1000 + ifc) * 100L, InterfaceCounter.IN_OCTETS.get(values));
+                assertEquals(1000 + ifc - ifc % 10, InterfaceCounter.IN_UNICAST_PKTS.get(values));
+                assertEquals(ifc % 10 - ifc % 5, InterfaceCounter.IN_BROADCAST_PKTS.get(values));
+                assertEquals(ifc % 5, InterfaceCounter.IN_MULTICAST_PKTS.get(values));
+                assertEquals(ifc % 7, InterfaceCounter.IN_DISCARDS.get(values));
+                assertEquals(ifc % 4, InterfaceCounter.IN_ERRORS.get(values));
+                assertEquals((2000 + ifc) * 50L, InterfaceCounter.OUT_OCTETS.get(values));
+                assertEquals(ifc % 3, InterfaceCounter.OUT_DISCARDS.get(values));
+                assertEquals(ifc % 2, InterfaceCounter.OUT_ERRORS.get(values));
+            }
+        });
+    }
+
+    @Test
+    void testReadOnce() throws Exception {
+        final ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.doReturn(new ModificationCache()).when(readContext).getModificationCache();
+        Mockito.doReturn(SH_INTERFACES).when(reader)
+                .blockingRead(Mockito.eq(InterfaceCountersReader.SH_INTERFACES), Mockito.any(), Mockito.any(),
+                        Mockito.eq(readContext));
+
+        for (String ifcName : new String[]{"FastEthernet0/0", "GigabitEthernet1/0", "Loopback0"}) {
+            final InstanceIdentifier<Counters> id = IIDs.INTERFACES
+                    .child(Interface.class, new InterfaceKey(ifcName))
+                    .child(State.class)
+                    .child(Counters.class);
+            final CountersBuilder builder = new CountersBuilder();
+            reader.readCurrentAttributes(id, builder, readContext);
+            if ("FastEthernet0/0".equals(ifcName)) {
+                assertEquals(EXPECTED_COUNTERS, builder.build());
+            }
+        }
+
+        Mockito.verify(reader, Mockito.times(1)).blockingRead(Mockito.eq(InterfaceCountersReader.SH_INTERFACES),
+                Mockito.any(), Mockito.any(), Mockito.eq(readContext));
+    }
+
+    @Test
+    void testRates() throws Exception {
+        read(SH_INTERFACES, "FastEthernet0/0", "GigabitEthernet1/0");
+        assertTrue(Double.isNaN(reader.getInRate("FastEthernet0/0")));
+
+        clock.addAndGet(5000);
+        read(SH_INTERFACES
+                .replace("351 packets input, 60400 bytes", "451 packets input, 70400 bytes")
+                .replace("394 packets output, 43646 bytes", "494 packets output, 48646 bytes"),
+                "FastEthernet0/0", "GigabitEthernet1/0");
+        assertEquals(2000.0, reader.getInRate("FastEthernet0/0"));
+        assertEquals(1000.0, reader.getOutRate("FastEthernet0/0"));
+        assertEquals(0.0, reader.getInRate("GigabitEthernet1/0"));
+        assertTrue(Double.isNaN(reader.getOutRate("Loopback0")));
+
+        // counters cleared on the device
+        clock.addAndGet(5000);
+        read(SH_INTERFACES, "FastEthernet0/0");
+        assertTrue(Double.isNaN(reader.getInRate("FastEthernet0/0")));
+    }
+
+    private void read(String output, String... ifcNames) throws Exception {
+        final ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.doReturn(new ModificationCache()).when(readContext).getModificationCache();
+        Mockito.doReturn(output).when(reader)
+                .blockingRead(Mockito.eq(InterfaceCountersReader.SH_INTERFACES), Mockito.any(), Mockito.any(),
+                        Mockito.eq(readContext));
+        for (String ifcName : ifcNames) {
+            reader.readCurrentAttributes(IIDs.INTERFACES
+                    .child(Interface.class, new InterfaceKey(ifcName))
+                    .child(State.class)
+                    .child(Counters.class), new CountersBuilder(), readContext);
+        }
+    }
+
+    private static Cli device() {
+        final Cli cli = Mockito.mock(Cli.class);
+        Mockito.when(cli.getDeviceId()).thenReturn("ios-pe1");
+        return cli;
+    }
+
+    private static Counter64 counter(long value) {
+        return new Counter64(BigInteger.valueOf(value));
+    }
+}
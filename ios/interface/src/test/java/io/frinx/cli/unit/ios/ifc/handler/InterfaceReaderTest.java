@@ -20,6 +20,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.google.common.collect.Lists;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.generator.IosOutputs;
+import io.frinx.cli.unit.generator.Outputs;
+import io.frinx.cli.unit.generator.ScaleBudget;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
@@ -63,4 +68,22 @@ class InterfaceReaderTest {
         assertEquals(IDS_ALL_EXPECTED,
                 new InterfaceReader(Mockito.mock(Cli.class)).parseAllInterfaceIds(SH_INTERFACE));
     }
+
+    @Test
+    void testParseInterfaceIdsScale() throws Exception {
+        final String output = Outputs.include(IosOutputs.runningConfig(10_000, 2, 0), "^interface");
+        final InterfaceReader reader = new InterfaceReader(Mockito.mock(Cli.class));
+        final List<InterfaceKey> expected = new ArrayList<>(List.of(new InterfaceKey("Loopback0")));
+        final List<InterfaceKey> expectedAll = new ArrayList<>(expected);
+        for (int ifc = 0; ifc < 10_000; ifc++) {
+            final String name = IosOutputs.interfaceName(ifc);
+            expected.add(new InterfaceKey(name));
+            expectedAll.addAll(List.of(new InterfaceKey(name), new InterfaceKey(name + ".100"),
+                    new InterfaceKey(name + ".101")));
+        }
+        ScaleBudget.assertWithin(Duration.ofSeconds(5), () -> {
+            assertEquals(expected, reader.parseInterfaceIds(output));
+            assertEquals(expectedAll, reader.parseAllInterfaceIds(output));
+        });
+    }
 }
@@ -18,7 +18,6 @@ package io.frinx.cli.unit.ios.it;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
-import com.google.common.base.Stopwatch;
 import com.google.gson.stream.JsonWriter;
 import io.fd.honeycomb.data.ReadableDataManager;
 import io.fd.honeycomb.data.impl.ModifiableDirectDataTreeDelegator;
@@ -39,6 +38,7 @@ import io.frinx.cli.registry.impl.TranslateRegistryImpl;
 import io.frinx.cli.registry.spi.TranslateUnit;
 import io.frinx.cli.topology.RemoteDeviceId;
 import io.frinx.cli.unit.generic.GenericTranslateUnit;
+import io.frinx.cli.unit.handlers.replay.ReplayBenchmark;
 import io.frinx.cli.unit.ios.bgp.BgpUnit;
 import io.frinx.cli.unit.ios.cdp.IosCdpUnit;
 import io.frinx.cli.unit.ios.ifc.IosInterfaceUnit;
@@ -67,12 +67,12 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -225,9 +225,9 @@ public class IosAll {
                 .setErrorPatterns(translateContext.getErrorPatterns())
                 .setCliDefaultParametersService(cliDefaultParametersService);
 
-        cli = ioConfigurationBuilder.getIO()
+        cli = ReplayBenchmark.connect(MOUNT_ID, () -> ioConfigurationBuilder.getIO()
                 .toCompletableFuture()
-                .get();
+                .get());
 
         schemaCtx = translateContext.getSchemaContext();
         BindingToNormalizedNodeCodec codec = translateContext.getCodec();
@@ -410,11 +410,11 @@ public class IosAll {
         NormalizedNode<?, ?> root = read.get().get();
     }
 
-    @Disabled
+    @EnabledIfSystemProperty(named = ReplayBenchmark.TRANSCRIPT_PROPERTY, matches = ".+")
     @SuppressWarnings("IllegalCatch")
     @Test
     protected void getAllDOMBenchmark() throws Exception {
-        benchmark(2, 10, () -> {
+        ReplayBenchmark.run(cli, 2, 10, () -> {
             try {
                 getAllDOM();
             } catch (Exception e) {
@@ -423,24 +423,6 @@ public class IosAll {
         });
     }
 
-    static void benchmark(int warmups, int rounds, Runnable code) {
-        long averageTime = 0;
-
-        for (int i = 0; i < warmups; i++) {
-            code.run();
-        }
-
-        for (int i = 0; i < rounds; i++) {
-            Stopwatch stopwatch = Stopwatch.createStarted();
-
-            code.run();
-
-            stopwatch.stop();
-            averageTime += stopwatch.elapsed(TimeUnit.MILLISECONDS);
-        }
-
-    }
-
     protected String toJson(NormalizedNode<?, ?> root) throws Exception {
         JSONCodecFactory codecFac = JSONCodecFactory.getShared(schemaCtx);
         StringWriter out = new StringWriter();
@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.lldp.handler;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.utils.CliReader;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * LLDP neighbors of all interfaces parsed from one {@code show lldp neighbors detail} read per read transaction.
+ * <br>
+ * Neighbor readers used to issue {@code show lldp neighbors <interface> detail} per LLDP interface. Neighbors are
+ * split by their local interface ({@code Local Intf} on IOS, {@code Local Interface} on IOS XR,
+ * {@code Local Port id} on NX-OS) instead and each interface gets the neighbors as if it was read by its own command.
+ * IOS abbreviates the local interface (e.g. {@code Gi1} for {@code GigabitEthernet1}), such names are matched
+ * by interface number and type prefix. When the device does not report the local interface of a neighbor, readers
+ * fall back to the per interface command.
+ */
+public final class LldpNeighbors {
+
+    public static final String SH_LLDP_NEIGHBORS = "show lldp neighbors detail";
+
+    private static final Pattern SEPARATOR = Pattern.compile("-{10,}");
+    private static final Pattern CHASSIS = Pattern.compile("Chassis id: .+");
+    private static final Pattern LOCAL_INTERFACE =
+            Pattern.compile("(Local Intf|Local Interface|Local Port id): (?<name>\\S+)");
+
+    private final Map<String, String> outputs;
+    private final Map<String, List<String>> byNumber = new HashMap<>();
+    private final boolean complete;
+
+    private LldpNeighbors(Map<String, String> outputs, boolean complete) {
+        this.outputs = outputs;
+        this.complete = complete;
+        for (String name : outputs.keySet()) {
+            byNumber.computeIfAbsent(name.substring(typeLength(name)), number -> new ArrayList<>()).add(name);
+        }
+    }
+
+    /**
+     * Returns {@code show lldp neighbors detail} output of the neighbors of the interface. The per interface command
+     * (formatted with the interface name) is read instead when the neighbors cannot be split by interface.
+     */
+    public static String blockingRead(@NotNull CliReader cliReader, @NotNull String interfaceCommand,
+                                      @NotNull String interfaceName, @NotNull Cli cli,
+                                      @NotNull InstanceIdentifier<?> instanceIdentifier,
+                                      @NotNull ReadContext readContext) throws ReadFailedException {
+        LldpNeighbors neighbors = (LldpNeighbors) readContext.getModificationCache().get(LldpNeighbors.class);
+        if (neighbors == null) {
+            neighbors = parse(cliReader.blockingRead(SH_LLDP_NEIGHBORS, cli, instanceIdentifier, readContext));
+            readContext.getModificationCache().put(LldpNeighbors.class, neighbors);
+        }
+        return neighbors.isComplete()
+                ? neighbors.getOutput(interfaceName)
+                : cliReader.blockingRead(String.format(interfaceCommand, interfaceName), cli, instanceIdentifier,
+                    readContext);
+    }
+
+    /**
+     * Splits the output into neighbors. Neighbor starts with a separator line (IOS, IOS XR) or with its chassis id
+     * (NX-OS) and is assigned to the interface of its local interface line.
+     */
+    @VisibleForTesting
+    static LldpNeighbors parse(String output) {
+        final Map<String, StringBuilder> outputs = new HashMap<>();
+        boolean complete = true;
+        final List<String> neighbor = new ArrayList<>();
+        boolean chassis = false;
+        String localInterface = null;
+        for (String line : ParsingUtils.NEWLINE.split(output)) {
+            final String trimmed = line.trim();
+            final boolean chassisLine = CHASSIS.matcher(trimmed).matches();
+            if (SEPARATOR.matcher(trimmed).matches() || chassisLine && chassis) {
+                complete &= addNeighbor(outputs, neighbor, chassis, localInterface);
+                neighbor.clear();
+                chassis = false;
+                localInterface = null;
+            }
+            neighbor.add(line);
+            chassis |= chassisLine;
+            final Matcher matcher = LOCAL_INTERFACE.matcher(trimmed);
+            if (localInterface == null && matcher.matches()) {
+                localInterface = matcher.group("name");
+            }
+        }
+        complete &= addNeighbor(outputs, neighbor, chassis, localInterface);
+
+        final Map<String, String> neighbors = new HashMap<>();
+        outputs.forEach((name, neighborsOutput) -> neighbors.put(name, neighborsOutput.toString()));
+        return new LldpNeighbors(neighbors, complete);
+    }
+
+    /**
+     * Returns false when the neighbor does not report its local interface.
+     */
+    private static boolean addNeighbor(Map<String, StringBuilder> outputs, List<String> neighbor, boolean chassis,
+                                       String localInterface) {
+        if (!chassis) {
+            // header or separator only
+            return true;
+        }
+        if (localInterface == null) {
+            return false;
+        }
+        final StringBuilder output = outputs.computeIfAbsent(localInterface, name -> new StringBuilder());
+        for (String line : neighbor) {
+            output.append(line).append('\n');
+        }
+        return true;
+    }
+
+    boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Returns neighbors of the interface, empty string for an interface without neighbors.
+     */
+    String getOutput(String interfaceName) {
+        final String output = outputs.get(interfaceName);
+        if (output != null) {
+            return output;
+        }
+        final int typeLength = typeLength(interfaceName);
+        for (String name : byNumber.getOrDefault(interfaceName.substring(typeLength), Collections.emptyList())) {
+            final int abbreviationLength = typeLength(name);
+            if (abbreviationLength > 0 && abbreviationLength < typeLength
+                    && interfaceName.regionMatches(true, 0, name, 0, abbreviationLength)) {
+                return outputs.get(name);
+            }
+        }
+        return "";
+    }
+
+    private static int typeLength(String interfaceName) {
+        int length = 0;
+        while (length < interfaceName.length() && !Character.isDigit(interfaceName.charAt(length))) {
+            length++;
+        }
+        return length;
+    }
+}
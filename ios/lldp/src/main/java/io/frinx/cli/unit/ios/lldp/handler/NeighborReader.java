@@ -53,8 +53,8 @@ public class NeighborReader implements CliOperListReader<Neighbor, NeighborKey,
     public List<NeighborKey> getAllIds(@NotNull InstanceIdentifier<Neighbor> instanceIdentifier,
                                        @NotNull ReadContext readContext) throws ReadFailedException {
         String intName = instanceIdentifier.firstKeyOf(Interface.class).getName();
-        String showCommand = String.format(SHOW_LLDP_NEIGHBOR, intName);
-        return parseNeighborIds(blockingRead(showCommand, cli, instanceIdentifier, readContext));
+        return parseNeighborIds(LldpNeighbors.blockingRead(this, SHOW_LLDP_NEIGHBOR, intName, cli,
+                instanceIdentifier, readContext));
     }
 
     @VisibleForTesting
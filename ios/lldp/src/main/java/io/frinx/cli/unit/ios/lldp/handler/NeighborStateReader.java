@@ -70,8 +70,8 @@ public class NeighborStateReader implements CliOperReader<State, StateBuilder> {
             throws ReadFailedException {
         String interfaceId = instanceIdentifier.firstKeyOf(Interface.class).getName();
         String neighborId = instanceIdentifier.firstKeyOf(Neighbor.class).getId();
-        String cmd = String.format(NeighborReader.SHOW_LLDP_NEIGHBOR, interfaceId);
-        String output = blockingRead(cmd, cli, instanceIdentifier, readContext);
+        String output = LldpNeighbors.blockingRead(this, NeighborReader.SHOW_LLDP_NEIGHBOR, interfaceId, cli,
+                instanceIdentifier, readContext);
 
         parseNeighborStateFields(extractSingleNeighbor(output, neighborId), neighborId, stateBuilder);
     }
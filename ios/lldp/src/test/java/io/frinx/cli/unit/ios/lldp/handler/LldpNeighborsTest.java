@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.lldp.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.frinx.cli.unit.generator.ScaleBudget;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.lldp.rev160516.lldp.neighbor.top.neighbors.NeighborKey;
+
+class LldpNeighborsTest {
+
+    private static final String IOS_OUTPUT = """
+            ------------------------------------------------
+            Local Intf: Gi1
+            Chassis id: 001e.bd3a.4500
+            Port id: Gi1
+            Port Description: GigabitEthernet1
+            System Name: XE3.FRINX.LOCAL
+
+            Time remaining: 116 seconds
+            ------------------------------------------------
+            Local Intf: Gi2
+            Chassis id: 001e.bd3a.4500
+            Port id: Gi2
+            System Name: XE3.FRINX.LOCAL
+            ------------------------------------------------
+            Local Intf: Gi1
+            Chassis id: 0261.826a.a405
+            Port id: Gi0/0/0/4
+            System Name: ios
+
+            Total entries displayed: 3
+            """;
+
+    private static final String XR_OUTPUT = """
+            Capability codes:
+                    (R) Router, (B) Bridge, (T) Telephone, (C) DOCSIS Cable Device
+            ------------------------------------------------
+            Local Interface: GigabitEthernet0/0/0/0
+            Chassis id: 001e.bd3a.4500
+            Port id: Gi1
+            """;
+
+    private static final String NEXUS_OUTPUT = """
+            Capability codes:
+              (R) Router, (B) Bridge, (T) Telephone, (C) DOCSIS Cable Device
+            Device ID            Local Intf      Hold-time  Capability  Port ID \s
+
+            Chassis id: 001e.7ad1.e700
+            Port id: Gi1
+            Local Port id: mgmt0
+            System Name: XE4.FRINX.LOCAL
+
+            Chassis id: 001e.7ad1.e701
+            Port id: Gi2
+            Local Port id: Eth1/1
+            System Name: XE5.FRINX.LOCAL
+            """;
+
+    @Test
+    void testIos() {
+        final LldpNeighbors neighbors = LldpNeighbors.parse(IOS_OUTPUT);
+
+        assertTrue(neighbors.isComplete());
+        assertEquals(List.of(new NeighborKey("001e.bd3a.4500 Port:Gi1"),
+                new NeighborKey("0261.826a.a405 Port:Gi0/0/0/4")),
+            NeighborReader.parseNeighborIds(neighbors.getOutput("GigabitEthernet1")));
+        assertEquals(List.of(new NeighborKey("001e.bd3a.4500 Port:Gi2")),
+            NeighborReader.parseNeighborIds(neighbors.getOutput("GigabitEthernet2")));
+        assertEquals(neighbors.getOutput("Gi2"), neighbors.getOutput("GigabitEthernet2"));
+        assertEquals("", neighbors.getOutput("GigabitEthernet3"));
+        assertEquals("", neighbors.getOutput("TenGigabitEthernet1"));
+        assertTrue(NeighborStateReader.extractSingleNeighbor(neighbors.getOutput("GigabitEthernet1"),
+            "0261.826a.a405 Port:Gi0/0/0/4").contains("System Name: ios"));
+    }
+
+    @Test
+    void testXr() {
+        final LldpNeighbors neighbors = LldpNeighbors.parse(XR_OUTPUT);
+
+        assertTrue(neighbors.isComplete());
+        assertEquals(List.of(new NeighborKey("001e.bd3a.4500 Port:Gi1")),
+            NeighborReader.parseNeighborIds(neighbors.getOutput("GigabitEthernet0/0/0/0")));
+        assertEquals("", neighbors.getOutput("GigabitEthernet0/0/0/1"));
+    }
+
+    @Test
+    void testNexus() {
+        final LldpNeighbors neighbors = LldpNeighbors.parse(NEXUS_OUTPUT);
+
+        assertTrue(neighbors.isComplete());
+        assertEquals(List.of(new NeighborKey("001e.7ad1.e700 Port:Gi1")),
+            NeighborReader.parseNeighborIds(neighbors.getOutput("mgmt0")));
+        assertEquals(List.of(new NeighborKey("001e.7ad1.e701 Port:Gi2")),
+            NeighborReader.parseNeighborIds(neighbors.getOutput("Eth1/1")));
+    }
+
+    @Test
+    void testWithoutLocalInterface() {
+        assertFalse(LldpNeighbors.parse(NeighborReaderTest.SH_LLDP_NEIGHBOR).isComplete());
+        assertTrue(LldpNeighbors.parse("").isComplete());
+    }
+
+    @Test
+    void testScale() throws Exception {
+        final int ports = 400;
+        final StringBuilder output = new StringBuilder();
+        for (int i = 0; i < ports; i++) {
+            output.append("------------------------------------------------\n")
+                .append(String.format("Local Intf: Te1/%d/%d\n", i / 48, i % 48))
+                .append(String.format("Chassis id: 001e.bd3a.%04x\n", i))
+                .append("Port id: Te1/0/1\n")
+                .append(String.format("System Name: ACCESS%d.FRINX.LOCAL\n\n", i));
+        }
+
+        ScaleBudget.assertWithin(Duration.ofSeconds(5), () -> {
+            final LldpNeighbors neighbors = LldpNeighbors.parse(output.toString());
+            for (int i = 0; i < ports; i++) {
+                assertEquals(List.of(new NeighborKey(String.format("001e.bd3a.%04x Port:Te1/0/1", i))),
+                    NeighborReader.parseNeighborIds(
+                        neighbors.getOutput(String.format("TenGigabitEthernet1/%d/%d", i / 48, i % 48))));
+            }
+        });
+    }
+}
@@ -16,13 +16,10 @@
 
 package io.frinx.cli.unit.ios.local.routing.handlers;
 
-import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.utils.CliConfigReader;
-import io.frinx.cli.unit.utils.ParsingUtils;
-import io.frinx.openconfig.network.instance.NetworInstance;
 import java.util.regex.Pattern;
 import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.local.routing.rev170515.local._static.top._static.routes.Static;
@@ -37,9 +34,6 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class NextHopConfigReader implements CliConfigReader<Config, ConfigBuilder> {
 
-    private static final String SHOW_IP_STATIC_ROUTE_DEFAULT = "show running-config | include route %s %s";
-    private static final String SHOW_IP_STATIC_ROUTE_VRF = "show running-config | include route vrf %s %s %s";
-
     private static final Pattern SPACE = Pattern.compile(" ");
 
     private Cli cli;
@@ -54,16 +48,16 @@ public class NextHopConfigReader implements CliConfigReader<Config, ConfigBuilde
         NetworkInstanceKey vrfKey = id.firstKeyOf(NetworkInstance.class);
 
         StaticKey staticRouteKey = id.firstKeyOf(Static.class);
-        String ipPrefix = NextHopReader.getDevicePrefix(staticRouteKey);
 
         NextHopKey nextHopKey = id.firstKeyOf(NextHop.class);
         String index = nextHopKey.getIndex();
 
-        String showCommand = vrfKey.equals(NetworInstance.DEFAULT_NETWORK)
-                ? String.format(SHOW_IP_STATIC_ROUTE_DEFAULT, ipPrefix, switchIndex(index))
-                : String.format(SHOW_IP_STATIC_ROUTE_VRF, vrfKey.getName(), ipPrefix, switchIndex(index));
-
-        parseMetric(blockingRead(showCommand, cli, id, ctx), builder);
+        Long metric = StaticRouteTable.read(this, cli, id, ctx)
+                .getNextHops(vrfKey.getName(), staticRouteKey)
+                .get(index);
+        if (metric != null) {
+            builder.setMetric(metric);
+        }
 
         builder.setIndex(index);
     }
@@ -73,16 +67,4 @@ public class NextHopConfigReader implements CliConfigReader<Config, ConfigBuilde
                 .reduce((iface, ipAddress) -> String.format("%s %s", ipAddress, iface))
                 .orElse(index);
     }
-
-    @VisibleForTesting
-    static void parseMetric(String output, ConfigBuilder configBuilder) {
-        ParsingUtils.parseField(output, 0,
-                StaticReader::getMatcher,
-            matcher -> matcher.group("metric") == null ? -1L : Long.parseLong(matcher.group("metric")),
-            metric -> {
-                if (metric != -1) {
-                    configBuilder.setMetric(metric);
-                }
-            });
-    }
 }
\ No newline at end of file
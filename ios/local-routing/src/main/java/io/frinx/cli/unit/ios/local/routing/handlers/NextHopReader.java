@@ -21,12 +21,10 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.utils.CliConfigListReader;
-import io.frinx.cli.unit.utils.ParsingUtils;
-import io.frinx.openconfig.network.instance.NetworInstance;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
-import org.apache.commons.net.util.SubnetUtils;
+import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.local.routing.rev170515.local._static.top._static.routes.Static;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.local.routing.rev170515.local._static.top._static.routes.StaticKey;
@@ -39,9 +37,6 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class NextHopReader implements CliConfigListReader<NextHop, NextHopKey, NextHopBuilder> {
 
-    private static final String SH_IP_STATIC_ROUTE = "show running-config | include route %s";
-    private static final String SH_IP_STATIC_ROUTE_VRF = "show running-config | include route vrf %s %s";
-
     private Cli cli;
 
     public NextHopReader(final Cli cli) {
@@ -55,51 +50,23 @@ public class NextHopReader implements CliConfigListReader<NextHop, NextHopKey, N
         NetworkInstanceKey vrfKey = instanceIdentifier.firstKeyOf(NetworkInstance.class);
 
         StaticKey staticRouteKey = instanceIdentifier.firstKeyOf(Static.class);
-        String ipPrefix = getDevicePrefix(staticRouteKey);
-
-        String cmd = vrfKey.equals(NetworInstance.DEFAULT_NETWORK)
-                ?
-                String.format(SH_IP_STATIC_ROUTE, ipPrefix) :
-                String.format(SH_IP_STATIC_ROUTE_VRF, vrfKey.getName(), ipPrefix);
 
-        return parseNextHopPrefixes(blockingRead(cmd, cli, instanceIdentifier, readContext),
-                ipPrefix, vrfKey);
-    }
-
-    static String getDevicePrefix(StaticKey staticRouteKey) {
-        if (staticRouteKey.getPrefix()
-                .getIpv4Prefix() != null) {
-            SubnetUtils.SubnetInfo info = new SubnetUtils(staticRouteKey.getPrefix()
-                    .getIpv4Prefix()
-                    .getValue()).getInfo();
-            return String.format("%s %s", info.getNetworkAddress(), info.getNetmask());
-        } else {
-            return staticRouteKey.getPrefix()
-                    .getIpv6Prefix()
-                    .getValue();
-        }
+        return toKeys(StaticRouteTable.read(this, cli, instanceIdentifier, readContext)
+                .getNextHops(vrfKey.getName(), staticRouteKey));
     }
 
     @VisibleForTesting
-    static List<NextHopKey> parseNextHopPrefixes(String output, String ipPrefix, NetworkInstanceKey vrfKey) {
-        List<NextHopKey> nextHopKeyes = new ArrayList<>();
-
-        nextHopKeyes.addAll(
-                ParsingUtils.parseFields(output, 0,
-                        NextHopReader::ipv4Matcher,
-                        NextHopReader::extractNextHopId,
-                        NextHopKey::new));
-
-        nextHopKeyes.addAll(
-                ParsingUtils.parseFields(output, 0,
-                        NextHopReader::ipv6Matcher,
-                        NextHopReader::extractNextHopId,
-                        NextHopKey::new));
+    static List<NextHopKey> parseNextHopPrefixes(String output, StaticKey staticRouteKey, NetworkInstanceKey vrfKey) {
+        return toKeys(StaticRouteTable.parse(output).getNextHops(vrfKey.getName(), staticRouteKey));
+    }
 
-        return nextHopKeyes;
+    private static List<NextHopKey> toKeys(Map<String, Long> nextHops) {
+        return nextHops.keySet().stream()
+                .map(NextHopKey::new)
+                .collect(Collectors.toList());
     }
 
-    private static String extractNextHopId(Matcher matcher) {
+    static String extractNextHopId(Matcher matcher) {
         String ip = matcher.group("ip");
         String ifc = matcher.group("ifc");
 
@@ -110,14 +77,6 @@ public class NextHopReader implements CliConfigListReader<NextHop, NextHopKey, N
         }
     }
 
-    private static Matcher ipv4Matcher(String string) {
-        return StaticReader.ROUTE_LINE_IP.matcher(string);
-    }
-
-    private static Matcher ipv6Matcher(String string) {
-        return StaticReader.ROUTE_LINE_IP6.matcher(string);
-    }
-
     @Override
     public void readCurrentAttributes(@NotNull InstanceIdentifier<NextHop> instanceIdentifier,
                                              @NotNull NextHopBuilder nextHopBuilder,
@@ -22,9 +22,9 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.utils.CliOperReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
-import io.frinx.openconfig.network.instance.NetworInstance;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.local.routing.rev170515.local._static.top._static.routes.Static;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.local.routing.rev170515.local._static.top._static.routes.StaticKey;
@@ -38,11 +38,6 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class NextHopStateReader implements CliOperReader<State, StateBuilder> {
 
-    private static final String SHOW_IP_STATIC_ROUTE_NETWORK = "show ip static route %s | include %s";
-    private static final String SHOW_IP_STATIC_ROUTE_NETWORK_IP6 = "show ipv6 static %s | include %s";
-    private static final String SHOW_IP_STATIC_ROUTE_VRF_NETWORK = "show ip static route vrf %s %s | include %s";
-    private static final String SHOW_IP_STATIC_ROUTE_VRF_NETWORK_IP6 = "show ipv6 static vrf %s %s | include %s";
-
     private static final Pattern METRIC_LINE = Pattern.compile(".*\\[(?<metric>\\d+)/\\d+].*");
     private static final Pattern DISTANCE_LINE = Pattern.compile(".*distance (?<metric>\\d+).*");
 
@@ -58,18 +53,14 @@ public class NextHopStateReader implements CliOperReader<State, StateBuilder> {
         NetworkInstanceKey vrfKey = id.firstKeyOf(NetworkInstance.class);
 
         StaticKey staticRouteKey = id.firstKeyOf(Static.class);
-        String ipPrefix = NextHopReader.getDevicePrefix(staticRouteKey);
 
         NextHopKey nextHopKey = id.firstKeyOf(NextHop.class);
         String index = nextHopKey.getIndex();
         String nextHop = NextHopConfigReader.switchIndex(index);
 
-
-        String showCommand = vrfKey.equals(NetworInstance.DEFAULT_NETWORK)
-                ? String.format(getCommand(staticRouteKey), ipPrefix, nextHop)
-                : String.format(getVrfCommand(staticRouteKey), vrfKey.getName(), ipPrefix, nextHop);
-
-        String output = blockingRead(showCommand, cli, id, ctx);
+        String output = StaticRouteTable.readState(this, cli, id, ctx, vrfKey.getName(), staticRouteKey).stream()
+                .filter(line -> line.contains(nextHop))
+                .collect(Collectors.joining("\n"));
 
         if (output.contains(nextHop)) {
             builder.setIndex(index);
@@ -78,22 +69,6 @@ public class NextHopStateReader implements CliOperReader<State, StateBuilder> {
         parseMetric(output, builder);
     }
 
-    private String getCommand(StaticKey staticRouteKey) {
-        if (staticRouteKey.getPrefix().getIpv4Prefix() != null) {
-            return SHOW_IP_STATIC_ROUTE_NETWORK;
-        } else {
-            return SHOW_IP_STATIC_ROUTE_NETWORK_IP6;
-        }
-    }
-
-    private String getVrfCommand(StaticKey staticRouteKey) {
-        if (staticRouteKey.getPrefix().getIpv4Prefix() != null) {
-            return SHOW_IP_STATIC_ROUTE_VRF_NETWORK;
-        } else {
-            return SHOW_IP_STATIC_ROUTE_VRF_NETWORK_IP6;
-        }
-    }
-
     @VisibleForTesting
     static void parseMetric(String output, StateBuilder stateBuilder) {
         ParsingUtils.parseField(output, 0,
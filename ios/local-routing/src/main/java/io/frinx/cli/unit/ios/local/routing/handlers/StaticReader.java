@@ -21,68 +21,31 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.utils.CliConfigListReader;
-import io.frinx.cli.unit.utils.ParsingUtils;
-import io.frinx.openconfig.network.instance.NetworInstance;
-import java.util.HashMap;
 import java.util.List;
-import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import org.apache.commons.net.util.SubnetUtils;
 import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.local.routing.rev170515.local._static.top._static.routes.Static;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.local.routing.rev170515.local._static.top._static.routes.StaticBuilder;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.local.routing.rev170515.local._static.top._static.routes.StaticKey;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.network.instance.protocols.Protocol;
-import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.types.inet.rev170403.IpPrefix;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class StaticReader implements CliConfigListReader<Static, StaticKey, StaticBuilder> {
 
-    private static final String SH_IP_STATIC_ROUTE = "show running-config | include ip route|ipv6 route";
-
     static final Pattern ROUTE_LINE_IP =
-            Pattern.compile("ip route (vrf \\S+)?\\s*(?<net>[\\d.]+)\\s*(?<mask>[\\d.]+)\\s*(?<ifc>[A-Z][\\w.]+)?\\s*"
-                    + "(?<ip>[\\d]+.[\\d.]+)?\\s*(?<metric>[\\d]+)?.*");
+            Pattern.compile("ip route (vrf (?<vrf>\\S+))?\\s*(?<net>[\\d.]+)\\s*(?<mask>[\\d.]+)\\s*"
+                    + "(?<ifc>[A-Z][\\w.]+)?\\s*(?<ip>[\\d]+.[\\d.]+)?\\s*(?<metric>[\\d]+)?.*");
     static final Pattern ROUTE_LINE_IP6 =
-            Pattern.compile("ipv6 route (vrf \\S+)?\\s*(?<net>[\\d:/A-F]+)\\s*(?<ifc>[A-Z][\\w.]+)?"
+            Pattern.compile("ipv6 route (vrf (?<vrf>\\S+))?\\s*(?<net>[\\d:/A-F]+)\\s*(?<ifc>[A-Z][\\w.]+)?"
                     + "\\s*(?<ip>\\d*:[\\d:A-F]+)?\\s*(?<metric>[\\d]+)?.*");
 
-    private static final String GROUP_MASK = "mask";
-    private static final String GROUP_IP = "net";
-
     private Cli cli;
 
     public StaticReader(final Cli cli) {
         this.cli = cli;
     }
 
-    private static StaticKey resolveStaticKey(HashMap<String, String> value) {
-        String prefix;
-
-        if (value.containsKey(GROUP_MASK)) {
-            SubnetUtils subnetUtils = new SubnetUtils(value.get(GROUP_IP), value.get(GROUP_MASK));
-            prefix = subnetUtils.getInfo()
-                    .getCidrSignature();
-        } else {
-            prefix = value.get(GROUP_IP);
-        }
-
-        return new StaticKey(new IpPrefix(prefix.toCharArray()));
-    }
-
-    private static HashMap<String, String> resolveGroups(Matcher matcher) {
-        HashMap<String, String> hashMap = new HashMap<>();
-
-        hashMap.put(GROUP_IP, matcher.group(GROUP_IP));
-
-        if (matcher.pattern() == ROUTE_LINE_IP) {
-            hashMap.put(GROUP_MASK, matcher.group(GROUP_MASK));
-        }
-
-        return hashMap;
-    }
-
     @NotNull
     @Override
     public List<StaticKey> getAllIds(@NotNull InstanceIdentifier<Static> instanceIdentifier,
@@ -90,30 +53,12 @@ public class StaticReader implements CliConfigListReader<Static, StaticKey, Stat
         String vrfName = instanceIdentifier.firstKeyOf(Protocol.class)
                 .getName();
 
-        return parseStaticPrefixes(blockingRead(SH_IP_STATIC_ROUTE, cli, instanceIdentifier, readContext), vrfName);
+        return StaticRouteTable.read(this, cli, instanceIdentifier, readContext).getPrefixes(vrfName);
     }
 
     @VisibleForTesting
     static List<StaticKey> parseStaticPrefixes(String output, String vrfName) {
-        output = filterVrf(output, vrfName);
-
-        return ParsingUtils.parseFields(output, 0,
-                StaticReader::getMatcher,
-                StaticReader::resolveGroups,
-                StaticReader::resolveStaticKey);
-    }
-
-    static String filterVrf(String output, String vrfKey) {
-        Predicate<? super String> filter = vrfKey.equals(NetworInstance.DEFAULT_NETWORK_NAME)
-                ?
-                    s -> !s.contains("route vrf ") :
-                    s -> s.contains("route vrf " + vrfKey);
-
-        output = ParsingUtils.NEWLINE.splitAsStream(output)
-                .filter(filter)
-            .reduce((s1, s2) -> String.format("%s%n%s", s1, s2))
-                .orElse("");
-        return output;
+        return StaticRouteTable.parse(output).getPrefixes(vrfName);
     }
 
     static Matcher getMatcher(String string) {
@@ -0,0 +1,265 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.local.routing.handlers;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.cache.CommandMemo;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
+import io.frinx.cli.unit.utils.CliReader;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import io.frinx.openconfig.network.instance.NetworInstance;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.local.routing.rev170515.local._static.top._static.routes.StaticKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.types.inet.rev170403.IpPrefix;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Static routes of all VRFs parsed from one {@code show running-config | include ip route|ipv6 route} read per read
+ * transaction.
+ * <br>
+ * Next hop readers used to issue {@code show running-config | include route <prefix>} per static route and
+ * {@code show ip static route <prefix> | include <next hop>} per next hop, each forcing a full scan on the device.
+ * Routes are indexed by VRF and prefix instead, IPv4 prefixes are keyed by address and prefix length packed into
+ * a long, so lookups need neither {@code SubnetUtils} nor text matching. Static route state of a VRF is read once
+ * per transaction as well (see {@link #readState}).
+ */
+final class StaticRouteTable {
+
+    static final String SH_IP_STATIC_ROUTE = "show running-config | include ip route|ipv6 route";
+
+    private static final String SH_IP_STATIC = "show ip static route";
+    private static final String SH_IP_STATIC_VRF = "show ip static route vrf %s";
+    private static final String SH_IPV6_STATIC = "show ipv6 static";
+    private static final String SH_IPV6_STATIC_VRF = "show ipv6 static vrf %s";
+
+    // route line of show ip static route / show ipv6 static, next hops of the same route may follow on indented lines
+    private static final Pattern STATE_PREFIX =
+            Pattern.compile("(\\S+\\s+)?(?<prefix>[\\d.]+/\\d+|[\\dA-Fa-f]*:[\\d:A-Fa-f]*/\\d+)\\s.*");
+
+    private final Map<String, Vrf> vrfs = new HashMap<>();
+
+    private StaticRouteTable() {
+    }
+
+    static StaticRouteTable read(CliReader cliReader, Cli cli, InstanceIdentifier<?> instanceIdentifier,
+                                 ReadContext readContext) throws ReadFailedException {
+        StaticRouteTable table = (StaticRouteTable) readContext.getModificationCache().get(StaticRouteTable.class);
+        if (table == null) {
+            CommandMetrics.cacheMiss(cli, StaticRouteTable.class);
+            table = parse(cliReader.blockingRead(SH_IP_STATIC_ROUTE, cli, instanceIdentifier, readContext));
+            readContext.getModificationCache().put(StaticRouteTable.class, table);
+        } else {
+            CommandMetrics.cacheHit(cli, StaticRouteTable.class);
+        }
+        return table;
+    }
+
+    @VisibleForTesting
+    static StaticRouteTable parse(String output) {
+        final StaticRouteTable table = new StaticRouteTable();
+        for (String line : ParsingUtils.NEWLINE.split(output)) {
+            final Matcher matcher = StaticReader.getMatcher(line.trim());
+            if (matcher.matches()) {
+                table.add(matcher);
+            }
+        }
+        return table;
+    }
+
+    private void add(Matcher matcher) {
+        final String vrfName = matcher.group("vrf") == null
+                ? NetworInstance.DEFAULT_NETWORK_NAME : matcher.group("vrf");
+        final Vrf vrf = vrfs.computeIfAbsent(vrfName, name -> new Vrf());
+        final String net = matcher.group("net");
+        final Map<String, Long> nextHops;
+        if (matcher.pattern() == StaticReader.ROUTE_LINE_IP) {
+            final long address = parseIpv4(net);
+            final int length = prefixLength(parseIpv4(matcher.group("mask")));
+            if (address < 0 || length < 0) {
+                return;
+            }
+            final long key = ipv4Key(address, length);
+            nextHops = vrf.ipv4.computeIfAbsent(key, k -> vrf.addPrefix(formatIpv4(address) + "/" + length));
+        } else {
+            nextHops = vrf.ipv6.computeIfAbsent(net, vrf::addPrefix);
+        }
+        final String nextHop = NextHopReader.extractNextHopId(matcher);
+        if (nextHop != null && !nextHops.containsKey(nextHop)) {
+            // first line of the next hop wins, same as when the next hop was read by its own command
+            nextHops.put(nextHop, matcher.group("metric") == null ? null : Long.valueOf(matcher.group("metric")));
+        }
+    }
+
+    /**
+     * Returns prefixes of static routes in the VRF in the order of the running configuration.
+     */
+    List<StaticKey> getPrefixes(String vrfName) {
+        final Vrf vrf = vrfs.get(vrfName);
+        return vrf == null ? Collections.emptyList() : Collections.unmodifiableList(vrf.prefixes);
+    }
+
+    /**
+     * Returns next hop indexes of the static route mapped to their configured metric (null when not configured),
+     * in the order of the running configuration.
+     */
+    Map<String, Long> getNextHops(String vrfName, StaticKey prefix) {
+        final Vrf vrf = vrfs.get(vrfName);
+        Map<String, Long> nextHops = null;
+        if (vrf != null && prefix.getPrefix().getIpv4Prefix() != null) {
+            nextHops = vrf.ipv4.get(ipv4Key(prefix.getPrefix().getIpv4Prefix().getValue()));
+        } else if (vrf != null) {
+            nextHops = vrf.ipv6.get(prefix.getPrefix().getIpv6Prefix().getValue());
+        }
+        return nextHops == null ? Collections.emptyMap() : Collections.unmodifiableMap(nextHops);
+    }
+
+    /**
+     * Returns lines of {@code show ip static route} ({@code show ipv6 static} for IPv6 prefixes) belonging to the
+     * static route. The command is read for the whole VRF once per read transaction and split by route.
+     */
+    static List<String> readState(CliReader cliReader, Cli cli, InstanceIdentifier<?> instanceIdentifier,
+                                  ReadContext readContext, String vrfName, StaticKey prefix)
+            throws ReadFailedException {
+        final boolean ipv4 = prefix.getPrefix().getIpv4Prefix() != null;
+        final String command = NetworInstance.DEFAULT_NETWORK_NAME.equals(vrfName)
+                ? (ipv4 ? SH_IP_STATIC : SH_IPV6_STATIC)
+                : String.format(ipv4 ? SH_IP_STATIC_VRF : SH_IPV6_STATIC_VRF, vrfName);
+        final Map<String, Map<String, List<String>>> states = getStates(readContext.getModificationCache());
+        Map<String, List<String>> routes = states.get(command);
+        if (routes == null) {
+            routes = parseState(CommandMemo.blockingRead(cliReader, command, cli, instanceIdentifier, readContext));
+            states.putIfAbsent(command, routes);
+        }
+        final String value = ipv4
+                ? prefix.getPrefix().getIpv4Prefix().getValue()
+                : prefix.getPrefix().getIpv6Prefix().getValue();
+        return routes.getOrDefault(value, Collections.emptyList());
+    }
+
+    @VisibleForTesting
+    static Map<String, List<String>> parseState(String output) {
+        final Map<String, List<String>> routes = new HashMap<>();
+        List<String> route = null;
+        for (String line : ParsingUtils.NEWLINE.split(output)) {
+            final Matcher matcher = STATE_PREFIX.matcher(line.trim());
+            if (matcher.matches()) {
+                route = routes.computeIfAbsent(matcher.group("prefix"), prefix -> new ArrayList<>());
+                route.add(line.trim());
+            } else if (route != null && !line.isEmpty() && Character.isWhitespace(line.charAt(0))) {
+                route.add(line.trim());
+            } else {
+                route = null;
+            }
+        }
+        return routes;
+    }
+
+    private static Map<String, Map<String, List<String>>> getStates(ModificationCache cache) {
+        synchronized (cache) {
+            States states = (States) cache.get(States.class);
+            if (states == null) {
+                states = new States();
+                cache.put(States.class, states);
+            }
+            return states.routes;
+        }
+    }
+
+    private static long ipv4Key(String prefix) {
+        final int slash = prefix.indexOf('/');
+        final long address = parseIpv4(prefix.substring(0, slash));
+        return address < 0 ? -1 : ipv4Key(address, Integer.parseInt(prefix.substring(slash + 1)));
+    }
+
+    private static long ipv4Key(long address, int length) {
+        return address << 6 | length;
+    }
+
+    /**
+     * Returns the address as an unsigned 32-bit value, -1 when it is not a dotted quad.
+     */
+    @VisibleForTesting
+    static long parseIpv4(String address) {
+        long value = 0;
+        int octet = -1;
+        int octets = 0;
+        for (int i = 0; i < address.length(); i++) {
+            final char ch = address.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + ch - '0';
+                if (octet > 255) {
+                    return -1;
+                }
+            } else if (ch == '.' && octet >= 0 && octets < 3) {
+                value = value << 8 | octet;
+                octet = -1;
+                octets++;
+            } else {
+                return -1;
+            }
+        }
+        return octet < 0 || octets != 3 ? -1 : value << 8 | octet;
+    }
+
+    /**
+     * Returns length of the netmask, -1 for an invalid or non-contiguous netmask.
+     */
+    @VisibleForTesting
+    static int prefixLength(long netmask) {
+        if (netmask < 0) {
+            return -1;
+        }
+        final int length = Long.bitCount(netmask);
+        return netmask == (0xFFFFFFFFL << (32 - length) & 0xFFFFFFFFL) ? length : -1;
+    }
+
+    private static String formatIpv4(long address) {
+        return (address >> 24) + "." + (address >> 16 & 0xFF) + "." + (address >> 8 & 0xFF) + "." + (address & 0xFF);
+    }
+
+    private static final class Vrf {
+
+        private final List<StaticKey> prefixes = new ArrayList<>();
+        private final Map<Long, Map<String, Long>> ipv4 = new HashMap<>();
+        private final Map<String, Map<String, Long>> ipv6 = new HashMap<>();
+
+        private Map<String, Long> addPrefix(String prefix) {
+            prefixes.add(new StaticKey(new IpPrefix(prefix.toCharArray())));
+            return new LinkedHashMap<>();
+        }
+    }
+
+    /**
+     * Parsed state commands of the transaction keyed by command.
+     */
+    private static final class States {
+
+        private final Map<String, Map<String, List<String>>> routes = new ConcurrentHashMap<>();
+    }
+}
@@ -59,27 +59,27 @@ class StaticNextHopReaderTest {
     void testReader() {
         assertEquals(EXPECTED_IDS,
                 NextHopReader.parseNextHopPrefixes(STATIC_OUTPUT1,
-                        NextHopReader.getDevicePrefix(new StaticKey(new IpPrefix("192.0.2.0/24".toCharArray()))),
+                        new StaticKey(new IpPrefix("192.0.2.0/24".toCharArray())),
                         NetworInstance.DEFAULT_NETWORK));
 
         assertEquals(Collections.singletonList(new NextHopKey("10.10.10.10")),
                 NextHopReader.parseNextHopPrefixes(STATIC_OUTPUT2,
-                        NextHopReader.getDevicePrefix(new StaticKey(new IpPrefix("192.0.3.0/24".toCharArray()))),
+                        new StaticKey(new IpPrefix("192.0.3.0/24".toCharArray())),
                         new NetworkInstanceKey("TMP")));
 
         assertEquals(Collections.singletonList(new NextHopKey("GigabitEthernet1")),
                 NextHopReader.parseNextHopPrefixes(STATIC_OUTPUT3,
-                        NextHopReader.getDevicePrefix(new StaticKey(new IpPrefix("4001::/64".toCharArray()))),
+                        new StaticKey(new IpPrefix("4001::/64".toCharArray())),
                         NetworInstance.DEFAULT_NETWORK));
 
         assertEquals(Collections.singletonList(new NextHopKey("4005::2 GigabitEthernet3")),
                 NextHopReader.parseNextHopPrefixes(STATIC_OUTPUT4,
-                        NextHopReader.getDevicePrefix(new StaticKey(new IpPrefix("4009::/64".toCharArray()))),
+                        new StaticKey(new IpPrefix("4009::/64".toCharArray())),
                         new NetworkInstanceKey("TMP")));
 
         assertEquals(Collections.emptyList(),
                 NextHopReader.parseNextHopPrefixes("",
-                        NextHopReader.getDevicePrefix(new StaticKey(new IpPrefix("4009::/64".toCharArray()))),
+                        new StaticKey(new IpPrefix("4009::/64".toCharArray())),
                         new NetworkInstanceKey("NONEXISTING")));
     }
 
@@ -0,0 +1,200 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.local.routing.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.generator.ScaleBudget;
+import io.frinx.cli.unit.utils.CliReader;
+import io.frinx.openconfig.network.instance.NetworInstance;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.local.routing.rev170515.local._static.top._static.routes.StaticKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.NetworkInstances;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.types.inet.rev170403.IpPrefix;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+class StaticRouteTableTest {
+
+    private static final String DEFAULT = NetworInstance.DEFAULT_NETWORK_NAME;
+
+    private static final String OUTPUT = """
+            ip route 10.0.0.0 255.255.255.0 GigabitEthernet1 10.1.1.1 5
+            ip route 10.0.0.0 255.255.255.0 GigabitEthernet1 10.1.1.1 7
+            ip route 10.0.0.0 255.255.255.0 GigabitEthernet1 10.1.1.10
+            ip route 10.0.0.0 255.255.255.0 GigabitEthernet1
+            ip route 10.0.0.0 255.255.0.255 10.1.1.2
+            ip route vrf TMP 10.0.0.0 255.255.255.0 10.2.2.2 20
+            ip route vrf TMP2 10.0.0.0 255.255.255.0 10.3.3.3
+            ipv6 route 4001::/64 GigabitEthernet1 55
+            ipv6 route vrf TMP 4001::/64 4005::2
+            """;
+
+    private static final String IP_STATE_OUTPUT = """
+            Codes: M - Manual static, A - AAA download, N - IP NAT, D - DHCP,
+                   G - GPRS, V - Crypto VPN, C - CASA, P - Channel interface processor,
+            Codes in []: A - active, N - non-active, B - BFD-tracked, D - Not Tracked, P - permanent
+
+            Static local RIB for default
+
+            M  10.0.0.0/24 [5/0] via GigabitEthernet1 10.1.1.1 [A]
+                           [1/0] via GigabitEthernet1 [A]
+            M  10.255.1.0/24 [1/0] via 192.168.1.5 [N]
+            """;
+
+    private static final String IPV6_STATE_OUTPUT = """
+            IPv6 Static routes Table - default
+            Codes: * - installed in RIB, u/m - Unicast/Multicast only
+            *   4001::/64 via GigabitEthernet1, distance 55
+                4007::/64 via 4006::1, distance 1
+            """;
+
+    @Test
+    void testPrefixes() {
+        final StaticRouteTable table = StaticRouteTable.parse(OUTPUT);
+
+        // non-contiguous netmask is not a valid route
+        assertEquals(List.of(prefix("10.0.0.0/24"), prefix("4001::/64")), table.getPrefixes(DEFAULT));
+        assertEquals(List.of(prefix("10.0.0.0/24"), prefix("4001::/64")), table.getPrefixes("TMP"));
+        assertEquals(List.of(prefix("10.0.0.0/24")), table.getPrefixes("TMP2"));
+        assertEquals(Collections.emptyList(), table.getPrefixes("TMP3"));
+    }
+
+    @Test
+    void testNextHops() {
+        final StaticRouteTable table = StaticRouteTable.parse(OUTPUT);
+
+        final Map<String, Long> nextHops = new LinkedHashMap<>();
+        nextHops.put("10.1.1.1 GigabitEthernet1", 5L);
+        nextHops.put("10.1.1.10 GigabitEthernet1", null);
+        nextHops.put("GigabitEthernet1", null);
+        assertEquals(nextHops, table.getNextHops(DEFAULT, prefix("10.0.0.0/24")));
+        assertEquals(Map.of("10.2.2.2", 20L), table.getNextHops("TMP", prefix("10.0.0.0/24")));
+        assertEquals(Map.of("GigabitEthernet1", 55L), table.getNextHops(DEFAULT, prefix("4001::/64")));
+        assertEquals(Collections.singletonMap("4005::2", null), table.getNextHops("TMP", prefix("4001::/64")));
+        assertEquals(Collections.emptyMap(), table.getNextHops(DEFAULT, prefix("10.0.0.0/16")));
+        assertEquals(Collections.emptyMap(), table.getNextHops("TMP3", prefix("10.0.0.0/24")));
+    }
+
+    @Test
+    void testParseIpv4() {
+        assertEquals(0xC0000201L, StaticRouteTable.parseIpv4("192.0.2.1"));
+        assertEquals(0xFFFFFFFFL, StaticRouteTable.parseIpv4("255.255.255.255"));
+        assertEquals(-1, StaticRouteTable.parseIpv4("192.0.2"));
+        assertEquals(-1, StaticRouteTable.parseIpv4("192.0.2.256"));
+        assertEquals(-1, StaticRouteTable.parseIpv4("192..2.1"));
+        assertEquals(-1, StaticRouteTable.parseIpv4("192.0.2.1.1"));
+
+        assertEquals(0, StaticRouteTable.prefixLength(0));
+        assertEquals(24, StaticRouteTable.prefixLength(0xFFFFFF00L));
+        assertEquals(32, StaticRouteTable.prefixLength(0xFFFFFFFFL));
+        assertEquals(-1, StaticRouteTable.prefixLength(0xFFFF00FFL));
+        assertEquals(-1, StaticRouteTable.prefixLength(-1));
+    }
+
+    @Test
+    void testParseState() {
+        final Map<String, List<String>> routes = StaticRouteTable.parseState(IP_STATE_OUTPUT);
+
+        assertEquals(List.of("M  10.0.0.0/24 [5/0] via GigabitEthernet1 10.1.1.1 [A]",
+            "[1/0] via GigabitEthernet1 [A]"), routes.get("10.0.0.0/24"));
+        assertEquals(List.of("M  10.255.1.0/24 [1/0] via 192.168.1.5 [N]"), routes.get("10.255.1.0/24"));
+        assertEquals(2, routes.size());
+
+        final Map<String, List<String>> ipv6Routes = StaticRouteTable.parseState(IPV6_STATE_OUTPUT);
+        assertEquals(List.of("*   4001::/64 via GigabitEthernet1, distance 55"), ipv6Routes.get("4001::/64"));
+        assertEquals(List.of("4007::/64 via 4006::1, distance 1"), ipv6Routes.get("4007::/64"));
+    }
+
+    @Test
+    void testReadOncePerTransaction() throws Exception {
+        final Cli cli = Mockito.mock(Cli.class);
+        final CliReader cliReader = Mockito.mock(CliReader.class);
+        final Map<String, AtomicInteger> reads = new HashMap<>();
+        Mockito.when(cliReader.blockingRead(Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any()))
+            .thenAnswer(invocation -> {
+                final String command = invocation.getArgument(0);
+                reads.computeIfAbsent(command, c -> new AtomicInteger()).incrementAndGet();
+                return command.startsWith("show running-config") ? OUTPUT : IP_STATE_OUTPUT;
+            });
+        final InstanceIdentifier<?> id = InstanceIdentifier.create(NetworkInstances.class);
+        final ReadContext transaction = newTransaction();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(List.of(prefix("10.0.0.0/24"), prefix("4001::/64")),
+                StaticRouteTable.read(cliReader, cli, id, transaction).getPrefixes(DEFAULT));
+            assertEquals(1, StaticRouteTable.readState(cliReader, cli, id, transaction, DEFAULT,
+                prefix("10.255.1.0/24")).size());
+        }
+        assertEquals(1, StaticRouteTable.readState(cliReader, cli, id, transaction, "TMP",
+            prefix("10.255.1.0/24")).size());
+
+        assertEquals(1, reads.get(StaticRouteTable.SH_IP_STATIC_ROUTE).get());
+        assertEquals(1, reads.get("show ip static route").get());
+        assertEquals(1, reads.get("show ip static route vrf TMP").get());
+        assertEquals(3, reads.size());
+    }
+
+    @Test
+    void testScale() throws Exception {
+        final int routes = 20_000;
+        final StringBuilder output = new StringBuilder();
+        for (int i = 0; i < routes; i++) {
+            output.append(String.format("ip route 10.%d.%d.0 255.255.255.0 192.168.%d.1 %d\n",
+                i >> 8, i & 0xFF, i & 0xFF, i % 250 + 1));
+        }
+
+        ScaleBudget.assertWithin(Duration.ofSeconds(10), () -> {
+            final StaticRouteTable table = StaticRouteTable.parse(output.toString());
+            final List<StaticKey> prefixes = table.getPrefixes(DEFAULT);
+            assertEquals(routes, prefixes.size());
+
+            final List<Long> metrics = new ArrayList<>();
+            for (StaticKey prefix : prefixes) {
+                metrics.addAll(table.getNextHops(DEFAULT, prefix).values());
+            }
+            assertEquals(routes, metrics.size());
+            assertEquals(Long.valueOf(250), metrics.get(249));
+        });
+    }
+
+    private static StaticKey prefix(String prefix) {
+        return new StaticKey(new IpPrefix(prefix.toCharArray()));
+    }
+
+    private static ReadContext newTransaction() {
+        final Map<Object, Object> entries = new HashMap<>();
+        final ModificationCache cache = Mockito.mock(ModificationCache.class);
+        Mockito.when(cache.get(Mockito.any())).thenAnswer(invocation -> entries.get(invocation.getArgument(0)));
+        Mockito.doAnswer(invocation -> entries.put(invocation.getArgument(0), invocation.getArgument(1)))
+            .when(cache).put(Mockito.any(), Mockito.any());
+        final ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(cache);
+        return readContext;
+    }
+}
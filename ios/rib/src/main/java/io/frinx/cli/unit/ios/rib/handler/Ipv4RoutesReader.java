@@ -23,7 +23,10 @@ import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.utils.CliOperListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.rib.bgp.rev161017.ipv4.loc.rib.top.loc.rib.routes.Route;
@@ -37,10 +40,12 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 public class Ipv4RoutesReader implements CliOperListReader<Route, RouteKey, RouteBuilder> {
 
     private static final String SH_IP_BGP = "show ip bgp";
-    private static final String SH_IP_BGP_PREFIX = "show ip bgp | section %s";
     private static final Pattern ROUTE_LINE = Pattern.compile("(?<statusCodes>[sdh*>irSmbfxac\\s]+) "
             + "(?<prefix>[\\S]+) (?<nextHop>.+) (?:.*) (?<origin>[ie?])");
+    private static final Pattern IPV4_ADDRESS = Pattern.compile("\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}");
+    private static final String STATUS_CODES = "sdh*>irSmbfxac";
     private static final String PATH_ID = "0";
+    private static final String ROUTE_TABLE_CACHE_KEY = Ipv4RoutesReader.class.getName() + "_ROUTE_TABLE";
 
     private Cli cli;
 
@@ -87,6 +92,107 @@ public class Ipv4RoutesReader implements CliOperListReader<Route, RouteKey, Rout
         return routeKeys;
     }
 
+    /**
+     * Parses whole 'show ip bgp' output in one pass into a table indexed by prefix. Each value contains the route
+     * line of the prefix followed by its continuation lines (other multipath entries or wrapped next hop).
+     */
+    @VisibleForTesting
+    public static Map<String, String> parseRouteTable(String output) {
+        final Map<String, String> table = new LinkedHashMap<>();
+        String currentPrefix = null;
+        StringBuilder currentEntry = null;
+        int lineStart = 0;
+        while (lineStart < output.length()) {
+            int lineEnd = output.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = output.length();
+            }
+            final String line = output.substring(lineStart, lineEnd);
+            lineStart = lineEnd + 1;
+
+            final String prefix = parseRoutePrefix(line);
+            if (prefix != null) {
+                if (currentPrefix != null) {
+                    table.put(currentPrefix, currentEntry.toString());
+                }
+                currentPrefix = prefix;
+                currentEntry = new StringBuilder(line).append('\n');
+            } else if (currentPrefix != null && isContinuationLine(line)) {
+                currentEntry.append(line).append('\n');
+            }
+        }
+        if (currentPrefix != null) {
+            table.put(currentPrefix, currentEntry.toString());
+        }
+        return table;
+    }
+
+    /**
+     * Returns prefix if the line starts new route entry (status codes followed by prefix and next hop), null
+     * otherwise.
+     */
+    private static String parseRoutePrefix(String line) {
+        final int statusStart = skipWhitespaces(line, 0);
+        int index = statusStart;
+        while (index < line.length() && STATUS_CODES.indexOf(line.charAt(index)) >= 0) {
+            index++;
+        }
+        if (index == statusStart) {
+            return null;
+        }
+        index = skipWhitespaces(line, index);
+        if (index == line.length() || !Character.isDigit(line.charAt(index))) {
+            return null;
+        }
+        final int prefixEnd = skipNonWhitespaces(line, index);
+        final int nextTokenStart = skipWhitespaces(line, prefixEnd);
+        if (nextTokenStart == line.length()) {
+            // next hop is wrapped to the following line because of long prefix
+            return line.substring(index, prefixEnd);
+        }
+        final int nextTokenEnd = skipNonWhitespaces(line, nextTokenStart);
+        return IPV4_ADDRESS.matcher(line.subSequence(nextTokenStart, nextTokenEnd)).matches()
+                ? line.substring(index, prefixEnd) : null;
+    }
+
+    private static boolean isContinuationLine(String line) {
+        int index = skipWhitespaces(line, 0);
+        while (index < line.length() && STATUS_CODES.indexOf(line.charAt(index)) >= 0) {
+            index++;
+        }
+        index = skipWhitespaces(line, index);
+        return index < line.length() && Character.isDigit(line.charAt(index));
+    }
+
+    private static int skipWhitespaces(String line, int from) {
+        int index = from;
+        while (index < line.length() && Character.isWhitespace(line.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int skipNonWhitespaces(String line, int from) {
+        int index = from;
+        while (index < line.length() && !Character.isWhitespace(line.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> getRouteTable(@NotNull InstanceIdentifier<Route> instanceIdentifier,
+                                              @NotNull ReadContext readContext) throws ReadFailedException {
+        Map<String, String> table = (Map<String, String>) readContext.getModificationCache()
+                .get(ROUTE_TABLE_CACHE_KEY);
+        if (table == null) {
+            table = Collections.unmodifiableMap(
+                    parseRouteTable(blockingRead(SH_IP_BGP, cli, instanceIdentifier, readContext)));
+            readContext.getModificationCache().put(ROUTE_TABLE_CACHE_KEY, table);
+        }
+        return table;
+    }
+
     @NotNull
     @Override
     public List<RouteKey> getAllIds(@NotNull InstanceIdentifier<Route> instanceIdentifier, @NotNull ReadContext
@@ -98,7 +204,7 @@ public class Ipv4RoutesReader implements CliOperListReader<Route, RouteKey, Rout
     public void readCurrentAttributes(@NotNull InstanceIdentifier<Route> instanceIdentifier, @NotNull RouteBuilder
             routeBuilder, @NotNull ReadContext readContext) throws ReadFailedException {
         RouteKey key = instanceIdentifier.firstKeyOf(Route.class);
-        parseRoute(blockingRead(String.format(SH_IP_BGP_PREFIX, key.getPrefix()), cli, instanceIdentifier,
-                readContext), routeBuilder, key);
+        parseRoute(getRouteTable(instanceIdentifier, readContext).getOrDefault(key.getPrefix(), ""),
+                routeBuilder, key);
     }
 }
\ No newline at end of file
@@ -22,8 +22,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.generator.IosOutputs;
+import io.frinx.cli.unit.generator.ScaleBudget;
 import io.frinx.cli.unit.ios.rib.handler.Ipv4RoutesReader;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,6 +46,19 @@ class Ipv4RoutesReaderTest {
             *>i 1.1.1.103/32     10.255.255.2             0    100      0 i
             *>  10.255.1.0/24    0.0.0.0                  0         32768 i""";
 
+    private String multipathOutput = """
+            BGP table version is 7, local router ID is 10.255.255.1
+            Status codes: s suppressed, d damped, h history, * valid, > best, i - internal,
+            Origin codes: i - IGP, e - EGP, ? - incomplete
+
+                 Network          Next Hop            Metric LocPrf Weight Path
+             *>  10.0.0.0/8       1.1.1.1                  0             0 65001 i
+             *                    2.2.2.2                  0             0 65002 i
+             *>  192.168.100.128/25
+                                  10.0.0.1                 0             0 65000 i
+             r>i 1.1.1.101/32     10.255.255.2             0    100      0 i
+            """;
+
     private String partialOutput1 = "r>i 1.1.1.101/32     10.255.255.2             0    100      0 i\n";
     private String partialOutput2 = "*>  10.255.1.0/24    0.0.0.0                  0         32768 i\n";
 
@@ -75,4 +92,53 @@ class Ipv4RoutesReaderTest {
         assertEquals("10.255.1.0/24", r1.getPrefix().getValue());
         assertTrue(r1.isValidRoute());
     }
+
+    @Test
+    void testParseRouteTable() {
+        Map<String, String> table = Ipv4RoutesReader.parseRouteTable(multipathOutput);
+        assertArrayEquals(new String[]{"10.0.0.0/8", "192.168.100.128/25", "1.1.1.101/32"},
+                table.keySet().toArray());
+        assertEquals("""
+                 *>  10.0.0.0/8       1.1.1.1                  0             0 65001 i
+                 *                    2.2.2.2                  0             0 65002 i
+                """, table.get("10.0.0.0/8"));
+        assertEquals("""
+                 *>  192.168.100.128/25
+                                      10.0.0.1                 0             0 65000 i
+                """, table.get("192.168.100.128/25"));
+
+        RouteBuilder builder = new RouteBuilder();
+        this.reader.parseRoute(table.get("1.1.1.101/32"), builder, new RouteKey("i", "0", "1.1.1.101/32"));
+        assertFalse(builder.getState().isValidRoute());
+
+        this.reader.parseRoute(table.get("10.0.0.0/8"), builder, new RouteKey("i", "0", "10.0.0.0/8"));
+        assertTrue(builder.getState().isValidRoute());
+    }
+
+    @Test
+    void testParseLargeRouteTable() {
+        StringBuilder output = new StringBuilder(
+                "     Network          Next Hop            Metric LocPrf Weight Path\n");
+        for (int i = 0; i < 50000; i++) {
+            output.append(String.format(" *>  10.%d.%d.0/24    10.255.255.2             0    100      0 i\n",
+                    i / 256, i % 256));
+            output.append(" *                   10.255.255.3             0    100      0 i\n");
+        }
+        Map<String, String> table = Ipv4RoutesReader.parseRouteTable(output.toString());
+        assertEquals(50000, table.size());
+        assertEquals(" *>  10.195.79.0/24    10.255.255.2             0    100      0 i\n"
+                + " *                   10.255.255.3             0    100      0 i\n", table.get("10.195.79.0/24"));
+    }
+
+    @Test
+    void testRouteTableScale() throws Exception {
+        final String singlePath = IosOutputs.bgpTable(100_000, 1);
+        final String multipath = IosOutputs.bgpTable(100_000, 2);
+        ScaleBudget.assertWithin(Duration.ofSeconds(10), () -> {
+            assertEquals(100_000, reader.getRouteKeys(singlePath).size());
+            final Map<String, String> table = Ipv4RoutesReader.parseRouteTable(multipath);
+            assertEquals(100_000, table.size());
+            assertEquals(2, table.get("2.134.159.0/24").lines().count());
+        });
+    }
 }
@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
 import io.frinx.cli.unit.ios.init.IosDevices;
 import io.frinx.cli.unit.ios.routing.policy.handlers.PolicyConfigReader;
 import io.frinx.cli.unit.ios.routing.policy.handlers.PolicyReader;
@@ -89,7 +90,7 @@ public class RoutingPolicyUnit extends AbstractUnit {
     public void provideHandlers(@NotNull CustomizerAwareReadRegistryBuilder readerRegistryBuilder,
                                 @NotNull CustomizerAwareWriteRegistryBuilder writerRegistryBuilder,
                                 @NotNull Context context) {
-        Cli cli = context.getTransport();
+        Cli cli = CommandMetrics.instrument(context.getTransport());
         provideReaders(readerRegistryBuilder, cli);
         provideWriters(writerRegistryBuilder, cli);
     }
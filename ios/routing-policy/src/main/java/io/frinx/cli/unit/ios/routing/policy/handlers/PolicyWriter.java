@@ -22,6 +22,7 @@ import com.x5.template.Chunk;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.batch.ConfigBatch;
 import io.frinx.cli.unit.utils.CliWriter;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -111,7 +112,7 @@ public class PolicyWriter implements CliWriter<PolicyDefinition> {
     public void writeCurrentAttributes(@NotNull InstanceIdentifier<PolicyDefinition> instanceIdentifier,
                                        @NotNull PolicyDefinition policyDefinition,
                                        @NotNull WriteContext writeContext) throws WriteFailedException {
-        blockingWriteAndRead(cli, instanceIdentifier, policyDefinition, writeTemplate(policyDefinition));
+        write(instanceIdentifier, policyDefinition, writeTemplate(policyDefinition));
     }
 
     @Override
@@ -119,16 +120,27 @@ public class PolicyWriter implements CliWriter<PolicyDefinition> {
                                         @NotNull PolicyDefinition dataBefore,
                                         @NotNull PolicyDefinition dataAfter,
                                         @NotNull WriteContext writeContext) throws WriteFailedException {
-        blockingWriteAndRead(cli, instanceIdentifier, dataAfter, updateTemplate(dataBefore, dataAfter));
+        write(instanceIdentifier, dataAfter, updateTemplate(dataBefore, dataAfter));
     }
 
     @Override
     public void deleteCurrentAttributes(@NotNull InstanceIdentifier<PolicyDefinition> instanceIdentifier,
                                         @NotNull PolicyDefinition policyDefinition,
                                         @NotNull WriteContext writeContext) throws WriteFailedException {
+        // deletes are not batched, writers of the statements delete right away
         blockingDeleteAndRead(cli, instanceIdentifier, deleteTemplate(policyDefinition));
     }
 
+    /**
+     * Adds commands to the configuration batch of the transaction, or writes them directly when there is none.
+     */
+    private void write(InstanceIdentifier<PolicyDefinition> instanceIdentifier, PolicyDefinition data,
+                       String commands) throws WriteFailedException {
+        if (!ConfigBatch.add(cli, getClass(), instanceIdentifier, commands)) {
+            blockingWriteAndRead(cli, instanceIdentifier, data, commands);
+        }
+    }
+
     @VisibleForTesting
     String writeTemplate(PolicyDefinition policyDefinition) {
         List<Statement> statementsList = policyDefinition.getStatements().getStatement();
@@ -21,10 +21,14 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.net.InetAddresses;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.frinx.cli.unit.utils.ParsingUtils;
 import java.net.InetAddress;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Queue;
@@ -86,6 +90,7 @@ final class AclEntryLineParser {
     private static final Pattern ZERO_TO_255_PATTERN = Pattern.compile("^2[0-5][0-5]|2[0-4][0-9]|1?[0-9]?[0-9]$");
     private static final Pattern WHITESPACE = Pattern.compile("\\s");
     private static final String ESCAPE_REGEX_CHARS = "\"-\\^$+*?.()|[]{}";
+    private static final String TERM = " term ";
 
     private AclEntryLineParser() {
     }
@@ -104,6 +109,29 @@ final class AclEntryLineParser {
         return maybeLines;
     }
 
+    /**
+     * Groups 'from' and 'then' configuration of all terms in one pass over the output. Values are the same as returned
+     * by {@link #findLinesWithTermName(String, String)} for particular term name.
+     */
+    static Map<String, List<String>> indexLinesByTermName(String lines) {
+        Map<String, List<String>> index = new LinkedHashMap<>();
+        for (String line : ParsingUtils.NEWLINE.split(lines)) {
+            int termStart = line.indexOf(TERM);
+            while (termStart >= 0) {
+                int nameStart = termStart + TERM.length();
+                int nameEnd = line.startsWith("\"", nameStart)
+                        ? line.indexOf('"', nameStart + 1) + 1 : line.indexOf(' ', nameStart);
+                if (nameEnd > nameStart && (line.startsWith(" from ", nameEnd) || line.startsWith(" then ", nameEnd))) {
+                    index.computeIfAbsent(line.substring(nameStart, nameEnd), name -> new ArrayList<>())
+                            .add(line.substring(nameEnd + 1));
+                    break;
+                }
+                termStart = line.indexOf(TERM, termStart + 1);
+            }
+        }
+        return index;
+    }
+
     static void parseLines(final AclEntryBuilder builder, List<String> lines,
                            Class<? extends ACLTYPE> aclType, AclEntryKey entryKey, String termName) {
 
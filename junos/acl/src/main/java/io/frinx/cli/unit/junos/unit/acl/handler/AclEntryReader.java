@@ -17,16 +17,19 @@
 package io.frinx.cli.unit.junos.unit.acl.handler;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.ImmutableMap;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.DisplaySetIndex;
 import io.frinx.cli.unit.junos.unit.acl.handler.util.AclUtil;
 import io.frinx.cli.unit.utils.CliReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
 import org.jetbrains.annotations.NotNull;
@@ -42,7 +45,6 @@ public class AclEntryReader {
     private static final String SH_FIREWALL = "show configuration firewall family %s filter %s | display set";
     private static final String TERM_NAME_GROUP = "termName";
     private static final Pattern TERM_PATTERN = Pattern.compile(".*term (?<" + TERM_NAME_GROUP + ">(\".+\"|\\S+)) .*");
-    private static ImmutableMap<Long, String> sequenceTermMap;
 
     private final Cli cli;
     private final CliReader<AclSet, AclSetBuilder> cliReader;
@@ -54,38 +56,80 @@ public class AclEntryReader {
 
     public List<AclEntryKey> getAllIds(@NotNull final InstanceIdentifier<AclSet> instanceIdentifier,
                                        @NotNull final ReadContext readContext) throws ReadFailedException {
-        AclSetKey aclSetKey = instanceIdentifier.firstKeyOf(AclSet.class);
-        String command = cliReader.f(SH_FIREWALL, AclUtil.getStringType(aclSetKey.getType()), aclSetKey.getName());
-        return parseAclEntryKey(cliReader.blockingRead(command, cli, instanceIdentifier, readContext));
+        return getAclTerms(instanceIdentifier, readContext).getEntryKeys();
     }
 
     @VisibleForTesting
     static List<AclEntryKey> parseAclEntryKey(String output) {
+        return parseAclTerms(output).getEntryKeys();
+    }
+
+    private static AclTerms parseAclTerms(String output) {
         Set<String> termNames = new LinkedHashSet<>();
         ParsingUtils.parseFields(output, 0, TERM_PATTERN::matcher, m -> m.group(TERM_NAME_GROUP), termNames::add);
+        return new AclTerms(new ArrayList<>(termNames), AclEntryLineParser.indexLinesByTermName(output));
+    }
 
-        long sequenceId = 0;
-        List<AclEntryKey> result = new ArrayList<>();
-        ImmutableMap.Builder<Long, String> builder = new ImmutableMap.Builder<>();
-        for (String termName : termNames) {
-            result.add(new AclEntryKey(++sequenceId));
-            builder.put(sequenceId, termName);
+    /**
+     * Terms of the filter and their configuration lines are parsed only once per filter and read transaction, all
+     * entries of the filter are then served from the modification cache.
+     */
+    private AclTerms getAclTerms(@NotNull final InstanceIdentifier<AclSet> instanceIdentifier,
+                                 @NotNull final ReadContext readContext) throws ReadFailedException {
+        final AclSetKey aclSetKey = instanceIdentifier.firstKeyOf(AclSet.class);
+        final String command = cliReader.f(SH_FIREWALL, AclUtil.getStringType(
+                aclSetKey.getType()), aclSetKey.getName());
+        final Object cacheKey = new AbstractMap.SimpleEntry<>(AclEntryReader.class, command);
+        AclTerms aclTerms = (AclTerms) readContext.getModificationCache().get(cacheKey);
+        if (aclTerms == null) {
+            aclTerms = parseAclTerms(DisplaySetIndex.blockingRead(cliReader, command, cli, instanceIdentifier,
+                    readContext));
+            readContext.getModificationCache().put(cacheKey, aclTerms);
         }
-        sequenceTermMap = builder.build();
-        return result;
+        return aclTerms;
     }
 
     public void readCurrentAttributes(@NotNull final InstanceIdentifier<AclSet> instanceIdentifier,
             @NotNull final AclEntryBuilder aclEntryBuilder, @NotNull final ReadContext readContext)
             throws ReadFailedException {
         final AclSetKey aclSetKey = instanceIdentifier.firstKeyOf(AclSet.class);
-        final String command = cliReader.f(SH_FIREWALL, AclUtil.getStringType(
-                aclSetKey.getType()), aclSetKey.getName());
-        final String output = cliReader.blockingRead(command, cli, instanceIdentifier, readContext);
+        final AclTerms aclTerms = getAclTerms(instanceIdentifier, readContext);
+        final String termName = aclTerms.getTermName(aclEntryBuilder.getKey().getSequenceId());
+        if (termName == null) {
+            return;
+        }
+        AclEntryLineParser.parseLines(aclEntryBuilder, aclTerms.getLines(termName), aclSetKey.getType(),
+                aclEntryBuilder.getKey(), termName);
+    }
 
-        final List<String> maybeLine = AclEntryLineParser.findLinesWithTermName(
-                sequenceTermMap.get(aclEntryBuilder.getKey().getSequenceId()), output);
-        AclEntryLineParser.parseLines(aclEntryBuilder, maybeLine, aclSetKey.getType(), aclEntryBuilder.getKey(),
-                sequenceTermMap.get(aclEntryBuilder.getKey().getSequenceId()));
+    /**
+     * Term names of one filter in the order of appearance (sequence id is derived from the position of the term)
+     * together with their 'from' and 'then' lines.
+     */
+    private static final class AclTerms {
+
+        private final List<String> termNames;
+        private final Map<String, List<String>> termLines;
+
+        private AclTerms(List<String> termNames, Map<String, List<String>> termLines) {
+            this.termNames = termNames;
+            this.termLines = termLines;
+        }
+
+        List<AclEntryKey> getEntryKeys() {
+            List<AclEntryKey> result = new ArrayList<>(termNames.size());
+            for (long sequenceId = 1; sequenceId <= termNames.size(); sequenceId++) {
+                result.add(new AclEntryKey(sequenceId));
+            }
+            return result;
+        }
+
+        String getTermName(long sequenceId) {
+            return sequenceId >= 1 && sequenceId <= termNames.size() ? termNames.get((int) sequenceId - 1) : null;
+        }
+
+        List<String> getLines(String termName) {
+            return termLines.getOrDefault(termName, Collections.emptyList());
+        }
     }
-}
\ No newline at end of file
+}
@@ -19,6 +19,7 @@ package io.frinx.cli.unit.junos.unit.acl.handler;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.DisplaySetIndex;
 import io.frinx.cli.unit.junos.unit.acl.handler.util.NameTypeEntry;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -56,8 +57,9 @@ public class IngressAclSetReader implements CliConfigListReader<IngressAclSet, I
         // always return true. (already checked at IIDs.AC_IN_INTERFACE)
         matcher.matches();
 
-        String output = blockingRead(f(SH_IFACE_FILTERS, matcher.group("interface"), matcher.group("unit")),
-                cli, instanceIdentifier, readContext);
+        String output = DisplaySetIndex.blockingRead(this,
+                f(SH_IFACE_FILTERS, matcher.group("interface"), matcher.group("unit")), cli, instanceIdentifier,
+                readContext);
 
         return ParsingUtils.parseFields(output, 0,
             IFACE_FILTER_LINE::matcher,
@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import org.junit.jupiter.api.Test;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.ext.rev180314.AclEntry1;
@@ -454,4 +455,31 @@ class AclEntryLineParserTest {
             AclEntryLineParser.parseLines(resultBuilder, line, ACLIPV4.class, new AclEntryKey(1L), termName);
         });
     }
+
+    @Test
+    void testIndexLinesByTermName() {
+        final String lines = """
+                Mon May 14 14:36:55.408 UTC
+                set firewall family inet filter inacl1 term 1 from source-address 0.0.0.2/32
+                set firewall family inet filter inacl1 term 1 then discard
+                set firewall family inet filter inacl1 term "term 2" from protocol udp
+                set firewall family inet filter inacl1 term "term 2" then accept
+                set firewall family inet filter inacl1 term 12 from source-port www
+                """;
+        Map<String, List<String>> index = AclEntryLineParser.indexLinesByTermName(lines);
+        assertEquals(List.of("1", "\"term 2\"", "12"), List.copyOf(index.keySet()));
+        for (String termName : index.keySet()) {
+            assertEquals(AclEntryLineParser.findLinesWithTermName(termName, lines), index.get(termName));
+        }
+
+        StringBuilder largeFilter = new StringBuilder();
+        for (int i = 1; i <= 10000; i++) {
+            largeFilter.append("set firewall family inet filter inacl1 term ").append(i)
+                    .append(" from source-address 10.0.0.1/32\n")
+                    .append("set firewall family inet filter inacl1 term ").append(i).append(" then accept\n");
+        }
+        index = AclEntryLineParser.indexLinesByTermName(largeFilter.toString());
+        assertEquals(10000, index.size());
+        assertEquals(List.of("from source-address 10.0.0.1/32", "then accept"), index.get("9999"));
+    }
 }
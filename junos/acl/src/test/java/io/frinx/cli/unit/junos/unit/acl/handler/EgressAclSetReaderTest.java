@@ -19,6 +19,7 @@ package io.frinx.cli.unit.junos.unit.acl.handler;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
 import io.frinx.openconfig.openconfig.acl.IIDs;
@@ -70,6 +71,7 @@ class EgressAclSetReaderTest {
     void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
         target = new EgressAclSetReader(cli);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
     }
 
     @Test
@@ -0,0 +1,270 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.junos.init;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.utils.CliReader;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Trie of the whole Junos configuration in {@code display set} format, keyed by the path tokens of the set commands.
+ * <br>
+ * Junos readers ask for many {@code show configuration <path> | display set} variants, typically one per interface,
+ * unit, area or filter. The configuration is read by a single {@code show configuration | display set} per read
+ * transaction instead and each variant (including trailing {@code match} and {@code except} filters) is resolved from
+ * the trie. Commands which can not be resolved locally are sent to the device as before.
+ */
+public final class DisplaySetIndex {
+
+    public static final String SH_CONFIGURATION = "show configuration | display set";
+
+    private static final String SHOW_CONFIGURATION = "show configuration";
+    private static final String DISPLAY = "display";
+    private static final String SET = "set";
+    private static final String PIPE = "|";
+    private static final String MATCH = "match";
+    private static final String EXCEPT = "except";
+    private static final List<String> VERBS = List.of(SET, "deactivate");
+
+    private final List<String> lines = new ArrayList<>();
+    private final Node root = new Node();
+
+    private DisplaySetIndex() {
+    }
+
+    /**
+     * Reads {@code command} through the configuration trie of the current read transaction. The trie is built from
+     * one {@link #SH_CONFIGURATION} read and kept in the modification cache, so every other resolvable
+     * {@code display set} command of the transaction costs no device round trip.
+     */
+    public static String blockingRead(@NotNull CliReader cliReader, @NotNull String command, @NotNull Cli cli,
+                                      @NotNull InstanceIdentifier<?> instanceIdentifier,
+                                      @NotNull ReadContext readContext) throws ReadFailedException {
+        final Optional<Query> query = Query.parse(command);
+        if (query.isEmpty()) {
+            return cliReader.blockingRead(command, cli, instanceIdentifier, readContext);
+        }
+        DisplaySetIndex index = (DisplaySetIndex) readContext.getModificationCache().get(DisplaySetIndex.class);
+        if (index == null) {
+            index = parse(cliReader.blockingRead(SH_CONFIGURATION, cli, instanceIdentifier, readContext));
+            readContext.getModificationCache().put(DisplaySetIndex.class, index);
+        }
+        return index.resolve(query.get());
+    }
+
+    @VisibleForTesting
+    public static DisplaySetIndex parse(@NotNull String output) {
+        final DisplaySetIndex index = new DisplaySetIndex();
+        ParsingUtils.NEWLINE.splitAsStream(output)
+                .map(DisplaySetIndex::stripCarriageReturn)
+                .forEach(index::add);
+        return index;
+    }
+
+    /**
+     * Returns configuration lines having the path as prefix, in the order the device printed them.
+     */
+    @VisibleForTesting
+    public List<String> find(@NotNull List<String> path) {
+        final Node node = findNode(path);
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        final List<String> found = new ArrayList<>();
+        for (int range = 0; range < node.size; range += 2) {
+            found.addAll(lines.subList(node.ranges[range], node.ranges[range + 1]));
+        }
+        return found;
+    }
+
+    private Node findNode(List<String> path) {
+        Node node = root;
+        for (String token : path) {
+            node = node.children.get(token);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Resolves {@code show configuration [path] | display set [| match X] [| except X]} from the trie, returns
+     * empty for any other command.
+     */
+    @VisibleForTesting
+    public Optional<String> resolve(@NotNull String command) {
+        return Query.parse(command).map(this::resolve);
+    }
+
+    private String resolve(Query query) {
+        final StringBuilder output = new StringBuilder();
+        final Node node = findNode(query.path);
+        for (int range = 0; node != null && range < node.size; range += 2) {
+            for (String line : lines.subList(node.ranges[range], node.ranges[range + 1])) {
+                if (query.accepts(line)) {
+                    output.append(line).append('\n');
+                }
+            }
+        }
+        return output.toString();
+    }
+
+    private void add(String line) {
+        final List<String> tokens = tokenize(line);
+        if (tokens.size() < 2 || !VERBS.contains(tokens.get(0))) {
+            return;
+        }
+        final int index = lines.size();
+        lines.add(line);
+        Node node = root;
+        node.add(index);
+        for (String token : tokens.subList(1, tokens.size())) {
+            node = node.children.computeIfAbsent(token, t -> new Node());
+            node.add(index);
+        }
+    }
+
+    private static String stripCarriageReturn(String line) {
+        return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+    }
+
+    /**
+     * Splits the line by whitespace, a double quoted string (e.g. description) is one token including the quotes.
+     */
+    @VisibleForTesting
+    static List<String> tokenize(String line) {
+        final List<String> tokens = new ArrayList<>();
+        final int length = line.length();
+        int index = 0;
+        while (index < length) {
+            while (index < length && Character.isWhitespace(line.charAt(index))) {
+                index++;
+            }
+            if (index == length) {
+                break;
+            }
+            final int start = index;
+            boolean quoted = false;
+            while (index < length && (quoted || !Character.isWhitespace(line.charAt(index)))) {
+                final char current = line.charAt(index);
+                if (current == '\\' && quoted) {
+                    index++;
+                } else if (current == '"') {
+                    quoted = !quoted;
+                }
+                index++;
+            }
+            tokens.add(line.substring(start, Math.min(index, length)));
+        }
+        return tokens;
+    }
+
+    /**
+     * Lines under one path are mostly printed next to each other, so a node keeps {@code [first, last)} index ranges
+     * into the configuration lines instead of its own copy of them.
+     */
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+        private int[] ranges = new int[2];
+        private int size;
+
+        private void add(int index) {
+            if (size > 0 && ranges[size - 1] == index) {
+                ranges[size - 1] = index + 1;
+                return;
+            }
+            if (size == ranges.length) {
+                ranges = Arrays.copyOf(ranges, size * 2);
+            }
+            ranges[size++] = index;
+            ranges[size++] = index + 1;
+        }
+    }
+
+    private static final class Query {
+
+        private final List<String> path;
+        private final List<Pattern> matches;
+        private final List<Pattern> excepts;
+
+        private Query(List<String> path, List<Pattern> matches, List<Pattern> excepts) {
+            this.path = path;
+            this.matches = matches;
+            this.excepts = excepts;
+        }
+
+        private boolean accepts(String line) {
+            return matches.stream().allMatch(pattern -> pattern.matcher(line).find())
+                    && excepts.stream().noneMatch(pattern -> pattern.matcher(line).find());
+        }
+
+        private static Optional<Query> parse(String command) {
+            if (!command.startsWith(SHOW_CONFIGURATION)) {
+                return Optional.empty();
+            }
+            final List<String> tokens = tokenize(command.substring(SHOW_CONFIGURATION.length()));
+            final int displaySet = tokens.indexOf(PIPE);
+            if (displaySet < 0 || displaySet + 2 >= tokens.size()
+                    || !DISPLAY.equals(tokens.get(displaySet + 1)) || !SET.equals(tokens.get(displaySet + 2))) {
+                return Optional.empty();
+            }
+            final List<Pattern> matches = new ArrayList<>();
+            final List<Pattern> excepts = new ArrayList<>();
+            int index = displaySet + 3;
+            while (index < tokens.size()) {
+                if (index + 2 >= tokens.size() || !PIPE.equals(tokens.get(index))) {
+                    return Optional.empty();
+                }
+                final Pattern pattern = Pattern.compile(unquote(tokens.get(index + 2)));
+                switch (tokens.get(index + 1)) {
+                    case MATCH:
+                        matches.add(pattern);
+                        break;
+                    case EXCEPT:
+                        excepts.add(pattern);
+                        break;
+                    default:
+                        return Optional.empty();
+                }
+                index += 3;
+            }
+            return Optional.of(new Query(tokens.subList(0, displaySet), matches, excepts));
+        }
+
+        private static String unquote(String token) {
+            if (token.length() > 1 && token.startsWith("\"") && token.endsWith("\"")) {
+                return token.substring(1, token.length() - 1).replace("\\\"", "\"");
+            }
+            return token;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.junos.init;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class DisplaySetIndexTest {
+
+    private static final String OUTPUT = """
+            set version 18.2R1.9\r
+            set interfaces ge-0/0/0 description "uplink to core"\r
+            set interfaces ge-0/0/0 unit 0 family inet address 10.0.0.1/24\r
+            set interfaces ge-0/0/0 unit 10 vlan-id 10\r
+            set interfaces ge-0/0/0 unit 10 family inet address 10.0.10.1/24\r
+            deactivate interfaces ge-0/0/0 unit 10\r
+            set interfaces ge-0/0/1 unit 0 family inet address 10.0.1.1/24\r
+            set protocols ospf area 0.0.0.0 interface ge-0/0/0.0 metric 10\r
+            set routing-instances VRF1 protocols ospf area 0.0.0.1 interface ge-0/0/1.0 priority 1\r
+            set firewall family inet filter "my filter" term t1 then accept\r
+            """;
+
+    private final DisplaySetIndex index = DisplaySetIndex.parse(OUTPUT);
+
+    @Test
+    void testFind() {
+        assertEquals(List.of(
+                "set interfaces ge-0/0/0 unit 10 vlan-id 10",
+                "set interfaces ge-0/0/0 unit 10 family inet address 10.0.10.1/24",
+                "deactivate interfaces ge-0/0/0 unit 10"),
+                index.find(List.of("interfaces", "ge-0/0/0", "unit", "10")));
+        assertEquals(10, index.find(List.of()).size());
+        assertEquals(List.of("set firewall family inet filter \"my filter\" term t1 then accept"),
+                index.find(List.of("firewall", "family", "inet", "filter", "\"my filter\"")));
+        assertTrue(index.find(List.of("interfaces", "ge-0/0/2")).isEmpty());
+        assertTrue(index.find(List.of("interfaces", "ge-0/0/0", "unit", "1")).isEmpty());
+    }
+
+    @Test
+    void testResolve() {
+        assertEquals(Optional.of("""
+                set interfaces ge-0/0/0 unit 0 family inet address 10.0.0.1/24
+                set interfaces ge-0/0/0 unit 10 family inet address 10.0.10.1/24
+                """), index.resolve("show configuration interfaces ge-0/0/0 | display set | match \" inet address \""));
+        assertEquals(Optional.of("""
+                set interfaces ge-0/0/0 unit 10 vlan-id 10
+                set interfaces ge-0/0/0 unit 10 family inet address 10.0.10.1/24
+                """), index.resolve(
+                "show configuration interfaces ge-0/0/0 unit 10 | display set | except ^deactivate"));
+        assertEquals(Optional.of("set routing-instances VRF1 protocols ospf area 0.0.0.1 interface ge-0/0/1.0 "
+                + "priority 1\n"), index.resolve("show configuration routing-instances | display set | match ospf"));
+        assertEquals(Optional.of(""), index.resolve("show configuration interfaces ge-0/0/5 | display set"));
+        assertEquals(OUTPUT.replace("\r", ""), index.resolve(DisplaySetIndex.SH_CONFIGURATION).get());
+    }
+
+    @Test
+    void testNotResolvable() {
+        assertTrue(index.resolve("show configuration | match \"^## Last commit:\"").isEmpty());
+        assertTrue(index.resolve("show configuration interfaces | display set | count").isEmpty());
+        assertTrue(index.resolve("show interfaces terse").isEmpty());
+    }
+
+    @Test
+    void testTokenize() {
+        assertEquals(List.of("set", "interfaces", "ge-0/0/0", "description", "\"uplink \\\"a\\\" core\""),
+                DisplaySetIndex.tokenize("set interfaces  ge-0/0/0 description \"uplink \\\"a\\\" core\""));
+    }
+
+    @Test
+    void testLargeConfiguration() {
+        final StringBuilder output = new StringBuilder();
+        for (int unit = 0; unit < 4000; unit++) {
+            output.append(String.format("set interfaces ae0 unit %d vlan-id %d\n", unit, unit + 1));
+            output.append(String.format("set interfaces ae0 unit %d family inet address 10.%d.%d.1/30\n",
+                    unit, unit / 256, unit % 256));
+            output.append(String.format("set class-of-service interfaces ae0 unit %d classifiers "
+                    + "inet-precedence CLASS%d\n", unit, unit));
+        }
+        final DisplaySetIndex largeIndex = DisplaySetIndex.parse(output.toString());
+        for (int unit = 0; unit < 4000; unit++) {
+            assertEquals(Optional.of(String.format("set class-of-service interfaces ae0 unit %d classifiers "
+                    + "inet-precedence CLASS%d\n", unit, unit)), largeIndex.resolve(String.format(
+                    "show configuration class-of-service interfaces ae0 unit %d classifiers inet-precedence "
+                            + "| display set", unit)));
+            assertEquals(2, largeIndex.find(List.of("interfaces", "ae0", "unit", String.valueOf(unit))).size());
+        }
+        final List<String> ae0 = largeIndex.find(List.of("interfaces", "ae0"));
+        assertEquals(8000, ae0.size());
+        assertEquals("set interfaces ae0 unit 3999 family inet address 10.15.159.1/30", ae0.get(7999));
+    }
+}
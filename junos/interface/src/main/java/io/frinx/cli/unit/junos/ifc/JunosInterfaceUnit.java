@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
 import io.frinx.cli.unit.junos.ifc.handler.InterfaceConfigReader;
 import io.frinx.cli.unit.junos.ifc.handler.InterfaceConfigWriter;
 import io.frinx.cli.unit.junos.ifc.handler.InterfaceReader;
@@ -72,7 +73,7 @@ public final class JunosInterfaceUnit extends AbstractUnit {
     @Override
     public void provideHandlers(@NotNull final CustomizerAwareReadRegistryBuilder readRegistry,
         @NotNull final CustomizerAwareWriteRegistryBuilder writeRegistry, @NotNull final Context context) {
-        Cli cli = context.getTransport();
+        Cli cli = CommandMetrics.instrument(context.getTransport());
 
         provideReaders(readRegistry, cli);
         provideWriters(writeRegistry, cli);
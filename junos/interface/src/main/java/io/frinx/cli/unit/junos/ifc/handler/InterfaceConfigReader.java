@@ -16,11 +16,17 @@
 
 package io.frinx.cli.unit.junos.ifc.handler;
 
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.AbstractInterfaceConfigReader;
 import io.frinx.cli.unit.junos.ifc.Util;
+import io.frinx.cli.unit.junos.init.DisplaySetIndex;
 import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.Config;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfaceType;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public final class InterfaceConfigReader extends AbstractInterfaceConfigReader {
 
@@ -40,6 +46,12 @@ public final class InterfaceConfigReader extends AbstractInterfaceConfigReader {
         return f(SH_SINGLE_INTERFACE_CFG, ifcName);
     }
 
+    @Override
+    protected String readConfig(@NotNull String command, @NotNull InstanceIdentifier<Config> id,
+                                @NotNull ReadContext ctx) throws ReadFailedException {
+        return DisplaySetIndex.blockingRead(this, command, cli, id, ctx);
+    }
+
     @Override
     protected Pattern getShutdownLine() {
         return SHUTDOWN_LINE;
@@ -19,6 +19,7 @@ package io.frinx.cli.unit.junos.ifc.handler;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.DisplaySetIndex;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Matcher;
@@ -50,8 +51,9 @@ public class InterfaceVlanTpidConfigReader implements CliConfigReader<Config1, C
     public void readCurrentAttributes(@NotNull InstanceIdentifier<Config1> id, @NotNull Config1Builder builder,
         @NotNull ReadContext ctx) throws ReadFailedException {
         String name = id.firstKeyOf(Interface.class).getName();
-        parseTagTypes(blockingRead(f(InterfaceConfigReader.SH_SINGLE_INTERFACE_CFG, name), cli, id, ctx), builder,
-            name);
+        String output = DisplaySetIndex.blockingRead(this, f(InterfaceConfigReader.SH_SINGLE_INTERFACE_CFG, name), cli,
+            id, ctx);
+        parseTagTypes(output, builder, name);
     }
 
     private void parseTagTypes(String output, Config1Builder builder, String name) {
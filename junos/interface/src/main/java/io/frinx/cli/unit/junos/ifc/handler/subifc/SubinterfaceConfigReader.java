@@ -22,6 +22,7 @@ import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.AbstractSubinterfaceConfigReader;
 import io.frinx.cli.unit.junos.ifc.Util;
 import io.frinx.cli.unit.junos.ifc.handler.InterfaceConfigReader;
+import io.frinx.cli.unit.junos.init.DisplaySetIndex;
 import java.util.regex.Pattern;
 import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.subinterfaces.top.subinterfaces.Subinterface;
@@ -51,7 +52,7 @@ public final class SubinterfaceConfigReader extends AbstractSubinterfaceConfigRe
         SubinterfaceKey subKey = id.firstKeyOf(Subinterface.class);
 
         String subIfcName = getSubinterfaceName(id);
-        parseSubinterface(blockingRead(getReadCommand(subIfcName), cli, id, ctx),
+        parseSubinterface(DisplaySetIndex.blockingRead(this, getReadCommand(subIfcName), cli, id, ctx),
             builder, subKey.getIndex(), subIfcName);
     }
 
@@ -16,10 +16,14 @@
 
 package io.frinx.cli.unit.junos.ifc.handler.subifc;
 
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.AbstractSubinterfaceVlanConfigReader;
 import io.frinx.cli.unit.junos.ifc.Util;
+import io.frinx.cli.unit.junos.init.DisplaySetIndex;
 import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.vlan.rev170714.vlan.logical.top.vlan.Config;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
@@ -47,4 +51,10 @@ public class SubinterfaceVlanConfigReader extends AbstractSubinterfaceVlanConfig
     protected String getReadCommand() {
         return CONFIGURATION_INTERFACES;
     }
+
+    @Override
+    protected String readConfig(@NotNull String command, @NotNull InstanceIdentifier<Config> id,
+                                @NotNull ReadContext ctx) throws ReadFailedException {
+        return DisplaySetIndex.blockingRead(this, command, cli, id, ctx);
+    }
 }
\ No newline at end of file
@@ -16,10 +16,14 @@
 
 package io.frinx.cli.unit.junos.ifc.handler.subifc.ip4;
 
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip4.AbstractIpv4AddressesReader;
 import io.frinx.cli.unit.junos.ifc.Util;
+import io.frinx.cli.unit.junos.init.DisplaySetIndex;
 import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.ip.rev161222.ipv4.top.ipv4.addresses.Address;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
@@ -43,6 +47,12 @@ public final class Ipv4AddressReader extends AbstractIpv4AddressesReader {
         return f(SH_RUN_INT_IP, ifcName);
     }
 
+    @Override
+    protected String readConfig(@NotNull String command, @NotNull InstanceIdentifier<?> id,
+                                @NotNull ReadContext ctx) throws ReadFailedException {
+        return DisplaySetIndex.blockingRead(this, command, cli, id, ctx);
+    }
+
     @Override
     protected Pattern getIpLine() {
         return INTERFACE_IP_LINE;
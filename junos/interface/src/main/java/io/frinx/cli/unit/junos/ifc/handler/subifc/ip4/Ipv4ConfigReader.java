@@ -16,10 +16,14 @@
 
 package io.frinx.cli.unit.junos.ifc.handler.subifc.ip4;
 
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip4.AbstractIpv4ConfigReader;
 import io.frinx.cli.unit.junos.ifc.Util;
+import io.frinx.cli.unit.junos.init.DisplaySetIndex;
 import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.ip.rev161222.ipv4.top.ipv4.addresses.address.Config;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
@@ -38,6 +42,12 @@ public final class Ipv4ConfigReader extends AbstractIpv4ConfigReader {
         return f(Ipv4AddressReader.SH_RUN_INT_IP, Util.getSubinterfaceName(ifcName, subId));
     }
 
+    @Override
+    protected String readConfig(@NotNull String command, @NotNull InstanceIdentifier<?> id,
+                                @NotNull ReadContext ctx) throws ReadFailedException {
+        return DisplaySetIndex.blockingRead(this, command, cli, id, ctx);
+    }
+
     @Override
     public boolean isSupportedInterface(InstanceIdentifier<Config> instanceIdentifier) {
         return Ipv4AddressReader.SUPPORTED_INTERFACE;
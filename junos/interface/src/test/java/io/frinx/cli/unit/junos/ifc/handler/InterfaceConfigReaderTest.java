@@ -20,12 +20,20 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.Interfaces;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.Interface;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.InterfaceKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.Config;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.ConfigBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.iana._if.type.rev140508.EthernetCsmacd;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.iana._if.type.rev140508.Other;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 class InterfaceConfigReaderTest {
 
@@ -97,4 +105,30 @@ class InterfaceConfigReaderTest {
 
         reader.parseInterface(WRONG_OUTPUT, builder, interfaceName);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testReadFromConfiguration() throws Exception {
+        final Cli cli = Mockito.mock(Cli.class);
+        Mockito.doReturn(CompletableFuture.completedFuture(OUTPUT + OUTPUT_SINGLE))
+                .when(cli).executeAndRead(Mockito.any());
+        final ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
+        final InterfaceConfigReader configReader = new InterfaceConfigReader(cli);
+
+        final ConfigBuilder enabled = new ConfigBuilder();
+        configReader.readCurrentAttributes(configId("ge-0/0/3"), enabled, readContext);
+        final ConfigBuilder disabled = new ConfigBuilder();
+        configReader.readCurrentAttributes(configId("ge-0/0/4"), disabled, readContext);
+
+        assertTrue(enabled.isEnabled());
+        assertFalse(disabled.isEnabled());
+        // both interfaces are resolved from a single read of the whole configuration
+        Mockito.verify(cli, Mockito.times(1)).executeAndRead(Mockito.any());
+    }
+
+    private static InstanceIdentifier<Config> configId(String name) {
+        return InstanceIdentifier.create(Interfaces.class)
+                .child(Interface.class, new InterfaceKey(name))
+                .child(Config.class);
+    }
+}
@@ -20,7 +20,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.google.common.collect.Lists;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.generator.JunosOutputs;
+import io.frinx.cli.unit.generator.ScaleBudget;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -50,4 +56,24 @@ class InterfaceReaderTest {
         assertEquals(result.stream().map(InterfaceKey::getName).collect(Collectors.toList()),
                 Lists.newArrayList("ge-0/0/3", "ge-0/0/4", "ge-0/0/5"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetAllIdsScale() throws Exception {
+        final String output = JunosOutputs.displaySet(10_000, 2, 0);
+        final InterfaceReader reader = new InterfaceReader(Mockito.mock(Cli.class));
+        final List<InterfaceKey> expected = new ArrayList<>();
+        final Set<InterfaceKey> expectedAll = new HashSet<>();
+        for (int ifc = 0; ifc < 10_000; ifc++) {
+            final String name = JunosOutputs.interfaceName(ifc);
+            expected.add(new InterfaceKey(name));
+            expectedAll.addAll(List.of(new InterfaceKey(name), new InterfaceKey(name + " unit 100"),
+                    new InterfaceKey(name + " unit 101")));
+        }
+        ScaleBudget.assertWithin(Duration.ofSeconds(5), () -> {
+            assertEquals(expected, reader.parseInterfaceIds(output));
+            final List<InterfaceKey> all = reader.parseAllInterfaceIds(output);
+            assertEquals(30_000, all.size());
+            assertEquals(expectedAll, new HashSet<>(all));
+        });
+    }
+}
@@ -19,8 +19,10 @@ package io.frinx.cli.unit.junos.ifc.handler;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.DisplaySetIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -59,12 +61,13 @@ class InterfaceVlanTpidConfigReaderTest {
 
         final Config1Builder config1Builder = new Config1Builder();
         final ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
 
         final String outputSingleInterface =
             "set interfaces ge-0/0/3 vlan-tagging";
 
-        Mockito.doReturn(outputSingleInterface).when(target).blockingRead(Mockito.anyString(), Mockito.eq(cli),
-            Mockito.eq(instanceIdentifier), Mockito.eq(readContext));
+        Mockito.doReturn(outputSingleInterface).when(target).blockingRead(Mockito.eq(DisplaySetIndex.SH_CONFIGURATION),
+            Mockito.eq(cli), Mockito.eq(instanceIdentifier), Mockito.eq(readContext));
 
         target.readCurrentAttributes(instanceIdentifier, config1Builder, readContext);
 
@@ -81,12 +84,13 @@ class InterfaceVlanTpidConfigReaderTest {
 
         final Config1Builder config1Builder = new Config1Builder();
         final ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
 
         final String outputSingleInterface =
             "set interfaces ge-0/0/3 flexible-vlan-tagging";
 
-        Mockito.doReturn(outputSingleInterface).when(target).blockingRead(Mockito.anyString(), Mockito.eq(cli),
-            Mockito.eq(instanceIdentifier), Mockito.eq(readContext));
+        Mockito.doReturn(outputSingleInterface).when(target).blockingRead(Mockito.eq(DisplaySetIndex.SH_CONFIGURATION),
+            Mockito.eq(cli), Mockito.eq(instanceIdentifier), Mockito.eq(readContext));
 
         target.readCurrentAttributes(instanceIdentifier, config1Builder, readContext);
 
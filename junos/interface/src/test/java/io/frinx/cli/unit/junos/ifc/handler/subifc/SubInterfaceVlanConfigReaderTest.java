@@ -18,8 +18,10 @@ package io.frinx.cli.unit.junos.ifc.handler.subifc;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.DisplaySetIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -66,12 +68,13 @@ class SubInterfaceVlanConfigReaderTest {
 
         final ConfigBuilder config1Builder = new ConfigBuilder();
         final ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
 
         final String outputSingleInterface =
             "set interfaces ge-0/0/4 unit 0 vlan-id 100";
 
-        Mockito.doReturn(outputSingleInterface).when(target).blockingRead(Mockito.anyString(), Mockito.eq(cli),
-            Mockito.eq(id), Mockito.eq(readContext));
+        Mockito.doReturn(outputSingleInterface).when(target).blockingRead(Mockito.eq(DisplaySetIndex.SH_CONFIGURATION),
+            Mockito.eq(cli), Mockito.eq(id), Mockito.eq(readContext));
 
         target.readCurrentAttributes(id, config1Builder, readContext);
 
@@ -18,8 +18,10 @@ package io.frinx.cli.unit.junos.network.instance.handler.policy.forwarding;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.DisplaySetIndex;
 import io.frinx.openconfig.network.instance.NetworInstance;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import org.hamcrest.CoreMatchers;
@@ -43,10 +45,11 @@ class PolicyForwardingInterfaceConfigReaderTest {
     private static final String INTERFACE_NAME = "ge-0/0/0";
     private static final String UNIT_NUMBER = "100";
     private static final String INTERFACE_ID_VALUE = String.format("%s.%s", INTERFACE_NAME, UNIT_NUMBER);
-    private static final String SHOW_CONFIG =
-        String.format(PolicyForwardingInterfaceConfigReader.SHOW_CONFIG_TEMPLATE, INTERFACE_NAME, UNIT_NUMBER);
-    private static final String OUTPUT_PRECEDENCE =
-        "set class-of-service interfaces ge-0/0/0 unit 100 classifiers inet-precedence CLASS001\n";
+    private static final String OUTPUT_CONFIGURATION = """
+        set interfaces ge-0/0/0 unit 100 vlan-id 100
+        set class-of-service interfaces ge-0/0/0 unit 10 classifiers inet-precedence CLASS010
+        set class-of-service interfaces ge-0/0/0 unit 100 classifiers inet-precedence CLASS001
+        """;
 
     @Mock
     private Cli cli;
@@ -59,6 +62,7 @@ class PolicyForwardingInterfaceConfigReaderTest {
     void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
         target = Mockito.spy(new PolicyForwardingInterfaceConfigReader(cli));
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
     }
 
     @Test
@@ -70,8 +74,8 @@ class PolicyForwardingInterfaceConfigReaderTest {
             .child(Interface.class, new InterfaceKey(new InterfaceId(INTERFACE_ID_VALUE)))
             .child(Config.class);
 
-        Mockito.doReturn(OUTPUT_PRECEDENCE).when(target).blockingRead(
-            SHOW_CONFIG,
+        Mockito.doReturn(OUTPUT_CONFIGURATION).when(target).blockingRead(
+            DisplaySetIndex.SH_CONFIGURATION,
             cli,
             iid,
             readContext);
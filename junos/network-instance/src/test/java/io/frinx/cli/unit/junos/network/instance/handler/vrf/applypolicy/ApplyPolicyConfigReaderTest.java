@@ -19,8 +19,10 @@ package io.frinx.cli.unit.junos.network.instance.handler.vrf.applypolicy;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.DisplaySetIndex;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import java.util.List;
 import org.hamcrest.CoreMatchers;
@@ -44,8 +46,6 @@ class ApplyPolicyConfigReaderTest {
         .child(InterInstancePolicies.class)
         .child(ApplyPolicy.class)
         .child(Config.class);
-    private static final String SH_CONFIG = "show configuration routing-instances VRF-001 "
-        + "routing-options instance-import | display set";
     private static final String SH_CONFIG_OUTPUT =
             """
                     set routing-instances VRF-001 routing-options instance-import IMPORT-POLICY-999
@@ -65,6 +65,7 @@ class ApplyPolicyConfigReaderTest {
     void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
         target = Mockito.spy(new ApplyPolicyConfigReader(cli));
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
     }
 
     @Test
@@ -72,7 +73,8 @@ class ApplyPolicyConfigReaderTest {
         ConfigBuilder configBuilder = new ConfigBuilder();
 
         Mockito.doReturn(SH_CONFIG_OUTPUT).when(target)
-            .blockingRead(Mockito.eq(SH_CONFIG), Mockito.eq(cli), Mockito.eq(IIDS_CONFIG), Mockito.eq(readContext));
+            .blockingRead(Mockito.eq(DisplaySetIndex.SH_CONFIGURATION), Mockito.eq(cli), Mockito.eq(IIDS_CONFIG),
+                Mockito.eq(readContext));
 
         target.readCurrentAttributes(IIDS_CONFIG, configBuilder , readContext);
 
@@ -19,8 +19,10 @@ package io.frinx.cli.unit.junos.network.instance.handler.vrf.ifc;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.DisplaySetIndex;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -39,7 +41,6 @@ import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.insta
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 class VrfInterfaceReaderTest {
-    private static final String SH_VRF_INTERFACES = "show configuration routing-instances VRF-001 | display set";
     private static final String SH_VRF_INTERFACES_OUTPUT = """
             set routing-instances VRF-001 interface ge-0/0/0.1
             set routing-instances VRF-001 other-attribute ge-0/0/0.2
@@ -66,6 +67,7 @@ class VrfInterfaceReaderTest {
     void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
         target = Mockito.spy(new VrfInterfaceReader(cli));
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
     }
 
     @Test
@@ -74,7 +76,7 @@ class VrfInterfaceReaderTest {
 
         Mockito.doReturn(SH_VRF_INTERFACES_OUTPUT).when(target)
                 .blockingRead(
-                    Mockito.eq(SH_VRF_INTERFACES),
+                    Mockito.eq(DisplaySetIndex.SH_CONFIGURATION),
                     Mockito.eq(cli),
                     Mockito.eq(iid),
                     Mockito.eq(readContext));
@@ -89,7 +91,7 @@ class VrfInterfaceReaderTest {
             CoreMatchers.equalTo(EXPECTED_INTERFACES_NAME));
 
         Mockito.verify(target, Mockito.times(1)).blockingRead(
-            SH_VRF_INTERFACES,
+            DisplaySetIndex.SH_CONFIGURATION,
             cli,
             iid,
             readContext);
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.DisplaySetIndex;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
@@ -64,8 +65,8 @@ public class AreaInterfaceConfigReader implements CliConfigReader<Config, Config
         configBuilder.setId(key.getId());
         final String nwInsName = OspfProtocolReader.resolveVrfWithName(instanceIdentifier);
 
-        String output = blockingRead(String.format(SHOW_OSPF_INT, nwInsName, areaId, key.getId()), cli,
-                instanceIdentifier, readContext);
+        String output = DisplaySetIndex.blockingRead(this, String.format(SHOW_OSPF_INT, nwInsName, areaId, key.getId()),
+                cli, instanceIdentifier, readContext);
         parseEnabled(output, configBuilder);
         parseNetworkType(output, configBuilder);
         parseMetric(output, configBuilder);
@@ -18,8 +18,10 @@ package io.frinx.cli.unit.junos.ospf.handler;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.DisplaySetIndex;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -79,6 +81,7 @@ class AreaInterfaceBfdConfigReaderTest {
     void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
         target = Mockito.spy(new AreaInterfaceBfdConfigReader(cli));
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
     }
 
     @Test
@@ -100,8 +103,7 @@ class AreaInterfaceBfdConfigReaderTest {
                 .child(Config.class);
 
         Mockito.doReturn(OUTPUT_AREAS).when(target).blockingRead(
-            Mockito.eq(String.format(AreaInterfaceBfdConfigReader.SHOW_OSPF_INT,
-                    String.format(" routing-instances %s", vrfName), areaName, ifName)),
+            Mockito.eq(DisplaySetIndex.SH_CONFIGURATION),
             Mockito.eq(cli),
             Mockito.eq(iid),
             Mockito.eq(readContext));
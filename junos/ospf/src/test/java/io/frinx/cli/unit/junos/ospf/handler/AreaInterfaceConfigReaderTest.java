@@ -18,8 +18,10 @@ package io.frinx.cli.unit.junos.ospf.handler;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.DisplaySetIndex;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -79,6 +81,7 @@ class AreaInterfaceConfigReaderTest {
     void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
         target = Mockito.spy(new AreaInterfaceConfigReader(cli));
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
     }
 
     @Test
@@ -98,8 +101,7 @@ class AreaInterfaceConfigReaderTest {
                 .child(Config.class);
 
         Mockito.doReturn(OUTPUT_AREAS).when(target).blockingRead(
-                Mockito.eq(String.format(AreaInterfaceConfigReader.SHOW_OSPF_INT,
-                        String.format(" routing-instances %s", vrfName), areaName, ifName)),
+                Mockito.eq(DisplaySetIndex.SH_CONFIGURATION),
                 Mockito.eq(cli),
                 Mockito.eq(iid),
                 Mockito.eq(readContext));
@@ -20,8 +20,10 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.DisplaySetIndex;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import java.util.List;
 import org.hamcrest.CoreMatchers;
@@ -84,6 +86,7 @@ class AreaInterfaceReaderTest {
     void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
         target = Mockito.spy(new AreaInterfaceReader(cli));
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
     }
 
     @Test
@@ -99,8 +102,7 @@ class AreaInterfaceReaderTest {
                 .child(Interface.class);
 
         Mockito.doReturn(OUTPUT_AREAS).when(target).blockingRead(
-                Mockito.eq(String.format(AreaInterfaceReader.SHOW_OSPF_INT, " routing-instances APTN",
-                        "10.51.246.21")),
+                Mockito.eq(DisplaySetIndex.SH_CONFIGURATION),
                 Mockito.eq(cli),
                 Mockito.eq(iid),
                 Mockito.eq(readContext));
@@ -110,8 +112,7 @@ class AreaInterfaceReaderTest {
         assertThat(result, CoreMatchers.equalTo(EXPECTED_INTERFACE_KEYS));
 
         Mockito.verify(target, Mockito.times(1)).blockingRead(
-            String.format(String.format(AreaInterfaceReader.SHOW_OSPF_INT, " routing-instances APTN",
-                    "10.51.246.21")),
+            DisplaySetIndex.SH_CONFIGURATION,
             cli,
             iid,
             readContext);
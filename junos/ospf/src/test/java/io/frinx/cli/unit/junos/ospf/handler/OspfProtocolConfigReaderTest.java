@@ -19,8 +19,10 @@ package io.frinx.cli.unit.junos.ospf.handler;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.DisplaySetIndex;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -74,6 +76,7 @@ class OspfProtocolConfigReaderTest {
     void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
         target = Mockito.spy(new OspfProtocolConfigReader(cli));
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
     }
 
     @Test
@@ -86,7 +89,7 @@ class OspfProtocolConfigReaderTest {
                 .child(Config.class);
 
         Mockito.doReturn(OUTPUT).when(target).blockingRead(
-                Mockito.eq(String.format(OspfProtocolConfigReader.SHOW_EXPORT_POLICY, " routing-instances APTN")),
+                Mockito.eq(DisplaySetIndex.SH_CONFIGURATION),
                 Mockito.eq(cli),
                 Mockito.eq(iid),
                 Mockito.eq(readContext));
@@ -56,10 +56,15 @@ public abstract class AbstractL2P2ConfigReader implements CliConfigReader<Config
         if (parentReader.isP2P(id, ctx)) {
             String vllName = id.firstKeyOf(NetworkInstance.class).getName();
             configBuilder.setType(L2P2P.class);
-            parseL2p2(blockingRead(getReadCommand(vllName), cli, id, ctx), configBuilder, vllName);
+            parseL2p2(readL2p2Config(vllName, id, ctx), configBuilder, vllName);
         }
     }
 
+    protected String readL2p2Config(String vllName, InstanceIdentifier<Config> id, ReadContext ctx)
+            throws ReadFailedException {
+        return blockingRead(getReadCommand(vllName), cli, id, ctx);
+    }
+
     protected abstract String getReadCommand(String vllName);
 
     protected void parseL2p2(String output, ConfigBuilder builder, String neName) {
@@ -23,6 +23,7 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
 import io.frinx.cli.unit.nexus.ifc.handler.InterfaceConfigReader;
 import io.frinx.cli.unit.nexus.ifc.handler.InterfaceConfigWriter;
 import io.frinx.cli.unit.nexus.ifc.handler.InterfaceReader;
@@ -96,7 +97,7 @@ public final class NexusInterfaceUnit extends AbstractUnit {
     public void provideHandlers(@NotNull final CustomizerAwareReadRegistryBuilder readRegistry,
                                 @NotNull final CustomizerAwareWriteRegistryBuilder writeRegistry,
                                 @NotNull final Context context) {
-        Cli cli = context.getTransport();
+        Cli cli = CommandMetrics.instrument(context.getTransport());
         provideReaders(readRegistry, cli);
         readRegistry.addCheckRegistry(CHECK_REGISTRY);
         provideWriters(writeRegistry, cli);
@@ -22,6 +22,7 @@ import com.google.common.collect.Lists;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.lldp.handler.LldpNeighbors;
 import io.frinx.cli.unit.utils.CliOperListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -53,8 +54,8 @@ public class NeighborReader implements CliOperListReader<Neighbor, NeighborKey,
     public List<NeighborKey> getAllIds(@NotNull InstanceIdentifier<Neighbor> instanceIdentifier,
                                        @NotNull ReadContext readContext) throws ReadFailedException {
         String intName = instanceIdentifier.firstKeyOf(Interface.class).getName();
-        String showCommand = String.format(SHOW_LLDP_NEIGHBOR, intName);
-        return parseNeighborIds(blockingRead(showCommand, cli, instanceIdentifier, readContext));
+        return parseNeighborIds(LldpNeighbors.blockingRead(this, SHOW_LLDP_NEIGHBOR, intName, cli,
+                instanceIdentifier, readContext));
     }
 
     @VisibleForTesting
@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
 import io.frinx.cli.unit.saos.init.SaosDevices;
 import io.frinx.cli.unit.saos6.aaa.handler.AuthenticationUserConfigReader;
 import io.frinx.cli.unit.saos6.aaa.handler.AuthenticationUserReader;
@@ -60,7 +61,7 @@ public class SaosAaaUnit extends AbstractUnit {
     public void provideHandlers(@NotNull CustomizerAwareReadRegistryBuilder readRegistry,
                                 @NotNull CustomizerAwareWriteRegistryBuilder writeRegistry,
                                 @NotNull Context context) {
-        Cli cli = context.getTransport();
+        Cli cli = CommandMetrics.instrument(context.getTransport());
 
         provideWriters(writeRegistry, cli);
         provideReaders(readRegistry, cli);
@@ -19,6 +19,7 @@ package io.frinx.cli.unit.saos6.aaa.handler;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.ConfigurationIndex;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Locale;
@@ -51,7 +52,7 @@ public class AuthenticationUserConfigReader implements CliConfigReader<Config, C
         var username = id.firstKeyOf(User.class).getUsername();
         var builder = new AaaCienaUserAugBuilder();
         parseUserConfig(configBuilder, builder,
-                blockingRead(f(SH_USER, username), cli, id, readContext));
+                ConfigurationIndex.blockingRead(this, f(SH_USER, username), cli, id, readContext));
         configBuilder.addAugmentation(AaaCienaUserAug.class, builder.build());
     }
 
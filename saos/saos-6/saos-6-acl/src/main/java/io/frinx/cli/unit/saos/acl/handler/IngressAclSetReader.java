@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.ConfigurationIndex;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -48,7 +49,8 @@ public class IngressAclSetReader implements CliConfigListReader<IngressAclSet, I
     public List<IngressAclSetKey> getAllIds(@NotNull InstanceIdentifier<IngressAclSet> instanceIdentifier,
                                             @NotNull ReadContext readContext) throws ReadFailedException {
         final String interfaceName = instanceIdentifier.firstKeyOf(Interface.class).getId().getValue();
-        final String output = blockingRead(f(SH_PORT, interfaceName), cli, instanceIdentifier, readContext);
+        final String output = ConfigurationIndex.blockingRead(this, f(SH_PORT, interfaceName), cli,
+                instanceIdentifier, readContext);
         return parseAclKeys(output);
     }
 
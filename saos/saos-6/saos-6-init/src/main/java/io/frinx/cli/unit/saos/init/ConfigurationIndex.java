@@ -0,0 +1,179 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.saos.init;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
+import io.frinx.cli.unit.utils.CliReader;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Running configuration of the device indexed by words of its lines.
+ * <br>
+ * SAOS readers issue {@code configuration search string "<string>"} once per entity (port, virtual switch, user...)
+ * and the device scans its whole configuration for every such command. These commands are served from a single
+ * {@code configuration show brief} read per read transaction instead, any other command is sent to the device as
+ * before. The brief output is the one cached by the SAOS CLI flavour and, unlike {@code configuration show}, has no
+ * {@code !} comment lines which the search on the device does not return.
+ * <br>
+ * Result of the search is the same as on the device: all lines containing the string, in configuration order.
+ * Candidate lines are looked up by words of the string (e.g. {@code port set port 4} has to contain the words
+ * {@code set} and {@code port}, a word ending with {@code port} and a word starting with {@code 4}), only the
+ * candidates are checked for the whole string.
+ */
+public final class ConfigurationIndex {
+
+    public static final String SH_CONFIGURATION = "configuration show brief";
+
+    private static final Pattern SEARCH_STRING =
+            Pattern.compile("configuration search string (\"(?<quoted>[^\"]*)\"|(?<word>\\S+))");
+    private static final String SEPARATOR = " ";
+
+    private final String[] lines;
+    private final NavigableMap<String, Postings> words = new TreeMap<>();
+    private final NavigableMap<String, Postings> reversedWords = new TreeMap<>();
+
+    @VisibleForTesting
+    ConfigurationIndex(@NotNull String output) {
+        lines = ParsingUtils.NEWLINE.split(output);
+        for (int line = 0; line < lines.length; line++) {
+            for (String word : lines[line].split(SEPARATOR)) {
+                if (!word.isEmpty()) {
+                    words.computeIfAbsent(word, w -> new Postings()).add(line);
+                }
+            }
+        }
+        words.forEach((word, postings) -> reversedWords.put(reverse(word), postings));
+    }
+
+    public static String blockingRead(@NotNull CliReader cliReader, @NotNull String command, @NotNull Cli cli,
+                                      @NotNull InstanceIdentifier<?> instanceIdentifier,
+                                      @NotNull ReadContext readContext) throws ReadFailedException {
+        final Matcher matcher = SEARCH_STRING.matcher(command);
+        if (!matcher.matches()) {
+            return cliReader.blockingRead(command, cli, instanceIdentifier, readContext);
+        }
+        ConfigurationIndex index = (ConfigurationIndex) readContext.getModificationCache()
+                .get(ConfigurationIndex.class);
+        if (index == null) {
+            CommandMetrics.cacheMiss(cli, ConfigurationIndex.class);
+            index = new ConfigurationIndex(cliReader.blockingRead(SH_CONFIGURATION, cli, instanceIdentifier,
+                    readContext));
+            readContext.getModificationCache().put(ConfigurationIndex.class, index);
+        } else {
+            CommandMetrics.cacheHit(cli, ConfigurationIndex.class);
+        }
+        final String quoted = matcher.group("quoted");
+        return index.search(quoted != null ? quoted : matcher.group("word"));
+    }
+
+    @VisibleForTesting
+    String search(@NotNull String string) {
+        final BitSet candidates = candidates(string);
+        final StringBuilder output = new StringBuilder();
+        for (int line = candidates.nextSetBit(0); line >= 0; line = candidates.nextSetBit(line + 1)) {
+            if (lines[line].contains(string)) {
+                output.append(lines[line]).append('\n');
+            }
+        }
+        return output.toString();
+    }
+
+    /**
+     * Lines which may contain the string, looked up by the most selective word of the string. A word enclosed by
+     * separators has to be a whole word of the line, the last word has to be a prefix and the first word a suffix
+     * of a word of the line. When the string is a single word, every line is a candidate.
+     */
+    private BitSet candidates(String string) {
+        final String[] tokens = string.split(SEPARATOR, -1);
+        Postings exact = null;
+        for (int i = 1; i < tokens.length - 1; i++) {
+            if (!tokens[i].isEmpty()) {
+                final Postings postings = words.get(tokens[i]);
+                if (postings == null) {
+                    return new BitSet();
+                }
+                if (exact == null || postings.size < exact.size) {
+                    exact = postings;
+                }
+            }
+        }
+        final BitSet candidates = new BitSet(lines.length);
+        if (exact != null) {
+            exact.addTo(candidates);
+        } else if (tokens.length > 1 && !tokens[tokens.length - 1].isEmpty()) {
+            addAll(withPrefix(words, tokens[tokens.length - 1]), candidates);
+        } else if (tokens.length > 1 && !tokens[0].isEmpty()) {
+            addAll(withPrefix(reversedWords, reverse(tokens[0])), candidates);
+        } else {
+            candidates.set(0, lines.length);
+        }
+        return candidates;
+    }
+
+    private static Collection<Postings> withPrefix(NavigableMap<String, Postings> map, String prefix) {
+        return map.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+    }
+
+    private static void addAll(Collection<Postings> postings, BitSet candidates) {
+        for (Postings p : postings) {
+            p.addTo(candidates);
+        }
+    }
+
+    private static String reverse(String word) {
+        return new StringBuilder(word).reverse().toString();
+    }
+
+    /**
+     * Ascending indexes of lines containing a word.
+     */
+    private static final class Postings {
+
+        private int[] lines = new int[2];
+        private int size;
+
+        private void add(int line) {
+            if (size > 0 && lines[size - 1] == line) {
+                return;
+            }
+            if (size == lines.length) {
+                lines = Arrays.copyOf(lines, size * 2);
+            }
+            lines[size++] = line;
+        }
+
+        private void addTo(BitSet bitSet) {
+            for (int i = 0; i < size; i++) {
+                bitSet.set(lines[i]);
+            }
+        }
+    }
+}
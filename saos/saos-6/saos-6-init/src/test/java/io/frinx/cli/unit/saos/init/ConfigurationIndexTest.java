@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.saos.init;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.frinx.cli.unit.generator.SaosOutputs;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class ConfigurationIndexTest {
+
+    private static final String CONFIGURATION = """
+            port disable port 4
+            port set port 4 max-frame-size 9216 description "two words"
+            port set port 40 mode rj45
+            aggregation create agg LAG1
+            aggregation add agg LAG1 port 4
+            virtual-switch create vs VS1
+            virtual-switch set vs VS1 description vs1
+            sub-port create sub-port SP1 parent-port LAG1 classifier-precedence 10
+            virtual-switch interface attach sub-port SP1 vs VS1
+            user create user admin access-level super
+            """;
+
+    private static final List<String> SEARCHES = List.of("port 4", "port set port 4", "port 40", "vs VS1",
+            "virtual-switch set vs VS1", "user create user admin", "aggregation create agg LAG1", " vs ",
+            "parent-port LAG1 classifier-precedence ", "sub-port SP1 ", "access-list", "rt 4", "port 4 max",
+            "port  4", "admin", "user create user adm");
+
+    @Test
+    void testSearch() {
+        final ConfigurationIndex index = new ConfigurationIndex(CONFIGURATION);
+        assertEquals("""
+                port disable port 4
+                port set port 4 max-frame-size 9216 description "two words"
+                port set port 40 mode rj45
+                aggregation add agg LAG1 port 4
+                """, index.search("port 4"));
+        assertEquals("virtual-switch create vs VS1\nvirtual-switch set vs VS1 description vs1\n"
+                + "virtual-switch interface attach sub-port SP1 vs VS1\n", index.search("vs VS1"));
+        assertEquals("", index.search("user create user root"));
+    }
+
+    @Test
+    void testSameResultAsDevice() {
+        final StringBuilder configuration = new StringBuilder(CONFIGURATION);
+        for (int port = 1; port <= 2000; port++) {
+            configuration.append(String.format("port set port %d max-frame-size 9216 description port%d\n", port,
+                    port));
+            configuration.append(String.format("vlan add vlan %d port %d\n", port % 4094 + 1, port));
+        }
+        final ConfigurationIndex index = new ConfigurationIndex(configuration.toString());
+        for (String search : SEARCHES) {
+            assertEquals(searchString(configuration.toString(), search), index.search(search), search);
+        }
+        for (int port = 1; port <= 2000; port += 37) {
+            final String search = "port " + port;
+            assertEquals(searchString(configuration.toString(), search), index.search(search), search);
+        }
+    }
+
+    @Test
+    void testSearchScale() {
+        final String configuration = SaosOutputs.configurationShowBrief(10_000, 100);
+        final ConfigurationIndex index = new ConfigurationIndex(configuration);
+        for (int port = 1; port <= 10_000; port++) {
+            // sub-port create, sub-port add and virtual-switch interface attach
+            assertEquals(3L, index.search("sub-port SP" + port + " ").lines().count(), "SP" + port);
+            assertEquals(String.format("port set port %d max-frame-size 9216 description \"customer %d\"\n", port,
+                    port), index.search("port set port " + port + " max"));
+        }
+        for (int port = 1; port <= 10_000; port += 997) {
+            final String search = "sub-port SP" + port + " ";
+            assertEquals(searchString(configuration, search), index.search(search), search);
+        }
+        assertEquals(searchString(configuration, "vs VS42"), index.search("vs VS42"));
+        assertEquals(100L, index.search("virtual-switch create vs ").lines().count());
+    }
+
+    private static String searchString(String configuration, String search) {
+        return configuration.lines()
+                .filter(line -> line.contains(search))
+                .map(line -> line + "\n")
+                .collect(Collectors.joining());
+    }
+}
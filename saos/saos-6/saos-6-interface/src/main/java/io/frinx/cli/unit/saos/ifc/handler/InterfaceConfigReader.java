@@ -20,6 +20,8 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.PatternCache;
+import io.frinx.cli.unit.saos.init.ConfigurationIndex;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -65,9 +67,9 @@ public class InterfaceConfigReader implements CliConfigReader<Config, ConfigBuil
         parseLogicalInterfaces(id, builder, ctx, ifcName);
         // Set up all others interfaces
         if (builder.getType() == null) {
-            parseType(blockingRead(f(SH_TYPE, ifcName), cli, id, ctx), builder, ifcName);
+            parseType(ConfigurationIndex.blockingRead(this, f(SH_TYPE, ifcName), cli, id, ctx), builder, ifcName);
             IfSaosAugBuilder ifSaosAugBuilder = new IfSaosAugBuilder();
-            parseInterface(blockingRead(f(SH_SINGLE_INTERFACE_CFG, ifcName), cli, id, ctx),
+            parseInterface(ConfigurationIndex.blockingRead(this, f(SH_SINGLE_INTERFACE_CFG, ifcName), cli, id, ctx),
                     builder, ifSaosAugBuilder, ifcName);
             builder.addAugmentation(IfSaosAug.class, ifSaosAugBuilder.build());
         }
@@ -111,7 +113,7 @@ public class InterfaceConfigReader implements CliConfigReader<Config, ConfigBuil
     void parseType(final String output, ConfigBuilder builder, String name) {
         builder.setType(EthernetCsmacd.class);
 
-        Pattern agg = Pattern.compile("aggregation create agg " + name + "$");
+        Pattern agg = PatternCache.compile("aggregation create agg %s$", name);
 
         ParsingUtils.NEWLINE.splitAsStream(output)
                 .map(String::trim)
@@ -142,7 +144,7 @@ public class InterfaceConfigReader implements CliConfigReader<Config, ConfigBuil
     }
 
     private void setMtu(final String output, ConfigBuilder builder, String name) {
-        Pattern portMtu = Pattern.compile("port set port " + name + " .*max-frame-size (?<mtu>\\d+).*");
+        Pattern portMtu = PatternCache.compile("port set port %s .*max-frame-size (?<mtu>\\d+).*", name);
 
         ParsingUtils.parseField(output,
             portMtu::matcher,
@@ -152,13 +154,13 @@ public class InterfaceConfigReader implements CliConfigReader<Config, ConfigBuil
 
     private void setDescription(final String output, ConfigBuilder builder, String name) {
         if (output.contains("\"")) {
-            Pattern portDescLong = Pattern.compile("port set port " + name + " .*description \"(?<desc>\\S+.*)\".*");
+            Pattern portDescLong = PatternCache.compile("port set port %s .*description \"(?<desc>\\S+.*)\".*", name);
             ParsingUtils.parseField(output,
                 portDescLong::matcher,
                 matcher -> matcher.group("desc"),
                 builder::setDescription);
         } else {
-            Pattern portDescShort = Pattern.compile("port set port " + name + " .*description (?<desc>\\S+).*");
+            Pattern portDescShort = PatternCache.compile("port set port %s .*description (?<desc>\\S+).*", name);
             ParsingUtils.parseField(output,
                 portDescShort::matcher,
                 matcher -> matcher.group("desc"),
@@ -167,7 +169,7 @@ public class InterfaceConfigReader implements CliConfigReader<Config, ConfigBuil
     }
 
     private void setMode(final String output, IfSaosAugBuilder ifSaosAugBuilder, String name) {
-        Pattern portMode = Pattern.compile("port set port " + name + " .*mode (?<mode>\\S+).*");
+        Pattern portMode = PatternCache.compile("port set port %s .*mode (?<mode>\\S+).*", name);
         Optional<String> mode = ParsingUtils.parseField(output, 0,
             portMode::matcher,
             matcher -> matcher.group("mode"));
@@ -192,7 +194,7 @@ public class InterfaceConfigReader implements CliConfigReader<Config, ConfigBuil
     }
 
     private void setAcceptableFrameType(final String output, IfSaosAugBuilder ifSaosAugBuilder, String name) {
-        Pattern portAft = Pattern.compile("port set port " + name + " .*acceptable-frame-type (?<aft>\\S+).*");
+        Pattern portAft = PatternCache.compile("port set port %s .*acceptable-frame-type (?<aft>\\S+).*", name);
         Optional<String> aft = ParsingUtils.parseField(output, 0,
             portAft::matcher,
             matcher -> matcher.group("aft"));
@@ -217,7 +219,7 @@ public class InterfaceConfigReader implements CliConfigReader<Config, ConfigBuil
     }
 
     private void setIngressVSFilter(final String output, IfSaosAugBuilder ifSaosAugBuilder, String name) {
-        Pattern portVif = Pattern.compile("port set port " + name + " .*vs-ingress-filter (?<vif>\\S+).*");
+        Pattern portVif = PatternCache.compile("port set port %s .*vs-ingress-filter (?<vif>\\S+).*", name);
         Optional<String> ingressFilter = ParsingUtils.parseField(output, 0,
             portVif::matcher,
             matcher -> matcher.group("vif"));
@@ -239,8 +241,8 @@ public class InterfaceConfigReader implements CliConfigReader<Config, ConfigBuil
     }
 
     private void setVlanEthertypePolicy(final String output, IfSaosAugBuilder ifSaosAugBuilder, String name) {
-        Pattern vcVep = Pattern.compile("virtual-circuit ethernet set port "
-                + name + " vlan-ethertype-policy (?<vep>\\S+).*");
+        Pattern vcVep = PatternCache.compile(
+                "virtual-circuit ethernet set port %s vlan-ethertype-policy (?<vep>\\S+).*", name);
         Optional<String> vep = ParsingUtils.parseField(output, 0,
             vcVep::matcher,
             matcher -> matcher.group("vep"));
@@ -262,7 +264,7 @@ public class InterfaceConfigReader implements CliConfigReader<Config, ConfigBuil
     }
 
     private void setIngressToEgressQmap(final String output, IfSaosAugBuilder ifSaosAugBuilder, String name) {
-        Pattern portIteq = Pattern.compile("port set port " + name + " .*ingress-to-egress-qmap NNI-NNI.*");
+        Pattern portIteq = PatternCache.compile("port set port %s .*ingress-to-egress-qmap NNI-NNI.*", name);
         ParsingUtils.parseField(output,
             portIteq::matcher,
             matcher -> true,
@@ -270,8 +272,9 @@ public class InterfaceConfigReader implements CliConfigReader<Config, ConfigBuil
     }
 
     private void setAccessControlAttributes(final String output, IfSaosAugBuilder ifSaosAugBuilder, String name) {
-        Pattern maxMacs = Pattern.compile("flow access-control set port " + name + " max-dynamic-macs (?<macs>\\d+).*");
-        Pattern unlearned = Pattern.compile("flow access-control set port " + name + " .*forward-unlearned.*");
+        Pattern maxMacs = PatternCache.compile("flow access-control set port %s max-dynamic-macs (?<macs>\\d+).*",
+                name);
+        Pattern unlearned = PatternCache.compile("flow access-control set port %s .*forward-unlearned.*", name);
 
         ParsingUtils.parseFields(output, 0,
             maxMacs::matcher,
@@ -285,7 +288,7 @@ public class InterfaceConfigReader implements CliConfigReader<Config, ConfigBuil
     }
 
     protected void parseEnabled(final String output, final ConfigBuilder builder, String name) {
-        Pattern portEnabled = Pattern.compile("port disable port " + name + "$");
+        Pattern portEnabled = PatternCache.compile("port disable port %s$", name);
         builder.setEnabled(true);
         ParsingUtils.parseField(output, 0,
             portEnabled::matcher,
@@ -294,7 +297,7 @@ public class InterfaceConfigReader implements CliConfigReader<Config, ConfigBuil
     }
 
     protected void setRstpEnabled(final String output, final IfSaosAugBuilder ifSaosAugBuilder, String name) {
-        Pattern rstpEnabled = Pattern.compile("rstp disable port " + name + "$");
+        Pattern rstpEnabled = PatternCache.compile("rstp disable port %s$", name);
         ifSaosAugBuilder.setRstpEnabled(true);
         ParsingUtils.parseField(output, 0,
             rstpEnabled::matcher,
@@ -303,7 +306,7 @@ public class InterfaceConfigReader implements CliConfigReader<Config, ConfigBuil
     }
 
     protected void setMstpEnabled(final String output, final IfSaosAugBuilder ifSaosAugBuilder, String name) {
-        Pattern mstpEnabled = Pattern.compile("mstp disable port " + name + "$");
+        Pattern mstpEnabled = PatternCache.compile("mstp disable port %s$", name);
         ifSaosAugBuilder.setMstpEnabled(true);
         ParsingUtils.parseField(output, 0,
             mstpEnabled::matcher,
@@ -312,7 +315,7 @@ public class InterfaceConfigReader implements CliConfigReader<Config, ConfigBuil
     }
 
     private void setResolvedCosRemarkL2(final String output, IfSaosAugBuilder ifSaosAugBuilder, String name) {
-        Pattern portRcrl = Pattern.compile("port set port " + name + " .*resolved-cos-remark-l2 true.*");
+        Pattern portRcrl = PatternCache.compile("port set port %s .*resolved-cos-remark-l2 true.*", name);
         ifSaosAugBuilder.setResolvedCosRemarkL2(false);
         ParsingUtils.parseField(output, 0,
             portRcrl::matcher,
@@ -321,7 +324,7 @@ public class InterfaceConfigReader implements CliConfigReader<Config, ConfigBuil
     }
 
     private void setNegotiationAuto(final String output, final IfSaosAugBuilder ifSaosAugBuilder, String name) {
-        Pattern autoNegOn = Pattern.compile("port set port " + name + " .*auto-neg on.*");
+        Pattern autoNegOn = PatternCache.compile("port set port %s .*auto-neg on.*", name);
         ifSaosAugBuilder.setNegotiationAuto(false);
         ParsingUtils.parseField(output, 0,
             autoNegOn::matcher,
@@ -330,7 +333,7 @@ public class InterfaceConfigReader implements CliConfigReader<Config, ConfigBuil
     }
 
     private void setSpeedType(final String output, final IfSaosAugBuilder ifSaosAugBuilder, String name) {
-        Pattern speedType = Pattern.compile("port set port " + name + " speed (?<speedType>\\S+).*");
+        Pattern speedType = PatternCache.compile("port set port %s speed (?<speedType>\\S+).*", name);
         Optional<String> speedTypeValue = ParsingUtils.parseField(output, 0,
             speedType::matcher,
             matcher -> matcher.group("speedType"));
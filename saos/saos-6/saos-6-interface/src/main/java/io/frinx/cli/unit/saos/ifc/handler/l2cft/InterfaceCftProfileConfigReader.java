@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.ConfigurationIndex;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
@@ -44,7 +45,7 @@ public class InterfaceCftProfileConfigReader implements CliConfigReader<Config,
                                       @NotNull ConfigBuilder configBuilder,
                                       @NotNull ReadContext readContext) throws ReadFailedException {
         String ifcName = instanceIdentifier.firstKeyOf(Interface.class).getName();
-        String output = blockingRead(f(SHOW_COMMAND, ifcName),
+        String output = ConfigurationIndex.blockingRead(this, f(SHOW_COMMAND, ifcName),
                 cli, instanceIdentifier, readContext);
         parseConfig(output, ifcName, configBuilder);
     }
@@ -18,7 +18,6 @@ package io.frinx.cli.unit.saos.it;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
-import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableList;
 import com.google.gson.stream.JsonWriter;
 import io.fd.honeycomb.data.ReadableDataManager;
@@ -42,6 +41,7 @@ import io.frinx.cli.registry.impl.TranslateRegistryImpl;
 import io.frinx.cli.registry.spi.TranslateUnit;
 import io.frinx.cli.topology.RemoteDeviceId;
 import io.frinx.cli.unit.generic.GenericTranslateUnit;
+import io.frinx.cli.unit.handlers.replay.ReplayBenchmark;
 import io.frinx.cli.unit.saos.acl.AclUnit;
 import io.frinx.cli.unit.saos.broadcast.containment.SaosBroadcastContainmentUnit;
 import io.frinx.cli.unit.saos.conf.ConfigurationUnit;
@@ -64,13 +64,13 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -246,9 +246,9 @@ public class SaosAll {
                 .setCliDefaultParametersService(cliDefaultParametersService)
                 .setLoggingBroker(new CliLoggingBroker(loggingController));
 
-        cli = ioConfigurationBuilder.getIO()
+        cli = ReplayBenchmark.connect(MOUNT_ID, () -> ioConfigurationBuilder.getIO()
                 .toCompletableFuture()
-                .get();
+                .get());
 
         schemaCtx = translateContext.getSchemaContext();
         BindingToNormalizedNodeCodec codec = translateContext.getCodec();
@@ -368,24 +368,6 @@ public class SaosAll {
                 new Class[]{CliNode.class}, new CliNodeInvocationHandler(CLI_CFG));
     }
 
-    private static void benchmark(int warmups, int rounds, Runnable code) {
-        long averageTime = 0;
-
-        for (int i = 0; i < warmups; i++) {
-            code.run();
-        }
-
-        for (int i = 0; i < rounds; i++) {
-            Stopwatch stopwatch = Stopwatch.createStarted();
-
-            code.run();
-
-            stopwatch.stop();
-            averageTime += stopwatch.elapsed(TimeUnit.MILLISECONDS);
-        }
-
-    }
-
     private String toJson(NormalizedNode<?, ?> root) throws Exception {
         JSONCodecFactory codecFac = JSONCodecFactory.getShared(schemaCtx);
         StringWriter out = new StringWriter();
@@ -491,11 +473,11 @@ public class SaosAll {
         var config = read.get().get();
     }
 
-    @Disabled
+    @EnabledIfSystemProperty(named = ReplayBenchmark.TRANSCRIPT_PROPERTY, matches = ".+")
     @SuppressWarnings("IllegalCatch")
     @Test
     void getAllDOMBenchmark() {
-        benchmark(2, 10, () -> {
+        ReplayBenchmark.run(cli, 2, 10, () -> {
             try {
                 getAllDOM();
             } catch (Exception e) {
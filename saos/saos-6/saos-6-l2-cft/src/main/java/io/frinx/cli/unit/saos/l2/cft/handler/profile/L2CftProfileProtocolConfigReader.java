@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.ConfigurationIndex;
 import io.frinx.cli.unit.saos.l2.cft.Util;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -50,7 +51,8 @@ public class L2CftProfileProtocolConfigReader implements CliConfigReader<Config,
                                       @NotNull ReadContext readContext) throws ReadFailedException {
         String profileName = instanceIdentifier.firstKeyOf(Profile.class).getName();
         String protocolName = instanceIdentifier.firstKeyOf(Protocol.class).getName();
-        String output = blockingRead(f(SHOW_COMMAND, profileName, protocolName), cli, instanceIdentifier, readContext);
+        String output = ConfigurationIndex.blockingRead(this, f(SHOW_COMMAND, profileName, protocolName), cli,
+                instanceIdentifier, readContext);
         parseConfig(output, protocolName, configBuilder);
     }
 
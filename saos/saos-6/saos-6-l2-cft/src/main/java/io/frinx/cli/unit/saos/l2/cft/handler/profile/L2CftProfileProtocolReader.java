@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.ConfigurationIndex;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -47,7 +48,8 @@ public class L2CftProfileProtocolReader implements CliConfigListReader<Protocol,
     public List<ProtocolKey> getAllIds(@NotNull InstanceIdentifier<Protocol> instanceIdentifier,
                                        @NotNull ReadContext readContext) throws ReadFailedException {
         String profileName = instanceIdentifier.firstKeyOf(Profile.class).getName();
-        return getAllIds(blockingRead(f(SHOW_COMMAND, profileName), cli, instanceIdentifier, readContext));
+        return getAllIds(ConfigurationIndex.blockingRead(this, f(SHOW_COMMAND, profileName), cli, instanceIdentifier,
+                readContext));
     }
 
     @VisibleForTesting
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.ConfigurationIndex;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import java.util.regex.Pattern;
 import org.jetbrains.annotations.NotNull;
@@ -47,7 +48,7 @@ public class VirtualRingConfigReader implements CliConfigReader<Config, ConfigBu
                                       @NotNull ReadContext readContext) throws ReadFailedException {
         var virtualRing = instanceIdentifier.firstKeyOf(VirtualRing.class).getName();
         configBuilder.setName(virtualRing);
-        final var ringOutput = blockingRead(f(SH_VIRT_RING_CONF, virtualRing),
+        final var ringOutput = ConfigurationIndex.blockingRead(this, f(SH_VIRT_RING_CONF, virtualRing),
                 cli, instanceIdentifier, readContext);
         parseConfig(ringOutput, configBuilder);
     }
@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
 import io.frinx.cli.unit.saos.init.SaosDevices;
 import io.frinx.cli.unit.saos6.system.handler.NtpAuthenticationConfigReader;
 import io.frinx.cli.unit.saos6.system.handler.NtpAuthenticationReader;
@@ -63,7 +64,7 @@ public class SaosNtpUnit extends AbstractUnit {
     public void provideHandlers(@NotNull CustomizerAwareReadRegistryBuilder readRegistry,
                                 @NotNull CustomizerAwareWriteRegistryBuilder writeRegistry,
                                 @NotNull Context context) {
-        var cli = context.getTransport();
+        var cli = CommandMetrics.instrument(context.getTransport());
 
         provideReaders(readRegistry, cli);
     }
@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.ConfigurationIndex;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.translate.unit.commons.handler.spi.CompositeReader;
@@ -57,8 +58,9 @@ public class PortConfigReader implements CliConfigReader<Config, ConfigBuilder>,
                                       @NotNull final ReadContext ctx) throws ReadFailedException {
         if (isPort(id, ctx)) {
             String ifcName = id.firstKeyOf(Interface.class).getName();
-            parseInterface(blockingRead(f(SH_SINGLE_INTERFACE_CFG, ifcName), cli, id, ctx), builder, ifcName);
-            parseType(blockingRead(f(SH_TYPE, ifcName), cli, id, ctx), builder, ifcName);
+            parseInterface(ConfigurationIndex.blockingRead(this, f(SH_SINGLE_INTERFACE_CFG, ifcName), cli, id, ctx),
+                    builder, ifcName);
+            parseType(ConfigurationIndex.blockingRead(this, f(SH_TYPE, ifcName), cli, id, ctx), builder, ifcName);
         }
     }
 
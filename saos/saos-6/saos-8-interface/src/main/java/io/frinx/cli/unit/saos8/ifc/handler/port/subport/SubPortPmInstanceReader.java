@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.ConfigurationIndex;
 import io.frinx.cli.unit.saos8.ifc.handler.port.PortReader;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -58,7 +59,8 @@ public class SubPortPmInstanceReader implements CliConfigListReader<PmInstance,
         if (isPort(instanceIdentifier, readContext)) {
             var subPortName = findSubInterfaceNameInCache(instanceIdentifier.firstKeyOf(Subinterface.class),
                     readContext);
-            var output = blockingRead(f(SHOW_COMMAND, subPortName), cli, instanceIdentifier, readContext);
+            var output = ConfigurationIndex.blockingRead(this, f(SHOW_COMMAND, subPortName), cli,
+                    instanceIdentifier, readContext);
             return getAllIds(output, subPortName, readContext);
         }
         return Collections.emptyList();
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.ConfigurationIndex;
 import io.frinx.cli.unit.saos8.ifc.handler.port.PortReader;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -62,7 +63,8 @@ public class SubPortReader implements CliConfigListReader<Subinterface, Subinter
                                            @NotNull ReadContext readContext) throws ReadFailedException {
         if (isPort(instanceIdentifier, readContext)) {
             String parentPort = instanceIdentifier.firstKeyOf(Interface.class).getName();
-            String output = blockingRead(f(SHOW_COMMAND, parentPort), cli, instanceIdentifier, readContext);
+            String output = ConfigurationIndex.blockingRead(this, f(SHOW_COMMAND, parentPort), cli,
+                    instanceIdentifier, readContext);
             return getAllIds(output, parentPort, readContext);
         }
         return Collections.emptyList();
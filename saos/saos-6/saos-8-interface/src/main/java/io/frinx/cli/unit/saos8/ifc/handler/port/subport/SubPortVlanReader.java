@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.ConfigurationIndex;
 import io.frinx.cli.unit.saos8.ifc.handler.port.PortReader;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -56,7 +57,7 @@ public class SubPortVlanReader implements CliConfigReader<Vlan, VlanBuilder> {
         if (isPort(instanceIdentifier, readContext)) {
             var index = instanceIdentifier.firstKeyOf(Subinterface.class).getIndex();
             var subPortName = SubPortReader.findConfigInCache(new SubinterfaceKey(index), readContext).getName();
-            final var output = blockingRead(f(SH_ELEMENTS_COMMAND, subPortName),
+            final var output = ConfigurationIndex.blockingRead(this, f(SH_ELEMENTS_COMMAND, subPortName),
                     cli, instanceIdentifier, readContext);
             parseVlan(output, vlanBuilder);
         }
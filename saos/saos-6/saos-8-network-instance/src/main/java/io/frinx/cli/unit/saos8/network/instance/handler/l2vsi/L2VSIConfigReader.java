@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.ConfigurationIndex;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -54,7 +55,8 @@ public final class L2VSIConfigReader implements CliConfigReader<Config, ConfigBu
         if (instance.equals(NetworInstance.DEFAULT_NETWORK)) {
             return;
         }
-        parseL2VSIConfig(blockingRead(String.format(SH_VIRTUAL_SWITCH_TEMPLATE, instance.getName()),
+        parseL2VSIConfig(ConfigurationIndex.blockingRead(this,
+                String.format(SH_VIRTUAL_SWITCH_TEMPLATE, instance.getName()),
                 cli, instanceIdentifier, readContext), configBuilder, instance.getName());
     }
 
@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.ConfigurationIndex;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.CliReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -67,7 +68,8 @@ public class L2VSISubPortReader implements CliConfigListReader<Interface, Interf
                                                      @NotNull InstanceIdentifier<?> id,
                                                      @NotNull ReadContext readContext,
                                                      String vsName) throws ReadFailedException {
-        var output = cliReader.blockingRead(String.format(SHOW_COMMAND, vsName), cli, id, readContext);
+        var output = ConfigurationIndex.blockingRead(cliReader, String.format(SHOW_COMMAND, vsName), cli, id,
+                readContext);
         var subPortPattern = Pattern.compile("virtual-switch interface attach sub-port (?<name>\\S+)"
                 + " vs " + vsName);
 
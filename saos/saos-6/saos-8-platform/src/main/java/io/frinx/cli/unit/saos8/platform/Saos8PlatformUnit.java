@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
+import io.frinx.cli.unit.handlers.metrics.CommandMetrics;
 import io.frinx.cli.unit.saos.init.SaosDevices;
 import io.frinx.cli.unit.saos8.platform.handler.Saos8ComponentConfigReader;
 import io.frinx.cli.unit.saos8.platform.handler.Saos8ComponentReader;
@@ -53,7 +54,7 @@ public class Saos8PlatformUnit extends AbstractUnit {
     public void provideHandlers(@NotNull CustomizerAwareReadRegistryBuilder readRegistry,
                                 @NotNull CustomizerAwareWriteRegistryBuilder writeRegistry,
                                 @NotNull Context context) {
-        var cli = context.getTransport();
+        var cli = CommandMetrics.instrument(context.getTransport());
         provideReaders(readRegistry, cli);
     }
 
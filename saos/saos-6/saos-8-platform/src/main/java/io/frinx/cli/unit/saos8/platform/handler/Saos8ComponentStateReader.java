@@ -19,9 +19,13 @@ package io.frinx.cli.unit.saos8.platform.handler;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.LineMatcher;
+import io.frinx.cli.unit.handlers.PatternCache;
+import io.frinx.cli.unit.handlers.cache.CommandMemo;
 import io.frinx.cli.unit.utils.CliOperReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.platform.ciena.rev220620.CienaPlatformAug;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.platform.ciena.rev220620.CienaPlatformAugBuilder;
@@ -426,29 +430,55 @@ public class Saos8ComponentStateReader implements CliOperReader<State, StateBuil
         var builder = new CienaSaos8PlatformAugBuilder();
         var cienaBuilder = new CienaPlatformAugBuilder();
         if (name.equals(Saos8ComponentReader.DEVICE_ID)) {
-            parseDev(stateBuilder, builder, blockingRead(f(SH_DEVICE_ID), cli, id, readContext));
+            parseDev(stateBuilder, builder, readDeviceIds(id, readContext));
         } else if (name.startsWith(Saos8ComponentReader.MODULE_PREFIX)) {
             var module = name.replaceFirst(Saos8ComponentReader.MODULE_PREFIX, "");
             if (module.startsWith("LM")) {
-                parseModuleSlotLM(stateBuilder, builder, blockingRead(f(SH_DEVICE_ID), cli, id, readContext), module);
+                parseModuleSlotLM(stateBuilder, builder, readDeviceIds(id, readContext), module);
             } else {
-                parseModuleSlot(stateBuilder, builder, blockingRead(f(SH_DEVICE_ID), cli, id, readContext), module);
+                parseModuleSlot(stateBuilder, builder, readDeviceIds(id, readContext), module);
             }
         } else if (name.startsWith(Saos8ComponentReader.DEVICE_PREFIX)) {
             var dev = name.replaceFirst(Saos8ComponentReader.DEVICE_PREFIX, "");
-            parseDeviceSlot(stateBuilder, builder, blockingRead(f(SH_DEVICE_ID), cli, id, readContext), dev);
+            parseDeviceSlot(stateBuilder, builder, readDeviceIds(id, readContext), dev);
         } else if (name.startsWith(Saos8ComponentReader.IOM_PREFIX)) {
             var iom = name.replaceFirst(Saos8ComponentReader.IOM_PREFIX, "");
-            parseIom(stateBuilder, builder, blockingRead(f(SH_DEVICE_ID), cli, id, readContext), iom);
+            parseIom(stateBuilder, builder, readDeviceIds(id, readContext), iom);
         } else if (name.startsWith(Saos8ComponentReader.PORT_PREFIX_CONST)) {
             var port = name.replaceFirst(Saos8ComponentReader.PORT_PREFIX_CONST, "");
-            parsePort(stateBuilder, builder, cienaBuilder, blockingRead(f(SH_PORT, port), cli, id, readContext)
-                    + blockingRead(f(SH_PORTS), cli, id, readContext), port);
+            parsePort(stateBuilder, builder, cienaBuilder, readPort(port, id, readContext), port);
         }
         stateBuilder.addAugmentation(CienaSaos8PlatformAug.class, builder.build());
         stateBuilder.addAugmentation(CienaPlatformAug.class, cienaBuilder.build());
     }
 
+    private String readDeviceIds(InstanceIdentifier<State> id, ReadContext readContext) throws ReadFailedException {
+        return CommandMemo.blockingRead(this, f(SH_DEVICE_ID), cli, id, readContext);
+    }
+
+    /**
+     * Returns the row of the port from the port table, preceded by vendor data of an occupied port.
+     */
+    private String readPort(String port, InstanceIdentifier<State> id, ReadContext readContext)
+            throws ReadFailedException {
+        Saos8PortTable ports = (Saos8PortTable) readContext.getModificationCache().get(Saos8PortTable.class);
+        if (ports == null) {
+            ports = Saos8PortTable.parse(CommandMemo.blockingRead(this, f(SH_PORTS), cli, id, readContext));
+            readContext.getModificationCache().put(Saos8PortTable.class, ports);
+        }
+        final String row = ports.getRow(port);
+        if (ports.isEmpty(port)) {
+            return row;
+        }
+        if (ports.startPrefetch()) {
+            CommandMemo.prefetch(cli, ports.getOccupiedPorts().stream()
+                    .map(p -> f(SH_PORT, p))
+                    .collect(Collectors.toList()), readContext);
+        }
+        final String vendorData = CommandMemo.blockingRead(this, f(SH_PORT, port), cli, id, readContext);
+        return row == null ? vendorData : vendorData + "\n" + row;
+    }
+
     static void parseDev(@NotNull StateBuilder stateBuilder,
                          CienaSaos8PlatformAugBuilder builder,
                          String output) {
@@ -895,9 +925,10 @@ public class Saos8ComponentStateReader implements CliOperReader<State, StateBuil
                           String output, String name) {
         stateBuilder.setName(name);
         stateBuilder.setId("Port");
+        final Pattern portVendor = PatternCache.compile(PORT_VENDOR_NAME, name);
 
         ParsingUtils.parseField(output, 0,
-            Pattern.compile(String.format(PORT_VENDOR_NAME, name))::matcher,
+            portVendor::matcher,
             m -> m.group("vpn"),
             v -> builder.setEmpty(v.trim().equals("Empty")));
 
@@ -916,85 +947,134 @@ public class Saos8ComponentStateReader implements CliOperReader<State, StateBuil
             final var txMonitorOptBuilder = new TxMonitorClockOptionsBuilder();
             final var rxMonitorOptBuilder = new RxMonitorClockOptionsBuilder();
 
-            ParsingUtils.parseField(output, 0,
-                Pattern.compile(String.format(PORT_VENDOR_NAME, name))::matcher,
-                m -> m.group("vpn"),
-                v -> builder.setVendorPartNumber(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                Pattern.compile(String.format(PORT_VENDOR_NAME, name))::matcher,
-                m -> m.group("eth"),
-                v -> builder.setEthernetType(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                Pattern.compile(String.format(PORT_VENDOR_NAME, name))::matcher,
-                m -> m.group("diag"),
-                v -> builder.setDiagnosticData(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                MOD_IDENTIFIER::matcher,
-                m -> m.group("mid"),
-                v -> builder.setCienaModuleIdentifier(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MOD_ITEM_NUM::matcher,
-                m -> m.group("min"),
-                v -> builder.setCienaModuleItemNumber(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MOD_REV_NUMBER::matcher,
-                m -> m.group("mrn"),
-                v -> builder.setCienaModuleRevNumber(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                VENDOR_SN::matcher,
-                m -> m.group("vsn"),
-                v -> builder.setCienaVendorSerialNumber(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                DATE_CODE::matcher,
-                m -> m.group("dateCode"),
-                v -> builder.setDateCode(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                LOT_CODE::matcher,
-                m -> m.group("lot"),
-                v -> builder.setLotCode(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                CLEI_CODE::matcher,
-                m -> m.group("clei"),
-                v -> builder.setCleiCode(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                IDENTIFIER::matcher,
-                m -> m.group("id"),
-                v -> cienaBuilder.setIdentifier(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                EXT_IDENTIFIER::matcher,
-                m -> m.group("ext"),
-                v -> extIdBuilder.setExtIdentifier(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MODULE_POWER_LEVEL::matcher,
-                m -> m.group("mpl"),
-                v -> extIdBuilder.setModulePowerLevel(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                LANE_RATIO_TYPE::matcher,
-                m -> m.group("rat"),
-                v -> extIdBuilder.setLaneRatioType(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                WDM_TYPE::matcher,
-                m -> m.group("wdm"),
-                v -> extIdBuilder.setWdmType(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                CLEI_CODE_PRESENT::matcher,
-                m -> m.group("clei"),
-                v -> extIdBuilder.setCleiCodePresent(isTrue(v)));
+            new LineMatcher()
+                .first(portVendor, m -> m.group("vpn"), v -> builder.setVendorPartNumber(v.trim()))
+                .first(portVendor, m -> m.group("eth"), v -> builder.setEthernetType(v.trim()))
+                .first(portVendor, m -> m.group("diag"), v -> builder.setDiagnosticData(isTrue(v)))
+                .first(MOD_IDENTIFIER, m -> m.group("mid"), v -> builder.setCienaModuleIdentifier(v.trim()))
+                .first(MOD_ITEM_NUM, m -> m.group("min"), v -> builder.setCienaModuleItemNumber(v.trim()))
+                .first(MOD_REV_NUMBER, m -> m.group("mrn"), v -> builder.setCienaModuleRevNumber(v.trim()))
+                .first(VENDOR_SN, m -> m.group("vsn"), v -> builder.setCienaVendorSerialNumber(v.trim()))
+                .first(DATE_CODE, m -> m.group("dateCode"), v -> builder.setDateCode(v.trim()))
+                .first(LOT_CODE, m -> m.group("lot"), v -> builder.setLotCode(v.trim()))
+                .first(CLEI_CODE, m -> m.group("clei"), v -> builder.setCleiCode(v.trim()))
+                .first(IDENTIFIER, m -> m.group("id"), v -> cienaBuilder.setIdentifier(v.trim()))
+                .first(EXT_IDENTIFIER, m -> m.group("ext"), v -> extIdBuilder.setExtIdentifier(v.trim()))
+                .first(MODULE_POWER_LEVEL, m -> m.group("mpl"), v -> extIdBuilder.setModulePowerLevel(v.trim()))
+                .first(LANE_RATIO_TYPE, m -> m.group("rat"), v -> extIdBuilder.setLaneRatioType(v.trim()))
+                .first(WDM_TYPE, m -> m.group("wdm"), v -> extIdBuilder.setWdmType(v.trim()))
+                .first(CLEI_CODE_PRESENT, m -> m.group("clei"), v -> extIdBuilder.setCleiCodePresent(isTrue(v)))
+                .first(CONNECTOR, m -> m.group("conn"), v -> cienaBuilder.setConnector(v.trim()))
+                .first(TRANSCEIVER_CODES, m -> m.group("tc"),
+                    v -> transceiverCodesBuilder.setTransceiverCodes(v.trim()))
+                .first(ETHERNET_COMPLIANCE, m -> m.group("eth"),
+                    v -> transceiverCodesBuilder.setEthernetCompliance(v.trim()))
+                .first(FIBER_COMPLIANCE, m -> m.group("fib"), v -> transceiverCodesBuilder.setFiberCompliance(v.trim()))
+                .first(COPPER_COMPLIANCE, m -> m.group("cop"),
+                    v -> transceiverCodesBuilder.setCopperCompliance(v.trim()))
+                .first(SONET_COMPLIANCE, m -> m.group("sonet"),
+                    v -> transceiverCodesBuilder.setSonetCompliance(v.trim()))
+                .first(OTN_COMPLIANCE, m -> m.group("otn"), v -> transceiverCodesBuilder.setOtnCompliance(v.trim()))
+                .first(RATES_SUPPORTED, m -> m.group("rs"), v -> ratesBuilder.setRatesSupported(v.trim()))
+                .first(RATE_111, m -> m.group("rat"), v -> ratesBuilder.setRate1118(isTrue(v)))
+                .first(RATE_103, m -> m.group("rat"), v -> ratesBuilder.setRate103125(isTrue(v)))
+                .first(RATE_41, m -> m.group("rat"), v -> ratesBuilder.setRate4125(isTrue(v)))
+                .first(RATE_43, m -> m.group("rat"), v -> ratesBuilder.setRate43(isTrue(v)))
+                .first(RATE_39, m -> m.group("rat"), v -> ratesBuilder.setRate398(isTrue(v)))
+                .first(LANES_SUPPORTED, m -> m.group("lanes"),
+                    v -> supportedLanesBuilder.setNumLanesSupported(v.trim()))
+                .first(NETWORK_LANES, m -> m.group("lanes"),
+                    v -> supportedLanesBuilder.setNumNetworkLanes(Integer.valueOf(v.trim())))
+                .first(HOST_LANES, m -> m.group("lanes"),
+                    v -> supportedLanesBuilder.setNumHostLanes(Integer.valueOf(v.trim())))
+                .first(MEDIA_PROPERTIES, m -> m.group("med"), v -> mediaPropBuilder.setMediaProperties(v.trim()))
+                .first(MEDIA_TYPE, m -> m.group("medType"), v -> mediaPropBuilder.setMediaType(v.trim()))
+                .first(DIRECTIONALITY, m -> m.group("dir"), v -> mediaPropBuilder.setDirectionality(v.trim()))
+                .first(OPTICAL_MUX_DEMUX, m -> m.group("optMuxDemux"),
+                    v -> mediaPropBuilder.setOpticalMuxDemux(isTrue(v)))
+                .first(ACTIVE_FIBER_PER_CONN, m -> m.group("actFiber"),
+                    v -> mediaPropBuilder.setActiveFiberPerCon(v.trim()))
+                .first(MAX_NETWORK_LANE_BR, m -> m.group("maxLane"), v -> builder.setMaxNetworkLaneBr(v.trim()))
+                .first(MAX_HOST_LANE_BR, m -> m.group("maxLane"), v -> builder.setMaxHostLaneBr(v.trim()))
+                .first(MAX_SM_FIBER_LENGTH, m -> m.group("fibLength"), v -> builder.setMaxSmFiberLength(v.trim()))
+                .first(MAX_MM_FIBER_LENGTH, m -> m.group("fibLength"), v -> builder.setMaxMmFiberLength(v.trim()))
+                .first(MAX_CU_CABLE_LENGTH, m -> m.group("cabLength"), v -> builder.setMaxCuCableLength(v.trim()))
+                .first(MIN_WAVELENGTH_PER_FIBER, m -> m.group("minWave"),
+                    v -> builder.setMinWavelengthPerFiber(v.trim()))
+                .first(MAX_WAVELENGTH_PER_FIBER, m -> m.group("maxWave"),
+                    v -> builder.setMaxWavelengthPerFiber(v.trim()))
+                .first(MAX_PER_LANE_OPT_WIDTH, m -> m.group("optWidth"), v -> builder.setMaxPerLaneOptWidth(v.trim()))
+                .first(DEVICE_TECHNOLOGY_1, m -> m.group("dev"), v -> deviceTechBuilder.setDeviceTechnology1(v.trim()))
+                .first(DEVICE_TECHNOLOGY_2, m -> m.group("dev"), v -> deviceTechBuilder.setDeviceTechnology2(v.trim()))
+                .first(LASER_SOURCE_TECH, m -> m.group("laser"), v -> deviceTechBuilder.setLaserSourceTech(v.trim()))
+                .first(TX_MODULATION_TECH, m -> m.group("txMod"), v -> deviceTechBuilder.setTxModulationTech(v.trim()))
+                .first(WAVELENGTH_CONTROL, m -> m.group("waveControl"),
+                    v -> deviceTechBuilder.setWavelengthControl(isTrue(v)))
+                .first(COOLED_TR, m -> m.group("cooledTr"), v -> deviceTechBuilder.setCooledTransmitter(isTrue(v)))
+                .first(TUNABILITY, m -> m.group("tunability"), v -> deviceTechBuilder.setTunability(isTrue(v)))
+                .first(VOA_IMPL, m -> m.group("voa"), v -> deviceTechBuilder.setVoaImplemented(isTrue(v)))
+                .first(DETECTOR_TYPE, m -> m.group("det"), v -> deviceTechBuilder.setDetectorType(v.trim()))
+                .first(CDR_EDC, m -> m.group("cdrEdc"), v -> deviceTechBuilder.setCdrWithEdc(isTrue(v)))
+                .first(SIG_CODE, m -> m.group("sigc"), v -> sigCodeBuilder.setSignalCode(v.trim()))
+                .first(SIG_MODULATION, m -> m.group("modulation"), v -> sigCodeBuilder.setModulation(v.trim()))
+                .first(SIG_CODING, m -> m.group("sigc"), v -> sigCodeBuilder.setSignalCoding(v.trim()))
+                .first(MAX_OUTPUT_PWR_PER_CON, m -> m.group("pwr"), v -> builder.setMaxOutputPwrPerCon(v.trim()))
+                .first(MAX_INPUT_PWR_PER_LANE, m -> m.group("pwr"), v -> builder.setMaxInputPwrPerLane(v.trim()))
+                .first(MAX_PWR_CONSUMPTION, m -> m.group("pwr"), v -> builder.setMaxPwrConsumption(v.trim()))
+                .first(MAX_PWR_IN_LOW_PWR_MODE, m -> m.group("pwr"), v -> builder.setMaxPwrInLowPwrMode(v.trim()))
+                .first(MAX_OPER_CASE_TEMP, m -> m.group("temp"), v -> builder.setMaxOperCaseTemp(v.trim()))
+                .first(MAX_OPER_CASE_TEMP, m -> m.group("temp"), v -> builder.setMaxOperCaseTemp(v.trim()))
+                .first(MIN_OPER_CASE_TEMP, m -> m.group("temp"), v -> builder.setMinOperCaseTemp(v.trim()))
+                .first(MAX_HIGH_POWER_UP_TIME, m -> m.group("time"), v -> builder.setMaxHighPowerUpTime(v.trim()))
+                .first(MAX_HIGH_POWER_DOWN_TIME, m -> m.group("time"), v -> builder.setMaxHighPowerDownTime(v.trim()))
+                .first(MAX_TX_TURN_ON_TIME, m -> m.group("time"), v -> builder.setMaxTxTurnOnTime(v.trim()))
+                .first(MAX_TX_TURN_OFF_TIME, m -> m.group("time"), v -> builder.setMaxTxTurnOffTime(v.trim()))
+                .first(HEAT_SINK_TYPE, m -> m.group("type"), v -> builder.setHeatSinkType(v.trim()))
+                .first(HOST_LN_SIG_SPEC, m -> m.group("spec"), v -> builder.setHostLnSignalSpec(v.trim()))
+                .first(CFP_MSA_HW_SPEC_REV, m -> m.group("cfp"), v -> builder.setCfpMsaHwSpecRev(v.trim()))
+                .first(CFP_MSA_MGMT_IF_SPEC_REV, m -> m.group("cfp"), v -> builder.setCfpMsaMgmtIfSpecRev(v.trim()))
+                .first(MODULE_HW_VER, m -> m.group("hwVer"), v -> builder.setModuleHwVersion(v.trim()))
+                .first(MODULE_FW_VER, m -> m.group("fwVer"), v -> builder.setModuleFwVersion(v.trim()))
+                .first(DIAG_MONITOR_TYPE, m -> m.group("type"),
+                    v -> diagMonitorTypeBuilder.setDiagMonitorType(v.trim()))
+                .first(RX_PWR_MEAS_TYPE, m -> m.group("type"), v -> diagMonitorTypeBuilder.setRxPowerMeasType(v.trim()))
+                .first(TX_PWR_MEAS_TYPE, m -> m.group("type"), v -> diagMonitorTypeBuilder.setTxPowerMeasType(v.trim()))
+                .first(DIAG_MONITOR_CAPS_1, m -> m.group("caps"),
+                    v -> diagMonitorCapsBuilder.setDiagMonitorCaps1(v.trim()))
+                .first(DIAG_MONITOR_CAPS_2, m -> m.group("caps"),
+                    v -> diagMonitorCapsBuilder.setDiagMonitorCaps2(v.trim()))
+                .first(TX_AUX_MONITOR_1, m -> m.group("aux"), v -> diagMonitorCapsBuilder.setTxAuxMonitor1(isTrue(v)))
+                .first(TX_AUX_MONITOR_2, m -> m.group("aux"), v -> diagMonitorCapsBuilder.setTxAuxMonitor2(isTrue(v)))
+                .first(TX_SOA_BIAS_CURRENT, m -> m.group("current"),
+                    v -> diagMonitorCapsBuilder.setTxSoaBiasCurrent(isTrue(v)))
+                .first(TX_PWR_SUPPLY_VOLTAGE, m -> m.group("voltage"),
+                    v -> diagMonitorCapsBuilder.setTxPwrSupplyVoltage(isTrue(v)))
+                .first(TX_TEMPERATURE, m -> m.group("temp"), v -> diagMonitorCapsBuilder.setTxTemperature(isTrue(v)))
+                .first(NET_LN_RX_PWR, m -> m.group("pwr"), v -> diagMonitorCapsBuilder.setNetworkLnRxPwr(isTrue(v)))
+                .first(NET_LN_OUT_PWR, m -> m.group("pwr"),
+                    v -> diagMonitorCapsBuilder.setNetworkLnOutputPwr(isTrue(v)))
+                .first(NET_LN_BIAS_CURRENT, m -> m.group("current"),
+                    v -> diagMonitorCapsBuilder.setNetworkLnBiasCurrent(isTrue(v)))
+                .first(NET_LN_TEMP, m -> m.group("temperature"),
+                    v -> diagMonitorCapsBuilder.setNetworkLnTemperature(isTrue(v)))
+                .first(ENH_OPT_1, m -> m.group("opt"), v -> enhancedOptBuilder.setEnhancedOptions1(v.trim()))
+                .first(ENH_OPT_2, m -> m.group("opt"), v -> enhancedOptBuilder.setEnhancedOptions2(v.trim()))
+                .first(HOST_LN_LOOPBACK, m -> m.group("loopback"), v -> enhancedOptBuilder.setHostLnLoopback(isTrue(v)))
+                .first(HOST_LN_PRBS, m -> m.group("prbs"), v -> enhancedOptBuilder.setHostLnPrbs(isTrue(v)))
+                .first(HOST_LN_EMP_CTRL, m -> m.group("ctrl"), v -> enhancedOptBuilder.setHostLnEmphasisCtrl(isTrue(v)))
+                .first(NET_LN_LOOPBACK, m -> m.group("loopback"),
+                    v -> enhancedOptBuilder.setNetworkLnLoopback(isTrue(v)))
+                .first(NET_LN_PRBS, m -> m.group("prbs"), v -> enhancedOptBuilder.setNetworkLnPrbs(isTrue(v)))
+                .first(AMPL_ADJUST, m -> m.group("adjust"), v -> enhancedOptBuilder.setAmplitudeAdjustment(isTrue(v)))
+                .first(PHASE_ADJ, m -> m.group("adjust"), v -> enhancedOptBuilder.setPhaseAdjustment(isTrue(v)))
+                .first(UNIDIR_TX_RX, m -> m.group("unidir"), v -> enhancedOptBuilder.setUnidirectionalTxRx(isTrue(v)))
+                .first(ACT_VOLT_PHA_FUNCT, m -> m.group("function"),
+                    v -> enhancedOptBuilder.setActiveVoltPhaseFunc(isTrue(v)))
+                .first(RX_FIFO_RESET, m -> m.group("reset"), v -> enhancedOptBuilder.setRxFifoReset(isTrue(v)))
+                .first(RX_FIFO_AUTO_RESET, m -> m.group("reset"), v -> enhancedOptBuilder.setRxFifoAutoReset(isTrue(v)))
+                .first(TX_FIFO_RESET, m -> m.group("reset"), v -> enhancedOptBuilder.setTxFifoReset(isTrue(v)))
+                .first(TX_FIFO_AUTO_RESET, m -> m.group("reset"), v -> enhancedOptBuilder.setTxFifoAutoReset(isTrue(v)))
+                .match(output);
 
             if (extIdBuilder.isCleiCodePresent() != null || extIdBuilder.getExtIdentifier() != null
                     || extIdBuilder.getLaneRatioType() != null || extIdBuilder.getWdmType() != null
@@ -1002,486 +1082,46 @@ public class Saos8ComponentStateReader implements CliOperReader<State, StateBuil
                 builder.setExIdentifier(extIdBuilder.build());
             }
 
-            ParsingUtils.parseField(output, 0,
-                CONNECTOR::matcher,
-                m -> m.group("conn"),
-                v -> cienaBuilder.setConnector(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                TRANSCEIVER_CODES::matcher,
-                m -> m.group("tc"),
-                v -> transceiverCodesBuilder.setTransceiverCodes(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                ETHERNET_COMPLIANCE::matcher,
-                m -> m.group("eth"),
-                v -> transceiverCodesBuilder.setEthernetCompliance(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                FIBER_COMPLIANCE::matcher,
-                m -> m.group("fib"),
-                v -> transceiverCodesBuilder.setFiberCompliance(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                COPPER_COMPLIANCE::matcher,
-                m -> m.group("cop"),
-                v -> transceiverCodesBuilder.setCopperCompliance(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                SONET_COMPLIANCE::matcher,
-                m -> m.group("sonet"),
-                v -> transceiverCodesBuilder.setSonetCompliance(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                OTN_COMPLIANCE::matcher,
-                m -> m.group("otn"),
-                v -> transceiverCodesBuilder.setOtnCompliance(v.trim()));
-
             if (isTransceiverCodesNotEmpty(transceiverCodesBuilder)) {
                 builder.setTransceiverCodesProps(transceiverCodesBuilder.build());
             }
 
-            ParsingUtils.parseField(output, 0,
-                RATES_SUPPORTED::matcher,
-                m -> m.group("rs"),
-                v -> ratesBuilder.setRatesSupported(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                RATE_111::matcher,
-                m -> m.group("rat"),
-                v -> ratesBuilder.setRate1118(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                RATE_103::matcher,
-                m -> m.group("rat"),
-                v -> ratesBuilder.setRate103125(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                RATE_41::matcher,
-                m -> m.group("rat"),
-                v -> ratesBuilder.setRate4125(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                RATE_43::matcher,
-                m -> m.group("rat"),
-                v -> ratesBuilder.setRate43(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                RATE_39::matcher,
-                m -> m.group("rat"),
-                v -> ratesBuilder.setRate398(isTrue(v)));
-
             if (ratesBuilder.getRatesSupported() != null || ratesBuilder.isRate1118() != null
                     || ratesBuilder.isRate103125() != null || ratesBuilder.isRate4125() != null
                     || ratesBuilder.isRate43() != null || ratesBuilder.isRate398() != null) {
                 builder.setRatesSupported(ratesBuilder.build());
             }
 
-            ParsingUtils.parseField(output, 0,
-                LANES_SUPPORTED::matcher,
-                m -> m.group("lanes"),
-                v -> supportedLanesBuilder.setNumLanesSupported(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                NETWORK_LANES::matcher,
-                m -> m.group("lanes"),
-                v -> supportedLanesBuilder.setNumNetworkLanes(Integer.valueOf(v.trim())));
-
-            ParsingUtils.parseField(output, 0,
-                HOST_LANES::matcher,
-                m -> m.group("lanes"),
-                v -> supportedLanesBuilder.setNumHostLanes(Integer.valueOf(v.trim())));
-
             if (supportedLanesBuilder.getNumLanesSupported() != null
                     || supportedLanesBuilder.getNumNetworkLanes() != null
                     || supportedLanesBuilder.getNumHostLanes() != null) {
                 builder.setNumLanesSupported(supportedLanesBuilder.build());
             }
 
-            ParsingUtils.parseField(output, 0,
-                MEDIA_PROPERTIES::matcher,
-                m -> m.group("med"),
-                v -> mediaPropBuilder.setMediaProperties(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MEDIA_TYPE::matcher,
-                m -> m.group("medType"),
-                v -> mediaPropBuilder.setMediaType(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                DIRECTIONALITY::matcher,
-                m -> m.group("dir"),
-                v -> mediaPropBuilder.setDirectionality(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                OPTICAL_MUX_DEMUX::matcher,
-                m -> m.group("optMuxDemux"),
-                v -> mediaPropBuilder.setOpticalMuxDemux(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                ACTIVE_FIBER_PER_CONN::matcher,
-                m -> m.group("actFiber"),
-                v -> mediaPropBuilder.setActiveFiberPerCon(v.trim()));
-
             if (mediaPropBuilder.getMediaProperties() != null || mediaPropBuilder.getMediaType() != null
                     || mediaPropBuilder.getDirectionality() != null || mediaPropBuilder.isOpticalMuxDemux() != null
                     || mediaPropBuilder.getActiveFiberPerCon() != null) {
                 builder.setMediaProperties(mediaPropBuilder.build());
             }
-            ParsingUtils.parseField(output, 0,
-                MAX_NETWORK_LANE_BR::matcher,
-                m -> m.group("maxLane"),
-                v -> builder.setMaxNetworkLaneBr(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MAX_HOST_LANE_BR::matcher,
-                m -> m.group("maxLane"),
-                v -> builder.setMaxHostLaneBr(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MAX_SM_FIBER_LENGTH::matcher,
-                m -> m.group("fibLength"),
-                v -> builder.setMaxSmFiberLength(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MAX_MM_FIBER_LENGTH::matcher,
-                m -> m.group("fibLength"),
-                v -> builder.setMaxMmFiberLength(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MAX_CU_CABLE_LENGTH::matcher,
-                m -> m.group("cabLength"),
-                v -> builder.setMaxCuCableLength(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MIN_WAVELENGTH_PER_FIBER::matcher,
-                m -> m.group("minWave"),
-                v -> builder.setMinWavelengthPerFiber(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MAX_WAVELENGTH_PER_FIBER::matcher,
-                m -> m.group("maxWave"),
-                v -> builder.setMaxWavelengthPerFiber(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MAX_PER_LANE_OPT_WIDTH::matcher,
-                m -> m.group("optWidth"),
-                v -> builder.setMaxPerLaneOptWidth(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                DEVICE_TECHNOLOGY_1::matcher,
-                m -> m.group("dev"),
-                v -> deviceTechBuilder.setDeviceTechnology1(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                DEVICE_TECHNOLOGY_2::matcher,
-                m -> m.group("dev"),
-                v -> deviceTechBuilder.setDeviceTechnology2(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                LASER_SOURCE_TECH::matcher,
-                m -> m.group("laser"),
-                v -> deviceTechBuilder.setLaserSourceTech(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                TX_MODULATION_TECH::matcher,
-                m -> m.group("txMod"),
-                v -> deviceTechBuilder.setTxModulationTech(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                WAVELENGTH_CONTROL::matcher,
-                m -> m.group("waveControl"),
-                v -> deviceTechBuilder.setWavelengthControl(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                COOLED_TR::matcher,
-                m -> m.group("cooledTr"),
-                v -> deviceTechBuilder.setCooledTransmitter(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                TUNABILITY::matcher,
-                m -> m.group("tunability"),
-                v -> deviceTechBuilder.setTunability(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                VOA_IMPL::matcher,
-                m -> m.group("voa"),
-                v -> deviceTechBuilder.setVoaImplemented(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                DETECTOR_TYPE::matcher,
-                m -> m.group("det"),
-                v -> deviceTechBuilder.setDetectorType(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                CDR_EDC::matcher,
-                m -> m.group("cdrEdc"),
-                v -> deviceTechBuilder.setCdrWithEdc(isTrue(v)));
-
             if (isDeviceTechnologyNotEmpty(deviceTechBuilder)) {
                 builder.setDeviceTechnology(deviceTechBuilder.build());
             }
 
-            ParsingUtils.parseField(output, 0,
-                SIG_CODE::matcher,
-                m -> m.group("sigc"),
-                v -> sigCodeBuilder.setSignalCode(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                SIG_MODULATION::matcher,
-                m -> m.group("modulation"),
-                v -> sigCodeBuilder.setModulation(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                SIG_CODING::matcher,
-                m -> m.group("sigc"),
-                v -> sigCodeBuilder.setSignalCoding(v.trim()));
-
             if (sigCodeBuilder.getModulation() != null || sigCodeBuilder.getSignalCoding() != null
                     || sigCodeBuilder.getSignalCode() != null) {
                 builder.setSignalCode(sigCodeBuilder.build());
             }
 
-            ParsingUtils.parseField(output, 0,
-                MAX_OUTPUT_PWR_PER_CON::matcher,
-                m -> m.group("pwr"),
-                v -> builder.setMaxOutputPwrPerCon(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MAX_INPUT_PWR_PER_LANE::matcher,
-                m -> m.group("pwr"),
-                v -> builder.setMaxInputPwrPerLane(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MAX_PWR_CONSUMPTION::matcher,
-                m -> m.group("pwr"),
-                v -> builder.setMaxPwrConsumption(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MAX_PWR_IN_LOW_PWR_MODE::matcher,
-                m -> m.group("pwr"),
-                v -> builder.setMaxPwrInLowPwrMode(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MAX_OPER_CASE_TEMP::matcher,
-                m -> m.group("temp"),
-                v -> builder.setMaxOperCaseTemp(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MAX_OPER_CASE_TEMP::matcher,
-                m -> m.group("temp"),
-                v -> builder.setMaxOperCaseTemp(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MIN_OPER_CASE_TEMP::matcher,
-                m -> m.group("temp"),
-                v -> builder.setMinOperCaseTemp(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MAX_HIGH_POWER_UP_TIME::matcher,
-                m -> m.group("time"),
-                v -> builder.setMaxHighPowerUpTime(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MAX_HIGH_POWER_DOWN_TIME::matcher,
-                m -> m.group("time"),
-                v -> builder.setMaxHighPowerDownTime(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MAX_TX_TURN_ON_TIME::matcher,
-                m -> m.group("time"),
-                v -> builder.setMaxTxTurnOnTime(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MAX_TX_TURN_OFF_TIME::matcher,
-                m -> m.group("time"),
-                v -> builder.setMaxTxTurnOffTime(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                HEAT_SINK_TYPE::matcher,
-                m -> m.group("type"),
-                v -> builder.setHeatSinkType(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                HOST_LN_SIG_SPEC::matcher,
-                m -> m.group("spec"),
-                v -> builder.setHostLnSignalSpec(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                CFP_MSA_HW_SPEC_REV::matcher,
-                m -> m.group("cfp"),
-                v -> builder.setCfpMsaHwSpecRev(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                CFP_MSA_MGMT_IF_SPEC_REV::matcher,
-                m -> m.group("cfp"),
-                v -> builder.setCfpMsaMgmtIfSpecRev(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MODULE_HW_VER::matcher,
-                m -> m.group("hwVer"),
-                v -> builder.setModuleHwVersion(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                MODULE_FW_VER::matcher,
-                m -> m.group("fwVer"),
-                v -> builder.setModuleFwVersion(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                DIAG_MONITOR_TYPE::matcher,
-                m -> m.group("type"),
-                v -> diagMonitorTypeBuilder.setDiagMonitorType(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                RX_PWR_MEAS_TYPE::matcher,
-                m -> m.group("type"),
-                v -> diagMonitorTypeBuilder.setRxPowerMeasType(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                TX_PWR_MEAS_TYPE::matcher,
-                m -> m.group("type"),
-                v -> diagMonitorTypeBuilder.setTxPowerMeasType(v.trim()));
-
             if (diagMonitorTypeBuilder.getDiagMonitorType() != null
                     || diagMonitorTypeBuilder.getRxPowerMeasType() != null
                     || diagMonitorTypeBuilder.getTxPowerMeasType() != null) {
                 builder.setDiagnosticMonitorType(diagMonitorTypeBuilder.build());
             }
 
-            ParsingUtils.parseField(output, 0,
-                DIAG_MONITOR_CAPS_1::matcher,
-                m -> m.group("caps"),
-                v -> diagMonitorCapsBuilder.setDiagMonitorCaps1(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                DIAG_MONITOR_CAPS_2::matcher,
-                m -> m.group("caps"),
-                v -> diagMonitorCapsBuilder.setDiagMonitorCaps2(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                TX_AUX_MONITOR_1::matcher,
-                m -> m.group("aux"),
-                v -> diagMonitorCapsBuilder.setTxAuxMonitor1(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                TX_AUX_MONITOR_2::matcher,
-                m -> m.group("aux"),
-                v -> diagMonitorCapsBuilder.setTxAuxMonitor2(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                TX_SOA_BIAS_CURRENT::matcher,
-                m -> m.group("current"),
-                v -> diagMonitorCapsBuilder.setTxSoaBiasCurrent(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                TX_PWR_SUPPLY_VOLTAGE::matcher,
-                m -> m.group("voltage"),
-                v -> diagMonitorCapsBuilder.setTxPwrSupplyVoltage(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                TX_TEMPERATURE::matcher,
-                m -> m.group("temp"),
-                v -> diagMonitorCapsBuilder.setTxTemperature(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                NET_LN_RX_PWR::matcher,
-                m -> m.group("pwr"),
-                v -> diagMonitorCapsBuilder.setNetworkLnRxPwr(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                NET_LN_OUT_PWR::matcher,
-                m -> m.group("pwr"),
-                v -> diagMonitorCapsBuilder.setNetworkLnOutputPwr(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                NET_LN_BIAS_CURRENT::matcher,
-                m -> m.group("current"),
-                v -> diagMonitorCapsBuilder.setNetworkLnBiasCurrent(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                NET_LN_TEMP::matcher,
-                m -> m.group("temperature"),
-                v -> diagMonitorCapsBuilder.setNetworkLnTemperature(isTrue(v)));
-
             if (isDiagMonitorCapsBuilderNotEmpty(diagMonitorCapsBuilder)) {
                 builder.setDiagMonitorCaps(diagMonitorCapsBuilder.build());
             }
 
-            ParsingUtils.parseField(output, 0,
-                ENH_OPT_1::matcher,
-                m -> m.group("opt"),
-                v -> enhancedOptBuilder.setEnhancedOptions1(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                ENH_OPT_2::matcher,
-                m -> m.group("opt"),
-                v -> enhancedOptBuilder.setEnhancedOptions2(v.trim()));
-
-            ParsingUtils.parseField(output, 0,
-                HOST_LN_LOOPBACK::matcher,
-                m -> m.group("loopback"),
-                v -> enhancedOptBuilder.setHostLnLoopback(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                HOST_LN_PRBS::matcher,
-                m -> m.group("prbs"),
-                v -> enhancedOptBuilder.setHostLnPrbs(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                HOST_LN_EMP_CTRL::matcher,
-                m -> m.group("ctrl"),
-                v -> enhancedOptBuilder.setHostLnEmphasisCtrl(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                NET_LN_LOOPBACK::matcher,
-                m -> m.group("loopback"),
-                v -> enhancedOptBuilder.setNetworkLnLoopback(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                NET_LN_PRBS::matcher,
-                m -> m.group("prbs"),
-                v -> enhancedOptBuilder.setNetworkLnPrbs(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                AMPL_ADJUST::matcher,
-                m -> m.group("adjust"),
-                v -> enhancedOptBuilder.setAmplitudeAdjustment(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                PHASE_ADJ::matcher,
-                m -> m.group("adjust"),
-                v -> enhancedOptBuilder.setPhaseAdjustment(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                UNIDIR_TX_RX::matcher,
-                m -> m.group("unidir"),
-                v -> enhancedOptBuilder.setUnidirectionalTxRx(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                ACT_VOLT_PHA_FUNCT::matcher,
-                m -> m.group("function"),
-                v -> enhancedOptBuilder.setActiveVoltPhaseFunc(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                RX_FIFO_RESET::matcher,
-                m -> m.group("reset"),
-                v -> enhancedOptBuilder.setRxFifoReset(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                RX_FIFO_AUTO_RESET::matcher,
-                m -> m.group("reset"),
-                v -> enhancedOptBuilder.setRxFifoAutoReset(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                TX_FIFO_RESET::matcher,
-                m -> m.group("reset"),
-                v -> enhancedOptBuilder.setTxFifoReset(isTrue(v)));
-
-            ParsingUtils.parseField(output, 0,
-                TX_FIFO_AUTO_RESET::matcher,
-                m -> m.group("reset"),
-                v -> enhancedOptBuilder.setTxFifoAutoReset(isTrue(v)));
-
             if (isEnhancedOptionsNotEmpty(enhancedOptBuilder)) {
                 builder.setEnhancedOpt(enhancedOptBuilder.build());
             }
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.saos8.platform.handler;
+
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rows of the {@code port xcvr show} table parsed once per read transaction. Vendor data of all occupied ports are
+ * prefetched together by the first port read, empty ports need no vendor data at all.
+ */
+final class Saos8PortTable {
+
+    private static final Pattern ROW = Pattern.compile("\\| (?<port>[0-9]+/[0-9]+) *\\|(?<vpn>[^\\|]+)\\|.*");
+    private static final String EMPTY = "Empty";
+
+    private final Map<String, String> rows;
+    private final List<String> occupiedPorts;
+    private final Set<String> emptyPorts;
+    private final AtomicBoolean prefetched = new AtomicBoolean();
+
+    private Saos8PortTable(Map<String, String> rows, List<String> occupiedPorts, Set<String> emptyPorts) {
+        this.rows = rows;
+        this.occupiedPorts = occupiedPorts;
+        this.emptyPorts = emptyPorts;
+    }
+
+    static Saos8PortTable parse(String output) {
+        final Map<String, String> rows = new HashMap<>();
+        final List<String> occupiedPorts = new ArrayList<>();
+        final Set<String> emptyPorts = new HashSet<>();
+        for (String line : ParsingUtils.NEWLINE.split(output)) {
+            final String row = line.trim();
+            final Matcher matcher = ROW.matcher(row);
+            if (!matcher.matches() || rows.putIfAbsent(matcher.group("port"), row) != null) {
+                continue;
+            }
+            if (matcher.group("vpn").trim().equals(EMPTY)) {
+                emptyPorts.add(matcher.group("port"));
+            } else {
+                occupiedPorts.add(matcher.group("port"));
+            }
+        }
+        return new Saos8PortTable(rows, Collections.unmodifiableList(occupiedPorts), emptyPorts);
+    }
+
+    /**
+     * Returns the table row of the port, null for a port missing in the table.
+     */
+    String getRow(String port) {
+        return rows.get(port);
+    }
+
+    boolean isEmpty(String port) {
+        return emptyPorts.contains(port);
+    }
+
+    List<String> getOccupiedPorts() {
+        return occupiedPorts;
+    }
+
+    /**
+     * Returns true for the first caller only, which prefetches vendor data of all occupied ports.
+     */
+    boolean startPrefetch() {
+        return prefetched.compareAndSet(false, true);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2026 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.saos8.platform.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class Saos8PortTableTest {
+
+    @Test
+    void parseTest() {
+        final var ports = Saos8PortTable.parse(Saos8ComponentReaderTest.OUTPUT_XCVR_PORT);
+
+        assertEquals(List.of("1/1", "1/2", "2/2", "2/3", "2/5", "2/6", "2/7", "2/9", "2/10", "2/11"),
+                ports.getOccupiedPorts().subList(0, 10));
+        assertEquals("| 2/2                            | CIENA-JDS XCVR-S10V31 Rev000B         |10G BASE-LR:LC  |Yes |",
+                ports.getRow("2/2"));
+        assertTrue(ports.isEmpty("2/1"));
+        assertFalse(ports.isEmpty("1/1"));
+        assertFalse(ports.isEmpty("9/9"));
+        assertNull(ports.getRow("9/9"));
+
+        assertTrue(ports.startPrefetch());
+        assertFalse(ports.startPrefetch());
+    }
+}
@@ -17,11 +17,13 @@ package io.frinx.cli.ubnt.es;
 
 import io.frinx.cli.registry.impl.TranslateRegistryImpl;
 import io.frinx.cli.unit.generic.GenericTranslateUnit;
+import io.frinx.cli.unit.handlers.replay.ReplayBenchmark;
 import io.frinx.cli.unit.ubnt.es.init.UbntEsInitializerUnit;
 import java.net.InetSocketAddress;
 import java.util.concurrent.CompletionStage;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Host;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
@@ -129,7 +131,7 @@ public class IosAll extends io.frinx.cli.unit.ios.it.IosAll {
         super.getAllDOM();
     }
 
-    @Disabled
+    @EnabledIfSystemProperty(named = ReplayBenchmark.TRANSCRIPT_PROPERTY, matches = ".+")
     @Test
     public void getAllDOMBenchmark() throws Exception {
         super.getAllDOMBenchmark();